@@ -0,0 +1,56 @@
+package io.bussmann.gauss.benchmark;
+
+import io.bussmann.gauss.types.DenseMatrix;
+
+import java.util.Random;
+
+/**
+ * Benchmark matrices.
+ *
+ * Creates reproducible uniquely solvable matrices for the benchmarks.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BenchmarkMatrices {
+    /**
+     * The number of off-diagonal coefficients per row of sparse matrices.
+     */
+    private static final int SPARSE_ROW_VALUES = 4;
+
+    /**
+     * Class constructor.
+     */
+    private BenchmarkMatrices() {
+    }
+
+    /**
+     * Creates a diagonally dominant augmented matrix.
+     *
+     * @param size The size of the matrix.
+     * @param sparse Whether only a few coefficients per row are non-zero.
+     * @param random The random number generator.
+     *
+     * @return The created matrix.
+     */
+    public static DenseMatrix create(int size, boolean sparse, Random random) {
+        DenseMatrix matrix = new DenseMatrix(size);
+
+        for (int row = 0; row < size; row++) {
+            if (sparse) {
+                for (int value = 0; value < SPARSE_ROW_VALUES; value++) {
+                    matrix.setValue(row, random.nextInt(size), random.nextDouble() * 2 - 1);
+                }
+            }
+            else {
+                for (int column = 0; column < size; column++) {
+                    matrix.setValue(row, column, random.nextDouble() * 2 - 1);
+                }
+            }
+
+            matrix.setValue(row, row, size + 1);
+            matrix.setValue(row, size, random.nextDouble() * 2 - 1);
+        }
+
+        return matrix;
+    }
+}
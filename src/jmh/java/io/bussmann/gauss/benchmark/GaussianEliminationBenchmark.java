@@ -0,0 +1,87 @@
+package io.bussmann.gauss.benchmark;
+
+import io.bussmann.gauss.math.GaussianElimination;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gaussian elimination benchmark.
+ *
+ * Measures solving matrices of different sizes and densities, with and without recording a solution trace.
+ *
+ * @author Frederik Bußmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GaussianEliminationBenchmark {
+    /**
+     * The size of the solved matrix.
+     */
+    @Param({"2", "10", "100", "500", "2000"})
+    public int size;
+
+    /**
+     * The fill of the coefficients, either dense or sparse.
+     */
+    @Param({"dense", "sparse"})
+    public String density;
+
+    /**
+     * Whether a solution trace is recorded.
+     */
+    @Param({"false", "true"})
+    public boolean trace;
+
+    /**
+     * The matrix to solve.
+     */
+    private DenseMatrix matrix;
+
+    /**
+     * The matrix to solve in the gauss matrix representation.
+     */
+    private GaussMatrix gaussMatrix;
+
+    /**
+     * Creates the matrix to solve.
+     */
+    @Setup
+    public void setup() {
+        matrix = BenchmarkMatrices.create(size, density.equals("sparse"), new Random(size));
+        gaussMatrix = matrix.toGaussMatrix();
+    }
+
+    /**
+     * Solves the matrix through the gauss matrix entry points.
+     *
+     * The traced solve changes its input, so it works on a fresh copy, the cost of which is included.
+     *
+     * @return The result, consumed by the benchmark harness.
+     */
+    @Benchmark
+    public Object solveMatrix() {
+        if (trace) {
+            return GaussianElimination.solveMatrix(matrix.toGaussMatrix());
+        }
+
+        return GaussianElimination.solve(gaussMatrix);
+    }
+}
@@ -0,0 +1,123 @@
+package io.bussmann.gauss.benchmark;
+
+import io.bussmann.gauss.math.GaussianElimination;
+import io.bussmann.gauss.math.RowOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row operations benchmark.
+ *
+ * Measures the vector based row helpers of the gaussian elimination against the in-place primitive kernels.
+ *
+ * @author Frederik Bußmann
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowOperationsBenchmark {
+    /**
+     * The number of values per row.
+     */
+    @Param({"3", "11", "101", "501", "2001"})
+    public int length;
+
+    /**
+     * The first row as vector.
+     */
+    private Vector<Double> row1;
+
+    /**
+     * The second row as vector.
+     */
+    private Vector<Double> row2;
+
+    /**
+     * Both rows in a primitive array.
+     */
+    private double[] values;
+
+    /**
+     * Creates the rows.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(length);
+
+        row1 = new Vector<>();
+        row2 = new Vector<>();
+        values = new double[length * 2];
+
+        for (int column = 0; column < length; column++) {
+            values[column] = random.nextDouble();
+            values[length + column] = random.nextDouble();
+
+            row1.add(values[column]);
+            row2.add(values[length + column]);
+        }
+    }
+
+    /**
+     * Multiplies and subtracts a row with the vector based helpers.
+     *
+     * @return The result, consumed by the benchmark harness.
+     */
+    @Benchmark
+    public Vector<Double> vectorMultiplyAndSubtract() {
+        return GaussianElimination.subtractRow(row1, GaussianElimination.multiplyRow(row2, 0.5));
+    }
+
+    /**
+     * Divides a row with the vector based helper.
+     *
+     * @return The result, consumed by the benchmark harness.
+     */
+    @Benchmark
+    public Vector<Double> vectorDivide() {
+        return GaussianElimination.divideRow(row1, 1.0000001);
+    }
+
+    /**
+     * Multiplies and subtracts a row in place.
+     *
+     * The scalar alternates in sign, so the values stay bounded over many invocations.
+     *
+     * @return The result, consumed by the benchmark harness.
+     */
+    @Benchmark
+    public double[] primitiveMultiplyAndSubtract() {
+        RowOperations.subtract(values, 0, values, length, length, 0.5);
+        RowOperations.subtract(values, 0, values, length, length, -0.5);
+
+        return values;
+    }
+
+    /**
+     * Divides a row in place.
+     *
+     * @return The result, consumed by the benchmark harness.
+     */
+    @Benchmark
+    public double[] primitiveDivide() {
+        RowOperations.divide(values, 0, length, 1.0000001);
+        RowOperations.multiply(values, 0, length, 1.0000001);
+
+        return values;
+    }
+}
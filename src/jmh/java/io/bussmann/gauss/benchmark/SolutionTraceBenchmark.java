@@ -0,0 +1,94 @@
+package io.bussmann.gauss.benchmark;
+
+import io.bussmann.gauss.math.GaussianElimination;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solution trace benchmark.
+ *
+ * Measures recording operations to a solution trace and rebuilding the matrix of a recorded step.
+ *
+ * @author Frederik Bußmann
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolutionTraceBenchmark {
+    /**
+     * The size of the recorded matrix.
+     */
+    @Param({"2", "10", "100", "500"})
+    public int size;
+
+    /**
+     * The matrix before the first step.
+     */
+    private DenseMatrix matrix;
+
+    /**
+     * A recorded trace of solving the matrix.
+     */
+    private GaussMatrixSolutionTrace trace;
+
+    /**
+     * The random number generator choosing the steps to rebuild.
+     */
+    private Random random;
+
+    /**
+     * Creates the matrix and records its solution trace.
+     */
+    @Setup
+    public void setup() {
+        random = new Random(size);
+        matrix = BenchmarkMatrices.create(size, false, random);
+        trace = GaussianElimination.solveMatrix(matrix.toGaussMatrix());
+    }
+
+    /**
+     * Records one multiply and subtract operation per value of the coefficient matrix.
+     *
+     * @return The trace, consumed by the benchmark harness.
+     */
+    @Benchmark
+    public GaussMatrixSolutionTrace record() {
+        GaussMatrixSolutionTrace recorded = new GaussMatrixSolutionTrace(matrix);
+
+        for (int row = 1; row <= size; row++) {
+            for (int column = 1; column <= size; column++) {
+                recorded.addMultiplyAndSubtract(matrix, row, column, 0.5, false);
+            }
+        }
+
+        return recorded;
+    }
+
+    /**
+     * Rebuilds the matrix of a random recorded step.
+     *
+     * @return The rebuilt matrix, consumed by the benchmark harness.
+     */
+    @Benchmark
+    public GaussMatrix replay() {
+        return trace.getStep(random.nextInt(trace.getStepCount()));
+    }
+}
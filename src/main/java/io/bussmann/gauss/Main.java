@@ -2,17 +2,24 @@ package io.bussmann.gauss;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.bussmann.gauss.cli.BatchSolver;
 import io.bussmann.gauss.configuration.Configuration;
 import io.bussmann.gauss.gui.MainApplication;
+import io.bussmann.gauss.server.SolveServer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 /**
  * Main class.
  *
  * Gauß algorithm application entry.
  *
+ * Without arguments the graphical interface is started. With arguments the given matrix files are solved in batch
+ * mode without loading JavaFX, see {@link BatchSolver}. With --server as first argument the solvers are served over
+ * HTTP instead, see {@link SolveServer}.
+ *
  * @author Frederik Bussmann
  */
 public class Main {
@@ -29,6 +36,20 @@ public class Main {
      * @throws IOException If configuration file not found.
      */
     public static void main(final String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--server")) {
+            int exitCode = SolveServer.run(Arrays.copyOfRange(args, 1, args.length), System.out, System.err);
+
+            // The server threads keep running after a successful start
+            if (exitCode != 0) {
+                System.exit(exitCode);
+            }
+
+            return;
+        }
+        if (args.length > 0) {
+            System.exit(BatchSolver.run(args, System.out, System.err));
+        }
+
         config = initializeAppConfiguration();
 
         MainApplication.main(args);
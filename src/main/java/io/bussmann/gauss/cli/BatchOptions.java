@@ -0,0 +1,287 @@
+package io.bussmann.gauss.cli;
+
+import io.bussmann.gauss.math.PivotingStrategy;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Batch options.
+ *
+ * The command line options of the batch mode, parsed from the program arguments.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BatchOptions {
+    /**
+     * The usage description of the options.
+     */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: gauss [options] <file or directory>...",
+            "       gauss --server [options], see gauss --server --help",
+            "",
+            "Solves the augmented matrices of the given .csv, .mtx and .gmat files, or of all such files in the given",
+            "directories, and writes one result per file.",
+            "",
+            "Options:",
+            "  --engine <name>     gauss, parallel, blocked, sparse or mixed, defaults to gauss",
+            "  --pivoting <name>   none, partial, scaled_partial or full for gauss and parallel, defaults to none",
+            "  --trace             record the elimination steps, gauss engine only",
+            "  --threads <count>   number of files solved at a time, defaults to the number of processors",
+            "  --format <name>     csv or json, defaults to csv",
+            "  --output <dir>      write one result file per input into a directory instead of to stdout",
+            "  --help              print this help");
+
+    /**
+     * The solver engine.
+     */
+    private Engine engine = Engine.GAUSS;
+
+    /**
+     * The pivoting strategy of the gaussian elimination engines.
+     */
+    private PivotingStrategy strategy = PivotingStrategy.NONE;
+
+    /**
+     * Whether to record the elimination steps.
+     */
+    private boolean trace;
+
+    /**
+     * The number of files solved at a time.
+     */
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The output format.
+     */
+    private OutputFormat format = OutputFormat.CSV;
+
+    /**
+     * The directory to write the result files to, null to write to stdout.
+     */
+    private Path outputDirectory;
+
+    /**
+     * Whether to print the usage only.
+     */
+    private boolean help;
+
+    /**
+     * The input files and directories.
+     */
+    private final List<Path> inputs = new ArrayList<>();
+
+    /**
+     * Class constructor.
+     */
+    private BatchOptions() {
+    }
+
+    /**
+     * Parses given program arguments.
+     *
+     * @param args The program arguments.
+     *
+     * @return The parsed options.
+     */
+    public static BatchOptions parse(String[] args) throws IllegalArgumentException {
+        BatchOptions options = new BatchOptions();
+
+        for (int index = 0; index < args.length; index++) {
+            String argument = args[index];
+
+            if (!argument.startsWith("--")) {
+                options.inputs.add(Path.of(argument));
+                continue;
+            }
+
+            switch (argument) {
+                case "--engine":
+                    options.engine = parseEnum(Engine.class, argument, value(args, ++index, argument));
+                    break;
+                case "--pivoting":
+                    options.strategy = parseEnum(PivotingStrategy.class, argument, value(args, ++index, argument));
+                    break;
+                case "--trace":
+                    options.trace = true;
+                    break;
+                case "--threads":
+                    options.threadCount = parseThreadCount(value(args, ++index, argument));
+                    break;
+                case "--format":
+                    options.format = parseEnum(OutputFormat.class, argument, value(args, ++index, argument));
+                    break;
+                case "--output":
+                    options.outputDirectory = Path.of(value(args, ++index, argument));
+                    break;
+                case "--help":
+                    options.help = true;
+                    break;
+                default:
+                    String message = "Unknown option '" + argument + "'.";
+                    throw new IllegalArgumentException(message);
+            }
+        }
+
+        if (options.trace && options.engine != Engine.GAUSS) {
+            String message = "The trace is only recorded by the gauss engine, " + name(options.engine) + " given.";
+            throw new IllegalArgumentException(message);
+        }
+        if (options.inputs.isEmpty() && !options.help) {
+            String message = "No input files given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return options;
+    }
+
+    /**
+     * Gets the solver engine.
+     *
+     * @return The engine.
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the pivoting strategy of the gaussian elimination engines.
+     *
+     * @return The pivoting strategy.
+     */
+    public PivotingStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Checks if the elimination steps are recorded.
+     *
+     * @return True if traced, false if not.
+     */
+    public boolean isTrace() {
+        return trace;
+    }
+
+    /**
+     * Gets the number of files solved at a time.
+     *
+     * @return The thread count.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Gets the output format.
+     *
+     * @return The format.
+     */
+    public OutputFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the directory to write the result files to.
+     *
+     * @return The output directory, or null to write to stdout.
+     */
+    public Path getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Checks if only the usage is requested.
+     *
+     * @return True if the usage is requested, false if not.
+     */
+    public boolean isHelp() {
+        return help;
+    }
+
+    /**
+     * Gets the input files and directories.
+     *
+     * @return The inputs in the given order.
+     */
+    public List<Path> getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Gets the value following an option.
+     *
+     * @param args The program arguments.
+     * @param index The index of the value.
+     * @param option The option the value belongs to.
+     *
+     * @return The value.
+     */
+    private static String value(String[] args, int index, String option) throws IllegalArgumentException {
+        if (index >= args.length) {
+            String message = "The option '" + option + "' requires a value.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return args[index];
+    }
+
+    /**
+     * Parses a constant of an enumeration by its case-insensitive name.
+     *
+     * @param type The enumeration.
+     * @param option The option the value belongs to.
+     * @param value The name of the constant.
+     * @param <T> The type of the enumeration.
+     *
+     * @return The constant.
+     */
+    private static <T extends Enum<T>> T parseEnum(Class<T> type, String option, String value)
+            throws IllegalArgumentException {
+        for (T constant : type.getEnumConstants()) {
+            if (name(constant).equals(value.toLowerCase(Locale.ROOT))) {
+                return constant;
+            }
+        }
+
+        String message = "Unknown value '" + value + "' of option '" + option + "'.";
+        throw new IllegalArgumentException(message);
+    }
+
+    /**
+     * Parses the number of threads.
+     *
+     * @param value The number of threads.
+     *
+     * @return The parsed number.
+     */
+    private static int parseThreadCount(String value) throws IllegalArgumentException {
+        int threadCount;
+
+        try {
+            threadCount = Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            threadCount = 0;
+        }
+
+        if (threadCount < 1) {
+            String message = "The thread count must be a positive integer, '" + value + "' given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return threadCount;
+    }
+
+    /**
+     * Gets the command line name of an enumeration constant.
+     *
+     * @param constant The constant.
+     *
+     * @return The lower case name.
+     */
+    private static String name(Enum<?> constant) {
+        return constant.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,592 @@
+package io.bussmann.gauss.cli;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.bussmann.gauss.io.BinaryMatrixFormat;
+import io.bussmann.gauss.io.CsvMatrixReader;
+import io.bussmann.gauss.io.MatrixMarketReader;
+import io.bussmann.gauss.math.GaussianElimination;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Batch solver.
+ *
+ * Solves the augmented matrices of many files without the graphical interface. The files are read and solved in
+ * parallel by a fixed number of threads, one file per thread at a time. Each result is written as soon as its file
+ * is solved, so results appear in the order of completion and labelled with their file. At most two files per thread
+ * are in flight at a time, which bounds the memory held by finished but unwritten results.
+ *
+ * Supported inputs are comma separated values (.csv), Matrix Market files (.mtx) and binary matrix files (.gmat).
+ *
+ * @author Frederik Bußmann
+ */
+public final class BatchSolver {
+    /**
+     * The exit code of a batch without failures.
+     */
+    public static final int EXIT_SUCCESS = 0;
+
+    /**
+     * The exit code of a batch with at least one file that could not be read or solved.
+     */
+    public static final int EXIT_FAILURE = 1;
+
+    /**
+     * The exit code of invalid program arguments.
+     */
+    public static final int EXIT_USAGE = 2;
+
+    /**
+     * The status of files that could not be read or solved.
+     */
+    private static final String STATUS_ERROR = "ERROR";
+
+    /**
+     * The options of the batch.
+     */
+    private final BatchOptions options;
+
+    /**
+     * The factory of the JSON writers.
+     */
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * The number of processed files.
+     */
+    private int fileCount;
+
+    /**
+     * The number of files that could not be read or solved.
+     */
+    private int failureCount;
+
+    /**
+     * The wall clock time of the last batch in nanoseconds.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Result.
+     *
+     * The outcome of a single file.
+     */
+    private static final class Result {
+        /**
+         * The solved file.
+         */
+        private final Path path;
+
+        /**
+         * The solution, null if the file could not be read or solved.
+         */
+        private final GaussMatrixSolution solution;
+
+        /**
+         * The labels of the elimination steps, null if not traced.
+         */
+        private final List<String> steps;
+
+        /**
+         * The reason the file could not be read or solved, null if solved.
+         */
+        private final String error;
+
+        /**
+         * The time taken to read and solve the file in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * Class constructor.
+         *
+         * @param path The solved file.
+         * @param solution The solution, null if the file could not be read or solved.
+         * @param steps The labels of the elimination steps, null if not traced.
+         * @param error The reason the file could not be read or solved, null if solved.
+         * @param nanos The time taken to read and solve the file in nanoseconds.
+         */
+        private Result(Path path, GaussMatrixSolution solution, List<String> steps, String error, long nanos) {
+            this.path = path;
+            this.solution = solution;
+            this.steps = steps;
+            this.error = error;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Gets the status name of the result.
+         *
+         * @return The status of the solution, or the error status.
+         */
+        private String getStatus() {
+            return solution == null ? STATUS_ERROR : solution.getStatus().name();
+        }
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param options The options of the batch.
+     */
+    public BatchSolver(BatchOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Runs the batch mode with given program arguments.
+     *
+     * The results are written to the output stream unless an output directory is given, the usage on invalid
+     * arguments and a throughput summary are written to the error stream.
+     *
+     * @param args The program arguments.
+     * @param out The stream to write the results and the usage to.
+     * @param err The stream to write errors and the summary to.
+     *
+     * @return The exit code.
+     */
+    public static int run(String[] args, OutputStream out, PrintStream err) {
+        BatchOptions options;
+
+        try {
+            options = BatchOptions.parse(args);
+        } catch (IllegalArgumentException exception) {
+            err.println(exception.getMessage());
+            err.println(BatchOptions.USAGE);
+            return EXIT_USAGE;
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try {
+            if (options.isHelp()) {
+                writer.write(BatchOptions.USAGE);
+                writer.write(System.lineSeparator());
+                writer.flush();
+                return EXIT_SUCCESS;
+            }
+
+            BatchSolver solver = new BatchSolver(options);
+            solver.solve(writer);
+
+            double seconds = solver.getElapsedNanos() / 1e9;
+            err.printf(Locale.ROOT, "Solved %d systems in %.3f s, %.1f systems/s, %d failed.%n",
+                    solver.getFileCount(), seconds, solver.getFileCount() / Math.max(seconds, 1e-9),
+                    solver.getFailureCount());
+
+            return solver.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_FAILURE;
+        } catch (IOException exception) {
+            err.println(exception.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Solves all input files, writing each result as soon as it is available.
+     *
+     * @param output The writer to write the results to if no output directory is given, it is flushed after every
+     *               result but not closed.
+     */
+    public void solve(Writer output) throws IOException {
+        List<Path> paths = collectInputs();
+        Path directory = options.getOutputDirectory();
+
+        if (directory != null) {
+            checkOutputFiles(paths);
+            Files.createDirectories(directory);
+        }
+
+        long start = System.nanoTime();
+        int threadCount = options.getThreadCount();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CompletionService<Result> completion = new ExecutorCompletionService<>(executor);
+        int pending = 0;
+
+        fileCount = 0;
+        failureCount = 0;
+
+        try {
+            for (Path path : paths) {
+                if (pending == 2 * threadCount) {
+                    write(take(completion), output);
+                    pending--;
+                }
+
+                completion.submit(() -> solveFile(path));
+                pending++;
+            }
+
+            for (; pending > 0; pending--) {
+                write(take(completion), output);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the number of files processed by the last batch.
+     *
+     * @return The file count, including failed files.
+     */
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * Gets the number of files of the last batch that could not be read or solved.
+     *
+     * Files without unique solution are solved and not counted.
+     *
+     * @return The failure count.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Gets the wall clock time of the last batch.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Reads a matrix from a given file, choosing the reader by the file extension.
+     *
+     * @param path The file to read.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix readMatrix(Path path) throws IOException {
+        switch (getExtension(path)) {
+            case "csv":
+                return CsvMatrixReader.read(path);
+            case "mtx":
+                return MatrixMarketReader.readDense(path);
+            case "gmat":
+                return BinaryMatrixFormat.readDense(path);
+            default:
+                String message = "Unsupported file type of '" + path + "', expected .csv, .mtx or .gmat.";
+                throw new IOException(message);
+        }
+    }
+
+    /**
+     * Lists the input files, replacing directories by their supported files sorted by name.
+     *
+     * @return The files to solve.
+     */
+    private List<Path> collectInputs() throws IOException {
+        List<Path> paths = new ArrayList<>();
+
+        for (Path input : options.getInputs()) {
+            if (!Files.isDirectory(input)) {
+                paths.add(input);
+                continue;
+            }
+
+            try (Stream<Path> files = Files.list(input)) {
+                files.filter(Files::isRegularFile)
+                        .filter(path -> List.of("csv", "mtx", "gmat").contains(getExtension(path)))
+                        .sorted()
+                        .forEach(paths::add);
+            }
+        }
+
+        return paths;
+    }
+
+    /**
+     * Checks that no two input files would write the same output file.
+     *
+     * @param paths The files to solve.
+     */
+    private void checkOutputFiles(List<Path> paths) throws IOException {
+        Map<Path, Path> inputs = new HashMap<>();
+
+        for (Path path : paths) {
+            Path file = getOutputFile(path);
+            Path other = inputs.putIfAbsent(file, path);
+
+            if (other != null) {
+                String message = "The files '" + other + "' and '" + path + "' would both be written to '" + file
+                        + "', rename one of them.";
+                throw new IOException(message);
+            }
+        }
+    }
+
+    /**
+     * Gets the file to write the result of an input file to in the output directory.
+     *
+     * @param path The solved file.
+     *
+     * @return The output file.
+     */
+    private Path getOutputFile(Path path) {
+        String name = path.getFileName() + ".solution." + options.getFormat().getExtension();
+
+        return options.getOutputDirectory().resolve(name);
+    }
+
+    /**
+     * Reads and solves a single file.
+     *
+     * @param path The file to solve.
+     *
+     * @return The result, holding the error if the file could not be read or solved.
+     */
+    private Result solveFile(Path path) {
+        long start = System.nanoTime();
+
+        try {
+            DenseMatrix matrix = readMatrix(path);
+
+            if (matrix.getColumnCount() <= matrix.getRowCount()) {
+                String message = "A " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                        + " matrix has no augmented column.";
+                throw new IllegalArgumentException(message);
+            }
+
+            if (!options.isTrace()) {
+                GaussMatrixSolution solution = options.getEngine().solve(matrix, options.getStrategy());
+
+                return new Result(path, solution, null, null, System.nanoTime() - start);
+            }
+
+            GaussMatrix values = matrix.toGaussMatrix();
+            GaussMatrixSolutionTrace trace = GaussianElimination.solveMatrix(values, options.getStrategy());
+            List<String> steps = new ArrayList<>(trace.getStepCount());
+
+            for (int step = 0; step < trace.getStepCount(); step++) {
+                steps.add(trace.getStepLabel(step));
+            }
+
+            GaussMatrixSolution solution = trace.invalid ? GaussMatrixSolution.invalid()
+                    : new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED,
+                    GaussianElimination.extractAugmentedColumns(DenseMatrix.fromGaussMatrix(values)));
+
+            return new Result(path, solution, steps, null, System.nanoTime() - start);
+        } catch (IOException | RuntimeException exception) {
+            return new Result(path, null, null, exception.getMessage(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Waits for the next solved file.
+     *
+     * @param completion The completion service solving the files.
+     *
+     * @return The result of the file.
+     */
+    private static Result take(CompletionService<Result> completion) throws IOException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            String message = "Interrupted while solving.";
+            throw new IOException(message, exception);
+        } catch (ExecutionException exception) {
+            String message = "Solving failed: " + exception.getCause();
+            throw new IOException(message, exception.getCause());
+        }
+    }
+
+    /**
+     * Writes a result to the output or to its own file in the output directory.
+     *
+     * @param result The result to write.
+     * @param output The writer to write to if no output directory is given.
+     */
+    private void write(Result result, Writer output) throws IOException {
+        fileCount++;
+
+        if (result.error != null) {
+            failureCount++;
+        }
+
+        Path directory = options.getOutputDirectory();
+
+        if (directory == null) {
+            write(result, output, options.getFormat());
+            output.flush();
+            return;
+        }
+
+        try (Writer writer = Files.newBufferedWriter(getOutputFile(result.path), StandardCharsets.UTF_8)) {
+            write(result, writer, options.getFormat());
+        }
+    }
+
+    /**
+     * Writes a result in a given format.
+     *
+     * @param result The result to write.
+     * @param writer The writer to write to.
+     * @param format The format to write.
+     */
+    private void write(Result result, Writer writer, OutputFormat format) throws IOException {
+        if (format == OutputFormat.JSON) {
+            writeJson(result, writer);
+        }
+        else {
+            writeCsv(result, writer);
+        }
+    }
+
+    /**
+     * Writes a result as comma separated values.
+     *
+     * Every solution vector is written as one line starting with the file name and the status. Files without unique
+     * solution get a single line with the status only, failed files one with the error. The steps of a trace
+     * precede the solution, one line each with the step status.
+     *
+     * @param result The result to write.
+     * @param writer The writer to write to.
+     */
+    private static void writeCsv(Result result, Writer writer) throws IOException {
+        String name = quoteCsv(result.path.toString());
+
+        if (result.steps != null) {
+            for (String step : result.steps) {
+                writer.write(name + ",STEP," + quoteCsv(step) + "\n");
+            }
+        }
+
+        if (result.solution == null) {
+            writer.write(name + "," + STATUS_ERROR + "," + quoteCsv(String.valueOf(result.error)) + "\n");
+            return;
+        }
+        if (result.solution.isInvalid()) {
+            writer.write(name + "," + result.getStatus() + "\n");
+            return;
+        }
+
+        GaussMatrixSolution solution = result.solution;
+        StringBuilder line = new StringBuilder();
+
+        for (int column = 0; column < solution.getSolutionCount(); column++) {
+            line.setLength(0);
+            line.append(name).append(',').append(result.getStatus());
+
+            for (int index = 0; index < solution.getValueCount(); index++) {
+                line.append(',').append(solution.getValue(index, column));
+            }
+
+            writer.write(line.append('\n').toString());
+        }
+    }
+
+    /**
+     * Writes a result as a single line JSON object.
+     *
+     * The object holds the file name, the status, the time taken in milliseconds and either the solution vectors or
+     * the error, and the steps if traced.
+     *
+     * @param result The result to write.
+     * @param writer The writer to write to.
+     */
+    private void writeJson(Result result, Writer writer) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("file", result.path.toString());
+            generator.writeStringField("status", result.getStatus());
+            generator.writeNumberField("millis", result.nanos / 1e6);
+
+            if (result.solution == null) {
+                generator.writeStringField("error", result.error);
+            }
+            else if (!result.solution.isInvalid()) {
+                GaussMatrixSolution solution = result.solution;
+
+                generator.writeArrayFieldStart("solutions");
+
+                for (int column = 0; column < solution.getSolutionCount(); column++) {
+                    generator.writeStartArray();
+
+                    for (int index = 0; index < solution.getValueCount(); index++) {
+                        generator.writeNumber(solution.getValue(index, column));
+                    }
+
+                    generator.writeEndArray();
+                }
+
+                generator.writeEndArray();
+            }
+
+            if (result.steps != null) {
+                generator.writeArrayFieldStart("steps");
+
+                for (String step : result.steps) {
+                    generator.writeString(step);
+                }
+
+                generator.writeEndArray();
+            }
+
+            generator.writeEndObject();
+        }
+
+        writer.write('\n');
+    }
+
+    /**
+     * Quotes a value for comma separated values if it contains a comma, a quote or a line break.
+     *
+     * @param value The value to quote.
+     *
+     * @return The value, quoted if necessary.
+     */
+    private static String quoteCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Gets the lower case extension of a file name.
+     *
+     * @param path The file.
+     *
+     * @return The extension without leading dot, empty if there is none.
+     */
+    private static String getExtension(Path path) {
+        String name = path.getFileName().toString();
+        int index = name.lastIndexOf('.');
+
+        return index < 0 ? "" : name.substring(index + 1).toLowerCase(Locale.ROOT);
+    }
+}
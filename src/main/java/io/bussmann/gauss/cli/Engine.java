@@ -0,0 +1,93 @@
+package io.bussmann.gauss.cli;
+
+import io.bussmann.gauss.math.BlockedLUDecomposition;
+import io.bussmann.gauss.math.GaussianElimination;
+import io.bussmann.gauss.math.MixedPrecisionSolver;
+import io.bussmann.gauss.math.ParallelGaussianElimination;
+import io.bussmann.gauss.math.PivotingStrategy;
+import io.bussmann.gauss.math.SparseLUDecomposition;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Solver engine.
+ *
+ * The solvers selectable for batch solving. Each engine solves a matrix using its augmented columns as right-hand
+ * sides.
+ *
+ * @author Frederik Bußmann
+ */
+public enum Engine {
+    /**
+     * The gaussian elimination, see {@link GaussianElimination}.
+     */
+    GAUSS {
+        @Override
+        public GaussMatrixSolution solve(DenseMatrix matrix, PivotingStrategy strategy) {
+            // The matrix is reduced in place, engines may change it
+            return GaussianElimination.solveInPlace(matrix, strategy);
+        }
+    },
+
+    /**
+     * The gaussian elimination with the rows of each column cleared in parallel, see
+     * {@link ParallelGaussianElimination}.
+     */
+    PARALLEL {
+        @Override
+        public GaussMatrixSolution solve(DenseMatrix matrix, PivotingStrategy strategy) {
+            // The matrix is reduced in place, engines may change it
+            return new ParallelGaussianElimination().solveInPlace(matrix, strategy);
+        }
+    },
+
+    /**
+     * The cache-blocked LU decomposition with partial pivoting, see {@link BlockedLUDecomposition}.
+     */
+    BLOCKED {
+        @Override
+        public GaussMatrixSolution solve(DenseMatrix matrix, PivotingStrategy strategy) {
+            BlockedLUDecomposition decomposition = new BlockedLUDecomposition(matrix);
+
+            if (decomposition.isSingular()) {
+                return GaussMatrixSolution.invalid();
+            }
+
+            DenseMatrix rhs = GaussianElimination.extractAugmentedColumns(matrix);
+
+            return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, decomposition.solve(rhs));
+        }
+    },
+
+    /**
+     * The sparse LU decomposition with fill-reducing ordering, see {@link SparseLUDecomposition}.
+     */
+    SPARSE {
+        @Override
+        public GaussMatrixSolution solve(DenseMatrix matrix, PivotingStrategy strategy) {
+            return SparseLUDecomposition.solve(SparseMatrix.fromDenseMatrix(matrix));
+        }
+    },
+
+    /**
+     * The single precision LU decomposition with iterative refinement, see {@link MixedPrecisionSolver}.
+     */
+    MIXED {
+        @Override
+        public GaussMatrixSolution solve(DenseMatrix matrix, PivotingStrategy strategy) {
+            return MixedPrecisionSolver.solve(matrix, MixedPrecisionSolver.DEFAULT_MAX_ITERATIONS);
+        }
+    };
+
+    /**
+     * Solves a given matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve, it may be changed.
+     * @param strategy The strategy used to choose the pivot elements, ignored by the LU decompositions which always
+     *                 pivot partially.
+     *
+     * @return The solution vectors and status.
+     */
+    public abstract GaussMatrixSolution solve(DenseMatrix matrix, PivotingStrategy strategy);
+}
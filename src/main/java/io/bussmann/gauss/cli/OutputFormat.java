@@ -0,0 +1,43 @@
+package io.bussmann.gauss.cli;
+
+/**
+ * Output format.
+ *
+ * The formats batch results are written in.
+ *
+ * @author Frederik Bußmann
+ */
+public enum OutputFormat {
+    /**
+     * Comma separated values, one line per solution vector starting with the file name and the status.
+     */
+    CSV("csv"),
+
+    /**
+     * JSON lines, one object per solved file.
+     */
+    JSON("json");
+
+    /**
+     * The file extension of the format.
+     */
+    private final String extension;
+
+    /**
+     * Class constructor.
+     *
+     * @param extension The file extension of the format.
+     */
+    OutputFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the file extension of the format.
+     *
+     * @return The extension without leading dot.
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -1,13 +1,20 @@
 package io.bussmann.gauss.gui.controllers;
 
+import io.bussmann.gauss.helpers.Subscript;
+import io.bussmann.gauss.helpers.VulgarFraction;
+import io.bussmann.gauss.math.BareissElimination;
+import io.bussmann.gauss.math.ExactSolutionTrace;
 import io.bussmann.gauss.math.GaussianElimination;
 import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixExactSolution;
 import io.bussmann.gauss.types.GaussMatrixInput;
 import io.bussmann.gauss.types.GaussMatrixOutput;
 import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
 import javafx.fxml.FXML;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
+import org.apache.commons.math3.fraction.BigFraction;
 
 /**
  * Main view controller.
@@ -34,6 +41,12 @@ public class MainViewController {
     @FXML
     private GridPane outputGrid;
 
+    /**
+     * Exact fraction mode check box.
+     */
+    @FXML
+    private CheckBox exactCheckBox;
+
     /**
      * Initializes the main view.
      */
@@ -50,9 +63,15 @@ public class MainViewController {
     protected void onCalculateButtonClick() {
         syncInputToMatrix();
 
+        boolean exact = exactCheckBox.isSelected();
+        GaussMatrixExactSolution exactSolution = exact ? BareissElimination.solve(matrix) : null;
         GaussMatrixSolutionTrace solution = GaussianElimination.solveMatrix(matrix);
 
-        displaySolution(solution);
+        displaySolution(solution, exact);
+
+        if (exactSolution != null && !exactSolution.isInvalid()) {
+            displayExactSolution(exactSolution);
+        }
     }
 
     /**
@@ -75,10 +94,15 @@ public class MainViewController {
 
     /**
      * Displays the solution of the matrix with steps.
+     *
+     * @param trace The solution trace to display.
+     * @param fractions Whether to show the values as exact fractions, approximated where a step has no exact values.
      */
-    private void displaySolution(GaussMatrixSolutionTrace trace) {
+    private void displaySolution(GaussMatrixSolutionTrace trace, boolean fractions) {
         outputGrid.getChildren().clear();
 
+        ExactSolutionTrace exactTrace = fractions ? new ExactSolutionTrace(trace) : null;
+
         int currentRow = 0;
         for (int step = 0; step < trace.getStepCount(); step++) {
             GaussMatrix currentStepMatrix = trace.getStep(step);
@@ -93,7 +117,9 @@ public class MainViewController {
 
             Label label = new Label(currentStepLabel);
             label.getStyleClass().add("stepLabel");
-            GaussMatrixOutput output = new GaussMatrixOutput(currentStepMatrix);
+            BigFraction[] exactValues = exactTrace == null ? null : exactTrace.getStep(step);
+            GaussMatrixOutput output = exactValues == null ? new GaussMatrixOutput(currentStepMatrix, fractions)
+                    : new GaussMatrixOutput(currentStepMatrix, exactValues);
 
             outputGrid.add(label, 0, currentRow);
             currentRow++;
@@ -103,6 +129,37 @@ public class MainViewController {
         }
     }
 
+    /**
+     * Displays the exact solution values below the solution steps.
+     *
+     * @param solution The exact solution to display.
+     */
+    private void displayExactSolution(GaussMatrixExactSolution solution) {
+        int currentRow = outputGrid.getRowCount();
+
+        Label label = new Label("Exact solution:");
+        label.getStyleClass().add("stepLabel");
+        outputGrid.add(label, 0, currentRow);
+        currentRow++;
+
+        for (int index = 0; index < solution.getValueCount(); index++) {
+            StringBuilder text = new StringBuilder("x" + new Subscript(index + 1) + " = ");
+
+            for (int column = 0; column < solution.getSolutionCount(); column++) {
+                if (column > 0) {
+                    text.append(", ");
+                }
+
+                text.append(new VulgarFraction(solution.getValue(index, column)));
+            }
+
+            Label valueLabel = new Label(text.toString());
+            valueLabel.getStyleClass().add("exactValueLabel");
+            outputGrid.add(valueLabel, 0, currentRow);
+            currentRow++;
+        }
+    }
+
     /**
      * Initializes the matrix input fields.
      */
@@ -113,7 +170,7 @@ public class MainViewController {
             for (int column = 0; column < matrix.getColumnCount(); column++) {
                 GaussMatrixInput input;
 
-                if (column < matrix.getColumnCount() - 1) {
+                if (column < matrix.getRowCount()) {
                     input = new GaussMatrixInput(row + 1, column + 1);
                 }
                 else {
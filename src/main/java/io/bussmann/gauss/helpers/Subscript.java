@@ -1,5 +1,7 @@
 package io.bussmann.gauss.helpers;
 
+import java.math.BigInteger;
+
 /**
  * Subscript.
  *
@@ -19,7 +21,16 @@ public class Subscript {
      * @param number The number to generate as a subscript string.
      */
     public Subscript(int number) {
-        subscript = generateSubscript(number);
+        subscript = generateSubscript(String.valueOf(number));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param number The number to generate as a subscript string.
+     */
+    public Subscript(BigInteger number) {
+        subscript = generateSubscript(number.toString());
     }
 
     /**
@@ -32,16 +43,21 @@ public class Subscript {
     }
 
     /**
-     * Generates a subscript number string from a given integer.
+     * Generates a subscript number string from the decimal digits of a number.
      *
-     * @param number The number to convert.
+     * @param number The decimal digits to convert, optionally preceded by a minus sign.
      *
      * @return The converted number as a string.
      */
-    private String generateSubscript(int number) {
+    private String generateSubscript(String number) {
         StringBuilder value = new StringBuilder();
-        for (char ch : String.valueOf(number).toCharArray()) {
-            value.append((char) ('\u2080' + (ch - '0')));
+        for (char ch : number.toCharArray()) {
+            if (ch == '-') {
+                value.append('\u208B');
+            }
+            else {
+                value.append((char) ('\u2080' + (ch - '0')));
+            }
         }
         return value.toString();
     }
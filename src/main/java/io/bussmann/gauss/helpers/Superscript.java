@@ -1,5 +1,7 @@
 package io.bussmann.gauss.helpers;
 
+import java.math.BigInteger;
+
 /**
  * Superscript.
  *
@@ -19,7 +21,16 @@ public class Superscript {
      * @param number The number to generate as a superscript string.
      */
     public Superscript(int number) {
-        superscript = generateSuperscript(number);
+        superscript = generateSuperscript(String.valueOf(number));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param number The number to generate as a superscript string.
+     */
+    public Superscript(BigInteger number) {
+        superscript = generateSuperscript(number.toString());
     }
 
     /**
@@ -32,16 +43,34 @@ public class Superscript {
     }
 
     /**
-     * Generates a superscript number string from a given integer.
+     * Generates a superscript number string from the decimal digits of a number.
+     *
+     * The superscript digits one, two and three are located in the Latin-1 block, all others in the superscripts
+     * block.
      *
-     * @param number The number to convert.
+     * @param number The decimal digits to convert, optionally preceded by a minus sign.
      *
      * @return The converted number as a string.
      */
-    private String generateSuperscript(int number) {
+    private String generateSuperscript(String number) {
         StringBuilder value = new StringBuilder();
-        for (char ch : String.valueOf(number).toCharArray()) {
-            value.append((char) ('\u2070' + (ch - '0')));
+        for (char ch : number.toCharArray()) {
+            switch (ch) {
+                case '-':
+                    value.append('\u207B');
+                    break;
+                case '1':
+                    value.append('\u00B9');
+                    break;
+                case '2':
+                    value.append('\u00B2');
+                    break;
+                case '3':
+                    value.append('\u00B3');
+                    break;
+                default:
+                    value.append((char) ('\u2070' + (ch - '0')));
+            }
         }
         return value.toString();
     }
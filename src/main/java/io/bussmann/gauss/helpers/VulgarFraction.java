@@ -0,0 +1,55 @@
+package io.bussmann.gauss.helpers;
+
+import org.apache.commons.math3.fraction.BigFraction;
+
+import java.math.BigInteger;
+
+/**
+ * Vulgar fraction.
+ *
+ * Helper class to generate fractions as strings, with a superscript numerator and a subscript denominator joined by
+ * a fraction slash. Whole numbers are written as plain numbers.
+ *
+ * @author Frederik Bußmann
+ */
+public class VulgarFraction {
+    /**
+     * The generated fraction string.
+     */
+    private final String fraction;
+
+    /**
+     * Class constructor.
+     *
+     * @param value The fraction to generate as a string.
+     */
+    public VulgarFraction(BigFraction value) {
+        fraction = generateVulgarFraction(value);
+    }
+
+    /**
+     * Gets the fraction string.
+     *
+     * @return The fraction as a string.
+     */
+    public String toString() {
+        return fraction;
+    }
+
+    /**
+     * Generates a vulgar fraction string from a given fraction.
+     *
+     * @param value The fraction to convert.
+     *
+     * @return The converted fraction as a string.
+     */
+    private String generateVulgarFraction(BigFraction value) {
+        if (value.getDenominator().equals(BigInteger.ONE)) {
+            return value.getNumerator().toString();
+        }
+
+        String sign = value.getNumerator().signum() < 0 ? "-" : "";
+
+        return sign + new Superscript(value.getNumerator().abs()) + '\u2044' + new Subscript(value.getDenominator());
+    }
+}
@@ -0,0 +1,675 @@
+package io.bussmann.gauss.io;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.MappedMatrix;
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary matrix format.
+ *
+ * Stores dense and sparse matrices in a compact little-endian binary file. The file starts with a header of 32
+ * bytes: the magic number "GMAT", the format version, the flags, the number of rows and columns, a reserved integer
+ * and the number of stored values. The flags tell whether the matrix is sparse.
+ *
+ * The header is followed by the values. Dense matrices store all values row by row, so the file can be mapped as a
+ * {@link MappedMatrix} without copying. Sparse matrices store the non-zero values, the row pointers and the column
+ * indices of their compressed sparse row form, in this order. The values come first, so all of them are aligned to
+ * eight bytes. Files are read by mapping them and copying the values in bulk into the primitive storage, streams
+ * like request bodies are read block by block.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BinaryMatrixFormat {
+    /**
+     * The magic number "GMAT" identifying the format.
+     */
+    public static final int MAGIC = 'G' | 'M' << 8 | 'A' << 16 | 'T' << 24;
+
+    /**
+     * The version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The number of bytes of the header.
+     */
+    public static final int HEADER_SIZE = 32;
+
+    /**
+     * The flag marking sparse matrices.
+     */
+    private static final int FLAG_SPARSE = 1;
+
+    /**
+     * The number of bytes written at a time.
+     */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * The maximal number of bytes mapped at a time.
+     */
+    private static final long MAX_MAPPING_SIZE = 1L << 30;
+
+    /**
+     * Header.
+     *
+     * Describes the matrix stored in a file or stream, read before its values to check their size.
+     */
+    public static final class Header {
+        /**
+         * Whether the matrix is sparse.
+         */
+        private boolean sparse;
+
+        /**
+         * The number of rows.
+         */
+        private int rowCount;
+
+        /**
+         * The number of columns.
+         */
+        private int columnCount;
+
+        /**
+         * The number of stored values.
+         */
+        private long valueCount;
+
+        /**
+         * Class constructor.
+         */
+        private Header() {
+        }
+
+        /**
+         * Checks if the matrix is sparse.
+         *
+         * @return True if sparse, false if dense.
+         */
+        public boolean isSparse() {
+            return sparse;
+        }
+
+        /**
+         * Gets the number of rows.
+         *
+         * @return The number of rows.
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Gets the number of columns.
+         *
+         * @return The number of columns.
+         */
+        public int getColumnCount() {
+            return columnCount;
+        }
+
+        /**
+         * Gets the number of stored values, all values of a dense matrix or the non-zero values of a sparse matrix.
+         *
+         * @return The number of stored values.
+         */
+        public long getValueCount() {
+            return valueCount;
+        }
+    }
+
+    /**
+     * Class constructor.
+     */
+    private BinaryMatrixFormat() {
+    }
+
+    /**
+     * Writes a dense matrix to a given file, replacing its contents.
+     *
+     * @param matrix The matrix to write.
+     * @param path The file to write to.
+     */
+    public static void write(DenseMatrix matrix, Path path) throws IOException {
+        try (FileChannel channel = openForWriting(path)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            int rowCount = matrix.getRowCount();
+            int columnCount = matrix.getColumnCount();
+
+            writeHeader(channel, buffer, false, rowCount, columnCount, (long) rowCount * columnCount);
+            writeDoubles(channel, buffer, matrix.getData(), rowCount * columnCount);
+        }
+    }
+
+    /**
+     * Writes a sparse matrix to a given file, replacing its contents.
+     *
+     * @param matrix The matrix to write.
+     * @param path The file to write to.
+     */
+    public static void write(SparseMatrix matrix, Path path) throws IOException {
+        try (FileChannel channel = openForWriting(path)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            int count = matrix.getNonZeroCount();
+
+            writeHeader(channel, buffer, true, matrix.getRowCount(), matrix.getColumnCount(), count);
+            writeDoubles(channel, buffer, matrix.getValues(), count);
+            writeIntegers(channel, buffer, matrix.getRowPointers(), matrix.getRowCount() + 1);
+            writeIntegers(channel, buffer, matrix.getColumnIndices(), count);
+        }
+    }
+
+    /**
+     * Reads a dense matrix from a given file, converting sparse matrices.
+     *
+     * @param path The file to read.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix readDense(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+
+            if (header.sparse) {
+                return readSparse(channel, header).toDenseMatrix();
+            }
+
+            checkArraySize(header.valueCount, "The file " + path);
+
+            double[] data = new double[(int) header.valueCount];
+            readDoubles(channel, HEADER_SIZE, data);
+
+            return new DenseMatrix(header.rowCount, header.columnCount, data);
+        }
+    }
+
+    /**
+     * Reads a dense matrix from a given stream in binary matrix format, converting sparse matrices.
+     *
+     * The stream must end after the matrix. If its length is known, a header not matching it is rejected before the
+     * values are allocated, so untrusted input cannot request more memory than it occupies.
+     *
+     * @param input The stream to read, it is not closed.
+     * @param length The number of bytes of the stream, or -1 if unknown.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix readDense(InputStream input, long length) throws IOException {
+        return readDense(input, readHeader(input, length));
+    }
+
+    /**
+     * Reads the header of a matrix from a given stream in binary matrix format.
+     *
+     * The values are not read, so the caller can check the size of the matrix before reading them with
+     * {@link #readDense(InputStream, Header)}. If the length of the stream is known, a header not matching it is
+     * rejected.
+     *
+     * @param input The stream to read, it is not closed.
+     * @param length The number of bytes of the stream, or -1 if unknown.
+     *
+     * @return The read header.
+     */
+    public static Header readHeader(InputStream input, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        String source = "The input";
+
+        readFully(Channels.newChannel(input), buffer);
+        Header header = parseHeader(buffer, source);
+        checkArraySize(header.valueCount, source);
+
+        if (length >= 0 && length != getStoredSize(header)) {
+            String message = source + " has " + length + " bytes, the header describes " + getStoredSize(header)
+                    + ".";
+            throw new IOException(message);
+        }
+
+        return header;
+    }
+
+    /**
+     * Reads a dense matrix following its already read header from a given stream, converting sparse matrices.
+     *
+     * The stream must end after the matrix.
+     *
+     * @param input The stream to read, it is not closed.
+     * @param header The header read from the stream by {@link #readHeader(InputStream, long)}.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix readDense(InputStream input, Header header) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(input);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        String source = "The input";
+
+        DenseMatrix result;
+
+        if (header.sparse) {
+            double[] values = new double[(int) header.valueCount];
+            int[] rowPointers = new int[header.rowCount + 1];
+            int[] columnIndices = new int[values.length];
+
+            readDoubles(channel, buffer, values);
+            readIntegers(channel, buffer, rowPointers);
+            readIntegers(channel, buffer, columnIndices);
+
+            try {
+                result = new SparseMatrix(header.rowCount, header.columnCount, rowPointers, columnIndices, values)
+                        .toDenseMatrix();
+            } catch (IllegalArgumentException exception) {
+                throw new IOException(exception.getMessage(), exception);
+            }
+        }
+        else {
+            double[] data = new double[(int) header.valueCount];
+            readDoubles(channel, buffer, data);
+            result = new DenseMatrix(header.rowCount, header.columnCount, data);
+        }
+
+        buffer.clear().limit(1);
+
+        if (channel.read(buffer) > 0) {
+            String message = source + " continues after the matrix.";
+            throw new IOException(message);
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads a sparse matrix from a given file, converting dense matrices.
+     *
+     * @param path The file to read.
+     *
+     * @return The read matrix.
+     */
+    public static SparseMatrix readSparse(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+
+            if (header.sparse) {
+                return readSparse(channel, header);
+            }
+        }
+
+        return SparseMatrix.fromDenseMatrix(readDense(path));
+    }
+
+    /**
+     * Maps the values of a dense matrix file into memory read-only without copying them.
+     *
+     * The file is never changed and may be read-only.
+     *
+     * @param path The file to map.
+     *
+     * @return The read-only mapped matrix.
+     */
+    public static MappedMatrix map(Path path) throws IOException {
+        return map(path, false);
+    }
+
+    /**
+     * Maps the values of a dense matrix file into memory without copying them.
+     *
+     * @param path The file to map.
+     * @param writable Whether the values may be changed, changes are written to the file.
+     *
+     * @return The mapped matrix.
+     */
+    public static MappedMatrix map(Path path, boolean writable) throws IOException {
+        Header header;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            header = readHeader(channel, path);
+        }
+
+        if (header.sparse) {
+            String message = "The file " + path + " stores a sparse matrix, which cannot be mapped.";
+            throw new IOException(message);
+        }
+
+        if (!writable) {
+            return MappedMatrix.openReadOnly(path, HEADER_SIZE, header.rowCount, header.columnCount);
+        }
+
+        return MappedMatrix.open(path, HEADER_SIZE, header.rowCount, header.columnCount);
+    }
+
+    /**
+     * Reads the values of a sparse matrix following its header.
+     *
+     * @param channel The channel to read from.
+     * @param header The header of the matrix.
+     *
+     * @return The read matrix.
+     */
+    private static SparseMatrix readSparse(FileChannel channel, Header header) throws IOException {
+        int count = (int) header.valueCount;
+        double[] values = new double[count];
+        int[] rowPointers = new int[header.rowCount + 1];
+        int[] columnIndices = new int[count];
+        long position = HEADER_SIZE;
+
+        readDoubles(channel, position, values);
+        position += (long) count * Double.BYTES;
+        readIntegers(channel, position, rowPointers);
+        position += (long) rowPointers.length * Integer.BYTES;
+        readIntegers(channel, position, columnIndices);
+
+        try {
+            return new SparseMatrix(header.rowCount, header.columnCount, rowPointers, columnIndices, values);
+        } catch (IllegalArgumentException exception) {
+            throw new IOException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Reads and checks the header of a file.
+     *
+     * @param channel The channel to read from.
+     * @param path The file read, for error messages.
+     *
+     * @return The read header.
+     */
+    private static Header readHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        String source = "The file " + path;
+        Header header = parseHeader(buffer, source);
+
+        if (header.sparse) {
+            checkArraySize(header.valueCount, source);
+        }
+        if (channel.size() != getStoredSize(header)) {
+            String message = source + " has an invalid header or is truncated.";
+            throw new IOException(message);
+        }
+
+        return header;
+    }
+
+    /**
+     * Checks and decodes a header.
+     *
+     * @param buffer The buffer holding the header from its start, filled up to its position.
+     * @param source A description of the read file or stream, for error messages.
+     *
+     * @return The decoded header.
+     */
+    private static Header parseHeader(ByteBuffer buffer, String source) throws IOException {
+        if (buffer.position() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            String message = source + " is no binary matrix file.";
+            throw new IOException(message);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            String message = source + " has the unsupported version " + buffer.getInt(4) + ".";
+            throw new IOException(message);
+        }
+
+        Header header = new Header();
+        header.sparse = (buffer.getInt(8) & FLAG_SPARSE) != 0;
+        header.rowCount = buffer.getInt(12);
+        header.columnCount = buffer.getInt(16);
+        header.valueCount = buffer.getLong(24);
+
+        if (header.rowCount < 0 || header.columnCount < 0 || header.valueCount < 0
+                || !header.sparse && header.valueCount != (long) header.rowCount * header.columnCount) {
+            String message = source + " has an invalid header or is truncated.";
+            throw new IOException(message);
+        }
+
+        return header;
+    }
+
+    /**
+     * Calculates the number of bytes of a stored matrix.
+     *
+     * @param header The header of the matrix.
+     *
+     * @return The number of bytes including the header, or -1 if too large for a file.
+     */
+    private static long getStoredSize(Header header) {
+        if (header.valueCount > (Long.MAX_VALUE - HEADER_SIZE) / (Double.BYTES + Integer.BYTES)) {
+            return -1;
+        }
+        if (header.sparse) {
+            return HEADER_SIZE + header.valueCount * (Double.BYTES + Integer.BYTES)
+                    + ((long) header.rowCount + 1) * Integer.BYTES;
+        }
+
+        return HEADER_SIZE + header.valueCount * Double.BYTES;
+    }
+
+    /**
+     * Writes the header of a file.
+     *
+     * @param channel The channel to write to.
+     * @param buffer The buffer to write with.
+     * @param sparse Whether the matrix is sparse.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param valueCount The number of stored values.
+     */
+    private static void writeHeader(FileChannel channel, ByteBuffer buffer, boolean sparse, int rowCount,
+                                    int columnCount, long valueCount) throws IOException {
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(sparse ? FLAG_SPARSE : 0);
+        buffer.putInt(rowCount);
+        buffer.putInt(columnCount);
+        buffer.putInt(0);
+        buffer.putLong(valueCount);
+        buffer.flip();
+
+        writeFully(channel, buffer);
+    }
+
+    /**
+     * Writes leading values of an array of doubles.
+     *
+     * @param channel The channel to write to.
+     * @param buffer The buffer to write with.
+     * @param values The values to write.
+     * @param length The number of values to write.
+     */
+    private static void writeDoubles(FileChannel channel, ByteBuffer buffer, double[] values, int length)
+            throws IOException {
+        int capacity = buffer.capacity() / Double.BYTES;
+
+        for (int offset = 0; offset < length; offset += capacity) {
+            int count = Math.min(capacity, length - offset);
+
+            buffer.clear();
+            buffer.asDoubleBuffer().put(values, offset, count);
+            buffer.limit(count * Double.BYTES);
+
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Writes leading values of an array of integers.
+     *
+     * @param channel The channel to write to.
+     * @param buffer The buffer to write with.
+     * @param values The values to write.
+     * @param length The number of values to write.
+     */
+    private static void writeIntegers(FileChannel channel, ByteBuffer buffer, int[] values, int length)
+            throws IOException {
+        int capacity = buffer.capacity() / Integer.BYTES;
+
+        for (int offset = 0; offset < length; offset += capacity) {
+            int count = Math.min(capacity, length - offset);
+
+            buffer.clear();
+            buffer.asIntBuffer().put(values, offset, count);
+            buffer.limit(count * Integer.BYTES);
+
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer.
+     *
+     * @param channel The channel to write to.
+     * @param buffer The buffer to write.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Fills an array of doubles from the file by mapping it.
+     *
+     * @param channel The channel to read from.
+     * @param position The position of the first value in the file.
+     * @param target The array to fill.
+     */
+    private static void readDoubles(FileChannel channel, long position, double[] target) throws IOException {
+        int capacity = (int) (MAX_MAPPING_SIZE / Double.BYTES);
+
+        for (int offset = 0; offset < target.length; offset += capacity) {
+            int count = Math.min(capacity, target.length - offset);
+            long start = position + (long) offset * Double.BYTES;
+
+            channel.map(FileChannel.MapMode.READ_ONLY, start, (long) count * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(target, offset, count);
+        }
+    }
+
+    /**
+     * Fills an array of integers from the file by mapping it.
+     *
+     * @param channel The channel to read from.
+     * @param position The position of the first value in the file.
+     * @param target The array to fill.
+     */
+    private static void readIntegers(FileChannel channel, long position, int[] target) throws IOException {
+        int capacity = (int) (MAX_MAPPING_SIZE / Integer.BYTES);
+
+        for (int offset = 0; offset < target.length; offset += capacity) {
+            int count = Math.min(capacity, target.length - offset);
+            long start = position + (long) offset * Integer.BYTES;
+
+            channel.map(FileChannel.MapMode.READ_ONLY, start, (long) count * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(target, offset, count);
+        }
+    }
+
+    /**
+     * Fills a buffer up to its limit from a stream.
+     *
+     * @param channel The channel to read from.
+     * @param buffer The buffer to fill.
+     */
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Fills an array of doubles from a stream.
+     *
+     * @param channel The channel to read from.
+     * @param buffer The buffer to read with.
+     * @param target The array to fill.
+     */
+    private static void readDoubles(ReadableByteChannel channel, ByteBuffer buffer, double[] target)
+            throws IOException {
+        int capacity = buffer.capacity() / Double.BYTES;
+
+        for (int offset = 0; offset < target.length; offset += capacity) {
+            int count = Math.min(capacity, target.length - offset);
+
+            buffer.clear().limit(count * Double.BYTES);
+            readFully(channel, buffer);
+            checkComplete(buffer);
+            buffer.flip();
+            buffer.asDoubleBuffer().get(target, offset, count);
+        }
+    }
+
+    /**
+     * Fills an array of integers from a stream.
+     *
+     * @param channel The channel to read from.
+     * @param buffer The buffer to read with.
+     * @param target The array to fill.
+     */
+    private static void readIntegers(ReadableByteChannel channel, ByteBuffer buffer, int[] target)
+            throws IOException {
+        int capacity = buffer.capacity() / Integer.BYTES;
+
+        for (int offset = 0; offset < target.length; offset += capacity) {
+            int count = Math.min(capacity, target.length - offset);
+
+            buffer.clear().limit(count * Integer.BYTES);
+            readFully(channel, buffer);
+            checkComplete(buffer);
+            buffer.flip();
+            buffer.asIntBuffer().get(target, offset, count);
+        }
+    }
+
+    /**
+     * Checks if a buffer was filled up to its limit.
+     *
+     * @param buffer The filled buffer.
+     */
+    private static void checkComplete(ByteBuffer buffer) throws IOException {
+        if (buffer.hasRemaining()) {
+            String message = "The input ended before the matrix was complete.";
+            throw new IOException(message);
+        }
+    }
+
+    /**
+     * Opens a file for writing, replacing its contents.
+     *
+     * @param path The file to open.
+     *
+     * @return The opened channel.
+     */
+    private static FileChannel openForWriting(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Checks if a number of values fits into an array.
+     *
+     * @param count The number of values.
+     * @param source A description of the read file or stream, for error messages.
+     */
+    private static void checkArraySize(long count, String source) throws IOException {
+        if (count > Integer.MAX_VALUE - 8) {
+            String message = source + " has " + count + " values, too many to load.";
+            throw new IOException(message);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package io.bussmann.gauss.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Byte scanner.
+ *
+ * Reads numbers from a stream of ASCII text without creating a string per value. The bytes are read in blocks into
+ * a reused buffer, and decimal numbers are converted directly from their digits: if the significant digits fit into
+ * the 53 bits of a double and the decimal exponent is small, a single multiplication or division by an exact power
+ * of ten yields the correctly rounded value. Only other values, like those with more digits, are converted by
+ * {@link Double#parseDouble}.
+ *
+ * @author Frederik Bußmann
+ */
+final class ByteScanner {
+    /**
+     * The number of bytes read from the stream at a time.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The exactly representable powers of ten.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    /**
+     * The largest mantissa that is exactly representable as double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * The stream to read from.
+     */
+    private final InputStream input;
+
+    /**
+     * The bytes read from the stream.
+     */
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * The characters of the current number, kept for the conversion by {@link Double#parseDouble}.
+     */
+    private char[] token = new char[32];
+
+    /**
+     * The index of the next byte in the buffer.
+     */
+    private int position;
+
+    /**
+     * The number of bytes in the buffer.
+     */
+    private int limit;
+
+    /**
+     * The number of the current line, starting at one.
+     */
+    private int lineNumber = 1;
+
+    /**
+     * Class constructor.
+     *
+     * @param input The stream to read from.
+     */
+    ByteScanner(InputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Gets the number of the current line.
+     *
+     * @return The line number, starting at one.
+     */
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Gets the next byte without consuming it.
+     *
+     * @return The next byte, or -1 at the end of the stream.
+     */
+    int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+
+        return buffer[position] & 0xFF;
+    }
+
+    /**
+     * Consumes the next byte.
+     *
+     * @return The consumed byte, or -1 at the end of the stream.
+     */
+    int read() throws IOException {
+        int value = peek();
+
+        if (value >= 0) {
+            position++;
+
+            if (value == '\n') {
+                lineNumber++;
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Skips spaces, tabs and carriage returns, but not line feeds.
+     */
+    void skipSpaces() throws IOException {
+        int value = peek();
+
+        while (value == ' ' || value == '\t' || value == '\r') {
+            position++;
+            value = peek();
+        }
+    }
+
+    /**
+     * Skips everything up to and including the next line feed.
+     */
+    void skipLine() throws IOException {
+        int value = read();
+
+        while (value >= 0 && value != '\n') {
+            value = read();
+        }
+    }
+
+    /**
+     * Reads the rest of the current line, consuming its line feed.
+     *
+     * Intended for short header lines only.
+     *
+     * @return The line without its line break.
+     */
+    String readLine() throws IOException {
+        StringBuilder result = new StringBuilder();
+        int value = read();
+
+        while (value >= 0 && value != '\n') {
+            if (value != '\r') {
+                result.append((char) value);
+            }
+
+            value = read();
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Reads a non-negative integer.
+     *
+     * @return The integer.
+     */
+    int readInteger() throws IOException {
+        int value = peek();
+
+        if (value < '0' || value > '9') {
+            throw createException("an integer");
+        }
+
+        long result = 0;
+
+        while (value >= '0' && value <= '9') {
+            result = result * 10 + (value - '0');
+
+            if (result > Integer.MAX_VALUE) {
+                throw createException("an integer of at most " + Integer.MAX_VALUE);
+            }
+
+            position++;
+            value = peek();
+        }
+
+        return (int) result;
+    }
+
+    /**
+     * Reads a decimal floating point number, optionally signed and with exponent, or NaN and Infinity.
+     *
+     * @return The number.
+     */
+    double readDouble() throws IOException {
+        int length = 0;
+        int value = peek();
+        boolean negative = value == '-';
+
+        if (value == '-' || value == '+') {
+            length = append(length, value);
+            value = peek();
+        }
+
+        // Names like NaN and Infinity are rare, so they are left to the library
+        if (value == 'N' || value == 'I' || value == 'n' || value == 'i') {
+            while (Character.isLetter(value)) {
+                length = append(length, value);
+                value = peek();
+            }
+
+            return parseToken(length);
+        }
+
+        long mantissa = 0;
+        int digitCount = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean hasDigits = false;
+
+        while (value >= '0' && value <= '9') {
+            length = append(length, value);
+            hasDigits = true;
+
+            if (mantissa != 0 || value != '0') {
+                if (digitCount < 18) {
+                    mantissa = mantissa * 10 + (value - '0');
+                }
+                else {
+                    exact = false;
+                    exponent++;
+                }
+
+                digitCount++;
+            }
+
+            value = peek();
+        }
+
+        if (value == '.') {
+            length = append(length, value);
+            value = peek();
+
+            while (value >= '0' && value <= '9') {
+                length = append(length, value);
+                hasDigits = true;
+
+                if (mantissa != 0 || value != '0') {
+                    if (digitCount < 18) {
+                        mantissa = mantissa * 10 + (value - '0');
+                        exponent--;
+                    }
+                    else {
+                        exact = false;
+                    }
+
+                    digitCount++;
+                }
+                else {
+                    exponent--;
+                }
+
+                value = peek();
+            }
+        }
+
+        if (!hasDigits) {
+            throw createException("a number");
+        }
+
+        if (value == 'e' || value == 'E') {
+            length = append(length, value);
+            value = peek();
+
+            boolean negativeExponent = value == '-';
+
+            if (value == '-' || value == '+') {
+                length = append(length, value);
+                value = peek();
+            }
+            if (value < '0' || value > '9') {
+                throw createException("an exponent");
+            }
+
+            int explicit = 0;
+
+            while (value >= '0' && value <= '9') {
+                length = append(length, value);
+                explicit = Math.min(explicit * 10 + (value - '0'), 100000);
+                value = peek();
+            }
+
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (!exact || mantissa > MAX_EXACT_MANTISSA || exponent < -22 || exponent > 22) {
+            return parseToken(length);
+        }
+
+        double result = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * Creates an exception describing an unexpected input at the current position.
+     *
+     * @param expected A description of the expected input.
+     *
+     * @return The created exception.
+     */
+    IOException createException(String expected) throws IOException {
+        int value = peek();
+        String found = value < 0 ? "the end of the input" : value == '\n' ? "a line break" : "'" + (char) value + "'";
+        String message = "Line " + lineNumber + ": Expected " + expected + ", found " + found + ".";
+
+        return new IOException(message);
+    }
+
+    /**
+     * Consumes the next byte and appends it to the current number.
+     *
+     * @param length The number of characters of the current number.
+     * @param value The next byte.
+     *
+     * @return The new number of characters.
+     */
+    private int append(int length, int value) {
+        if (length == token.length) {
+            char[] grown = new char[length * 2];
+            System.arraycopy(token, 0, grown, 0, length);
+            token = grown;
+        }
+
+        token[length] = (char) value;
+        position++;
+
+        return length + 1;
+    }
+
+    /**
+     * Converts the current number by {@link Double#parseDouble}.
+     *
+     * @param length The number of characters of the current number.
+     *
+     * @return The number.
+     */
+    private double parseToken(int length) throws IOException {
+        try {
+            return Double.parseDouble(new String(token, 0, length));
+        } catch (NumberFormatException exception) {
+            String message = "Line " + lineNumber + ": Invalid number '" + new String(token, 0, length) + "'.";
+            throw new IOException(message, exception);
+        }
+    }
+
+    /**
+     * Reads the next block of bytes from the stream.
+     *
+     * @return True if bytes were read, false at the end of the stream.
+     */
+    private boolean fill() throws IOException {
+        int count = input.read(buffer, 0, buffer.length);
+
+        while (count == 0) {
+            count = input.read(buffer, 0, buffer.length);
+        }
+
+        position = 0;
+        limit = Math.max(count, 0);
+
+        return count > 0;
+    }
+}
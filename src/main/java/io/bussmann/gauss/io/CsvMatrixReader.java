@@ -0,0 +1,114 @@
+package io.bussmann.gauss.io;
+
+import io.bussmann.gauss.types.DenseMatrix;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * CSV matrix reader.
+ *
+ * Reads a dense matrix from comma separated values, one matrix row per line. Every row must have the same number of
+ * values, spaces around the values and empty lines are ignored. The values are parsed straight from the bytes of the
+ * input into the backing array of the matrix.
+ *
+ * @author Frederik Bußmann
+ */
+public final class CsvMatrixReader {
+    /**
+     * The default separator between the values of a row.
+     */
+    public static final char DEFAULT_DELIMITER = ',';
+
+    /**
+     * Class constructor.
+     */
+    private CsvMatrixReader() {
+    }
+
+    /**
+     * Reads a matrix from a given file with comma separated values.
+     *
+     * @param path The file to read.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix read(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return read(input, DEFAULT_DELIMITER);
+        }
+    }
+
+    /**
+     * Reads a matrix from a given stream.
+     *
+     * @param input The stream to read, it is not closed.
+     * @param delimiter The separator between the values of a row.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix read(InputStream input, char delimiter) throws IOException {
+        ByteScanner scanner = new ByteScanner(input);
+        double[] data = new double[1024];
+        int count = 0;
+        int rowCount = 0;
+        int columnCount = -1;
+
+        while (true) {
+            scanner.skipSpaces();
+
+            int value = scanner.peek();
+
+            if (value < 0) {
+                break;
+            }
+            if (value == '\n') {
+                scanner.read();
+                continue;
+            }
+
+            int rowStart = count;
+
+            while (true) {
+                if (count == data.length) {
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+
+                data[count++] = scanner.readDouble();
+                scanner.skipSpaces();
+                value = scanner.read();
+
+                if (value == delimiter) {
+                    scanner.skipSpaces();
+                }
+                else if (value == '\n' || value < 0) {
+                    break;
+                }
+                else {
+                    String message = "Line " + scanner.getLineNumber() + ": Expected '" + delimiter
+                            + "' or a line break, found '" + (char) value + "'.";
+                    throw new IOException(message);
+                }
+            }
+
+            int length = count - rowStart;
+
+            if (columnCount < 0) {
+                columnCount = length;
+            }
+            else if (length != columnCount) {
+                String message = "Row " + (rowCount + 1) + " has " + length + " values, " + columnCount
+                        + " expected.";
+                throw new IOException(message);
+            }
+
+            rowCount++;
+        }
+
+        return new DenseMatrix(rowCount, Math.max(columnCount, 0), count == data.length ? data
+                : Arrays.copyOf(data, count));
+    }
+}
@@ -0,0 +1,343 @@
+package io.bussmann.gauss.io;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Matrix Market reader.
+ *
+ * Reads real matrices in the Matrix Market exchange format of the NIST, both in coordinate form listing the non-zero
+ * values by their one-based positions and in array form listing all values column by column. Integer and pattern
+ * values as well as symmetric and skew-symmetric matrices, of which only the lower triangle is stored, are supported.
+ * Complex and hermitian matrices are not.
+ *
+ * The values are parsed straight from the bytes of the input into the primitive storage of the matrix.
+ *
+ * @author Frederik Bußmann
+ */
+public final class MatrixMarketReader {
+    /**
+     * Value symmetry.
+     */
+    private enum Symmetry {
+        /**
+         * All values are stored.
+         */
+        GENERAL,
+
+        /**
+         * Only the lower triangle is stored, the upper triangle mirrors it.
+         */
+        SYMMETRIC,
+
+        /**
+         * Only the strict lower triangle is stored, the upper triangle mirrors it negated.
+         */
+        SKEW_SYMMETRIC
+    }
+
+    /**
+     * Entry consumer.
+     *
+     * Receives the values of the matrix with their zero-based positions.
+     */
+    private interface EntryConsumer {
+        /**
+         * Receives a value.
+         *
+         * @param row The row of the value.
+         * @param column The column of the value.
+         * @param value The value.
+         */
+        void accept(int row, int column, double value);
+    }
+
+    /**
+     * Header.
+     *
+     * Describes the layout of the values following it.
+     */
+    private static final class Header {
+        /**
+         * Whether the values are listed by their positions instead of all in column order.
+         */
+        private boolean coordinate;
+
+        /**
+         * Whether only the positions of the values are listed, all of them being one.
+         */
+        private boolean pattern;
+
+        /**
+         * The symmetry of the values.
+         */
+        private Symmetry symmetry;
+
+        /**
+         * The number of rows.
+         */
+        private int rowCount;
+
+        /**
+         * The number of columns.
+         */
+        private int columnCount;
+
+        /**
+         * The number of listed values of the coordinate form.
+         */
+        private int entryCount;
+    }
+
+    /**
+     * Class constructor.
+     */
+    private MatrixMarketReader() {
+    }
+
+    /**
+     * Reads a dense matrix from a given Matrix Market file.
+     *
+     * @param path The file to read.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix readDense(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return readDense(input);
+        }
+    }
+
+    /**
+     * Reads a dense matrix from a given stream in Matrix Market format.
+     *
+     * Values listed at the same position are summed up.
+     *
+     * @param input The stream to read, it is not closed.
+     *
+     * @return The read matrix.
+     */
+    public static DenseMatrix readDense(InputStream input) throws IOException {
+        ByteScanner scanner = new ByteScanner(input);
+        Header header = readHeader(scanner);
+        DenseMatrix result = new DenseMatrix(header.rowCount, header.columnCount);
+        double[] data = result.getData();
+        int stride = result.getStride();
+
+        readEntries(scanner, header, (row, column, value) -> data[row * stride + column] += value);
+
+        return result;
+    }
+
+    /**
+     * Reads a sparse matrix from a given Matrix Market file.
+     *
+     * @param path The file to read.
+     *
+     * @return The read matrix.
+     */
+    public static SparseMatrix readSparse(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return readSparse(input);
+        }
+    }
+
+    /**
+     * Reads a sparse matrix from a given stream in Matrix Market format.
+     *
+     * Values listed at the same position are summed up. Values of the array form are read into a dense matrix first,
+     * the coordinate form is read into coordinate lists without ever storing the zeros.
+     *
+     * @param input The stream to read, it is not closed.
+     *
+     * @return The read matrix.
+     */
+    public static SparseMatrix readSparse(InputStream input) throws IOException {
+        ByteScanner scanner = new ByteScanner(input);
+        Header header = readHeader(scanner);
+
+        if (!header.coordinate) {
+            DenseMatrix dense = new DenseMatrix(header.rowCount, header.columnCount);
+            double[] data = dense.getData();
+            int stride = dense.getStride();
+
+            readEntries(scanner, header, (row, column, value) -> data[row * stride + column] += value);
+
+            return SparseMatrix.fromDenseMatrix(dense);
+        }
+
+        int capacity = header.symmetry == Symmetry.GENERAL ? header.entryCount : header.entryCount * 2;
+        int[] rows = new int[capacity];
+        int[] columns = new int[capacity];
+        double[] values = new double[capacity];
+        int[] count = new int[1];
+
+        readEntries(scanner, header, (row, column, value) -> {
+            rows[count[0]] = row;
+            columns[count[0]] = column;
+            values[count[0]] = value;
+            count[0]++;
+        });
+
+        return SparseMatrix.fromCoordinates(header.rowCount, header.columnCount, rows, columns, values, count[0]);
+    }
+
+    /**
+     * Reads the header line, the comments and the size line.
+     *
+     * @param scanner The scanner to read from.
+     *
+     * @return The read header.
+     */
+    private static Header readHeader(ByteScanner scanner) throws IOException {
+        String line = scanner.readLine().trim();
+        String[] tokens = line.split("\\s+");
+
+        if (tokens.length != 5 || !tokens[0].equalsIgnoreCase("%%MatrixMarket")
+                || !tokens[1].equalsIgnoreCase("matrix")) {
+            String message = "Line 1: Expected a Matrix Market matrix header, found '" + line + "'.";
+            throw new IOException(message);
+        }
+
+        Header header = new Header();
+        String format = tokens[2].toLowerCase();
+        String field = tokens[3].toLowerCase();
+        String symmetry = tokens[4].toLowerCase();
+
+        if (!format.equals("coordinate") && !format.equals("array")) {
+            String message = "Line 1: Unsupported format '" + tokens[2] + "'.";
+            throw new IOException(message);
+        }
+
+        header.coordinate = format.equals("coordinate");
+
+        if (!field.equals("real") && !field.equals("double") && !field.equals("integer")
+                && !(field.equals("pattern") && header.coordinate)) {
+            String message = "Line 1: Unsupported field '" + tokens[3] + "'.";
+            throw new IOException(message);
+        }
+
+        header.pattern = field.equals("pattern");
+
+        switch (symmetry) {
+            case "general":
+                header.symmetry = Symmetry.GENERAL;
+                break;
+            case "symmetric":
+                header.symmetry = Symmetry.SYMMETRIC;
+                break;
+            case "skew-symmetric":
+                header.symmetry = Symmetry.SKEW_SYMMETRIC;
+                break;
+            default:
+                String message = "Line 1: Unsupported symmetry '" + tokens[4] + "'.";
+                throw new IOException(message);
+        }
+
+        // Skip the comment lines
+        skipWhitespace(scanner);
+
+        while (scanner.peek() == '%') {
+            scanner.skipLine();
+            skipWhitespace(scanner);
+        }
+
+        header.rowCount = scanner.readInteger();
+        scanner.skipSpaces();
+        header.columnCount = scanner.readInteger();
+
+        if (header.coordinate) {
+            scanner.skipSpaces();
+            header.entryCount = scanner.readInteger();
+        }
+
+        if (header.symmetry != Symmetry.GENERAL && header.rowCount != header.columnCount) {
+            String message = "A " + header.rowCount + " x " + header.columnCount + " matrix cannot be " + symmetry
+                    + ".";
+            throw new IOException(message);
+        }
+
+        return header;
+    }
+
+    /**
+     * Reads the values following the header, mirroring the values of symmetric matrices.
+     *
+     * @param scanner The scanner to read from.
+     * @param header The header describing the values.
+     * @param consumer The consumer to pass the values to.
+     */
+    private static void readEntries(ByteScanner scanner, Header header, EntryConsumer consumer) throws IOException {
+        if (header.coordinate) {
+            for (int entry = 0; entry < header.entryCount; entry++) {
+                skipWhitespace(scanner);
+
+                int row = scanner.readInteger() - 1;
+                scanner.skipSpaces();
+                int column = scanner.readInteger() - 1;
+                double value = 1;
+
+                if (!header.pattern) {
+                    scanner.skipSpaces();
+                    value = scanner.readDouble();
+                }
+
+                if (row < 0 || row >= header.rowCount || column < 0 || column >= header.columnCount) {
+                    String message = "Line " + scanner.getLineNumber() + ": The position " + (row + 1) + ", "
+                            + (column + 1) + " is outside of the matrix.";
+                    throw new IOException(message);
+                }
+
+                accept(consumer, header.symmetry, row, column, value);
+            }
+
+            return;
+        }
+
+        for (int column = 0; column < header.columnCount; column++) {
+            int firstRow = header.symmetry == Symmetry.GENERAL ? 0
+                    : header.symmetry == Symmetry.SYMMETRIC ? column : column + 1;
+
+            for (int row = firstRow; row < header.rowCount; row++) {
+                skipWhitespace(scanner);
+                accept(consumer, header.symmetry, row, column, scanner.readDouble());
+            }
+        }
+    }
+
+    /**
+     * Passes a value to a consumer, together with its mirrored value if the matrix is symmetric.
+     *
+     * @param consumer The consumer to pass the values to.
+     * @param symmetry The symmetry of the matrix.
+     * @param row The row of the value.
+     * @param column The column of the value.
+     * @param value The value.
+     */
+    private static void accept(EntryConsumer consumer, Symmetry symmetry, int row, int column, double value) {
+        consumer.accept(row, column, value);
+
+        if (symmetry != Symmetry.GENERAL && row != column) {
+            consumer.accept(column, row, symmetry == Symmetry.SKEW_SYMMETRIC ? -value : value);
+        }
+    }
+
+    /**
+     * Skips all whitespace including line breaks.
+     *
+     * @param scanner The scanner to read from.
+     */
+    private static void skipWhitespace(ByteScanner scanner) throws IOException {
+        int value = scanner.peek();
+
+        while (value == ' ' || value == '\t' || value == '\r' || value == '\n') {
+            scanner.read();
+            value = scanner.peek();
+        }
+    }
+}
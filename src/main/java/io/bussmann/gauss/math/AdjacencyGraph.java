@@ -0,0 +1,130 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Adjacency graph.
+ *
+ * Holds the undirected graph of the pattern of A + A^T for the leading square coefficient columns of a sparse
+ * matrix. There is one node per row and an edge between two nodes if either of the two values connecting them is
+ * non-zero. The diagonal is ignored.
+ *
+ * @author Frederik Bußmann
+ */
+final class AdjacencyGraph {
+    /**
+     * The index of the first neighbour of each node, followed by the number of neighbour entries.
+     */
+    private final int[] pointers;
+
+    /**
+     * The neighbours of all nodes, sorted by node within each node.
+     */
+    private final int[] neighbours;
+
+    /**
+     * The number of neighbours of each node.
+     */
+    private final int[] degrees;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to build the graph of, only the leading square coefficient columns are used.
+     */
+    AdjacencyGraph(SparseMatrix matrix) {
+        int size = matrix.getRowCount();
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+
+        // Count the edges of both directions, duplicates are removed below
+        int[] counts = new int[size + 1];
+
+        for (int row = 0; row < size; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                int column = columnIndices[index];
+
+                if (column < size && column != row) {
+                    counts[row + 1]++;
+                    counts[column + 1]++;
+                }
+            }
+        }
+
+        for (int node = 0; node < size; node++) {
+            counts[node + 1] += counts[node];
+        }
+
+        int[] next = Arrays.copyOf(counts, size);
+        int[] edges = new int[counts[size]];
+
+        for (int row = 0; row < size; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                int column = columnIndices[index];
+
+                if (column < size && column != row) {
+                    edges[next[row]++] = column;
+                    edges[next[column]++] = row;
+                }
+            }
+        }
+
+        // Sort the neighbours of each node and remove duplicate edges
+        pointers = new int[size + 1];
+        degrees = new int[size];
+        int length = 0;
+
+        for (int node = 0; node < size; node++) {
+            Arrays.sort(edges, counts[node], counts[node + 1]);
+
+            for (int index = counts[node]; index < counts[node + 1]; index++) {
+                if (index == counts[node] || edges[index] != edges[index - 1]) {
+                    edges[length++] = edges[index];
+                }
+            }
+
+            pointers[node + 1] = length;
+            degrees[node] = length - pointers[node];
+        }
+
+        neighbours = Arrays.copyOf(edges, length);
+    }
+
+    /**
+     * Gets the number of nodes in the graph.
+     *
+     * @return The number of nodes.
+     */
+    int getSize() {
+        return degrees.length;
+    }
+
+    /**
+     * Gets the index of the first neighbour of each node, followed by the number of neighbour entries.
+     *
+     * @return The backing neighbour pointers.
+     */
+    int[] getPointers() {
+        return pointers;
+    }
+
+    /**
+     * Gets the neighbours of all nodes, sorted by node within each node.
+     *
+     * @return The backing neighbours.
+     */
+    int[] getNeighbours() {
+        return neighbours;
+    }
+
+    /**
+     * Gets the number of neighbours of each node.
+     *
+     * @return The backing degrees.
+     */
+    int[] getDegrees() {
+        return degrees;
+    }
+}
@@ -0,0 +1,223 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.BandMatrix;
+
+/**
+ * Band LU decomposition.
+ *
+ * Factors a band matrix into a unit lower triangular matrix L and an upper triangular matrix U with partial
+ * pivoting, so that P * A = L * U. Only the band is touched: L keeps the lower bandwidth, and since rows are only
+ * swapped with rows at most the lower bandwidth below, the upper bandwidth of U grows to at most the sum of both
+ * bandwidths. A matrix of size n with lower bandwidth p and upper bandwidth q is factored in O(n * p * (p + q)) time
+ * and O(n * (2p + q)) memory.
+ *
+ * The factorization is immutable once created and can be reused for any number of right-hand sides.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BandLUDecomposition implements Factorization {
+    /**
+     * The number of rows and columns of the coefficient matrix.
+     */
+    private final int size;
+
+    /**
+     * The number of diagonals below the main diagonal.
+     */
+    private final int lowerBandwidth;
+
+    /**
+     * The number of diagonals of U above the main diagonal.
+     */
+    private final int upperBandwidth;
+
+    /**
+     * The row-major band of U, each row holding the columns from the lower bandwidth left of the diagonal to the
+     * upper bandwidth of U right of it.
+     */
+    private final double[] upper;
+
+    /**
+     * The multipliers of each elimination step, one per row below the pivot.
+     */
+    private final double[] multipliers;
+
+    /**
+     * The row swapped with each row during the factorization.
+     */
+    private final int[] pivots;
+
+    /**
+     * Whether the coefficient matrix is singular.
+     */
+    private final boolean singular;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The band matrix to factor, left unchanged.
+     */
+    public BandLUDecomposition(BandMatrix matrix) {
+        size = matrix.getSize();
+        lowerBandwidth = matrix.getLowerBandwidth();
+        upperBandwidth = matrix.getLowerBandwidth() + matrix.getUpperBandwidth();
+        upper = new double[size * (lowerBandwidth + upperBandwidth + 1)];
+        multipliers = new double[size * lowerBandwidth];
+        pivots = new int[size];
+
+        double maximum = 0;
+
+        for (int row = 0; row < size; row++) {
+            int from = Math.max(0, row - lowerBandwidth);
+            int to = Math.min(size - 1, row + matrix.getUpperBandwidth());
+
+            for (int column = from; column <= to; column++) {
+                double value = matrix.getData()[matrix.matrixPositionToIndex(row, column)];
+
+                upper[index(row, column)] = value;
+                maximum = Math.max(maximum, Math.abs(value));
+            }
+        }
+
+        singular = !factor(Math.ulp(1.0) * size * maximum);
+    }
+
+    /**
+     * Solves the factored system for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    @Override
+    public double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException {
+        if (rhs.length != size) {
+            String message = "The right-hand side has " + rhs.length + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+        if (singular) {
+            String message = "Cannot solve a system with a singular coefficient matrix.";
+            throw new ArithmeticException(message);
+        }
+
+        double[] values = rhs.clone();
+
+        // Forward substitution, applying the row swaps as they happened during the factorization
+        for (int row = 0; row < size; row++) {
+            double value = values[pivots[row]];
+            values[pivots[row]] = values[row];
+            values[row] = value;
+
+            int count = Math.min(lowerBandwidth, size - 1 - row);
+
+            for (int index = 0; index < count; index++) {
+                values[row + 1 + index] -= multipliers[row * lowerBandwidth + index] * value;
+            }
+        }
+
+        // Back substitution with the upper triangular factor
+        for (int row = size - 1; row >= 0; row--) {
+            int to = Math.min(size - 1, row + upperBandwidth);
+            double sum = values[row];
+
+            for (int column = row + 1; column <= to; column++) {
+                sum -= upper[index(row, column)] * values[column];
+            }
+
+            values[row] = sum / upper[index(row, row)];
+        }
+
+        return values;
+    }
+
+    /**
+     * Checks if the coefficient matrix is singular.
+     *
+     * @return True if singular, false if not.
+     */
+    @Override
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Gets the number of rows and columns of the coefficient matrix.
+     *
+     * @return The size of the factored matrix.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Factors the band in place.
+     *
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     *
+     * @return True if the coefficient matrix is regular, false if it is singular.
+     */
+    private boolean factor(double tolerance) {
+        for (int step = 0; step < size; step++) {
+            int lastRow = Math.min(size - 1, step + lowerBandwidth);
+            int lastColumn = Math.min(size - 1, step + upperBandwidth);
+
+            // Find the pivot within the band
+            int pivotRow = step;
+            double pivotMagnitude = Math.abs(upper[index(step, step)]);
+
+            for (int row = step + 1; row <= lastRow; row++) {
+                double magnitude = Math.abs(upper[index(row, step)]);
+
+                if (magnitude > pivotMagnitude) {
+                    pivotRow = row;
+                    pivotMagnitude = magnitude;
+                }
+            }
+
+            if (pivotMagnitude <= tolerance) {
+                return false;
+            }
+
+            pivots[step] = pivotRow;
+
+            // Rows are stored relative to their diagonal, so the swap moves each value by the row distance
+            if (pivotRow != step) {
+                for (int column = step; column <= lastColumn; column++) {
+                    double value = upper[index(step, column)];
+                    upper[index(step, column)] = upper[index(pivotRow, column)];
+                    upper[index(pivotRow, column)] = value;
+                }
+            }
+
+            double pivot = upper[index(step, step)];
+            int length = lastColumn - step;
+
+            for (int row = step + 1; row <= lastRow; row++) {
+                double factor = upper[index(row, step)] / pivot;
+
+                multipliers[step * lowerBandwidth + row - step - 1] = factor;
+                upper[index(row, step)] = 0;
+
+                if (factor != 0) {
+                    RowOperations.subtract(upper, index(row, step + 1), upper, index(step, step + 1), length,
+                            factor);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the index of a value of the band of U at a given row and column position.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The calculated index.
+     */
+    private int index(int row, int column) {
+        return row * (lowerBandwidth + upperBandwidth) + column + lowerBandwidth;
+    }
+}
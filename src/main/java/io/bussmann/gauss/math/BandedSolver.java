@@ -0,0 +1,161 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.BandMatrix;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+
+/**
+ * Banded solver.
+ *
+ * Solves matrices whose coefficients are non-zero only in a narrow band around the diagonal. Diagonally dominant
+ * tridiagonal systems are solved by the Thomas algorithm in linear time without pivoting, all other banded systems by
+ * a {@link BandLUDecomposition} with partial pivoting.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BandedSolver {
+    /**
+     * The minimal ratio of the matrix size to the band width for a band to count as narrow.
+     */
+    private static final int MIN_SIZE_TO_BAND_RATIO = 4;
+
+    /**
+     * Class constructor.
+     */
+    private BandedSolver() {
+    }
+
+    /**
+     * Checks if the coefficients of a given matrix lie in a band narrow enough to be solved faster as band matrix.
+     *
+     * @param matrix The matrix to check, only the leading square coefficient columns are used.
+     *
+     * @return True if the band is narrow, false if not.
+     */
+    public static boolean isNarrowBanded(DenseMatrix matrix) {
+        int size = matrix.getRowCount();
+        int width = BandMatrix.measureLowerBandwidth(matrix) + BandMatrix.measureUpperBandwidth(matrix) + 1;
+
+        return (long) width * MIN_SIZE_TO_BAND_RATIO <= size;
+    }
+
+    /**
+     * Solves a given matrix as band matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(GaussMatrix matrix) {
+        return solve(DenseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves a given matrix as band matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve, left unchanged.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(DenseMatrix matrix) {
+        BandMatrix band = BandMatrix.fromDenseMatrix(matrix);
+        DenseMatrix rhs = GaussianElimination.extractAugmentedColumns(matrix);
+
+        if (band.getLowerBandwidth() == 1 && band.getUpperBandwidth() == 1 && isDiagonallyDominant(band)) {
+            DenseMatrix values = solveTridiagonal(band, rhs);
+
+            if (values != null) {
+                return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, values);
+            }
+        }
+
+        BandLUDecomposition decomposition = new BandLUDecomposition(band);
+
+        if (decomposition.isSingular()) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, decomposition.solve(rhs));
+    }
+
+    /**
+     * Solves a tridiagonal system by the Thomas algorithm, forward elimination without pivoting followed by back
+     * substitution.
+     *
+     * @param band The tridiagonal coefficients.
+     * @param rhs The right-hand sides with one row per equation, left unchanged.
+     *
+     * @return The solution vectors, one per column, or null if a pivot vanished.
+     */
+    static DenseMatrix solveTridiagonal(BandMatrix band, DenseMatrix rhs) {
+        int size = band.getSize();
+        int width = rhs.getColumnCount();
+        double[] coefficients = band.getData();
+        double[] factors = new double[size];
+        DenseMatrix result = rhs.copy();
+        double[] values = result.getData();
+
+        // The band stores the sub, main and super diagonal at index 3 * row, 3 * row + 1 and 3 * row + 2
+        double tolerance = 0;
+
+        for (double coefficient : coefficients) {
+            tolerance = Math.max(tolerance, Math.abs(coefficient));
+        }
+
+        tolerance *= Math.ulp(1.0) * size;
+
+        for (int row = 0; row < size; row++) {
+            double lower = coefficients[3 * row];
+            double pivot = coefficients[3 * row + 1] - (row > 0 ? lower * factors[row - 1] : 0);
+
+            if (Math.abs(pivot) <= tolerance) {
+                return null;
+            }
+
+            factors[row] = coefficients[3 * row + 2] / pivot;
+
+            if (row > 0) {
+                RowOperations.subtract(values, row * width, values, (row - 1) * width, width, lower);
+            }
+
+            RowOperations.divide(values, row * width, width, pivot);
+        }
+
+        for (int row = size - 2; row >= 0; row--) {
+            RowOperations.subtract(values, row * width, values, (row + 1) * width, width, factors[row]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if every diagonal value of a band matrix is at least as large as the sum of the other values of its
+     * row, in which case elimination without pivoting is stable.
+     *
+     * @param band The matrix to check.
+     *
+     * @return True if diagonally dominant, false if not.
+     */
+    private static boolean isDiagonallyDominant(BandMatrix band) {
+        int size = band.getSize();
+
+        for (int row = 0; row < size; row++) {
+            double sum = 0;
+            int from = Math.max(0, row - band.getLowerBandwidth());
+            int to = Math.min(size - 1, row + band.getUpperBandwidth());
+
+            for (int column = from; column <= to; column++) {
+                if (column != row) {
+                    sum += Math.abs(band.getValue(row, column));
+                }
+            }
+
+            if (Math.abs(band.getValue(row, row)) < sum) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
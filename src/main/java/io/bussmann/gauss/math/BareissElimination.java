@@ -0,0 +1,205 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixExactSolution;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.apache.commons.math3.fraction.BigFraction;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Bareiss elimination.
+ *
+ * Solves integer matrices exactly with the fraction-free elimination by Bareiss. Every step divides the updated
+ * values by the previous pivot, which is always exact, so all intermediate values stay integers and are minors of the
+ * input matrix. Their size grows only linearly with the number of steps, instead of exponentially as with rational
+ * gaussian elimination.
+ *
+ * After the elimination the last pivot is the determinant D of the row swapped matrix, and by Cramer's rule D times
+ * each solution value is an integer. These numerators are found by exact integer back substitution, the solution
+ * values are the reduced fractions of the numerators and D.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BareissElimination {
+    /**
+     * Class constructor.
+     */
+    private BareissElimination() {
+    }
+
+    /**
+     * Solves a given matrix exactly, using its augmented columns as right-hand sides.
+     *
+     * Each value is read as the shortest decimal representing the double, then every row is multiplied by the power
+     * of ten making all of its values integers.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The exact solution vectors and status.
+     */
+    public static GaussMatrixExactSolution solve(GaussMatrix matrix) throws IllegalArgumentException {
+        return solve(DenseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves a given matrix exactly, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve, left unchanged.
+     *
+     * @return The exact solution vectors and status.
+     */
+    public static GaussMatrixExactSolution solve(DenseMatrix matrix) throws IllegalArgumentException {
+        return solve(toIntegers(matrix), matrix.getRowCount(), matrix.getColumnCount());
+    }
+
+    /**
+     * Solves a given integer matrix exactly, using its augmented columns as right-hand sides.
+     *
+     * @param values The row-major integer values, changed during the elimination.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns, at least the number of rows.
+     *
+     * @return The exact solution vectors and status.
+     */
+    public static GaussMatrixExactSolution solve(BigInteger[] values, int rowCount, int columnCount)
+            throws IllegalArgumentException {
+        if (columnCount < rowCount || values.length != rowCount * columnCount) {
+            String message = "Cannot solve a " + rowCount + " x " + columnCount + " matrix from " + values.length
+                    + " values.";
+            throw new IllegalArgumentException(message);
+        }
+
+        if (!eliminate(values, rowCount, columnCount)) {
+            return GaussMatrixExactSolution.invalid();
+        }
+
+        int solutionCount = columnCount - rowCount;
+        BigInteger determinant = rowCount == 0 ? BigInteger.ONE : values[(rowCount - 1) * columnCount + rowCount - 1];
+        BigInteger[] numerators = new BigInteger[rowCount];
+        BigFraction[] result = new BigFraction[rowCount * solutionCount];
+
+        for (int solution = 0; solution < solutionCount; solution++) {
+            int rhsColumn = rowCount + solution;
+
+            // Back substitution for the integer numerators of the solution values
+            for (int row = rowCount - 1; row >= 0; row--) {
+                int offset = row * columnCount;
+                BigInteger sum = determinant.multiply(values[offset + rhsColumn]);
+
+                for (int column = row + 1; column < rowCount; column++) {
+                    if (values[offset + column].signum() != 0) {
+                        sum = sum.subtract(values[offset + column].multiply(numerators[column]));
+                    }
+                }
+
+                numerators[row] = sum.divide(values[offset + row]);
+            }
+
+            for (int row = 0; row < rowCount; row++) {
+                result[row * solutionCount + solution] = new BigFraction(numerators[row], determinant);
+            }
+        }
+
+        return new GaussMatrixExactSolution(GaussMatrixSolution.Status.SOLVED, result, solutionCount);
+    }
+
+    /**
+     * Performs the fraction-free forward elimination in place.
+     *
+     * A row below is swapped in if a pivot is zero.
+     *
+     * @param values The row-major integer values.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     *
+     * @return True if the coefficient matrix is regular, false if it is singular.
+     */
+    private static boolean eliminate(BigInteger[] values, int rowCount, int columnCount) {
+        BigInteger previous = BigInteger.ONE;
+
+        for (int step = 0; step < rowCount; step++) {
+            int pivotOffset = step * columnCount;
+
+            if (values[pivotOffset + step].signum() == 0) {
+                int row = step + 1;
+
+                while (row < rowCount && values[row * columnCount + step].signum() == 0) {
+                    row++;
+                }
+
+                if (row == rowCount) {
+                    return false;
+                }
+
+                for (int column = step; column < columnCount; column++) {
+                    BigInteger temp = values[pivotOffset + column];
+                    values[pivotOffset + column] = values[row * columnCount + column];
+                    values[row * columnCount + column] = temp;
+                }
+            }
+
+            BigInteger pivot = values[pivotOffset + step];
+
+            for (int row = step + 1; row < rowCount; row++) {
+                int offset = row * columnCount;
+                BigInteger factor = values[offset + step];
+
+                for (int column = step + 1; column < columnCount; column++) {
+                    BigInteger value = pivot.multiply(values[offset + column]);
+
+                    if (factor.signum() != 0 && values[pivotOffset + column].signum() != 0) {
+                        value = value.subtract(factor.multiply(values[pivotOffset + column]));
+                    }
+
+                    // The division is exact, the result is a minor of the input matrix
+                    values[offset + column] = previous.equals(BigInteger.ONE) ? value : value.divide(previous);
+                }
+
+                values[offset + step] = BigInteger.ZERO;
+            }
+
+            previous = pivot;
+        }
+
+        return true;
+    }
+
+    /**
+     * Converts the values of a given matrix to integers, scaling each row by a power of ten.
+     *
+     * @param matrix The matrix to convert.
+     *
+     * @return The row-major integer values.
+     */
+    static BigInteger[] toIntegers(DenseMatrix matrix) throws IllegalArgumentException {
+        int rowCount = matrix.getRowCount();
+        int columnCount = matrix.getColumnCount();
+        BigInteger[] result = new BigInteger[rowCount * columnCount];
+        BigDecimal[] row = new BigDecimal[columnCount];
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            int scale = 0;
+
+            for (int column = 0; column < columnCount; column++) {
+                double value = matrix.getValue(rowIndex, column);
+
+                if (!Double.isFinite(value)) {
+                    String message = "Cannot solve a matrix holding the value " + value + " exactly.";
+                    throw new IllegalArgumentException(message);
+                }
+
+                row[column] = BigDecimal.valueOf(value).stripTrailingZeros();
+                scale = Math.max(scale, row[column].scale());
+            }
+
+            for (int column = 0; column < columnCount; column++) {
+                result[rowIndex * columnCount + column] = row[column].setScale(scale).unscaledValue();
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,248 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Batched gaussian elimination.
+ *
+ * Solves many small matrices of equal dimensions in one pass. The matrices are interleaved so that the values at the
+ * same position of all matrices are adjacent, and every row operation is applied to all matrices at once by the
+ * element-wise kernels of {@link RowOperations}. A single small matrix has rows too short to fill the vector lanes,
+ * the batch fills them with the matrices instead.
+ *
+ * Each matrix is pivoted partially on its own: the pivot rows are chosen, swapped and divided by their pivots per
+ * matrix, while clearing the pivot columns runs in lockstep. Every matrix undergoes exactly the operations of
+ * {@link GaussianElimination#solveInPlace} with {@link PivotingStrategy#PARTIAL} in the same order, so the solutions
+ * are bitwise identical. Zero factors skip their matrix like the row operations skip zero scalars, and the values of
+ * a singular matrix are ignored once its pivot is missing.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BatchedGaussianElimination {
+    /**
+     * Class constructor.
+     */
+    private BatchedGaussianElimination() {
+    }
+
+    /**
+     * Solves a batch of matrices, using their augmented columns as right-hand sides.
+     *
+     * @param matrices The matrices to solve, all of the same dimensions, left unchanged.
+     *
+     * @return The solution vectors and status of each matrix, in the given order.
+     */
+    public static GaussMatrixSolution[] solve(List<DenseMatrix> matrices) throws IllegalArgumentException {
+        GaussMatrixSolution[] result = new GaussMatrixSolution[matrices.size()];
+
+        if (matrices.isEmpty()) {
+            return result;
+        }
+
+        int count = matrices.size();
+        int rowCount = matrices.get(0).getRowCount();
+        int columnCount = matrices.get(0).getColumnCount();
+
+        for (DenseMatrix matrix : matrices) {
+            if (matrix.getRowCount() != rowCount || matrix.getColumnCount() != columnCount) {
+                String message = "Cannot batch a " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                        + " matrix with " + rowCount + " x " + columnCount + " matrices.";
+                throw new IllegalArgumentException(message);
+            }
+        }
+        if (columnCount < rowCount) {
+            String message = "Cannot solve " + rowCount + " x " + columnCount
+                    + " matrices, they need at least as many columns as rows.";
+            throw new IllegalArgumentException(message);
+        }
+        if ((long) rowCount * columnCount * count > Integer.MAX_VALUE - 8) {
+            String message = "The batch of " + count + " matrices is too large.";
+            throw new IllegalArgumentException(message);
+        }
+
+        double[] data = interleave(matrices, rowCount, columnCount);
+        double[] tolerances = new double[count];
+        boolean[] singular = new boolean[count];
+
+        for (int lane = 0; lane < count; lane++) {
+            tolerances[lane] = GaussianElimination.calculatePivotTolerance(matrices.get(lane));
+        }
+
+        reduce(data, rowCount, columnCount, count, tolerances, singular);
+
+        int width = columnCount - rowCount;
+
+        for (int lane = 0; lane < count; lane++) {
+            if (singular[lane]) {
+                result[lane] = GaussMatrixSolution.invalid();
+                continue;
+            }
+
+            DenseMatrix values = new DenseMatrix(rowCount, width);
+
+            for (int row = 0; row < rowCount; row++) {
+                for (int column = 0; column < width; column++) {
+                    values.setValue(row, column, data[(row * columnCount + rowCount + column) * count + lane]);
+                }
+            }
+
+            result[lane] = new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, values);
+        }
+
+        return result;
+    }
+
+    /**
+     * Copies the matrices into one array, the values at the same position of all matrices being adjacent.
+     *
+     * @param matrices The matrices to copy.
+     * @param rowCount The number of rows of each matrix.
+     * @param columnCount The number of columns of each matrix.
+     *
+     * @return The interleaved values.
+     */
+    private static double[] interleave(List<DenseMatrix> matrices, int rowCount, int columnCount) {
+        int count = matrices.size();
+        double[] data = new double[rowCount * columnCount * count];
+
+        for (int lane = 0; lane < count; lane++) {
+            DenseMatrix matrix = matrices.get(lane);
+            double[] values = matrix.getData();
+
+            for (int row = 0; row < rowCount; row++) {
+                int offset = row * matrix.getStride();
+
+                for (int column = 0; column < columnCount; column++) {
+                    data[(row * columnCount + column) * count + lane] = values[offset + column];
+                }
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Reduces all matrices to their reduced row echelon form.
+     *
+     * @param data The interleaved values.
+     * @param rowCount The number of rows of each matrix.
+     * @param columnCount The number of columns of each matrix.
+     * @param count The number of matrices.
+     * @param tolerances The magnitude up to which pivots are considered zero per matrix.
+     * @param singular Whether each matrix is singular, filled during the elimination.
+     */
+    private static void reduce(double[] data, int rowCount, int columnCount, int count, double[] tolerances,
+                               boolean[] singular) {
+        double[] factors = new double[count];
+
+        for (int pivot = 0; pivot < rowCount; pivot++) {
+            for (int lane = 0; lane < count; lane++) {
+                selectPivot(data, rowCount, columnCount, count, pivot, lane, tolerances, singular);
+
+                if (!singular[lane]) {
+                    dividePivotRow(data, columnCount, count, pivot, lane);
+                }
+            }
+
+            // Clear the column values underneath the pivots, the factors are copied as they are cleared as well
+            for (int row = pivot + 1; row < rowCount; row++) {
+                System.arraycopy(data, (row * columnCount + pivot) * count, factors, 0, count);
+
+                for (int column = pivot; column < columnCount; column++) {
+                    RowOperations.subtractProducts(data, (row * columnCount + column) * count, factors, 0, data,
+                            (pivot * columnCount + column) * count, count);
+                }
+            }
+        }
+
+        // Perform back substitution from the last pivot up, clearing the rows in reverse order
+        for (int pivot = rowCount - 1; pivot > 0; pivot--) {
+            for (int row = pivot - 1; row >= 0; row--) {
+                int factorOffset = (row * columnCount + pivot) * count;
+
+                // The pivot rows are zero apart from their pivots and augmented columns
+                System.arraycopy(data, factorOffset, factors, 0, count);
+                Arrays.fill(data, factorOffset, factorOffset + count, 0);
+
+                for (int column = rowCount; column < columnCount; column++) {
+                    RowOperations.subtractProducts(data, (row * columnCount + column) * count, factors, 0, data,
+                            (pivot * columnCount + column) * count, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Chooses the pivot of a column of one matrix by magnitude and swaps its row into place.
+     *
+     * @param data The interleaved values.
+     * @param rowCount The number of rows of each matrix.
+     * @param columnCount The number of columns of each matrix.
+     * @param count The number of matrices.
+     * @param pivot The pivot row and column.
+     * @param lane The index of the matrix.
+     * @param tolerances The magnitude up to which pivots are considered zero per matrix.
+     * @param singular Whether each matrix is singular, set if no pivot is found.
+     */
+    private static void selectPivot(double[] data, int rowCount, int columnCount, int count, int pivot, int lane,
+                                    double[] tolerances, boolean[] singular) {
+        if (singular[lane]) {
+            return;
+        }
+
+        int pivotRow = pivot;
+        double pivotMagnitude = 0;
+
+        for (int row = pivot; row < rowCount; row++) {
+            double magnitude = Math.abs(data[(row * columnCount + pivot) * count + lane]);
+
+            if (magnitude > pivotMagnitude) {
+                pivotRow = row;
+                pivotMagnitude = magnitude;
+            }
+        }
+
+        if (pivotMagnitude <= tolerances[lane]) {
+            singular[lane] = true;
+            return;
+        }
+        if (pivotRow == pivot) {
+            return;
+        }
+
+        for (int column = 0; column < columnCount; column++) {
+            int index1 = (pivot * columnCount + column) * count + lane;
+            int index2 = (pivotRow * columnCount + column) * count + lane;
+            double temp = data[index1];
+            data[index1] = data[index2];
+            data[index2] = temp;
+        }
+    }
+
+    /**
+     * Divides the pivot row of one matrix by its pivot, unless the pivot is already 1.
+     *
+     * @param data The interleaved values.
+     * @param columnCount The number of columns of each matrix.
+     * @param count The number of matrices.
+     * @param pivot The pivot row and column.
+     * @param lane The index of the matrix.
+     */
+    private static void dividePivotRow(double[] data, int columnCount, int count, int pivot, int lane) {
+        double scalar = data[(pivot * columnCount + pivot) * count + lane];
+
+        if (Double.compare(scalar, 1) == 0) {
+            return;
+        }
+
+        // Adding zero after the division normalizes negative zero results like RowOperations.divide
+        for (int column = pivot; column < columnCount; column++) {
+            int index = (pivot * columnCount + column) * count + lane;
+            data[index] = data[index] / scalar + (double) 0;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+
+/**
+ * Blocked LU decomposition.
+ *
+ * Factors the coefficients of a matrix into a unit lower triangular matrix L and an upper triangular matrix U with
+ * partial pivoting, so that P * A = L * U. The factorization is right-looking and blocked: a panel of columns is
+ * factored first, then the rows of U right of the panel are computed and the trailing sub matrix is updated tile by
+ * tile, keeping the working set of the innermost loops in cache.
+ *
+ * The solution is then computed by forward and back substitution. The factorization is immutable once created and
+ * can be reused for any number of right-hand sides.
+ *
+ * @author Frederik Bußmann
+ */
+public final class BlockedLUDecomposition implements Factorization {
+    /**
+     * The default number of columns factored per panel.
+     */
+    public static final int DEFAULT_PANEL_SIZE = 48;
+
+    /**
+     * The default number of rows and columns per tile of the trailing update.
+     */
+    public static final int DEFAULT_TILE_SIZE = 192;
+
+    /**
+     * The number of rows and columns of the coefficient matrix.
+     */
+    private final int size;
+
+    /**
+     * The row-major factors, L below the diagonal with implicit unit diagonal and U on and above the diagonal.
+     */
+    private final double[] lu;
+
+    /**
+     * The row swapped with each row during the factorization.
+     */
+    private final int[] pivots;
+
+    /**
+     * Whether the coefficient matrix is singular.
+     */
+    private final boolean singular;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to factor, only the leading square coefficient columns are used.
+     */
+    public BlockedLUDecomposition(DenseMatrix matrix) {
+        this(matrix, DEFAULT_PANEL_SIZE, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to factor, only the leading square coefficient columns are used.
+     * @param panelSize The number of columns factored per panel.
+     * @param tileSize The number of rows and columns per tile of the trailing update.
+     */
+    public BlockedLUDecomposition(DenseMatrix matrix, int panelSize, int tileSize) throws IllegalArgumentException {
+        if (panelSize < 1 || tileSize < 1) {
+            String message = "Panel and tile size must be positive, " + panelSize + " and " + tileSize + " given.";
+            throw new IllegalArgumentException(message);
+        }
+        if (matrix.getColumnCount() < matrix.getRowCount()) {
+            String message = "Cannot factor a " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                    + " matrix, it needs at least as many columns as rows.";
+            throw new IllegalArgumentException(message);
+        }
+
+        size = matrix.getRowCount();
+        lu = new double[size * size];
+        pivots = new int[size];
+
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(matrix.getData(), row * matrix.getStride(), lu, row * size, size);
+        }
+
+        singular = !factor(GaussianElimination.calculatePivotTolerance(matrix), panelSize, tileSize);
+    }
+
+    /**
+     * Factors the coefficients of a given gauss matrix.
+     *
+     * @param matrix The matrix to factor.
+     *
+     * @return The factorization.
+     */
+    public static BlockedLUDecomposition factorize(GaussMatrix matrix) {
+        return new BlockedLUDecomposition(DenseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves a given matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(GaussMatrix matrix) {
+        DenseMatrix values = DenseMatrix.fromGaussMatrix(matrix);
+        BlockedLUDecomposition decomposition = new BlockedLUDecomposition(values);
+
+        if (decomposition.isSingular()) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        DenseMatrix rhs = GaussianElimination.extractAugmentedColumns(values);
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, decomposition.solve(rhs));
+    }
+
+    /**
+     * Solves the factored system for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    @Override
+    public double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException {
+        checkRightHandSide(rhs.length);
+
+        double[] values = rhs.clone();
+
+        // Apply the row swaps
+        for (int row = 0; row < size; row++) {
+            double temp = values[row];
+            values[row] = values[pivots[row]];
+            values[pivots[row]] = temp;
+        }
+
+        // Forward substitution with the unit lower triangular factor
+        for (int row = 1; row < size; row++) {
+            int offset = row * size;
+            double sum = values[row];
+
+            for (int column = 0; column < row; column++) {
+                sum -= lu[offset + column] * values[column];
+            }
+
+            values[row] = sum;
+        }
+
+        // Back substitution with the upper triangular factor
+        for (int row = size - 1; row >= 0; row--) {
+            int offset = row * size;
+            double sum = values[row];
+
+            for (int column = row + 1; column < size; column++) {
+                sum -= lu[offset + column] * values[column];
+            }
+
+            values[row] = sum / lu[offset + row];
+        }
+
+        return values;
+    }
+
+    /**
+     * Solves the factored system for a batch of right-hand sides, one per column.
+     *
+     * All columns are substituted together, so every factor value is read once per batch.
+     *
+     * @param rhs The right-hand sides with one row per equation, left unchanged.
+     *
+     * @return The solution vectors, one per column.
+     */
+    @Override
+    public DenseMatrix solve(DenseMatrix rhs) throws IllegalArgumentException, ArithmeticException {
+        checkRightHandSide(rhs.getRowCount());
+
+        DenseMatrix result = rhs.copy();
+        double[] values = result.getData();
+        int width = result.getColumnCount();
+
+        // Apply the row swaps
+        for (int row = 0; row < size; row++) {
+            RowOperations.swapRow(result, row, pivots[row]);
+        }
+
+        // Forward substitution with the unit lower triangular factor
+        for (int row = 1; row < size; row++) {
+            int offset = row * size;
+
+            for (int column = 0; column < row; column++) {
+                RowOperations.subtract(values, row * width, values, column * width, width, lu[offset + column]);
+            }
+        }
+
+        // Back substitution with the upper triangular factor
+        for (int row = size - 1; row >= 0; row--) {
+            int offset = row * size;
+
+            for (int column = row + 1; column < size; column++) {
+                RowOperations.subtract(values, row * width, values, column * width, width, lu[offset + column]);
+            }
+
+            RowOperations.divide(values, row * width, width, lu[offset + row]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the coefficient matrix is singular.
+     *
+     * @return True if singular, false if not.
+     */
+    @Override
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Gets the number of rows and columns of the coefficient matrix.
+     *
+     * @return The size of the factored matrix.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Checks if the system can be solved for a right-hand side with a given number of rows.
+     *
+     * @param rowCount The number of rows of the right-hand side.
+     */
+    private void checkRightHandSide(int rowCount) throws IllegalArgumentException, ArithmeticException {
+        if (rowCount != size) {
+            String message = "The right-hand side has " + rowCount + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+        if (singular) {
+            String message = "Cannot solve a system with a singular coefficient matrix.";
+            throw new ArithmeticException(message);
+        }
+    }
+
+    /**
+     * Factors the coefficients in place.
+     *
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     * @param panelSize The number of columns factored per panel.
+     * @param tileSize The number of rows and columns per tile of the trailing update.
+     *
+     * @return True if the coefficient matrix is regular, false if it is singular.
+     */
+    private boolean factor(double tolerance, int panelSize, int tileSize) {
+        for (int panelStart = 0; panelStart < size; panelStart += panelSize) {
+            int panelEnd = Math.min(panelStart + panelSize, size);
+
+            if (!factorPanel(panelStart, panelEnd, tolerance)) {
+                return false;
+            }
+
+            if (panelEnd < size) {
+                solveUpperPanelRows(panelStart, panelEnd);
+                updateTrailingMatrix(panelStart, panelEnd, tileSize);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Factors the columns of a panel with partial pivoting, swapping whole rows.
+     *
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     *
+     * @return True if a non-zero pivot was found for every column, false if not.
+     */
+    private boolean factorPanel(int panelStart, int panelEnd, double tolerance) {
+        for (int column = panelStart; column < panelEnd; column++) {
+            int pivotRow = column;
+            double pivotMagnitude = Math.abs(lu[column * size + column]);
+
+            for (int row = column + 1; row < size; row++) {
+                double magnitude = Math.abs(lu[row * size + column]);
+
+                if (magnitude > pivotMagnitude) {
+                    pivotRow = row;
+                    pivotMagnitude = magnitude;
+                }
+            }
+
+            if (pivotMagnitude <= tolerance) {
+                return false;
+            }
+
+            pivots[column] = pivotRow;
+
+            if (pivotRow != column) {
+                RowOperations.swap(lu, column * size, pivotRow * size, size);
+            }
+
+            int pivotOffset = column * size;
+            double pivot = lu[pivotOffset + column];
+            int length = panelEnd - column - 1;
+
+            for (int row = column + 1; row < size; row++) {
+                int offset = row * size;
+                double factor = lu[offset + column] / pivot;
+
+                lu[offset + column] = factor;
+
+                if (factor != 0) {
+                    RowOperations.subtract(lu, offset + column + 1, lu, pivotOffset + column + 1, length, factor);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the rows of U right of a panel by forward substitution with the unit lower triangle of the panel.
+     *
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     */
+    private void solveUpperPanelRows(int panelStart, int panelEnd) {
+        int length = size - panelEnd;
+
+        for (int row = panelStart + 1; row < panelEnd; row++) {
+            int offset = row * size;
+
+            for (int column = panelStart; column < row; column++) {
+                double factor = lu[offset + column];
+
+                if (factor != 0) {
+                    RowOperations.subtract(lu, offset + panelEnd, lu, column * size + panelEnd, length, factor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Subtracts the product of the panel columns of L and the panel rows of U from the trailing sub matrix.
+     *
+     * The update is performed tile by tile, so the rows of U of a column tile are reused for all rows while they are
+     * still in cache.
+     *
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     * @param tileSize The number of rows and columns per tile.
+     */
+    private void updateTrailingMatrix(int panelStart, int panelEnd, int tileSize) {
+        for (int columnStart = panelEnd; columnStart < size; columnStart += tileSize) {
+            int length = Math.min(tileSize, size - columnStart);
+
+            for (int rowStart = panelEnd; rowStart < size; rowStart += tileSize) {
+                int rowEnd = Math.min(rowStart + tileSize, size);
+
+                for (int row = rowStart; row < rowEnd; row++) {
+                    int offset = row * size;
+
+                    for (int k = panelStart; k < panelEnd; k++) {
+                        double factor = lu[offset + k];
+
+                        if (factor != 0) {
+                            RowOperations.subtract(lu, offset + columnStart, lu, k * size + columnStart, length,
+                                    factor);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixOperation;
+import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
+import org.apache.commons.math3.fraction.BigFraction;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Exact solution trace.
+ *
+ * Replays the steps of a recorded {@link GaussMatrixSolutionTrace} in exact rational arithmetic, so every step can be
+ * shown as fractions. The input values are taken as the decimals they are written as, and the row and column swaps
+ * and the eliminated positions follow the recorded steps. The scalars are not taken from the trace but recomputed
+ * exactly from the pivot and the eliminated value.
+ *
+ * Pivots are chosen in double precision. If a pivot that was usable there is exactly zero, the remaining steps have
+ * no exact values. The matrices are rebuilt in step order, reading steps backwards replays from the start. An exact
+ * solution trace is not thread-safe.
+ *
+ * @author Frederik Bußmann
+ */
+public final class ExactSolutionTrace {
+    /**
+     * The recorded trace to replay.
+     */
+    private final GaussMatrixSolutionTrace trace;
+
+    /**
+     * The number of columns of the recorded matrix.
+     */
+    private final int columnCount;
+
+    /**
+     * The row-major values of the most recently rebuilt step.
+     */
+    private BigFraction[] values;
+
+    /**
+     * The index of the most recently rebuilt step, -1 before the first step.
+     */
+    private int valuesIndex = -1;
+
+    /**
+     * The index of the first step without exact values, or the step count if all steps are exact.
+     */
+    private int exactStepCount;
+
+    /**
+     * Class constructor.
+     *
+     * @param trace The recorded trace to replay.
+     */
+    public ExactSolutionTrace(GaussMatrixSolutionTrace trace) {
+        this.trace = trace;
+
+        DenseMatrix initial = trace.getInitialMatrix();
+
+        columnCount = initial == null ? 0 : initial.getColumnCount();
+        exactStepCount = trace.getStepCount();
+        resetValues();
+    }
+
+    /**
+     * Gets the exact values after a step of the solution trace.
+     *
+     * @param index The index of the step.
+     *
+     * @return The row-major values of the matrix at this step, or null if the step has no exact values.
+     */
+    public BigFraction[] getStep(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > trace.getStepCount() - 1) {
+            String message = "The step " + index + " does not exist in the solution trace.";
+            throw new IndexOutOfBoundsException(message);
+        }
+        if (index >= exactStepCount) {
+            return null;
+        }
+        if (valuesIndex > index) {
+            resetValues();
+        }
+
+        for (int step = valuesIndex + 1; step <= index; step++) {
+            if (values == null || !apply(trace.getOperation(step))) {
+                exactStepCount = step;
+                resetValues();
+                return null;
+            }
+
+            valuesIndex = step;
+        }
+
+        return values.clone();
+    }
+
+    /**
+     * Converts a value to the fraction of its shortest decimal representation.
+     *
+     * @param value The value to convert.
+     *
+     * @return The exact fraction, or null if the value is not finite.
+     */
+    static BigFraction toFraction(double value) {
+        if (!Double.isFinite(value)) {
+            return null;
+        }
+
+        BigDecimal decimal = BigDecimal.valueOf(value);
+
+        if (decimal.scale() >= 0) {
+            return new BigFraction(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()));
+        }
+
+        return new BigFraction(decimal.unscaledValue().multiply(BigInteger.TEN.pow(-decimal.scale())));
+    }
+
+    /**
+     * Resets the rebuilt values to the initial matrix.
+     */
+    private void resetValues() {
+        DenseMatrix initial = trace.getInitialMatrix();
+
+        values = initial == null ? null : toFractions(initial);
+        valuesIndex = -1;
+    }
+
+    /**
+     * Converts the values of a given matrix to exact fractions.
+     *
+     * @param matrix The matrix to convert.
+     *
+     * @return The row-major fractions, or null if a value is not finite.
+     */
+    private static BigFraction[] toFractions(DenseMatrix matrix) {
+        double[] data = matrix.getData();
+        BigFraction[] result = new BigFraction[data.length];
+
+        for (int index = 0; index < data.length; index++) {
+            result[index] = toFraction(data[index]);
+
+            if (result[index] == null) {
+                return null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies a recorded operation to the rebuilt values.
+     *
+     * @param operation The operation to apply.
+     *
+     * @return True if the operation was applied exactly, false if its pivot is exactly zero.
+     */
+    private boolean apply(GaussMatrixOperation operation) {
+        int index1 = operation.getIndex1() - 1;
+        int index2 = operation.getIndex2() - 1;
+
+        switch (operation.getType()) {
+            case SWAP:
+                for (int column = 0; column < columnCount; column++) {
+                    swap(index1 * columnCount + column, index2 * columnCount + column);
+                }
+
+                return true;
+            case COLUMN_SWAP:
+                for (int offset = 0; offset < values.length; offset += columnCount) {
+                    swap(offset + index1, offset + index2);
+                }
+
+                return true;
+            case DIVISION:
+                BigFraction pivot = values[index1 * columnCount + index1];
+
+                if (pivot.equals(BigFraction.ZERO)) {
+                    return false;
+                }
+
+                for (int column = index1; column < columnCount; column++) {
+                    values[index1 * columnCount + column] = values[index1 * columnCount + column].divide(pivot);
+                }
+
+                return true;
+            case SUBTRACT:
+            case MULTIPLY_AND_SUBTRACT:
+                return eliminate(index1, index2);
+            case SNAPSHOT:
+                values = toFractions(operation.getSnapshot());
+                return values != null;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Clears the value of the pivot column in a target row by subtracting the exact multiple of the pivot row.
+     *
+     * @param pivot The row and column of the pivot.
+     * @param target The row to clear.
+     *
+     * @return True if the value was cleared, false if the pivot is exactly zero.
+     */
+    private boolean eliminate(int pivot, int target) {
+        BigFraction pivotValue = values[pivot * columnCount + pivot];
+
+        if (pivotValue.equals(BigFraction.ZERO)) {
+            return false;
+        }
+
+        BigFraction factor = values[target * columnCount + pivot].divide(pivotValue);
+
+        for (int column = pivot; column < columnCount; column++) {
+            BigFraction product = values[pivot * columnCount + column].multiply(factor);
+            values[target * columnCount + column] = values[target * columnCount + column].subtract(product);
+        }
+
+        return true;
+    }
+
+    /**
+     * Swaps two of the rebuilt values.
+     *
+     * @param index1 The index of the value to swap.
+     * @param index2 The index of the value to swap with.
+     */
+    private void swap(int index1, int index2) {
+        BigFraction temp = values[index1];
+        values[index1] = values[index2];
+        values[index2] = temp;
+    }
+}
@@ -0,0 +1,69 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+
+/**
+ * Factorization.
+ *
+ * Represents a factored coefficient matrix that can be reused to solve the system for any number of right-hand
+ * sides, each in quadratic instead of cubic time. Implementations are immutable and may be shared between threads.
+ *
+ * @author Frederik Bußmann
+ */
+public interface Factorization {
+    /**
+     * Gets the number of rows and columns of the factored coefficient matrix.
+     *
+     * @return The size of the factored matrix.
+     */
+    int getSize();
+
+    /**
+     * Checks if the factored coefficient matrix is singular.
+     *
+     * @return True if singular, false if not.
+     */
+    boolean isSingular();
+
+    /**
+     * Solves the factored system for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException;
+
+    /**
+     * Solves the factored system for a batch of right-hand sides, one per column.
+     *
+     * @param rhs The right-hand sides with one row per equation, left unchanged.
+     *
+     * @return The solution vectors, one per column.
+     */
+    default DenseMatrix solve(DenseMatrix rhs) throws IllegalArgumentException, ArithmeticException {
+        int size = getSize();
+
+        if (rhs.getRowCount() != size) {
+            String message = "The right-hand sides have " + rhs.getRowCount() + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+
+        DenseMatrix result = new DenseMatrix(size, rhs.getColumnCount());
+        double[] column = new double[size];
+
+        for (int index = 0; index < rhs.getColumnCount(); index++) {
+            for (int row = 0; row < size; row++) {
+                column[row] = rhs.getValue(row, index);
+            }
+
+            double[] values = solve(column);
+
+            for (int row = 0; row < size; row++) {
+                result.setValue(row, index, values[row]);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,279 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+
+/**
+ * Float LU decomposition.
+ *
+ * Factors the coefficients of a matrix like the {@link BlockedLUDecomposition}, but stores and updates the factors in
+ * single precision. This halves the memory and bandwidth of the factorization and doubles the number of values per
+ * vector instruction, at the cost of a solution accurate only to single precision. It is meant to be combined with
+ * iterative refinement in double precision, see {@link MixedPrecisionSolver}.
+ *
+ * The substitutions read the single precision factors but accumulate in double precision.
+ *
+ * @author Frederik Bußmann
+ */
+public final class FloatLUDecomposition implements Factorization {
+    /**
+     * The number of rows and columns of the coefficient matrix.
+     */
+    private final int size;
+
+    /**
+     * The row-major factors, L below the diagonal with implicit unit diagonal and U on and above the diagonal.
+     */
+    private final float[] lu;
+
+    /**
+     * The row swapped with each row during the factorization.
+     */
+    private final int[] pivots;
+
+    /**
+     * Whether the coefficient matrix is singular in single precision, or has values out of its range.
+     */
+    private final boolean singular;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to factor, only the leading square coefficient columns are used.
+     */
+    public FloatLUDecomposition(DenseMatrix matrix) throws IllegalArgumentException {
+        if (matrix.getColumnCount() < matrix.getRowCount()) {
+            String message = "Cannot factor a " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                    + " matrix, it needs at least as many columns as rows.";
+            throw new IllegalArgumentException(message);
+        }
+
+        size = matrix.getRowCount();
+        lu = new float[size * size];
+        pivots = new int[size];
+
+        double[] data = matrix.getData();
+        float maximum = 0;
+
+        for (int row = 0; row < size; row++) {
+            int offset = row * matrix.getStride();
+
+            for (int column = 0; column < size; column++) {
+                float value = (float) data[offset + column];
+
+                lu[row * size + column] = value;
+                maximum = Math.max(maximum, Math.abs(value));
+            }
+        }
+
+        // Values beyond the single precision range cannot be factored
+        singular = !Float.isFinite(maximum)
+                || !factor(Math.ulp(1.0f) * size * maximum, BlockedLUDecomposition.DEFAULT_PANEL_SIZE,
+                        BlockedLUDecomposition.DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Solves the factored system for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    @Override
+    public double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException {
+        if (rhs.length != size) {
+            String message = "The right-hand side has " + rhs.length + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+        if (singular) {
+            String message = "Cannot solve a system with a singular coefficient matrix.";
+            throw new ArithmeticException(message);
+        }
+
+        double[] values = rhs.clone();
+
+        // Apply the row swaps
+        for (int row = 0; row < size; row++) {
+            double temp = values[row];
+            values[row] = values[pivots[row]];
+            values[pivots[row]] = temp;
+        }
+
+        // Forward substitution with the unit lower triangular factor
+        for (int row = 1; row < size; row++) {
+            int offset = row * size;
+            double sum = values[row];
+
+            for (int column = 0; column < row; column++) {
+                sum -= lu[offset + column] * values[column];
+            }
+
+            values[row] = sum;
+        }
+
+        // Back substitution with the upper triangular factor
+        for (int row = size - 1; row >= 0; row--) {
+            int offset = row * size;
+            double sum = values[row];
+
+            for (int column = row + 1; column < size; column++) {
+                sum -= lu[offset + column] * values[column];
+            }
+
+            values[row] = sum / lu[offset + row];
+        }
+
+        return values;
+    }
+
+    /**
+     * Checks if the coefficient matrix is singular in single precision.
+     *
+     * @return True if singular, false if not.
+     */
+    @Override
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Gets the number of rows and columns of the coefficient matrix.
+     *
+     * @return The size of the factored matrix.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Factors the coefficients in place.
+     *
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     * @param panelSize The number of columns factored per panel.
+     * @param tileSize The number of rows and columns per tile of the trailing update.
+     *
+     * @return True if the coefficient matrix is regular, false if it is singular.
+     */
+    private boolean factor(float tolerance, int panelSize, int tileSize) {
+        for (int panelStart = 0; panelStart < size; panelStart += panelSize) {
+            int panelEnd = Math.min(panelStart + panelSize, size);
+
+            if (!factorPanel(panelStart, panelEnd, tolerance)) {
+                return false;
+            }
+
+            if (panelEnd < size) {
+                solveUpperPanelRows(panelStart, panelEnd);
+                updateTrailingMatrix(panelStart, panelEnd, tileSize);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Factors the columns of a panel with partial pivoting, swapping whole rows.
+     *
+     * A pivot overflowing to infinity or turning into NaN is treated like a zero pivot.
+     *
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     *
+     * @return True if a non-zero pivot was found for every column, false if not.
+     */
+    private boolean factorPanel(int panelStart, int panelEnd, float tolerance) {
+        for (int column = panelStart; column < panelEnd; column++) {
+            int pivotRow = column;
+            float pivotMagnitude = Math.abs(lu[column * size + column]);
+
+            for (int row = column + 1; row < size; row++) {
+                float magnitude = Math.abs(lu[row * size + column]);
+
+                if (magnitude > pivotMagnitude) {
+                    pivotRow = row;
+                    pivotMagnitude = magnitude;
+                }
+            }
+
+            if (!(pivotMagnitude > tolerance) || !Float.isFinite(pivotMagnitude)) {
+                return false;
+            }
+
+            pivots[column] = pivotRow;
+
+            if (pivotRow != column) {
+                RowOperations.swap(lu, column * size, pivotRow * size, size);
+            }
+
+            int pivotOffset = column * size;
+            float pivot = lu[pivotOffset + column];
+            int length = panelEnd - column - 1;
+
+            for (int row = column + 1; row < size; row++) {
+                int offset = row * size;
+                float factor = lu[offset + column] / pivot;
+
+                lu[offset + column] = factor;
+
+                if (factor != 0) {
+                    RowOperations.subtract(lu, offset + column + 1, lu, pivotOffset + column + 1, length, factor);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the rows of U right of a panel by forward substitution with the unit lower triangle of the panel.
+     *
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     */
+    private void solveUpperPanelRows(int panelStart, int panelEnd) {
+        int length = size - panelEnd;
+
+        for (int row = panelStart + 1; row < panelEnd; row++) {
+            int offset = row * size;
+
+            for (int column = panelStart; column < row; column++) {
+                float factor = lu[offset + column];
+
+                if (factor != 0) {
+                    RowOperations.subtract(lu, offset + panelEnd, lu, column * size + panelEnd, length, factor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Subtracts the product of the panel columns of L and the panel rows of U from the trailing sub matrix.
+     *
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     * @param tileSize The number of rows and columns per tile.
+     */
+    private void updateTrailingMatrix(int panelStart, int panelEnd, int tileSize) {
+        for (int columnStart = panelEnd; columnStart < size; columnStart += tileSize) {
+            int length = Math.min(tileSize, size - columnStart);
+
+            for (int rowStart = panelEnd; rowStart < size; rowStart += tileSize) {
+                int rowEnd = Math.min(rowStart + tileSize, size);
+
+                for (int row = rowStart; row < rowEnd; row++) {
+                    int offset = row * size;
+
+                    for (int k = panelStart; k < panelEnd; k++) {
+                        float factor = lu[offset + k];
+
+                        if (factor != 0) {
+                            RowOperations.subtract(lu, offset + columnStart, lu, k * size + columnStart, length,
+                                    factor);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
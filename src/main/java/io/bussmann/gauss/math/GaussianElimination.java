@@ -1,9 +1,13 @@
 package io.bussmann.gauss.math;
 
+import io.bussmann.gauss.types.DenseMatrix;
 import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
 import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
+import io.bussmann.gauss.types.SymmetricMatrix;
 
 import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Gaussian elimination.
@@ -16,81 +20,337 @@ public class GaussianElimination {
     /**
      * Tries to solve a given matrix with the gaussian elimination algorithm.
      *
+     * Rows are only swapped if a pivot is below the pivot tolerance, see {@link PivotingStrategy#NONE}.
+     *
      * @param matrix The matrix to solve.
      */
     public static GaussMatrixSolutionTrace solveMatrix(GaussMatrix matrix) {
-        GaussMatrixSolutionTrace trace = new GaussMatrixSolutionTrace();
+        return solveMatrix(matrix, PivotingStrategy.NONE);
+    }
+
+    /**
+     * Tries to solve a given matrix with the gaussian elimination algorithm using a given pivoting strategy.
+     *
+     * The elimination is performed in place on a primitive copy of the matrix, the resulting values are written back
+     * to the given matrix.
+     *
+     * @param matrix The matrix to solve.
+     * @param strategy The strategy used to choose the pivot elements.
+     */
+    public static GaussMatrixSolutionTrace solveMatrix(GaussMatrix matrix, PivotingStrategy strategy) {
+        DenseMatrix work = DenseMatrix.fromGaussMatrix(matrix);
+        GaussMatrixSolutionTrace trace = new GaussMatrixSolutionTrace(work);
+
+        int[] rowPermutation = createIdentityPermutation(work.getRowCount());
+        trace.setRowPermutation(rowPermutation);
+
+        boolean solved = reduce(work, strategy, rowPermutation, trace);
+
+        work.copyTo(matrix);
+
+        if (!solved) {
+            trace.addInvalid(work);
+        }
+
+        return trace;
+    }
+
+    /**
+     * Solves a given matrix without recording a solution trace.
+     *
+     * Matrices whose coefficients lie in a narrow band around the diagonal are detected and solved by the
+     * {@link BandedSolver}, which pivots within the band. Matrices with symmetric coefficients are solved by the
+     * {@link SymmetricSolver}, which factors only their lower triangle. All other matrices are eliminated with
+     * {@link PivotingStrategy#NONE}, rows are only swapped if a pivot is below the pivot tolerance. The given matrix
+     * is not changed.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vector and status.
+     */
+    public static GaussMatrixSolution solve(GaussMatrix matrix) {
+        return solveSpecialized(DenseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves a given matrix without recording a solution trace.
+     *
+     * Chooses the solver like {@link #solve(GaussMatrix)}. The given matrix is not changed.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vector and status.
+     */
+    public static GaussMatrixSolution solve(DenseMatrix matrix) {
+        return solveSpecialized(matrix.copy());
+    }
+
+    /**
+     * Solves a given matrix using a given pivoting strategy without recording a solution trace.
+     *
+     * The matrix is always solved by elimination with the given strategy, the given matrix is not changed.
+     *
+     * @param matrix The matrix to solve.
+     * @param strategy The strategy used to choose the pivot elements.
+     *
+     * @return The solution vector and status.
+     */
+    public static GaussMatrixSolution solve(GaussMatrix matrix, PivotingStrategy strategy) {
+        return solveInPlace(DenseMatrix.fromGaussMatrix(matrix), strategy);
+    }
+
+    /**
+     * Solves a given matrix in place using a given pivoting strategy without recording a solution trace.
+     *
+     * The given matrix is changed to its reduced row echelon form. All augmented columns are reduced in the same
+     * sweep, yielding one solution vector per augmented column.
+     *
+     * @param matrix The matrix to solve.
+     * @param strategy The strategy used to choose the pivot elements.
+     *
+     * @return The solution vector and status.
+     */
+    public static GaussMatrixSolution solveInPlace(DenseMatrix matrix, PivotingStrategy strategy) {
+        int size = matrix.getRowCount();
+
+        if (!reduce(matrix, strategy, createIdentityPermutation(size), null)) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, extractAugmentedColumns(matrix));
+    }
+
+    /**
+     * Solves a given matrix by the solver fitting the structure of its coefficients.
+     *
+     * @param work The matrix to solve, it may be changed.
+     *
+     * @return The solution vector and status.
+     */
+    private static GaussMatrixSolution solveSpecialized(DenseMatrix work) {
+        if (BandedSolver.isNarrowBanded(work)) {
+            return BandedSolver.solve(work);
+        }
+        if (SymmetricMatrix.isSymmetric(work)) {
+            return SymmetricSolver.solve(work);
+        }
+
+        return solveInPlace(work, PivotingStrategy.NONE);
+    }
+
+    /**
+     * Calculates the inverse of the coefficients of a given matrix.
+     *
+     * The matrix is augmented with the identity matrix, which is reduced to the inverse in the same sweep.
+     *
+     * @param matrix The matrix to invert, only the leading square coefficient columns are used.
+     *
+     * @return The inverse matrix.
+     */
+    public static DenseMatrix invert(DenseMatrix matrix) throws ArithmeticException {
+        int size = matrix.getRowCount();
+        DenseMatrix work = new DenseMatrix(size, size * 2);
+
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(matrix.getData(), row * matrix.getStride(), work.getData(), row * work.getStride(), size);
+            work.setValue(row, size + row, 1);
+        }
+
+        if (!reduce(work, PivotingStrategy.PARTIAL, createIdentityPermutation(size), null)) {
+            String message = "Cannot invert a singular matrix.";
+            throw new ArithmeticException(message);
+        }
+
+        return extractAugmentedColumns(work);
+    }
+
+    /**
+     * Factors the coefficients of a given matrix once for solving it with many right-hand sides.
+     *
+     * @param matrix The matrix to factor, only the coefficient columns are used.
+     *
+     * @return The immutable factorization.
+     */
+    public static Factorization factorize(GaussMatrix matrix) {
+        return BlockedLUDecomposition.factorize(matrix);
+    }
+
+    /**
+     * Reduces a given matrix in place to its reduced row echelon form.
+     *
+     * @param work The matrix to reduce.
+     * @param strategy The strategy used to choose the pivot elements.
+     * @param rowPermutation The original row indices of the current rows, updated on every row swap.
+     * @param trace The trace to record each step to, or null to skip recording.
+     *
+     * @return True if the matrix has a unique solution, false if not.
+     */
+    static boolean reduce(DenseMatrix work, PivotingStrategy strategy, int[] rowPermutation,
+                          GaussMatrixSolutionTrace trace) {
+        return reduce(work, strategy, rowPermutation, trace, null, 0);
+    }
+
+    /**
+     * Reduces a given matrix in place to its reduced row echelon form, clearing the values of large pivot columns in
+     * parallel.
+     *
+     * @param work The matrix to reduce.
+     * @param strategy The strategy used to choose the pivot elements.
+     * @param rowPermutation The original row indices of the current rows, updated on every row swap.
+     * @param trace The trace to record each step to, or null to skip recording.
+     * @param pool The pool to clear the pivot columns in, or null to clear them sequentially.
+     * @param threshold The minimal number of values updated in a step to clear it in parallel.
+     *
+     * @return True if the matrix has a unique solution, false if not.
+     */
+    static boolean reduce(DenseMatrix work, PivotingStrategy strategy, int[] rowPermutation,
+                          GaussMatrixSolutionTrace trace, ForkJoinPool pool, int threshold) {
+        int size = work.getRowCount();
+
+        int[] columnSwaps = createIdentityPermutation(size);
+        double[] scales = strategy == PivotingStrategy.SCALED_PARTIAL ? calculateRowScales(work) : null;
+        double tolerance = calculatePivotTolerance(work);
 
         // Iterate matrix rows
-        for (int i = 0; i < matrix.getRowCount(); i++) {
-            // Keep track of number of swaps performed
-            int swapCount = 0;
-
-            // Swap rows if pivot is 0
-            while (isEqual(matrix.getValue(i, i), 0)) {
-                swapCount++;
-
-                // Check number of swaps performed
-                if (swapCount < matrix.getRowCount() - i) {
-                    // Check if row to swap with is 0 too and skip swap operation
-                    if (isEqual(matrix.getValue(i + 1, i), 0)) {
-                        continue;
-                    }
+        for (int i = 0; i < size; i++) {
+            int pivotIndex = findPivot(work, i, strategy, scales, tolerance);
 
-                    swapRow(matrix, i, i + 1);
+            // No usable pivot left, the matrix is singular
+            if (pivotIndex < 0) {
+                return false;
+            }
+
+            int pivotRow = pivotIndex / work.getStride();
+            int pivotColumn = pivotIndex % work.getStride();
 
-                    trace.addSwap(matrix, i + 1, i + 2, false);
+            // Move the pivot column to the diagonal
+            if (pivotColumn != i) {
+                RowOperations.swapColumn(work, i, pivotColumn);
+                columnSwaps[i] = pivotColumn;
+
+                if (trace != null) {
+                    trace.addColumnSwap(work, i + 1, pivotColumn + 1);
                 }
-                else {
-                    trace.addInvalid(matrix);
-                    return trace;
+            }
+
+            // Move the pivot row to the diagonal
+            if (pivotRow != i) {
+                swapRow(work, rowPermutation, scales, i, pivotRow);
+
+                if (trace != null) {
+                    trace.addSwap(work, i + 1, pivotRow + 1, false);
                 }
             }
 
             // Divide row by pivot value to reset pivot to 1 (if pivot not already 1)
-            if (!isEqual(matrix.getValue(i, i), 1)) {
-                double scalar = matrix.getValue(i, i);
-                matrix.set(i, divideRow(matrix.get(i), scalar));
+            if (!isEqual(work.getValue(i, i), 1)) {
+                double scalar = work.getValue(i, i);
+                RowOperations.divideRow(work, i, scalar, i);
 
-                trace.addDivision(matrix, i + 1, scalar, false);
+                if (trace != null) {
+                    trace.addDivision(work, i + 1, scalar, false);
+                }
             }
 
             // Clear column values underneath the current pivot
-            for (int j = i + 1; j < matrix.getRowCount(); j++) {
-                double scalar = matrix.getValue(j, i);
+            clearColumn(work, i, i + 1, size, false, trace, pool, threshold);
+        }
 
-                if (isEqual(scalar, 1)) {
-                    matrix.set(j, subtractRow(matrix.get(j), matrix.get(i)));
+        // Perform back substitution from the last pivot up, so every pivot row is already reduced to its pivot
+        for (int i = size - 1; i > 0; i--) {
+            clearColumn(work, i, 0, i, true, trace, pool, threshold);
+        }
+
+        // Revert column swaps in reverse order, swapping the matching rows keeps the identity intact
+        for (int i = size - 1; i >= 0; i--) {
+            if (columnSwaps[i] != i) {
+                RowOperations.swapColumn(work, i, columnSwaps[i]);
 
-                    trace.addSubtract(matrix, i + 1, j + 1, false);
+                if (trace != null) {
+                    trace.addColumnSwap(work, i + 1, columnSwaps[i] + 1);
                 }
-                else if (!isEqual(scalar, 0)) {
-                    matrix.set(j, subtractRow(matrix.get(j), multiplyRow(matrix.get(i), scalar)));
 
-                    trace.addMultiplyAndSubtract(matrix, i + 1, j + 1, scalar, false);
+                swapRow(work, rowPermutation, null, i, columnSwaps[i]);
+
+                if (trace != null) {
+                    trace.addSwap(work, i + 1, columnSwaps[i] + 1, false);
                 }
             }
         }
 
-        // Perform back substitution
-        for (int i = 0; i < matrix.getRowCount(); i++) {
-            for (int j = i - 1; j >= 0; j--) {
-                double scalar = matrix.getValue(j, i);
+        return true;
+    }
 
-                if (isEqual(scalar, 1)) {
-                    matrix.set(j, subtractRow(matrix.get(j), matrix.get(i)));
+    /**
+     * Clears the values of a pivot column in a range of rows by subtracting multiples of the pivot row.
+     *
+     * The rows are independent of each other, so they are split across the pool if the step is large enough and no
+     * trace is recorded.
+     *
+     * @param work The matrix to act on.
+     * @param pivot The row and column of the pivot.
+     * @param fromRow The first row to clear.
+     * @param toRow The row after the last row to clear.
+     * @param backSubstitution Clears the rows in reverse order as a part of back substitution.
+     * @param trace The trace to record each step to, or null to skip recording.
+     * @param pool The pool to clear the rows in, or null to clear them sequentially.
+     * @param threshold The minimal number of values updated to clear the rows in parallel.
+     */
+    private static void clearColumn(DenseMatrix work, int pivot, int fromRow, int toRow, boolean backSubstitution,
+                                    GaussMatrixSolutionTrace trace, ForkJoinPool pool, int threshold) {
+        int fromColumn = backSubstitution ? work.getRowCount() : pivot;
+        long valueCount = (long) (toRow - fromRow) * (work.getColumnCount() - fromColumn);
 
-                    trace.addSubtract(matrix, i + 1, j + 1, true);
-                }
-                else if (!isEqual(scalar, 0)) {
-                    matrix.set(j, subtractRow(matrix.get(j), multiplyRow(matrix.get(i), scalar)));
+        if (pool != null && trace == null && valueCount >= threshold) {
+            pool.invoke(new ParallelGaussianElimination.ClearColumnTask(work, pivot, fromRow, toRow,
+                    backSubstitution, threshold));
+            return;
+        }
 
-                    trace.addMultiplyAndSubtract(matrix, i + 1, j + 1, scalar, true);
-                }
+        for (int step = 0; step < toRow - fromRow; step++) {
+            int row = backSubstitution ? toRow - 1 - step : fromRow + step;
+
+            clearValue(work, pivot, row, backSubstitution, trace);
+        }
+    }
+
+    /**
+     * Clears the value of a pivot column in a given row by subtracting a multiple of the pivot row.
+     *
+     * During back substitution the pivot row is zero apart from its pivot and augmented columns, so only the
+     * augmented columns are updated and the pivot column value is set to zero directly. This yields the same values
+     * as subtracting the whole row, at a cost independent of the number of coefficient columns.
+     *
+     * @param work The matrix to act on.
+     * @param pivot The row and column of the pivot.
+     * @param row The row to clear.
+     * @param backSubstitution Clears the value as a part of back substitution.
+     * @param trace The trace to record the step to, or null to skip recording.
+     */
+    static void clearValue(DenseMatrix work, int pivot, int row, boolean backSubstitution,
+                           GaussMatrixSolutionTrace trace) {
+        double scalar = work.getValue(row, pivot);
+        int fromColumn = pivot;
+
+        if (backSubstitution && !isEqual(scalar, 0)) {
+            fromColumn = work.getRowCount();
+            work.setValue(row, pivot, 0);
+        }
+
+        if (isEqual(scalar, 1)) {
+            RowOperations.subtractRow(work, row, pivot, 1, fromColumn);
+
+            if (trace != null) {
+                trace.addSubtract(work, pivot + 1, row + 1, backSubstitution);
             }
         }
+        else if (!isEqual(scalar, 0)) {
+            RowOperations.subtractRow(work, row, pivot, scalar, fromColumn);
 
-        return trace;
+            if (trace != null) {
+                trace.addMultiplyAndSubtract(work, pivot + 1, row + 1, scalar, backSubstitution);
+            }
+        }
     }
 
     /**
@@ -100,13 +360,10 @@ public class GaussianElimination {
      * @param scalar The scalar to multiply the row by.
      */
     public static Vector<Double> multiplyRow(Vector<Double> row, double scalar) {
-        Vector<Double> result = new Vector<>();
-
-        for (Double value : row) {
-            result.add(value * scalar);
-        }
+        double[] values = toArray(row);
+        RowOperations.multiply(values, 0, values.length, scalar);
 
-        return result;
+        return toVector(values);
     }
 
     /**
@@ -116,18 +373,10 @@ public class GaussianElimination {
      * @param scalar The scalar to divide the row by.
      */
     public static Vector<Double> divideRow(Vector<Double> row, double scalar) throws ArithmeticException {
-        if (scalar == 0) {
-            String message = "Cannot divide values by zero";
-            throw new ArithmeticException(message);
-        }
-
-        Vector<Double> result = new Vector<>();
+        double[] values = toArray(row);
+        RowOperations.divide(values, 0, values.length, scalar);
 
-        for (Double value : row) {
-            result.add(value / scalar + (double) 0);
-        }
-
-        return result;
+        return toVector(values);
     }
 
     /**
@@ -137,13 +386,10 @@ public class GaussianElimination {
      * @param row2 The row to subtract.
      */
     public static Vector<Double> subtractRow(Vector<Double> row1, Vector<Double> row2) {
-        Vector<Double> result = new Vector<>();
+        double[] values = toArray(row1);
+        RowOperations.subtract(values, 0, toArray(row2), 0, values.length, 1);
 
-        for (int column = 0; column < row1.size(); column++) {
-            result.add(column, row1.get(column) - row2.get(column));
-        }
-
-        return result;
+        return toVector(values);
     }
 
     /**
@@ -159,6 +405,179 @@ public class GaussianElimination {
         matrix.set(row2, tempRow);
     }
 
+    /**
+     * Finds the pivot element for a given elimination step.
+     *
+     * @param matrix The matrix to search.
+     * @param step The current elimination step, equal to the diagonal position of the pivot.
+     * @param strategy The pivoting strategy to use.
+     * @param scales The row scales for scaled partial pivoting, or null.
+     * @param tolerance The magnitude up to which values are considered zero.
+     *
+     * @return The index of the pivot in the backing array of the matrix, or -1 if there is no non-zero pivot.
+     */
+    static int findPivot(DenseMatrix matrix, int step, PivotingStrategy strategy, double[] scales,
+                         double tolerance) {
+        double[] data = matrix.getData();
+        int stride = matrix.getStride();
+        int size = matrix.getRowCount();
+
+        int pivotIndex = step * stride + step;
+        double pivotMagnitude = 0;
+
+        switch (strategy) {
+            case NONE:
+                for (int row = step; row < size; row++) {
+                    if (Math.abs(data[row * stride + step]) > tolerance) {
+                        return row * stride + step;
+                    }
+                }
+
+                return -1;
+            case PARTIAL:
+                for (int row = step; row < size; row++) {
+                    double magnitude = Math.abs(data[row * stride + step]);
+
+                    if (magnitude > pivotMagnitude) {
+                        pivotIndex = row * stride + step;
+                        pivotMagnitude = magnitude;
+                    }
+                }
+
+                break;
+            case SCALED_PARTIAL:
+                double pivotRatio = 0;
+
+                for (int row = step; row < size; row++) {
+                    double magnitude = Math.abs(data[row * stride + step]);
+                    double ratio = scales[row] == 0 ? 0 : magnitude / scales[row];
+
+                    if (ratio > pivotRatio) {
+                        pivotIndex = row * stride + step;
+                        pivotMagnitude = magnitude;
+                        pivotRatio = ratio;
+                    }
+                }
+
+                break;
+            case FULL:
+                for (int row = step; row < size; row++) {
+                    for (int column = step; column < size; column++) {
+                        double magnitude = Math.abs(data[row * stride + column]);
+
+                        if (magnitude > pivotMagnitude) {
+                            pivotIndex = row * stride + column;
+                            pivotMagnitude = magnitude;
+                        }
+                    }
+                }
+
+                break;
+        }
+
+        return pivotMagnitude > tolerance ? pivotIndex : -1;
+    }
+
+    /**
+     * Swaps two rows of a matrix and keeps the row permutation and row scales in sync.
+     *
+     * @param matrix The matrix to act on.
+     * @param rowPermutation The original row indices of the current rows.
+     * @param scales The row scales, or null.
+     * @param row1 The row to swap.
+     * @param row2 The row to swap with.
+     */
+    static void swapRow(DenseMatrix matrix, int[] rowPermutation, double[] scales, int row1, int row2) {
+        RowOperations.swapRow(matrix, row1, row2);
+
+        int tempIndex = rowPermutation[row1];
+        rowPermutation[row1] = rowPermutation[row2];
+        rowPermutation[row2] = tempIndex;
+
+        if (scales != null) {
+            double tempScale = scales[row1];
+            scales[row1] = scales[row2];
+            scales[row2] = tempScale;
+        }
+    }
+
+    /**
+     * Calculates the largest coefficient magnitude of each row, used for scaled partial pivoting.
+     *
+     * @param matrix The matrix to calculate the scales for.
+     *
+     * @return The scale of each row.
+     */
+    static double[] calculateRowScales(DenseMatrix matrix) {
+        double[] data = matrix.getData();
+        int stride = matrix.getStride();
+        int size = matrix.getRowCount();
+
+        double[] scales = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                scales[row] = Math.max(scales[row], Math.abs(data[row * stride + column]));
+            }
+        }
+
+        return scales;
+    }
+
+    /**
+     * Calculates the magnitude up to which pivots are considered zero, relative to the largest coefficient.
+     *
+     * @param matrix The matrix to calculate the tolerance for.
+     *
+     * @return The pivot tolerance.
+     */
+    static double calculatePivotTolerance(DenseMatrix matrix) {
+        double maximum = 0;
+
+        for (double scale : calculateRowScales(matrix)) {
+            maximum = Math.max(maximum, scale);
+        }
+
+        return Math.ulp(1.0) * matrix.getRowCount() * maximum;
+    }
+
+    /**
+     * Copies the augmented columns right of the square coefficient columns of a given matrix.
+     *
+     * @param matrix The matrix to copy the columns from.
+     *
+     * @return The augmented columns.
+     */
+    public static DenseMatrix extractAugmentedColumns(DenseMatrix matrix) {
+        int size = matrix.getRowCount();
+        int width = matrix.getColumnCount() - size;
+
+        DenseMatrix result = new DenseMatrix(size, width);
+
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(matrix.getData(), row * matrix.getStride() + size, result.getData(), row * width, width);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates an identity permutation of a given size.
+     *
+     * @param size The size of the permutation.
+     *
+     * @return The identity permutation.
+     */
+    static int[] createIdentityPermutation(int size) {
+        int[] permutation = new int[size];
+
+        for (int index = 0; index < size; index++) {
+            permutation[index] = index;
+        }
+
+        return permutation;
+    }
+
     /**
      * Checks if two given doubles are considered "equal".
      *
@@ -170,4 +589,38 @@ public class GaussianElimination {
     private static boolean isEqual(double one, double two) {
         return Math.abs(Double.compare(one, two)) < 1e-9;
     }
+
+    /**
+     * Copies the values of a given row into a primitive array.
+     *
+     * @param row The row to copy.
+     *
+     * @return The row values.
+     */
+    private static double[] toArray(Vector<Double> row) {
+        double[] values = new double[row.size()];
+
+        for (int column = 0; column < values.length; column++) {
+            values[column] = row.get(column);
+        }
+
+        return values;
+    }
+
+    /**
+     * Copies the values of a primitive array into a new row.
+     *
+     * @param values The values to copy.
+     *
+     * @return The created row.
+     */
+    private static Vector<Double> toVector(double[] values) {
+        Vector<Double> row = new Vector<>(values.length);
+
+        for (double value : values) {
+            row.add(value);
+        }
+
+        return row;
+    }
 }
@@ -0,0 +1,403 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental solver.
+ *
+ * Keeps the factorization of a matrix across edits, so a matrix that changes by a single value, row or column between
+ * solves is solved in quadratic instead of cubic time. Every edit of the coefficients is a rank-one change
+ * A' = A + u * v^T, whose inverse follows from the Sherman-Morrison formula
+ * A'^-1 * b = A^-1 * b - A^-1 * u * (v^T * A^-1 * b) / (1 + v^T * A^-1 * u). The vector A^-1 * u is computed once
+ * per edit, after that each update costs a dot product and a vector update per solve.
+ *
+ * The coefficients are factored again by a {@link BlockedLUDecomposition} once too many updates are pending, once
+ * an update would amplify rounding errors because its denominator almost vanishes, or once the residual of a
+ * solution computed with pending updates is too large. Instances are mutable and not thread safe.
+ *
+ * @author Frederik Bußmann
+ */
+public final class IncrementalSolver {
+    /**
+     * The default maximal number of pending updates before factoring again.
+     */
+    public static final int DEFAULT_MAX_UPDATES = 32;
+
+    /**
+     * The growth of an update above which the coefficients are factored again instead.
+     */
+    private static final double MAX_GROWTH = 1e8;
+
+    /**
+     * The residual relative to the norms of the system above which the coefficients are factored again.
+     */
+    private static final double RESIDUAL_TOLERANCE = 1e-10;
+
+    /**
+     * The current matrix including its augmented columns.
+     */
+    private final DenseMatrix matrix;
+
+    /**
+     * The number of rows and coefficient columns.
+     */
+    private final int size;
+
+    /**
+     * The maximal number of pending updates before factoring again.
+     */
+    private final int maxUpdates;
+
+    /**
+     * The vectors A^-1 * u of the pending updates, divided by their denominators.
+     */
+    private final List<double[]> directions = new ArrayList<>();
+
+    /**
+     * The vectors v of the pending updates.
+     */
+    private final List<double[]> weights = new ArrayList<>();
+
+    /**
+     * The factorization of the coefficients before the pending updates, or null if it is outdated.
+     */
+    private Factorization factorization;
+
+    /**
+     * The number of times the coefficients were factored.
+     */
+    private int factorizationCount;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to solve, it is copied.
+     */
+    public IncrementalSolver(GaussMatrix matrix) {
+        this(DenseMatrix.fromGaussMatrix(matrix), DEFAULT_MAX_UPDATES);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to solve, it is copied.
+     * @param maxUpdates The maximal number of pending updates before factoring again.
+     */
+    public IncrementalSolver(DenseMatrix matrix, int maxUpdates) throws IllegalArgumentException {
+        if (maxUpdates < 0) {
+            String message = "The maximal number of updates must not be negative, " + maxUpdates + " given.";
+            throw new IllegalArgumentException(message);
+        }
+        if (matrix.getColumnCount() < matrix.getRowCount()) {
+            String message = "Cannot solve a " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                    + " matrix, it needs at least as many columns as rows.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.matrix = matrix.copy();
+        this.size = matrix.getRowCount();
+        this.maxUpdates = maxUpdates;
+    }
+
+    /**
+     * Gets the number of rows and coefficient columns.
+     *
+     * @return The size of the matrix.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets a value of the current matrix.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The value.
+     */
+    public double getValue(int row, int column) {
+        return matrix.getValue(row, column);
+    }
+
+    /**
+     * Gets the number of updates applied on top of the last factorization.
+     *
+     * @return The number of pending updates.
+     */
+    public int getUpdateCount() {
+        return directions.size();
+    }
+
+    /**
+     * Gets the number of times the coefficients were factored.
+     *
+     * @return The number of factorizations.
+     */
+    public int getFactorizationCount() {
+        return factorizationCount;
+    }
+
+    /**
+     * Changes a single value of the matrix.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value, augmented columns only change the right-hand sides.
+     * @param value The new value.
+     */
+    public void setValue(int row, int column, double value) {
+        double delta = value - matrix.getValue(row, column);
+        matrix.setValue(row, column, value);
+
+        if (column >= size || delta == 0) {
+            return;
+        }
+
+        double[] direction = new double[size];
+        double[] weight = new double[size];
+        direction[row] = 1;
+        weight[column] = delta;
+
+        addUpdate(direction, weight);
+    }
+
+    /**
+     * Changes the coefficients of a row of the matrix.
+     *
+     * @param row The row to change.
+     * @param values The new coefficients of the row.
+     */
+    public void setRow(int row, double[] values) throws IllegalArgumentException {
+        checkLength(values);
+
+        double[] direction = new double[size];
+        double[] weight = new double[size];
+        direction[row] = 1;
+
+        for (int column = 0; column < size; column++) {
+            weight[column] = values[column] - matrix.getValue(row, column);
+            matrix.setValue(row, column, values[column]);
+        }
+
+        addUpdate(direction, weight);
+    }
+
+    /**
+     * Changes the coefficients of a column of the matrix.
+     *
+     * @param column The coefficient column to change.
+     * @param values The new coefficients of the column.
+     */
+    public void setColumn(int column, double[] values) throws IllegalArgumentException {
+        checkLength(values);
+
+        double[] direction = new double[size];
+        double[] weight = new double[size];
+        weight[column] = 1;
+
+        for (int row = 0; row < size; row++) {
+            direction[row] = values[row] - matrix.getValue(row, column);
+            matrix.setValue(row, column, values[row]);
+        }
+
+        addUpdate(direction, weight);
+    }
+
+    /**
+     * Solves the current matrix, using its augmented columns as right-hand sides.
+     *
+     * @return The solution vectors and status.
+     */
+    public GaussMatrixSolution solve() {
+        DenseMatrix rhs = GaussianElimination.extractAugmentedColumns(matrix);
+        DenseMatrix result = new DenseMatrix(size, rhs.getColumnCount());
+        double[] column = new double[size];
+
+        for (int index = 0; index < rhs.getColumnCount(); index++) {
+            for (int row = 0; row < size; row++) {
+                column[row] = rhs.getValue(row, index);
+            }
+
+            double[] values;
+
+            try {
+                values = solve(column);
+            } catch (ArithmeticException exception) {
+                return GaussMatrixSolution.invalid();
+            }
+
+            for (int row = 0; row < size; row++) {
+                result.setValue(row, index, values[row]);
+            }
+        }
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, result);
+    }
+
+    /**
+     * Solves the current coefficients for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    public double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException {
+        checkLength(rhs);
+
+        boolean updated = !directions.isEmpty() && factorization != null;
+        double[] result = apply(rhs);
+
+        // Rounding errors of the updates accumulate, so their solutions are checked against the current coefficients
+        if (updated && !isAccurate(result, rhs)) {
+            factorization = null;
+            result = apply(rhs);
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds a rank-one update A + u * v^T of the coefficients.
+     *
+     * @param direction The vector u.
+     * @param weight The vector v.
+     */
+    private void addUpdate(double[] direction, double[] weight) {
+        if (factorization == null || maximum(direction) == 0 || maximum(weight) == 0) {
+            return;
+        }
+        if (directions.size() >= maxUpdates || factorization.isSingular()) {
+            factorization = null;
+            return;
+        }
+
+        double[] solved = apply(direction);
+        double denominator = 1 + dot(weight, solved);
+        double growth = maximum(weight) * maximum(solved) / Math.abs(denominator);
+
+        // A vanishing denominator means the updated matrix is (nearly) singular or the update loses all precision
+        if (!(growth <= MAX_GROWTH)) {
+            factorization = null;
+            return;
+        }
+
+        for (int row = 0; row < size; row++) {
+            solved[row] /= denominator;
+        }
+
+        directions.add(solved);
+        weights.add(weight);
+    }
+
+    /**
+     * Solves the current coefficients for a given vector with the factorization and the pending updates, factoring
+     * the coefficients first if the factorization is outdated.
+     *
+     * @param vector The vector to solve for, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    private double[] apply(double[] vector) throws ArithmeticException {
+        if (factorization == null) {
+            factorization = new BlockedLUDecomposition(matrix);
+            factorizationCount++;
+            directions.clear();
+            weights.clear();
+        }
+
+        double[] result = factorization.solve(vector);
+
+        for (int update = 0; update < directions.size(); update++) {
+            double[] direction = directions.get(update);
+            double scalar = dot(weights.get(update), result);
+
+            if (scalar != 0) {
+                RowOperations.subtract(result, 0, direction, 0, size, scalar);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the residual b - A * x of a solution is small relative to the norms of the system.
+     *
+     * @param solution The solution x.
+     * @param rhs The right-hand side b.
+     *
+     * @return True if the solution is accurate, false if not.
+     */
+    private boolean isAccurate(double[] solution, double[] rhs) {
+        double[] data = matrix.getData();
+        double residualNorm = 0;
+        double matrixNorm = 0;
+
+        for (int row = 0; row < size; row++) {
+            int offset = row * matrix.getStride();
+            double sum = rhs[row];
+            double magnitude = 0;
+
+            for (int column = 0; column < size; column++) {
+                sum -= data[offset + column] * solution[column];
+                magnitude += Math.abs(data[offset + column]);
+            }
+
+            residualNorm = Math.max(residualNorm, Math.abs(sum));
+            matrixNorm = Math.max(matrixNorm, magnitude);
+        }
+
+        return residualNorm <= RESIDUAL_TOLERANCE * (matrixNorm * maximum(solution) + maximum(rhs));
+    }
+
+    /**
+     * Checks if some values match the size of the matrix.
+     *
+     * @param values The values to check.
+     */
+    private void checkLength(double[] values) throws IllegalArgumentException {
+        if (values.length != size) {
+            String message = "The vector has " + values.length + " values, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Calculates the dot product of two vectors.
+     *
+     * @param vector1 The first vector.
+     * @param vector2 The second vector.
+     *
+     * @return The dot product.
+     */
+    private static double dot(double[] vector1, double[] vector2) {
+        double result = 0;
+
+        for (int index = 0; index < vector1.length; index++) {
+            result += vector1[index] * vector2[index];
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the largest magnitude of some values.
+     *
+     * @param values The values.
+     *
+     * @return The largest magnitude, NaN if some value is NaN.
+     */
+    private static double maximum(double[] values) {
+        double result = 0;
+
+        for (double value : values) {
+            result = Math.max(result, Math.abs(value));
+        }
+
+        return result;
+    }
+}
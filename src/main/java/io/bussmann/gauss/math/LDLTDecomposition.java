@@ -0,0 +1,370 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.SymmetricMatrix;
+
+/**
+ * LDL^T decomposition.
+ *
+ * Factors a symmetric, possibly indefinite matrix into a unit lower triangular matrix L and a block diagonal matrix
+ * D with blocks of size one or two, so that P * A * P^T = L * D * L^T. Pivots are chosen by the Bunch-Kaufman
+ * strategy, which uses a two by two block where no diagonal value is large enough, keeping the factorization stable
+ * without giving up the symmetry. Only the packed lower triangle is stored and updated.
+ *
+ * The factorization is immutable once created and can be reused for any number of right-hand sides.
+ *
+ * @author Frederik Bußmann
+ */
+public final class LDLTDecomposition implements Factorization {
+    /**
+     * The Bunch-Kaufman growth bound (1 + sqrt(17)) / 8 for choosing between one and two by two pivots.
+     */
+    private static final double ALPHA = (1 + Math.sqrt(17)) / 8;
+
+    /**
+     * The number of rows and columns of the coefficient matrix.
+     */
+    private final int size;
+
+    /**
+     * The packed row-major factors, L below the diagonal blocks with implicit unit diagonal and D on them.
+     */
+    private final double[] factors;
+
+    /**
+     * The size of the diagonal block starting at each row, 0 for the second row of a two by two block.
+     */
+    private final int[] blockSizes;
+
+    /**
+     * The original index of each row and column in the pivoted order.
+     */
+    private final int[] permutation;
+
+    /**
+     * Whether the coefficient matrix is singular.
+     */
+    private final boolean singular;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The symmetric matrix to factor, left unchanged.
+     */
+    public LDLTDecomposition(SymmetricMatrix matrix) {
+        size = matrix.getSize();
+        factors = matrix.getData().clone();
+        blockSizes = new int[size];
+        permutation = GaussianElimination.createIdentityPermutation(size);
+
+        double maximum = 0;
+
+        for (double value : factors) {
+            maximum = Math.max(maximum, Math.abs(value));
+        }
+
+        singular = !factor(Math.ulp(1.0) * size * maximum);
+    }
+
+    /**
+     * Solves the factored system for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    @Override
+    public double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException {
+        if (rhs.length != size) {
+            String message = "The right-hand side has " + rhs.length + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+        if (singular) {
+            String message = "Cannot solve a system with a singular coefficient matrix.";
+            throw new ArithmeticException(message);
+        }
+
+        double[] values = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            values[row] = rhs[permutation[row]];
+        }
+
+        // Forward substitution with L, skipping the off-diagonal values of the two by two blocks
+        for (int row = 0; row < size; row++) {
+            int offset = SymmetricMatrix.rowOffset(row);
+            int end = blockSizes[row] == 0 ? row - 1 : row;
+            double sum = values[row];
+
+            for (int column = 0; column < end; column++) {
+                sum -= factors[offset + column] * values[column];
+            }
+
+            values[row] = sum;
+        }
+
+        // Solve with the diagonal blocks
+        for (int row = 0; row < size; row += Math.max(blockSizes[row], 1)) {
+            int offset = SymmetricMatrix.rowOffset(row);
+
+            if (blockSizes[row] == 1) {
+                values[row] /= factors[offset + row];
+            }
+            else {
+                int nextOffset = SymmetricMatrix.rowOffset(row + 1);
+                double first = factors[offset + row];
+                double offDiagonal = factors[nextOffset + row];
+                double second = factors[nextOffset + row + 1];
+                double determinant = first * second - offDiagonal * offDiagonal;
+                double value = values[row];
+
+                values[row] = (second * value - offDiagonal * values[row + 1]) / determinant;
+                values[row + 1] = (first * values[row + 1] - offDiagonal * value) / determinant;
+            }
+        }
+
+        // Back substitution with L^T, scattering each finished value into the rows above
+        for (int row = size - 1; row >= 0; row--) {
+            int offset = SymmetricMatrix.rowOffset(row);
+            int end = blockSizes[row] == 0 ? row - 1 : row;
+            double value = values[row];
+
+            for (int column = 0; column < end; column++) {
+                values[column] -= factors[offset + column] * value;
+            }
+        }
+
+        double[] result = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            result[permutation[row]] = values[row];
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the coefficient matrix is singular.
+     *
+     * @return True if singular, false if not.
+     */
+    @Override
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Gets the number of rows and columns of the coefficient matrix.
+     *
+     * @return The size of the factored matrix.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Factors the lower triangle in place.
+     *
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     *
+     * @return True if the coefficient matrix is regular, false if it is singular.
+     */
+    private boolean factor(double tolerance) {
+        double[] first = new double[size];
+        double[] second = new double[size];
+        int step = 0;
+
+        while (step < size) {
+            // Find the largest value below the diagonal in the pivot column
+            double diagonal = Math.abs(get(step, step));
+            double columnMaximum = 0;
+            int maximumRow = step;
+
+            for (int row = step + 1; row < size; row++) {
+                double magnitude = Math.abs(get(row, step));
+
+                if (magnitude > columnMaximum) {
+                    columnMaximum = magnitude;
+                    maximumRow = row;
+                }
+            }
+
+            if (Math.max(diagonal, columnMaximum) <= tolerance) {
+                return false;
+            }
+
+            int blockSize = 1;
+            int pivotRow = step;
+
+            if (diagonal < ALPHA * columnMaximum) {
+                // Find the largest value off the diagonal in the row of the column maximum
+                double rowMaximum = 0;
+
+                for (int column = step; column < maximumRow; column++) {
+                    rowMaximum = Math.max(rowMaximum, Math.abs(get(maximumRow, column)));
+                }
+
+                for (int row = maximumRow + 1; row < size; row++) {
+                    rowMaximum = Math.max(rowMaximum, Math.abs(get(row, maximumRow)));
+                }
+
+                if (diagonal * rowMaximum >= ALPHA * columnMaximum * columnMaximum) {
+                    pivotRow = step;
+                }
+                else if (Math.abs(get(maximumRow, maximumRow)) >= ALPHA * rowMaximum) {
+                    pivotRow = maximumRow;
+                }
+                else {
+                    pivotRow = maximumRow;
+                    blockSize = 2;
+                }
+            }
+
+            // Move the pivot to the last row of the block
+            int target = step + blockSize - 1;
+
+            if (pivotRow != target) {
+                swap(target, pivotRow);
+            }
+
+            if (blockSize == 1) {
+                if (Math.abs(get(step, step)) <= tolerance) {
+                    return false;
+                }
+
+                eliminateSingle(step, first);
+            }
+            else {
+                // The choice of the block guarantees a determinant of at least (1 - ALPHA^2) times the squared
+                // column maximum in magnitude, so it cannot vanish
+                double offDiagonal = get(step + 1, step);
+                double determinant = get(step, step) * get(step + 1, step + 1) - offDiagonal * offDiagonal;
+
+                eliminateDouble(step, determinant, first, second);
+            }
+
+            blockSizes[step] = blockSize;
+            step += blockSize;
+        }
+
+        return true;
+    }
+
+    /**
+     * Eliminates the column below a one by one pivot and stores its multipliers.
+     *
+     * @param step The row and column of the pivot.
+     * @param column The work array for the original pivot column.
+     */
+    private void eliminateSingle(int step, double[] column) {
+        double pivot = get(step, step);
+
+        for (int row = step + 1; row < size; row++) {
+            column[row] = factors[SymmetricMatrix.rowOffset(row) + step];
+        }
+
+        for (int row = step + 1; row < size; row++) {
+            int offset = SymmetricMatrix.rowOffset(row);
+            double multiplier = column[row] / pivot;
+
+            if (multiplier != 0) {
+                RowOperations.subtract(factors, offset + step + 1, column, step + 1, row - step, multiplier);
+            }
+
+            factors[offset + step] = multiplier;
+        }
+    }
+
+    /**
+     * Eliminates the two columns below a two by two pivot block and stores their multipliers.
+     *
+     * @param step The first row and column of the pivot block.
+     * @param determinant The determinant of the pivot block.
+     * @param first The work array for the original first pivot column.
+     * @param second The work array for the original second pivot column.
+     */
+    private void eliminateDouble(int step, double determinant, double[] first, double[] second) {
+        double topLeft = get(step, step);
+        double offDiagonal = get(step + 1, step);
+        double bottomRight = get(step + 1, step + 1);
+
+        for (int row = step + 2; row < size; row++) {
+            int offset = SymmetricMatrix.rowOffset(row);
+
+            first[row] = factors[offset + step];
+            second[row] = factors[offset + step + 1];
+        }
+
+        for (int row = step + 2; row < size; row++) {
+            int offset = SymmetricMatrix.rowOffset(row);
+
+            // Multiply the row of the pivot columns with the inverse of the block
+            double firstMultiplier = (first[row] * bottomRight - second[row] * offDiagonal) / determinant;
+            double secondMultiplier = (second[row] * topLeft - first[row] * offDiagonal) / determinant;
+            int length = row - step - 1;
+
+            if (firstMultiplier != 0) {
+                RowOperations.subtract(factors, offset + step + 2, first, step + 2, length, firstMultiplier);
+            }
+            if (secondMultiplier != 0) {
+                RowOperations.subtract(factors, offset + step + 2, second, step + 2, length, secondMultiplier);
+            }
+
+            factors[offset + step] = firstMultiplier;
+            factors[offset + step + 1] = secondMultiplier;
+        }
+    }
+
+    /**
+     * Swaps two rows and the corresponding columns, including the already computed multipliers.
+     *
+     * @param one The smaller row to swap.
+     * @param two The larger row to swap.
+     */
+    private void swap(int one, int two) {
+        int oneOffset = SymmetricMatrix.rowOffset(one);
+        int twoOffset = SymmetricMatrix.rowOffset(two);
+
+        // Values left of both diagonals, including the multipliers
+        RowOperations.swap(factors, oneOffset, twoOffset, one);
+
+        // The diagonal values
+        double temp = factors[oneOffset + one];
+        factors[oneOffset + one] = factors[twoOffset + two];
+        factors[twoOffset + two] = temp;
+
+        // The column below the first diagonal and the row left of the second diagonal
+        for (int index = one + 1; index < two; index++) {
+            int offset = SymmetricMatrix.rowOffset(index) + one;
+
+            temp = factors[offset];
+            factors[offset] = factors[twoOffset + index];
+            factors[twoOffset + index] = temp;
+        }
+
+        // The columns below the second diagonal
+        for (int row = two + 1; row < size; row++) {
+            int offset = SymmetricMatrix.rowOffset(row);
+
+            temp = factors[offset + one];
+            factors[offset + one] = factors[offset + two];
+            factors[offset + two] = temp;
+        }
+
+        int index = permutation[one];
+        permutation[one] = permutation[two];
+        permutation[two] = index;
+    }
+
+    /**
+     * Gets a value of the lower triangle.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value, at most the row.
+     *
+     * @return The value.
+     */
+    private double get(int row, int column) {
+        return factors[SymmetricMatrix.rowOffset(row) + column];
+    }
+}
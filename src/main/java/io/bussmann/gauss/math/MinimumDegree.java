@@ -0,0 +1,342 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Approximate minimum degree ordering.
+ *
+ * Orders the nodes of the undirected graph of A + A^T by repeatedly eliminating a node of minimal degree, the node
+ * causing the least fill. Eliminated nodes are not connected explicitly, instead each elimination creates an element
+ * holding the remaining neighbours of the eliminated node, which keeps the graph from growing during the ordering.
+ *
+ * The degree of each node is approximated from above like in the AMD algorithm: the neighbours shared by the
+ * newest element and an older element are only counted once. Supervariable detection is not performed.
+ *
+ * @author Frederik Bußmann
+ */
+final class MinimumDegree {
+    /**
+     * The number of nodes.
+     */
+    private final int size;
+
+    /**
+     * The remaining neighbour nodes of each node that are not covered by an element.
+     */
+    private final int[][] variables;
+
+    /**
+     * The number of used entries of each neighbour node list.
+     */
+    private final int[] variableCounts;
+
+    /**
+     * The elements containing each node.
+     */
+    private final int[][] elements;
+
+    /**
+     * The number of used entries of each element list.
+     */
+    private final int[] elementCounts;
+
+    /**
+     * The nodes of each element, an element is identified by the node whose elimination created it.
+     */
+    private final int[][] members;
+
+    /**
+     * Whether each node is eliminated.
+     */
+    private final boolean[] eliminated;
+
+    /**
+     * Whether each element is covered by a newer element.
+     */
+    private final boolean[] absorbed;
+
+    /**
+     * The approximate degree of each remaining node.
+     */
+    private final int[] degrees;
+
+    /**
+     * The first node of each degree list.
+     */
+    private final int[] heads;
+
+    /**
+     * The next node in the degree list of each node.
+     */
+    private final int[] next;
+
+    /**
+     * The previous node in the degree list of each node.
+     */
+    private final int[] previous;
+
+    /**
+     * The stamp of the newest element each node is a member of.
+     */
+    private final int[] marks;
+
+    /**
+     * The number of nodes of each element outside of the newest element.
+     */
+    private final int[] weights;
+
+    /**
+     * The stamp of the newest element each weight was computed for.
+     */
+    private final int[] weightMarks;
+
+    /**
+     * Class constructor.
+     *
+     * @param graph The undirected graph of the matrix.
+     */
+    private MinimumDegree(AdjacencyGraph graph) {
+        size = graph.getSize();
+        variables = new int[size][];
+        variableCounts = new int[size];
+        elements = new int[size][];
+        elementCounts = new int[size];
+        members = new int[size][];
+        eliminated = new boolean[size];
+        absorbed = new boolean[size];
+        degrees = new int[size];
+        heads = new int[Math.max(size, 1)];
+        next = new int[size];
+        previous = new int[size];
+        marks = new int[size];
+        weights = new int[size];
+        weightMarks = new int[size];
+
+        Arrays.fill(heads, -1);
+
+        int[] pointers = graph.getPointers();
+        int[] neighbours = graph.getNeighbours();
+
+        for (int node = 0; node < size; node++) {
+            variables[node] = Arrays.copyOfRange(neighbours, pointers[node], pointers[node + 1]);
+            variableCounts[node] = variables[node].length;
+            elements[node] = new int[2];
+            degrees[node] = graph.getDegrees()[node];
+
+            insert(node);
+        }
+    }
+
+    /**
+     * Computes the approximate minimum degree ordering of a given matrix.
+     *
+     * @param matrix The matrix to order, only the leading square coefficient columns are used.
+     *
+     * @return The original index of each row and column in the new order.
+     */
+    static int[] order(SparseMatrix matrix) {
+        return new MinimumDegree(new AdjacencyGraph(matrix)).order();
+    }
+
+    /**
+     * Eliminates all nodes by increasing approximate degree.
+     *
+     * @return The original index of each node in the new order.
+     */
+    private int[] order() {
+        int[] order = new int[size];
+        int[] buffer = new int[size];
+        int minimum = 0;
+
+        for (int step = 0; step < size; step++) {
+            while (heads[minimum] < 0) {
+                minimum++;
+            }
+
+            int pivot = heads[minimum];
+
+            remove(pivot);
+            order[step] = pivot;
+            eliminated[pivot] = true;
+
+            int[] element = createElement(pivot, step + 1, buffer);
+
+            minimum = Math.min(minimum, updateDegrees(pivot, element, step + 1, size - step - 1));
+        }
+
+        return order;
+    }
+
+    /**
+     * Creates the element of an eliminated node from its remaining neighbours, absorbing its elements.
+     *
+     * @param pivot The eliminated node.
+     * @param stamp The stamp marking the members of the new element.
+     * @param buffer The work array for the members.
+     *
+     * @return The members of the new element.
+     */
+    private int[] createElement(int pivot, int stamp, int[] buffer) {
+        int count = 0;
+
+        marks[pivot] = stamp;
+
+        for (int index = 0; index < variableCounts[pivot]; index++) {
+            int node = variables[pivot][index];
+
+            if (!eliminated[node] && marks[node] != stamp) {
+                marks[node] = stamp;
+                buffer[count++] = node;
+            }
+        }
+
+        for (int index = 0; index < elementCounts[pivot]; index++) {
+            int element = elements[pivot][index];
+
+            if (absorbed[element]) {
+                continue;
+            }
+
+            for (int node : members[element]) {
+                if (!eliminated[node] && marks[node] != stamp) {
+                    marks[node] = stamp;
+                    buffer[count++] = node;
+                }
+            }
+
+            absorbed[element] = true;
+            members[element] = null;
+        }
+
+        variables[pivot] = null;
+        elements[pivot] = null;
+        members[pivot] = Arrays.copyOf(buffer, count);
+
+        return members[pivot];
+    }
+
+    /**
+     * Updates the neighbours and approximate degrees of the members of a new element.
+     *
+     * @param pivot The eliminated node that created the element.
+     * @param element The members of the new element.
+     * @param stamp The stamp marking the members of the new element.
+     * @param remaining The number of nodes not eliminated yet.
+     *
+     * @return The lowest updated degree.
+     */
+    private int updateDegrees(int pivot, int[] element, int stamp, int remaining) {
+        int minimum = Integer.MAX_VALUE;
+
+        // Count the members of each older element outside of the new element
+        for (int node : element) {
+            int count = 0;
+
+            for (int index = 0; index < elementCounts[node]; index++) {
+                int other = elements[node][index];
+
+                if (absorbed[other]) {
+                    continue;
+                }
+
+                if (weightMarks[other] != stamp) {
+                    weightMarks[other] = stamp;
+                    weights[other] = members[other].length;
+                }
+
+                weights[other]--;
+                elements[node][count++] = other;
+            }
+
+            elementCounts[node] = count;
+        }
+
+        for (int node : element) {
+            // Neighbours inside the new element are covered by it
+            int count = 0;
+
+            for (int index = 0; index < variableCounts[node]; index++) {
+                int neighbour = variables[node][index];
+
+                if (!eliminated[neighbour] && marks[neighbour] != stamp) {
+                    variables[node][count++] = neighbour;
+                }
+            }
+
+            variableCounts[node] = count;
+
+            // Older elements completely inside the new element are absorbed
+            int degree = count + element.length - 1;
+            count = 0;
+
+            for (int index = 0; index < elementCounts[node]; index++) {
+                int other = elements[node][index];
+
+                if (weights[other] <= 0) {
+                    absorbed[other] = true;
+                    members[other] = null;
+                    continue;
+                }
+                if (absorbed[other]) {
+                    continue;
+                }
+
+                degree += weights[other];
+                elements[node][count++] = other;
+            }
+
+            if (count == elements[node].length) {
+                elements[node] = Arrays.copyOf(elements[node], 2 * count);
+            }
+
+            elements[node][count++] = pivot;
+            elementCounts[node] = count;
+
+            remove(node);
+            degrees[node] = Math.min(degree, remaining - 1);
+            insert(node);
+
+            minimum = Math.min(minimum, degrees[node]);
+        }
+
+        return minimum;
+    }
+
+    /**
+     * Inserts a node into the list of its degree.
+     *
+     * @param node The node to insert.
+     */
+    private void insert(int node) {
+        int head = heads[degrees[node]];
+
+        next[node] = head;
+        previous[node] = -1;
+
+        if (head >= 0) {
+            previous[head] = node;
+        }
+
+        heads[degrees[node]] = node;
+    }
+
+    /**
+     * Removes a node from the list of its degree.
+     *
+     * @param node The node to remove.
+     */
+    private void remove(int node) {
+        if (previous[node] >= 0) {
+            next[previous[node]] = next[node];
+        }
+        else {
+            heads[degrees[node]] = next[node];
+        }
+
+        if (next[node] >= 0) {
+            previous[next[node]] = previous[node];
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixRefinedSolution;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+
+/**
+ * Mixed precision solver.
+ *
+ * Solves matrices by factoring the coefficients in single precision with a {@link FloatLUDecomposition}, then
+ * recovering double precision accuracy by iterative refinement: the residual of the current solution is computed in
+ * double precision, the correction is solved with the single precision factors and added to the solution.
+ *
+ * The refinement stops once the residual of every solution vector is as small as a backward stable double precision
+ * solver would achieve, that is the norm of the solution times the norm of the coefficients times the unit roundoff
+ * and the square root of the size. If the matrix is too badly conditioned for the single precision factors, the
+ * residual stops shrinking; then, or if the single precision factorization fails, the matrix is solved by a
+ * {@link BlockedLUDecomposition} instead.
+ *
+ * @author Frederik Bußmann
+ */
+public final class MixedPrecisionSolver {
+    /**
+     * The default maximal number of refinement steps.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 30;
+
+    /**
+     * Class constructor.
+     */
+    private MixedPrecisionSolver() {
+    }
+
+    /**
+     * Solves a given matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors, status and number of refinement steps.
+     */
+    public static GaussMatrixRefinedSolution solve(GaussMatrix matrix) {
+        return solve(DenseMatrix.fromGaussMatrix(matrix), DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Solves a given matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve, left unchanged.
+     * @param maxIterations The maximal number of refinement steps before falling back to double precision.
+     *
+     * @return The solution vectors, status and number of refinement steps.
+     */
+    public static GaussMatrixRefinedSolution solve(DenseMatrix matrix, int maxIterations)
+            throws IllegalArgumentException {
+        if (maxIterations < 0) {
+            String message = "The maximal number of iterations must not be negative, " + maxIterations + " given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        FloatLUDecomposition factorization = new FloatLUDecomposition(matrix);
+
+        if (factorization.isSingular()) {
+            return fallback(matrix, 0);
+        }
+
+        int size = matrix.getRowCount();
+        DenseMatrix rhs = GaussianElimination.extractAugmentedColumns(matrix);
+        DenseMatrix result = new DenseMatrix(size, rhs.getColumnCount());
+        double bound = Math.ulp(1.0) / 2 * Math.sqrt(size) * calculateNorm(matrix);
+        int iterationCount = 0;
+
+        for (int column = 0; column < rhs.getColumnCount(); column++) {
+            double[] values = getColumn(rhs, column);
+            double[] solution = factorization.solve(values);
+            double previousNorm = Double.POSITIVE_INFINITY;
+            int iteration = 0;
+
+            while (true) {
+                double[] residual = calculateResidual(matrix, solution, values);
+                double residualNorm = maximum(residual);
+
+                if (residualNorm <= maximum(solution) * bound) {
+                    break;
+                }
+
+                // The residual must shrink in every step, otherwise the refinement stalls or diverges
+                if (iteration == maxIterations || !(residualNorm < previousNorm)) {
+                    return fallback(matrix, iterationCount + iteration);
+                }
+
+                double[] correction = factorization.solve(residual);
+
+                for (int row = 0; row < size; row++) {
+                    solution[row] += correction[row];
+                }
+
+                previousNorm = residualNorm;
+                iteration++;
+            }
+
+            for (int row = 0; row < size; row++) {
+                result.setValue(row, column, solution[row]);
+            }
+
+            iterationCount += iteration;
+        }
+
+        return new GaussMatrixRefinedSolution(GaussMatrixSolution.Status.SOLVED, result, iterationCount, false);
+    }
+
+    /**
+     * Solves a given matrix in double precision.
+     *
+     * @param matrix The matrix to solve.
+     * @param iterationCount The number of refinement steps performed before.
+     *
+     * @return The solution vectors and status.
+     */
+    private static GaussMatrixRefinedSolution fallback(DenseMatrix matrix, int iterationCount) {
+        BlockedLUDecomposition factorization = new BlockedLUDecomposition(matrix);
+
+        if (factorization.isSingular()) {
+            return new GaussMatrixRefinedSolution(GaussMatrixSolution.Status.INVALID, new DenseMatrix(0, 1),
+                    iterationCount, true);
+        }
+
+        DenseMatrix values = factorization.solve(GaussianElimination.extractAugmentedColumns(matrix));
+
+        return new GaussMatrixRefinedSolution(GaussMatrixSolution.Status.SOLVED, values, iterationCount, true);
+    }
+
+    /**
+     * Calculates the residual b - A * x of a solution in double precision.
+     *
+     * @param matrix The matrix holding the coefficients A.
+     * @param solution The solution x.
+     * @param rhs The right-hand side b.
+     *
+     * @return The residual.
+     */
+    private static double[] calculateResidual(DenseMatrix matrix, double[] solution, double[] rhs) {
+        double[] data = matrix.getData();
+        int stride = matrix.getStride();
+        double[] result = new double[rhs.length];
+
+        for (int row = 0; row < rhs.length; row++) {
+            int offset = row * stride;
+            double sum = rhs[row];
+
+            for (int column = 0; column < solution.length; column++) {
+                sum -= data[offset + column] * solution[column];
+            }
+
+            result[row] = sum;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates the infinity norm of the coefficients, the largest sum of magnitudes in a row.
+     *
+     * @param matrix The matrix holding the coefficients.
+     *
+     * @return The norm of the coefficients.
+     */
+    private static double calculateNorm(DenseMatrix matrix) {
+        double[] data = matrix.getData();
+        int size = matrix.getRowCount();
+        double result = 0;
+
+        for (int row = 0; row < size; row++) {
+            int offset = row * matrix.getStride();
+            double sum = 0;
+
+            for (int column = 0; column < size; column++) {
+                sum += Math.abs(data[offset + column]);
+            }
+
+            result = Math.max(result, sum);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a column of a matrix.
+     *
+     * @param matrix The matrix.
+     * @param column The column to get.
+     *
+     * @return The values of the column.
+     */
+    private static double[] getColumn(DenseMatrix matrix, int column) {
+        double[] result = new double[matrix.getRowCount()];
+
+        for (int row = 0; row < result.length; row++) {
+            result[row] = matrix.getValue(row, column);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the largest magnitude of some values.
+     *
+     * @param values The values.
+     *
+     * @return The largest magnitude, NaN if some value is NaN.
+     */
+    private static double maximum(double[] values) {
+        double result = 0;
+
+        for (double value : values) {
+            result = Math.max(result, Math.abs(value));
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,550 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixExactSolution;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.apache.commons.math3.fraction.BigFraction;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Multi-modular solver.
+ *
+ * Solves integer matrices exactly by solving them modulo many primes below 2^31, where every operation is a primitive
+ * long multiplication and remainder. The primes are independent of each other, so a batch of them is solved in
+ * parallel in a fork/join pool. The solution values modulo the product of all primes are combined by the chinese
+ * remainder theorem, then turned into fractions by rational reconstruction.
+ *
+ * The last prime of each batch is held back from the combination. Once every value could be reconstructed, the
+ * fractions are checked against the solution modulo the held back prime. If they disagree the prime is combined as
+ * well and another batch is solved. The fractions grow at most to the size of the minors of the matrix, so the loop
+ * always ends with the exact solution, usually after far fewer primes than the worst case bound.
+ *
+ * A prime dividing the determinant makes the matrix singular modulo that prime, it is simply skipped. A matrix which
+ * is singular modulo the first {@link #SINGULAR_PRIME_LIMIT} primes and regular modulo none of them is reported as
+ * singular, as the chance of a regular matrix doing so is far below the chance of a hardware error.
+ *
+ * @author Frederik Bußmann
+ */
+public class MultiModularSolver {
+    /**
+     * The number of primes a matrix must be singular modulo without any regular one to be considered singular.
+     */
+    public static final int SINGULAR_PRIME_LIMIT = 3;
+
+    /**
+     * The largest prime below 2^31, the first prime used.
+     */
+    private static final long FIRST_PRIME = Integer.MAX_VALUE;
+
+    /**
+     * The pool to solve the primes in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Class constructor.
+     *
+     * Uses the common fork/join pool.
+     */
+    public MultiModularSolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param pool The pool to solve the primes in, its parallelism is the number of primes per batch.
+     */
+    public MultiModularSolver(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Solves a given matrix exactly, using its augmented columns as right-hand sides.
+     *
+     * Each value is read as the shortest decimal representing the double, then every row is multiplied by the power
+     * of ten making all of its values integers.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The exact solution vectors and status.
+     */
+    public GaussMatrixExactSolution solve(GaussMatrix matrix) throws IllegalArgumentException {
+        return solve(DenseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves a given matrix exactly, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve, left unchanged.
+     *
+     * @return The exact solution vectors and status.
+     */
+    public GaussMatrixExactSolution solve(DenseMatrix matrix) throws IllegalArgumentException {
+        return solve(BareissElimination.toIntegers(matrix), matrix.getRowCount(), matrix.getColumnCount());
+    }
+
+    /**
+     * Solves a given integer matrix exactly, using its augmented columns as right-hand sides.
+     *
+     * @param values The row-major integer values, left unchanged.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns, at least the number of rows.
+     *
+     * @return The exact solution vectors and status.
+     */
+    public GaussMatrixExactSolution solve(BigInteger[] values, int rowCount, int columnCount)
+            throws IllegalArgumentException {
+        if (columnCount < rowCount || values.length != rowCount * columnCount) {
+            String message = "Cannot solve a " + rowCount + " x " + columnCount + " matrix from " + values.length
+                    + " values.";
+            throw new IllegalArgumentException(message);
+        }
+
+        int solutionCount = columnCount - rowCount;
+        int valueCount = rowCount * solutionCount;
+        long[] small = toLongs(values);
+
+        BigInteger modulus = BigInteger.ONE;
+        BigInteger[] residues = new BigInteger[valueCount];
+        Arrays.fill(residues, BigInteger.ZERO);
+
+        int batchSize = Math.max(pool.getParallelism(), 2);
+        int singularCount = 0;
+        boolean regular = false;
+        long prime = FIRST_PRIME + 1;
+
+        while (true) {
+            List<ForkJoinTask<long[]>> tasks = new ArrayList<>(batchSize);
+            long[] primes = new long[batchSize];
+
+            for (int index = 0; index < batchSize; index++) {
+                prime = previousPrime(prime);
+                primes[index] = prime;
+
+                long modulo = prime;
+                tasks.add(pool.submit(() -> solveModulo(values, small, rowCount, columnCount, modulo)));
+            }
+
+            long checkPrime = 0;
+            long[] checkResidues = null;
+
+            for (int index = 0; index < batchSize; index++) {
+                long[] result = tasks.get(index).join();
+
+                if (result == null) {
+                    singularCount++;
+                    continue;
+                }
+
+                regular = true;
+
+                // Hold back one regular prime of the batch to check the reconstruction
+                if (checkResidues != null) {
+                    modulus = combine(residues, modulus, checkResidues, checkPrime);
+                }
+
+                checkPrime = primes[index];
+                checkResidues = result;
+            }
+
+            if (!regular) {
+                if (singularCount >= SINGULAR_PRIME_LIMIT) {
+                    return GaussMatrixExactSolution.invalid();
+                }
+
+                continue;
+            }
+
+            if (checkResidues == null) {
+                continue;
+            }
+
+            BigFraction[] solution = reconstruct(residues, modulus);
+
+            if (solution != null && matches(solution, checkResidues, checkPrime)) {
+                return new GaussMatrixExactSolution(GaussMatrixSolution.Status.SOLVED, solution, solutionCount);
+            }
+
+            modulus = combine(residues, modulus, checkResidues, checkPrime);
+        }
+    }
+
+    /**
+     * Solves a given integer matrix modulo a given prime by gauss-jordan elimination.
+     *
+     * @param values The row-major integer values.
+     * @param small The row-major integer values as longs, or null if some do not fit.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param prime The prime to solve modulo.
+     *
+     * @return The row-major solution vectors modulo the prime, or null if the matrix is singular modulo the prime.
+     */
+    static long[] solveModulo(BigInteger[] values, long[] small, int rowCount, int columnCount, long prime) {
+        long[] work = new long[values.length];
+        long reciprocal = Long.divideUnsigned(-1L, prime);
+
+        if (small != null) {
+            for (int index = 0; index < work.length; index++) {
+                work[index] = Math.floorMod(small[index], prime);
+            }
+        }
+        else {
+            BigInteger modulo = BigInteger.valueOf(prime);
+
+            for (int index = 0; index < work.length; index++) {
+                work[index] = values[index].mod(modulo).longValue();
+            }
+        }
+
+        // Forward elimination, all values are below 2^31 so products fit into a long
+        for (int step = 0; step < rowCount; step++) {
+            int pivotOffset = step * columnCount;
+
+            if (work[pivotOffset + step] == 0) {
+                int row = step + 1;
+
+                while (row < rowCount && work[row * columnCount + step] == 0) {
+                    row++;
+                }
+
+                if (row == rowCount) {
+                    return null;
+                }
+
+                for (int column = step; column < columnCount; column++) {
+                    long temp = work[pivotOffset + column];
+                    work[pivotOffset + column] = work[row * columnCount + column];
+                    work[row * columnCount + column] = temp;
+                }
+            }
+
+            long inverse = inverse(work[pivotOffset + step], prime);
+
+            for (int column = step + 1; column < columnCount; column++) {
+                work[pivotOffset + column] = work[pivotOffset + column] * inverse % prime;
+            }
+
+            work[pivotOffset + step] = 1;
+
+            for (int row = step + 1; row < rowCount; row++) {
+                int offset = row * columnCount;
+                long factor = work[offset + step];
+
+                if (factor != 0) {
+                    subtract(work, offset, pivotOffset, step + 1, columnCount, prime - factor, prime, reciprocal);
+                    work[offset + step] = 0;
+                }
+            }
+        }
+
+        // Back substitution, only the augmented columns are updated
+        for (int step = rowCount - 1; step > 0; step--) {
+            int pivotOffset = step * columnCount;
+
+            for (int row = 0; row < step; row++) {
+                int offset = row * columnCount;
+                long factor = work[offset + step];
+
+                if (factor != 0) {
+                    subtract(work, offset, pivotOffset, rowCount, columnCount, prime - factor, prime, reciprocal);
+                }
+            }
+        }
+
+        int solutionCount = columnCount - rowCount;
+        long[] result = new long[rowCount * solutionCount];
+
+        for (int row = 0; row < rowCount; row++) {
+            System.arraycopy(work, row * columnCount + rowCount, result, row * solutionCount, solutionCount);
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds a multiple of the pivot row to a target row modulo a prime.
+     *
+     * The remainders are calculated by Barrett reduction, which replaces the slow long division with a multiplication
+     * by the reciprocal of the prime. The estimated quotient is at most one too small, as the sums stay below 2^63.
+     *
+     * @param work The row-major values.
+     * @param offset The offset of the target row.
+     * @param pivotOffset The offset of the pivot row.
+     * @param fromColumn The first column to update.
+     * @param toColumn The column after the last column to update.
+     * @param factor The non-negative factor below the prime to multiply the pivot row with.
+     * @param prime The prime to calculate modulo.
+     * @param reciprocal The reciprocal of the prime, floor((2^64 - 1) / prime).
+     */
+    private static void subtract(long[] work, int offset, int pivotOffset, int fromColumn, int toColumn, long factor,
+                                 long prime, long reciprocal) {
+        for (int column = fromColumn; column < toColumn; column++) {
+            long value = work[offset + column] + factor * work[pivotOffset + column];
+            long remainder = value - Math.multiplyHigh(value, reciprocal) * prime;
+
+            work[offset + column] = remainder >= prime ? remainder - prime : remainder;
+        }
+    }
+
+    /**
+     * Calculates the multiplicative inverse of a value modulo a prime by fermat's little theorem.
+     *
+     * @param value The value to invert, between 1 and the prime.
+     * @param prime The prime to calculate modulo.
+     *
+     * @return The inverse of the value.
+     */
+    static long inverse(long value, long prime) {
+        return power(value, prime - 2, prime);
+    }
+
+    /**
+     * Calculates a power of a value modulo a number below 2^31.
+     *
+     * @param base The base, below the modulus.
+     * @param exponent The non-negative exponent.
+     * @param modulus The modulus.
+     *
+     * @return The base to the power of the exponent modulo the modulus.
+     */
+    private static long power(long base, long exponent, long modulus) {
+        long result = 1;
+
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * base % modulus;
+            }
+
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the largest prime below a given number.
+     *
+     * Uses a Miller-Rabin test with the bases 2, 3, 5 and 7, which is exact for all numbers below 3215031751.
+     *
+     * @param number The number to search below, at most 2^31.
+     *
+     * @return The largest prime below the number.
+     */
+    static long previousPrime(long number) {
+        long candidate = number - 1;
+
+        while (!isPrime(candidate)) {
+            candidate--;
+        }
+
+        return candidate;
+    }
+
+    /**
+     * Checks if a given number below 2^31 is a prime.
+     *
+     * @param number The number to check.
+     *
+     * @return True if the number is a prime, false if not.
+     */
+    private static boolean isPrime(long number) {
+        if (number < 2) {
+            return false;
+        }
+
+        for (long base : new long[]{2, 3, 5, 7}) {
+            if (number % base == 0) {
+                return number == base;
+            }
+        }
+
+        long odd = number - 1;
+        int twos = 0;
+
+        while ((odd & 1) == 0) {
+            odd >>= 1;
+            twos++;
+        }
+
+        for (long base : new long[]{2, 3, 5, 7}) {
+            long value = power(base, odd, number);
+
+            if (value == 1 || value == number - 1) {
+                continue;
+            }
+
+            boolean composite = true;
+
+            for (int index = 1; index < twos && composite; index++) {
+                value = value * value % number;
+                composite = value != number - 1;
+            }
+
+            if (composite) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Converts integer values to longs if all of them fit.
+     *
+     * @param values The integer values.
+     *
+     * @return The values as longs, or null if some do not fit.
+     */
+    private static long[] toLongs(BigInteger[] values) {
+        long[] result = new long[values.length];
+
+        for (int index = 0; index < values.length; index++) {
+            if (values[index].bitLength() > 62) {
+                return null;
+            }
+
+            result[index] = values[index].longValue();
+        }
+
+        return result;
+    }
+
+    /**
+     * Combines the residues modulo a new prime into the residues modulo the product of the previous primes.
+     *
+     * @param residues The residues modulo the previous product, updated in place.
+     * @param modulus The product of the previous primes.
+     * @param values The residues modulo the new prime.
+     * @param prime The new prime.
+     *
+     * @return The product of the previous primes and the new prime.
+     */
+    private static BigInteger combine(BigInteger[] residues, BigInteger modulus, long[] values, long prime) {
+        BigInteger modulo = BigInteger.valueOf(prime);
+        long inverse = inverse(modulus.mod(modulo).longValue(), prime);
+
+        for (int index = 0; index < residues.length; index++) {
+            // Find the multiple of the modulus to add so the residue also matches modulo the new prime
+            long difference = Math.floorMod(values[index] - residues[index].mod(modulo).longValue(), prime);
+            long multiple = difference * inverse % prime;
+
+            if (multiple != 0) {
+                residues[index] = residues[index].add(modulus.multiply(BigInteger.valueOf(multiple)));
+            }
+        }
+
+        return modulus.multiply(modulo);
+    }
+
+    /**
+     * Reconstructs the fractions from their residues.
+     *
+     * The values of a solution usually share most of their denominator, so each residue is first multiplied by the
+     * product of the denominators found so far. Often the result is already a small integer, then no euclidean
+     * algorithm needs to run for it.
+     *
+     * @param residues The residues of the fractions.
+     * @param modulus The modulus of the residues.
+     *
+     * @return The fractions, or null if some residue has no fraction with small enough numerator and denominator.
+     */
+    private static BigFraction[] reconstruct(BigInteger[] residues, BigInteger modulus) {
+        BigInteger bound = modulus.shiftRight(1).sqrt();
+        BigInteger half = modulus.shiftRight(1);
+        BigInteger denominator = BigInteger.ONE;
+        BigFraction[] result = new BigFraction[residues.length];
+
+        for (int index = 0; index < residues.length; index++) {
+            BigInteger scaled = residues[index].multiply(denominator).mod(modulus);
+            BigInteger centered = scaled.compareTo(half) > 0 ? scaled.subtract(modulus) : scaled;
+
+            if (centered.abs().compareTo(bound) <= 0) {
+                result[index] = new BigFraction(centered, denominator);
+                continue;
+            }
+
+            BigFraction fraction = reconstruct(scaled, modulus, bound);
+
+            if (fraction == null) {
+                return null;
+            }
+
+            result[index] = fraction.divide(denominator);
+            denominator = denominator.multiply(fraction.getDenominator());
+
+            if (denominator.compareTo(bound) > 0) {
+                return null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Reconstructs the fraction with numerator and denominator up to a bound from its residue.
+     *
+     * Runs the extended euclidean algorithm on the modulus and the residue until the remainder drops to the bound.
+     *
+     * @param residue The residue of the fraction.
+     * @param modulus The modulus of the residue.
+     * @param bound The bound of the numerator and denominator, at most the root of half the modulus.
+     *
+     * @return The fraction, or null if there is none.
+     */
+    static BigFraction reconstruct(BigInteger residue, BigInteger modulus, BigInteger bound) {
+        BigInteger previousRemainder = modulus;
+        BigInteger remainder = residue;
+        BigInteger previousCoefficient = BigInteger.ZERO;
+        BigInteger coefficient = BigInteger.ONE;
+
+        while (remainder.compareTo(bound) > 0) {
+            BigInteger[] quotient = previousRemainder.divideAndRemainder(remainder);
+            BigInteger nextCoefficient = previousCoefficient.subtract(quotient[0].multiply(coefficient));
+
+            previousRemainder = remainder;
+            remainder = quotient[1];
+            previousCoefficient = coefficient;
+            coefficient = nextCoefficient;
+        }
+
+        if (coefficient.abs().compareTo(bound) > 0 || !remainder.gcd(coefficient).equals(BigInteger.ONE)) {
+            return null;
+        }
+
+        return new BigFraction(coefficient.signum() < 0 ? remainder.negate() : remainder, coefficient.abs());
+    }
+
+    /**
+     * Checks if fractions match their residues modulo a given prime.
+     *
+     * @param fractions The fractions to check.
+     * @param residues The residues modulo the prime.
+     * @param prime The prime.
+     *
+     * @return True if every fraction matches its residue, false if not.
+     */
+    private static boolean matches(BigFraction[] fractions, long[] residues, long prime) {
+        BigInteger modulo = BigInteger.valueOf(prime);
+
+        for (int index = 0; index < fractions.length; index++) {
+            long numerator = fractions[index].getNumerator().mod(modulo).longValue();
+            long denominator = fractions[index].getDenominator().mod(modulo).longValue();
+
+            if (denominator == 0 || numerator != residues[index] * denominator % prime) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
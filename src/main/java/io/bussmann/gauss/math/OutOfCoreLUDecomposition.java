@@ -0,0 +1,400 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.MappedMatrix;
+
+/**
+ * Out-of-core LU decomposition.
+ *
+ * Factors the coefficients of a {@link MappedMatrix} in place into a unit lower triangular matrix L and an upper
+ * triangular matrix U with partial pivoting, so that P * A = L * U, for matrices too large for the heap. Only two
+ * panels of columns are held in memory at a time, their width is chosen to fit a given memory budget.
+ *
+ * The factorization is left-looking: each panel is loaded, updated with the previously factored panels streamed in
+ * one after another, factored in memory and written back. Its row swaps are then applied to the other coefficient
+ * columns in the file. Every panel is thus written once, and the file is read a number of times proportional to the
+ * number of panels.
+ *
+ * The coefficients of the mapped matrix are overwritten by the factors, its augmented columns are left unchanged. This
+ * destroys the input stored in its file, so a matrix that must be kept is factored as a copy, see
+ * {@link MappedMatrix#copy}. Read-only matrices are rejected. The mapped matrix must not be changed while the
+ * factorization is used.
+ *
+ * @author Frederik Bußmann
+ */
+public final class OutOfCoreLUDecomposition implements Factorization {
+    /**
+     * The default number of bytes of the panels held in memory.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 256L << 20;
+
+    /**
+     * The mapped matrix holding the factors, L below the diagonal with implicit unit diagonal and U on and above it.
+     */
+    private final MappedMatrix factors;
+
+    /**
+     * The number of rows and columns of the coefficient matrix.
+     */
+    private final int size;
+
+    /**
+     * The number of columns factored per panel.
+     */
+    private final int panelSize;
+
+    /**
+     * The row swapped with each row during the factorization.
+     */
+    private final int[] pivots;
+
+    /**
+     * Whether the coefficient matrix is singular.
+     */
+    private final boolean singular;
+
+    /**
+     * Class constructor.
+     *
+     * Uses the default memory budget.
+     *
+     * @param matrix The matrix to factor in place, only the leading square coefficient columns are used.
+     */
+    public OutOfCoreLUDecomposition(MappedMatrix matrix) throws IllegalArgumentException {
+        this(matrix, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to factor in place, only the leading square coefficient columns are used.
+     * @param memoryBudget The number of bytes of the panels held in memory, at least one column is always held.
+     */
+    public OutOfCoreLUDecomposition(MappedMatrix matrix, long memoryBudget) throws IllegalArgumentException {
+        if (matrix.isReadOnly()) {
+            String message = "Cannot factor the read-only matrix in " + matrix.getPath()
+                    + " in place, factor a copy of it.";
+            throw new IllegalArgumentException(message);
+        }
+        if (memoryBudget < 1) {
+            String message = "The memory budget must be positive, " + memoryBudget + " given.";
+            throw new IllegalArgumentException(message);
+        }
+        if (matrix.getColumnCount() < matrix.getRowCount()) {
+            String message = "Cannot factor a " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                    + " matrix, it needs at least as many columns as rows.";
+            throw new IllegalArgumentException(message);
+        }
+
+        factors = matrix;
+        size = matrix.getRowCount();
+        pivots = new int[size];
+
+        // The current panel and one previous panel are held at a time, each in a single array
+        long columns = memoryBudget / (2L * Double.BYTES * Math.max(size, 1));
+        columns = Math.min(columns, (Integer.MAX_VALUE - 8) / Math.max(size, 1));
+        panelSize = (int) Math.max(1, Math.min(columns, Math.max(size, 1)));
+
+        singular = !factor(calculatePivotTolerance());
+    }
+
+    /**
+     * Solves a given mapped matrix, using its augmented columns as right-hand sides.
+     *
+     * The coefficients are overwritten by their factors, destroying the input stored in the file of the matrix.
+     *
+     * @param matrix The writable matrix to solve.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(MappedMatrix matrix) {
+        OutOfCoreLUDecomposition decomposition = new OutOfCoreLUDecomposition(matrix);
+
+        if (decomposition.isSingular()) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        int size = matrix.getRowCount();
+        int width = matrix.getColumnCount() - size;
+        DenseMatrix rhs = new DenseMatrix(size, width);
+
+        for (int row = 0; row < size; row++) {
+            matrix.readRow(row, size, rhs.getData(), row * width, width);
+        }
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, decomposition.solve(rhs));
+    }
+
+    /**
+     * Solves the factored system for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    @Override
+    public double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException {
+        return solve(new DenseMatrix(rhs.length, 1, rhs.clone())).getData();
+    }
+
+    /**
+     * Solves the factored system for a batch of right-hand sides, one per column.
+     *
+     * All columns are substituted together, so the factors are read from the file once per batch.
+     *
+     * @param rhs The right-hand sides with one row per equation, left unchanged.
+     *
+     * @return The solution vectors, one per column.
+     */
+    @Override
+    public DenseMatrix solve(DenseMatrix rhs) throws IllegalArgumentException, ArithmeticException {
+        if (rhs.getRowCount() != size) {
+            String message = "The right-hand side has " + rhs.getRowCount() + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+        if (singular) {
+            String message = "Cannot solve a system with a singular coefficient matrix.";
+            throw new ArithmeticException(message);
+        }
+
+        DenseMatrix result = rhs.copy();
+        double[] values = result.getData();
+        double[] row = new double[size];
+        int width = result.getColumnCount();
+
+        // Apply the row swaps
+        for (int index = 0; index < size; index++) {
+            RowOperations.swapRow(result, index, pivots[index]);
+        }
+
+        // Forward substitution with the unit lower triangular factor
+        for (int index = 1; index < size; index++) {
+            factors.readRow(index, 0, row, 0, index);
+
+            for (int column = 0; column < index; column++) {
+                RowOperations.subtract(values, index * width, values, column * width, width, row[column]);
+            }
+        }
+
+        // Back substitution with the upper triangular factor
+        for (int index = size - 1; index >= 0; index--) {
+            factors.readRow(index, index, row, 0, size - index);
+
+            for (int column = index + 1; column < size; column++) {
+                RowOperations.subtract(values, index * width, values, column * width, width,
+                        row[column - index]);
+            }
+
+            RowOperations.divide(values, index * width, width, row[0]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the coefficient matrix is singular.
+     *
+     * @return True if singular, false if not.
+     */
+    @Override
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Gets the number of rows and columns of the coefficient matrix.
+     *
+     * @return The size of the factored matrix.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of columns factored per panel.
+     *
+     * @return The panel size.
+     */
+    public int getPanelSize() {
+        return panelSize;
+    }
+
+    /**
+     * Calculates the magnitude up to which pivots are considered zero, relative to the largest coefficient.
+     *
+     * @return The pivot tolerance.
+     */
+    private double calculatePivotTolerance() {
+        double[] row = new double[size];
+        double maximum = 0;
+
+        for (int index = 0; index < size; index++) {
+            factors.readRow(index, 0, row, 0, size);
+
+            for (double value : row) {
+                maximum = Math.max(maximum, Math.abs(value));
+            }
+        }
+
+        return Math.ulp(1.0) * size * maximum;
+    }
+
+    /**
+     * Factors the coefficients panel by panel.
+     *
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     *
+     * @return True if the coefficient matrix is regular, false if it is singular.
+     */
+    private boolean factor(double tolerance) {
+        double[] panel = new double[size * panelSize];
+        double[] previous = new double[size * panelSize];
+
+        for (int panelStart = 0; panelStart < size; panelStart += panelSize) {
+            int panelEnd = Math.min(panelStart + panelSize, size);
+            int width = panelEnd - panelStart;
+
+            for (int row = 0; row < size; row++) {
+                factors.readRow(row, panelStart, panel, row * width, width);
+            }
+
+            // Apply the factored panels left of the current one
+            for (int previousStart = 0; previousStart < panelStart; previousStart += panelSize) {
+                int previousEnd = Math.min(previousStart + panelSize, panelStart);
+                int previousWidth = previousEnd - previousStart;
+
+                for (int row = previousStart; row < size; row++) {
+                    factors.readRow(row, previousStart, previous, (row - previousStart) * previousWidth,
+                            previousWidth);
+                }
+
+                updatePanel(panel, width, previous, previousStart, previousEnd);
+            }
+
+            if (!factorPanel(panel, panelStart, panelEnd, tolerance)) {
+                return false;
+            }
+
+            for (int row = 0; row < size; row++) {
+                factors.writeRow(row, panelStart, panel, row * width, width);
+            }
+
+            swapOuterColumns(panelStart, panelEnd);
+        }
+
+        return true;
+    }
+
+    /**
+     * Updates the current panel with a previously factored panel: the rows of U in the previous panel are solved
+     * with its unit lower triangle, then the product of its columns of L and these rows is subtracted below them.
+     *
+     * @param panel The current panel, one row of the panel width per matrix row.
+     * @param width The number of columns of the current panel.
+     * @param previous The previous panel from its first row on, one row of its width per matrix row.
+     * @param previousStart The first column of the previous panel.
+     * @param previousEnd The column after the last column of the previous panel.
+     */
+    private void updatePanel(double[] panel, int width, double[] previous, int previousStart, int previousEnd) {
+        int previousWidth = previousEnd - previousStart;
+
+        for (int row = previousStart + 1; row < size; row++) {
+            int offset = (row - previousStart) * previousWidth;
+            int columnEnd = Math.min(row, previousEnd);
+
+            for (int column = previousStart; column < columnEnd; column++) {
+                double factor = previous[offset + column - previousStart];
+
+                if (factor != 0) {
+                    RowOperations.subtract(panel, row * width, panel, column * width, width, factor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Factors the updated current panel in memory with partial pivoting.
+     *
+     * @param panel The current panel, one row of the panel width per matrix row.
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     * @param tolerance The magnitude up to which pivots are considered zero.
+     *
+     * @return True if a non-zero pivot was found for every column, false if not.
+     */
+    private boolean factorPanel(double[] panel, int panelStart, int panelEnd, double tolerance) {
+        int width = panelEnd - panelStart;
+
+        for (int column = panelStart; column < panelEnd; column++) {
+            int local = column - panelStart;
+            int pivotRow = column;
+            double pivotMagnitude = Math.abs(panel[column * width + local]);
+
+            for (int row = column + 1; row < size; row++) {
+                double magnitude = Math.abs(panel[row * width + local]);
+
+                if (magnitude > pivotMagnitude) {
+                    pivotRow = row;
+                    pivotMagnitude = magnitude;
+                }
+            }
+
+            if (pivotMagnitude <= tolerance) {
+                return false;
+            }
+
+            pivots[column] = pivotRow;
+
+            if (pivotRow != column) {
+                RowOperations.swap(panel, column * width, pivotRow * width, width);
+            }
+
+            int pivotOffset = column * width;
+            double pivot = panel[pivotOffset + local];
+            int length = width - local - 1;
+
+            for (int row = column + 1; row < size; row++) {
+                int offset = row * width;
+                double factor = panel[offset + local] / pivot;
+
+                panel[offset + local] = factor;
+
+                if (factor != 0) {
+                    RowOperations.subtract(panel, offset + local + 1, panel, pivotOffset + local + 1, length,
+                            factor);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Applies the row swaps of a panel to the coefficient columns left and right of it in the file.
+     *
+     * @param panelStart The first column of the panel.
+     * @param panelEnd The column after the last column of the panel.
+     */
+    private void swapOuterColumns(int panelStart, int panelEnd) {
+        double[] row1 = new double[size];
+        double[] row2 = new double[size];
+
+        for (int row = panelStart; row < panelEnd; row++) {
+            int pivotRow = pivots[row];
+
+            if (pivotRow == row) {
+                continue;
+            }
+
+            factors.readRow(row, 0, row1, 0, size);
+            factors.readRow(pivotRow, 0, row2, 0, size);
+
+            factors.writeRow(row, 0, row2, 0, panelStart);
+            factors.writeRow(pivotRow, 0, row1, 0, panelStart);
+            factors.writeRow(row, panelEnd, row2, panelEnd, size - panelEnd);
+            factors.writeRow(pivotRow, panelEnd, row1, panelEnd, size - panelEnd);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel gaussian elimination.
+ *
+ * Solves matrices with the gaussian elimination algorithm, splitting the row updates of each pivot step across a
+ * fork/join pool. The pivot search and the division of the pivot row stay sequential. Steps updating fewer values
+ * than the parallelism threshold are performed sequentially, so small systems do not pay for task scheduling.
+ *
+ * The results are identical to the sequential {@link GaussianElimination#solveInPlace(DenseMatrix, PivotingStrategy)}.
+ *
+ * @author Frederik Bußmann
+ */
+public class ParallelGaussianElimination {
+    /**
+     * The default minimal number of values updated in a step to perform it in parallel.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    /**
+     * The pool to run the row updates in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The minimal number of values updated in a step to perform it in parallel.
+     */
+    private final int threshold;
+
+    /**
+     * Class constructor.
+     *
+     * Uses the common fork/join pool and the default threshold.
+     */
+    public ParallelGaussianElimination() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param pool The pool to run the row updates in.
+     * @param threshold The minimal number of values updated in a step to perform it in parallel.
+     */
+    public ParallelGaussianElimination(ForkJoinPool pool, int threshold) throws IllegalArgumentException {
+        if (threshold < 1) {
+            String message = "The parallelism threshold must be positive, " + threshold + " given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Solves a given matrix without recording a solution trace.
+     *
+     * Rows are only swapped if a pivot is below the pivot tolerance, see {@link PivotingStrategy#NONE}. The given
+     * matrix is not changed.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors and status.
+     */
+    public GaussMatrixSolution solve(GaussMatrix matrix) {
+        return solveInPlace(DenseMatrix.fromGaussMatrix(matrix), PivotingStrategy.NONE);
+    }
+
+    /**
+     * Solves a given matrix in place using a given pivoting strategy without recording a solution trace.
+     *
+     * The given matrix is changed to its reduced row echelon form.
+     *
+     * @param matrix The matrix to solve.
+     * @param strategy The strategy used to choose the pivot elements.
+     *
+     * @return The solution vectors and status.
+     */
+    public GaussMatrixSolution solveInPlace(DenseMatrix matrix, PivotingStrategy strategy) {
+        int[] rowPermutation = GaussianElimination.createIdentityPermutation(matrix.getRowCount());
+
+        if (!GaussianElimination.reduce(matrix, strategy, rowPermutation, null, pool, threshold)) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        DenseMatrix values = GaussianElimination.extractAugmentedColumns(matrix);
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, values);
+    }
+
+    /**
+     * Clear column task.
+     *
+     * Clears the values of a pivot column in a range of rows, splitting the range until each part updates no more
+     * values than the threshold.
+     */
+    static class ClearColumnTask extends RecursiveAction {
+        /**
+         * The matrix to act on.
+         */
+        private final DenseMatrix work;
+
+        /**
+         * The row and column of the pivot.
+         */
+        private final int pivot;
+
+        /**
+         * The first row to clear.
+         */
+        private final int fromRow;
+
+        /**
+         * The row after the last row to clear.
+         */
+        private final int toRow;
+
+        /**
+         * Whether the rows are cleared as a part of back substitution, updating only the augmented columns.
+         */
+        private final boolean backSubstitution;
+
+        /**
+         * The maximal number of values updated by a single task.
+         */
+        private final int threshold;
+
+        /**
+         * Class constructor.
+         *
+         * @param work The matrix to act on.
+         * @param pivot The row and column of the pivot.
+         * @param fromRow The first row to clear.
+         * @param toRow The row after the last row to clear.
+         * @param backSubstitution Whether the rows are cleared as a part of back substitution.
+         * @param threshold The maximal number of values updated by a single task.
+         */
+        ClearColumnTask(DenseMatrix work, int pivot, int fromRow, int toRow, boolean backSubstitution,
+                        int threshold) {
+            this.work = work;
+            this.pivot = pivot;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.backSubstitution = backSubstitution;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Clears the rows or splits them into two halves.
+         */
+        @Override
+        protected void compute() {
+            int fromColumn = backSubstitution ? work.getRowCount() : pivot;
+            long valueCount = (long) (toRow - fromRow) * (work.getColumnCount() - fromColumn);
+
+            if (toRow - fromRow < 2 || valueCount <= threshold) {
+                for (int row = fromRow; row < toRow; row++) {
+                    GaussianElimination.clearValue(work, pivot, row, backSubstitution, null);
+                }
+
+                return;
+            }
+
+            int middle = (fromRow + toRow) >>> 1;
+
+            invokeAll(new ClearColumnTask(work, pivot, fromRow, middle, backSubstitution, threshold),
+                    new ClearColumnTask(work, pivot, middle, toRow, backSubstitution, threshold));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.bussmann.gauss.math;
+
+/**
+ * Pivoting strategy.
+ *
+ * Determines how the pivot element is chosen for each column during the gaussian elimination.
+ *
+ * @author Frederik Bußmann
+ */
+public enum PivotingStrategy {
+    /**
+     * Keeps the diagonal element as pivot and only swaps rows if it is negligible, using the first row below whose
+     * value in the pivot column exceeds the pivot tolerance. The tolerance is ulp(1) * n * max|a|, relative to the
+     * largest coefficient of the n x n input matrix, so values lost to rounding are treated as zero.
+     */
+    NONE,
+
+    /**
+     * Uses the value with the largest magnitude in the pivot column on or below the diagonal.
+     */
+    PARTIAL,
+
+    /**
+     * Uses the value with the largest magnitude in the pivot column relative to the largest magnitude of its row in
+     * the input matrix, making the choice independent of the scaling of the equations.
+     */
+    SCALED_PARTIAL,
+
+    /**
+     * Uses the value with the largest magnitude in the whole remaining coefficient sub matrix, swapping rows and
+     * columns. Column swaps are reverted after the back substitution so the variables keep their order.
+     */
+    FULL
+}
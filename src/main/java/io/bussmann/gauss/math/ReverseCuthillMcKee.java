@@ -0,0 +1,218 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Reverse Cuthill-McKee ordering.
+ *
+ * Orders the nodes of the undirected graph of A + A^T by a breadth first search starting at a pseudo peripheral
+ * node, visiting the neighbours of each node by increasing degree, and reverses the result. Nodes connected in the
+ * graph end up close to each other, which keeps the values of the matrix near the diagonal.
+ *
+ * @author Frederik Bußmann
+ */
+final class ReverseCuthillMcKee {
+    /**
+     * The maximal number of searches performed to find a pseudo peripheral start node.
+     */
+    private static final int MAX_START_SEARCHES = 8;
+
+    /**
+     * The undirected graph of the matrix.
+     */
+    private final AdjacencyGraph graph;
+
+    /**
+     * Class constructor.
+     *
+     * @param graph The undirected graph of the matrix.
+     */
+    private ReverseCuthillMcKee(AdjacencyGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Computes the reverse Cuthill-McKee ordering of a given matrix.
+     *
+     * @param matrix The matrix to order, only the leading square coefficient columns are used.
+     *
+     * @return The original index of each row and column in the new order.
+     */
+    static int[] order(SparseMatrix matrix) {
+        return new ReverseCuthillMcKee(new AdjacencyGraph(matrix)).order();
+    }
+
+    /**
+     * Computes the ordering of all connected components of the graph.
+     *
+     * @return The original index of each node in the new order.
+     */
+    private int[] order() {
+        int size = graph.getSize();
+        int[] degrees = graph.getDegrees();
+        int[] order = new int[size];
+        boolean[] visited = new boolean[size];
+        int[] queue = new int[size];
+        int[] levels = new int[size];
+        int count = 0;
+
+        Arrays.fill(levels, -1);
+
+        // Nodes are tried by increasing degree, so every component starts at a node of low degree
+        Integer[] candidates = new Integer[size];
+
+        for (int node = 0; node < size; node++) {
+            candidates[node] = node;
+        }
+
+        Arrays.sort(candidates, (one, two) -> Integer.compare(degrees[one], degrees[two]));
+
+        for (int candidate : candidates) {
+            if (visited[candidate]) {
+                continue;
+            }
+
+            int start = findStartNode(candidate, queue, levels);
+            count = search(start, order, count, visited);
+        }
+
+        // Reverse the order
+        for (int index = 0; index < size / 2; index++) {
+            int temp = order[index];
+            order[index] = order[size - 1 - index];
+            order[size - 1 - index] = temp;
+        }
+
+        return order;
+    }
+
+    /**
+     * Finds a pseudo peripheral node in the component of a given node.
+     *
+     * Repeatedly moves to the node of lowest degree in the last level of a breadth first search as long as the
+     * number of levels grows.
+     *
+     * @param node The node to start at.
+     * @param queue The work array for the reached nodes.
+     * @param levels The work array for the level of each node, -1 for all nodes and left that way.
+     *
+     * @return The found start node.
+     */
+    private int findStartNode(int node, int[] queue, int[] levels) {
+        int[] degrees = graph.getDegrees();
+        int eccentricity = -1;
+
+        for (int search = 0; search < MAX_START_SEARCHES; search++) {
+            int length = measureLevels(node, queue, levels);
+            int depth = levels[queue[length - 1]];
+
+            // Choose the node of lowest degree in the last level
+            int best = queue[length - 1];
+
+            for (int index = length - 1; index >= 0 && levels[queue[index]] == depth; index--) {
+                if (degrees[queue[index]] < degrees[best]) {
+                    best = queue[index];
+                }
+            }
+
+            // Reset the levels of the reached nodes only, so small components stay cheap
+            for (int index = 0; index < length; index++) {
+                levels[queue[index]] = -1;
+            }
+
+            if (depth <= eccentricity) {
+                break;
+            }
+
+            eccentricity = depth;
+            node = best;
+        }
+
+        return node;
+    }
+
+    /**
+     * Performs a breadth first search from a given node, computing the level of each reached node.
+     *
+     * @param start The node to start at.
+     * @param queue The work array receiving the reached nodes in visiting order.
+     * @param levels The work array receiving the level of each reached node, -1 for nodes not reached yet.
+     *
+     * @return The number of reached nodes.
+     */
+    private int measureLevels(int start, int[] queue, int[] levels) {
+        int[] pointers = graph.getPointers();
+        int[] neighbours = graph.getNeighbours();
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = start;
+        levels[start] = 0;
+
+        while (head < tail) {
+            int node = queue[head++];
+
+            for (int index = pointers[node]; index < pointers[node + 1]; index++) {
+                int neighbour = neighbours[index];
+
+                if (levels[neighbour] < 0) {
+                    levels[neighbour] = levels[node] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+
+        return tail;
+    }
+
+    /**
+     * Appends the Cuthill-McKee order of the component of a given start node.
+     *
+     * @param start The node to start at.
+     * @param order The order to append to.
+     * @param count The number of nodes already in the order.
+     * @param visited The nodes already in the order.
+     *
+     * @return The number of nodes in the order afterwards.
+     */
+    private int search(int start, int[] order, int count, boolean[] visited) {
+        int[] pointers = graph.getPointers();
+        int[] neighbours = graph.getNeighbours();
+        int[] degrees = graph.getDegrees();
+        int head = count;
+
+        order[count++] = start;
+        visited[start] = true;
+
+        while (head < count) {
+            int node = order[head++];
+            int first = count;
+
+            for (int index = pointers[node]; index < pointers[node + 1]; index++) {
+                int neighbour = neighbours[index];
+
+                if (!visited[neighbour]) {
+                    visited[neighbour] = true;
+                    order[count++] = neighbour;
+                }
+            }
+
+            // Sort the new nodes by increasing degree, the lists are short so insertion sort is used
+            for (int index = first + 1; index < count; index++) {
+                int value = order[index];
+                int position = index - 1;
+
+                while (position >= first && degrees[order[position]] > degrees[value]) {
+                    order[position + 1] = order[position];
+                    position--;
+                }
+
+                order[position + 1] = value;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,281 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+
+/**
+ * Row operations.
+ *
+ * In-place elementary row operations working directly on primitive row-major storage. None of the operations
+ * allocate, so they can be used in the innermost loops of the elimination algorithms.
+ *
+ * If the module jdk.incubator.vector is present, for example by running with --add-modules jdk.incubator.vector, the
+ * range kernels use {@link VectorRowOperations} for longer ranges. Otherwise, or if the system property
+ * {@value #VECTOR_PROPERTY} is false, they fall back to scalar loops. Both produce bitwise identical results.
+ *
+ * @author Frederik Bußmann
+ */
+public final class RowOperations {
+    /**
+     * The system property to disable the vector kernels with.
+     */
+    public static final String VECTOR_PROPERTY = "io.bussmann.gauss.vector";
+
+    /**
+     * The minimal number of values to process a range with the vector kernels.
+     */
+    private static final int VECTOR_THRESHOLD = 16;
+
+    /**
+     * Whether the vector kernels are available and enabled.
+     */
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"));
+
+    /**
+     * Class constructor.
+     */
+    private RowOperations() {
+    }
+
+    /**
+     * Checks if the range kernels use the vector API.
+     *
+     * @return True if vectorized, false if scalar.
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Multiplies a row of a matrix by a given scalar, starting at a given column.
+     *
+     * @param matrix The matrix to act on.
+     * @param row The row to multiply.
+     * @param scalar The scalar to multiply the row by.
+     * @param fromColumn The first column to update.
+     */
+    public static void multiplyRow(DenseMatrix matrix, int row, double scalar, int fromColumn) {
+        int offset = row * matrix.getStride();
+
+        multiply(matrix.getData(), offset + fromColumn, matrix.getColumnCount() - fromColumn, scalar);
+    }
+
+    /**
+     * Divides a row of a matrix by a given scalar, starting at a given column.
+     *
+     * @param matrix The matrix to act on.
+     * @param row The row to divide.
+     * @param scalar The scalar to divide the row by.
+     * @param fromColumn The first column to update.
+     */
+    public static void divideRow(DenseMatrix matrix, int row, double scalar, int fromColumn)
+            throws ArithmeticException {
+        int offset = row * matrix.getStride();
+
+        divide(matrix.getData(), offset + fromColumn, matrix.getColumnCount() - fromColumn, scalar);
+    }
+
+    /**
+     * Subtracts a multiple of a row from another row of a matrix, starting at a given column.
+     *
+     * @param matrix The matrix to act on.
+     * @param target The row to subtract from.
+     * @param source The row to multiply and subtract.
+     * @param scalar The scalar to multiply the source row by.
+     * @param fromColumn The first column to update.
+     */
+    public static void subtractRow(DenseMatrix matrix, int target, int source, double scalar, int fromColumn) {
+        int stride = matrix.getStride();
+        int length = matrix.getColumnCount() - fromColumn;
+        double[] data = matrix.getData();
+
+        subtract(data, target * stride + fromColumn, data, source * stride + fromColumn, length, scalar);
+    }
+
+    /**
+     * Swaps two rows of a matrix.
+     *
+     * @param matrix The matrix to act on.
+     * @param row1 The row to swap.
+     * @param row2 The row to swap with.
+     */
+    public static void swapRow(DenseMatrix matrix, int row1, int row2) {
+        if (row1 == row2) {
+            return;
+        }
+
+        int stride = matrix.getStride();
+
+        swap(matrix.getData(), row1 * stride, row2 * stride, matrix.getColumnCount());
+    }
+
+    /**
+     * Swaps two columns of a matrix.
+     *
+     * @param matrix The matrix to act on.
+     * @param column1 The column to swap.
+     * @param column2 The column to swap with.
+     */
+    public static void swapColumn(DenseMatrix matrix, int column1, int column2) {
+        double[] data = matrix.getData();
+        int stride = matrix.getStride();
+
+        for (int offset = 0; offset < data.length; offset += stride) {
+            double temp = data[offset + column1];
+            data[offset + column1] = data[offset + column2];
+            data[offset + column2] = temp;
+        }
+    }
+
+    /**
+     * Multiplies a range of values by a given scalar.
+     *
+     * @param data The values to act on.
+     * @param offset The index of the first value.
+     * @param length The number of values.
+     * @param scalar The scalar to multiply the values by.
+     */
+    public static void multiply(double[] data, int offset, int length, double scalar) {
+        if (VECTORIZED && length >= VECTOR_THRESHOLD) {
+            VectorRowOperations.multiply(data, offset, length, scalar);
+            return;
+        }
+
+        for (int index = offset; index < offset + length; index++) {
+            data[index] *= scalar;
+        }
+    }
+
+    /**
+     * Divides a range of values by a given scalar.
+     *
+     * Adding zero after the division normalizes negative zero results to zero.
+     *
+     * @param data The values to act on.
+     * @param offset The index of the first value.
+     * @param length The number of values.
+     * @param scalar The scalar to divide the values by.
+     */
+    public static void divide(double[] data, int offset, int length, double scalar) throws ArithmeticException {
+        if (scalar == 0) {
+            String message = "Cannot divide values by zero";
+            throw new ArithmeticException(message);
+        }
+
+        if (VECTORIZED && length >= VECTOR_THRESHOLD) {
+            VectorRowOperations.divide(data, offset, length, scalar);
+            return;
+        }
+
+        for (int index = offset; index < offset + length; index++) {
+            data[index] = data[index] / scalar + (double) 0;
+        }
+    }
+
+    /**
+     * Subtracts a multiple of a range of values from another, non-overlapping range of values.
+     *
+     * @param target The values to subtract from.
+     * @param targetOffset The index of the first value to subtract from.
+     * @param source The values to multiply and subtract, may be the same array as the target.
+     * @param sourceOffset The index of the first value to multiply and subtract.
+     * @param length The number of values.
+     * @param scalar The scalar to multiply the source values by.
+     */
+    public static void subtract(double[] target, int targetOffset, double[] source, int sourceOffset, int length,
+                                double scalar) {
+        if (VECTORIZED && length >= VECTOR_THRESHOLD) {
+            VectorRowOperations.subtract(target, targetOffset, source, sourceOffset, length, scalar);
+            return;
+        }
+
+        for (int index = 0; index < length; index++) {
+            target[targetOffset + index] -= source[sourceOffset + index] * scalar;
+        }
+    }
+
+    /**
+     * Subtracts the element-wise products of two ranges of values from another, non-overlapping range of values.
+     *
+     * Values whose factor is positive zero are left unchanged, like {@link GaussianElimination} skips zero scalars,
+     * so negative zero and non-finite source values are not touched by them.
+     *
+     * @param target The values to subtract from.
+     * @param targetOffset The index of the first value to subtract from.
+     * @param factors The values to multiply the source values by, may be the same array as the target.
+     * @param factorOffset The index of the first factor.
+     * @param source The values to multiply and subtract, may be the same array as the target.
+     * @param sourceOffset The index of the first value to multiply and subtract.
+     * @param length The number of values.
+     */
+    public static void subtractProducts(double[] target, int targetOffset, double[] factors, int factorOffset,
+                                        double[] source, int sourceOffset, int length) {
+        if (VECTORIZED && length >= VECTOR_THRESHOLD) {
+            VectorRowOperations.subtractProducts(target, targetOffset, factors, factorOffset, source, sourceOffset,
+                    length);
+            return;
+        }
+
+        for (int index = 0; index < length; index++) {
+            double factor = factors[factorOffset + index];
+
+            if (Double.doubleToRawLongBits(factor) != 0) {
+                target[targetOffset + index] -= source[sourceOffset + index] * factor;
+            }
+        }
+    }
+
+    /**
+     * Subtracts a multiple of a range of single precision values from another, non-overlapping range of values.
+     *
+     * @param target The values to subtract from.
+     * @param targetOffset The index of the first value to subtract from.
+     * @param source The values to multiply and subtract, may be the same array as the target.
+     * @param sourceOffset The index of the first value to multiply and subtract.
+     * @param length The number of values.
+     * @param scalar The scalar to multiply the source values by.
+     */
+    public static void subtract(float[] target, int targetOffset, float[] source, int sourceOffset, int length,
+                                float scalar) {
+        if (VECTORIZED && length >= VECTOR_THRESHOLD) {
+            VectorRowOperations.subtract(target, targetOffset, source, sourceOffset, length, scalar);
+            return;
+        }
+
+        for (int index = 0; index < length; index++) {
+            target[targetOffset + index] -= source[sourceOffset + index] * scalar;
+        }
+    }
+
+    /**
+     * Swaps two ranges of single precision values.
+     *
+     * @param data The values to act on.
+     * @param offset1 The index of the first value to swap.
+     * @param offset2 The index of the first value to swap with.
+     * @param length The number of values.
+     */
+    public static void swap(float[] data, int offset1, int offset2, int length) {
+        for (int index = 0; index < length; index++) {
+            float temp = data[offset1 + index];
+            data[offset1 + index] = data[offset2 + index];
+            data[offset2 + index] = temp;
+        }
+    }
+
+    /**
+     * Swaps two ranges of values.
+     *
+     * @param data The values to act on.
+     * @param offset1 The index of the first value to swap.
+     * @param offset2 The index of the first value to swap with.
+     * @param length The number of values.
+     */
+    public static void swap(double[] data, int offset1, int offset2, int length) {
+        for (int index = 0; index < length; index++) {
+            double temp = data[offset1 + index];
+            data[offset1 + index] = data[offset2 + index];
+            data[offset2 + index] = temp;
+        }
+    }
+}
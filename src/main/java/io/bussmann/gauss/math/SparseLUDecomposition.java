@@ -0,0 +1,560 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Sparse LU decomposition.
+ *
+ * Factors the coefficients of a sparse matrix into a sparse unit lower triangular matrix L and a sparse upper
+ * triangular matrix U. The rows and columns are first permuted symmetrically by a fill-reducing ordering, then the
+ * matrix is factored column by column, left-looking: each column is computed by a sparse triangular solve with the
+ * columns of L found so far, visiting only the values reachable through the pattern of L. The work per column is
+ * proportional to the number of floating point operations, not to the size of the matrix.
+ *
+ * Rows are pivoted by threshold partial pivoting: the diagonal value is kept as pivot as long as its magnitude is at
+ * least the pivot threshold times the largest magnitude in the column, preserving the ordering where possible.
+ *
+ * The factorization is immutable once created and can be reused for any number of right-hand sides.
+ *
+ * @author Frederik Bußmann
+ */
+public final class SparseLUDecomposition implements Factorization {
+    /**
+     * The default fraction of the largest magnitude in a column the diagonal value needs to stay the pivot.
+     */
+    public static final double DEFAULT_PIVOT_THRESHOLD = 0.1;
+
+    /**
+     * The number of rows and columns of the coefficient matrix.
+     */
+    private final int size;
+
+    /**
+     * The original index of each row and column in the fill-reducing order.
+     */
+    private final int[] ordering;
+
+    /**
+     * The pivot step of each row of the ordered matrix.
+     */
+    private final int[] rowPivots;
+
+    /**
+     * The index of the first value of each column of L, followed by the number of values.
+     */
+    private int[] lowerPointers;
+
+    /**
+     * The row of each value of L, the unit diagonal is stored first in each column.
+     */
+    private int[] lowerRows;
+
+    /**
+     * The values of L.
+     */
+    private double[] lowerValues;
+
+    /**
+     * The index of the first value of each column of U, followed by the number of values.
+     */
+    private int[] upperPointers;
+
+    /**
+     * The row of each value of U, the diagonal is stored last in each column.
+     */
+    private int[] upperRows;
+
+    /**
+     * The values of U.
+     */
+    private double[] upperValues;
+
+    /**
+     * Whether the coefficient matrix is singular.
+     */
+    private final boolean singular;
+
+    /**
+     * Class constructor.
+     *
+     * Uses the approximate minimum degree ordering and the default pivot threshold.
+     *
+     * @param matrix The matrix to factor, only the leading square coefficient columns are used.
+     */
+    public SparseLUDecomposition(SparseMatrix matrix) {
+        this(matrix, SparseOrdering.APPROXIMATE_MINIMUM_DEGREE, DEFAULT_PIVOT_THRESHOLD);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to factor, only the leading square coefficient columns are used.
+     * @param ordering The fill-reducing ordering applied before factoring.
+     * @param pivotThreshold The fraction of the largest magnitude in a column the diagonal value needs to stay the
+     *                       pivot, 1 for plain partial pivoting.
+     */
+    public SparseLUDecomposition(SparseMatrix matrix, SparseOrdering ordering, double pivotThreshold)
+            throws IllegalArgumentException {
+        if (!(pivotThreshold > 0 && pivotThreshold <= 1)) {
+            String message = "The pivot threshold must be in (0, 1], " + pivotThreshold + " given.";
+            throw new IllegalArgumentException(message);
+        }
+        if (matrix.getColumnCount() < matrix.getRowCount()) {
+            String message = "Cannot factor a " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                    + " matrix, it needs at least as many columns as rows.";
+            throw new IllegalArgumentException(message);
+        }
+
+        size = matrix.getRowCount();
+        this.ordering = ordering.order(matrix);
+        rowPivots = new int[size];
+
+        singular = !factor(matrix, pivotThreshold);
+    }
+
+    /**
+     * Factors the coefficients of a given gauss matrix.
+     *
+     * @param matrix The matrix to factor.
+     *
+     * @return The factorization.
+     */
+    public static SparseLUDecomposition factorize(GaussMatrix matrix) {
+        return new SparseLUDecomposition(SparseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves a given sparse matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(SparseMatrix matrix) {
+        SparseLUDecomposition decomposition = new SparseLUDecomposition(matrix);
+
+        if (decomposition.isSingular()) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        int size = matrix.getRowCount();
+        DenseMatrix rhs = new DenseMatrix(size, matrix.getColumnCount() - size);
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+
+        for (int row = 0; row < size; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                if (columnIndices[index] >= size) {
+                    rhs.setValue(row, columnIndices[index] - size, matrix.getValues()[index]);
+                }
+            }
+        }
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, decomposition.solve(rhs));
+    }
+
+    /**
+     * Solves a given gauss matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(GaussMatrix matrix) {
+        return solve(SparseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves the factored system for a given right-hand side.
+     *
+     * @param rhs The right-hand side values, left unchanged.
+     *
+     * @return The solution vector.
+     */
+    @Override
+    public double[] solve(double[] rhs) throws IllegalArgumentException, ArithmeticException {
+        if (rhs.length != size) {
+            String message = "The right-hand side has " + rhs.length + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+        if (singular) {
+            String message = "Cannot solve a system with a singular coefficient matrix.";
+            throw new ArithmeticException(message);
+        }
+
+        // Apply the ordering and the row pivots
+        double[] values = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            values[rowPivots[row]] = rhs[ordering[row]];
+        }
+
+        // Forward substitution with the unit lower triangular factor
+        for (int column = 0; column < size; column++) {
+            double value = values[column];
+
+            if (value != 0) {
+                for (int index = lowerPointers[column] + 1; index < lowerPointers[column + 1]; index++) {
+                    values[lowerRows[index]] -= lowerValues[index] * value;
+                }
+            }
+        }
+
+        // Back substitution with the upper triangular factor
+        for (int column = size - 1; column >= 0; column--) {
+            int diagonal = upperPointers[column + 1] - 1;
+            double value = values[column] / upperValues[diagonal];
+
+            values[column] = value;
+
+            if (value != 0) {
+                for (int index = upperPointers[column]; index < diagonal; index++) {
+                    values[upperRows[index]] -= upperValues[index] * value;
+                }
+            }
+        }
+
+        // Revert the ordering
+        double[] result = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            result[ordering[row]] = values[row];
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the coefficient matrix is singular.
+     *
+     * @return True if singular, false if not.
+     */
+    @Override
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * Gets the number of rows and columns of the coefficient matrix.
+     *
+     * @return The size of the factored matrix.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of values stored in both factors, including the diagonals.
+     *
+     * Comparing this with the number of non-zero coefficients shows the fill caused by the factorization.
+     *
+     * @return The number of stored values.
+     */
+    public int getFactorNonZeroCount() {
+        if (singular) {
+            return 0;
+        }
+
+        return lowerPointers[size] + upperPointers[size];
+    }
+
+    /**
+     * Factors the ordered coefficients.
+     *
+     * @param matrix The matrix to factor.
+     * @param pivotThreshold The fraction of the largest magnitude in a column the diagonal value needs to stay the
+     *                       pivot.
+     *
+     * @return True if the coefficient matrix is regular, false if it is singular.
+     */
+    private boolean factor(SparseMatrix matrix, double pivotThreshold) {
+        int[] columnPointers = new int[size + 1];
+        int[] rows = new int[countCoefficients(matrix)];
+        double[] values = new double[rows.length];
+        double tolerance = orderColumns(matrix, columnPointers, rows, values);
+
+        int capacity = 4 * rows.length + size;
+        lowerPointers = new int[size + 1];
+        lowerRows = new int[capacity];
+        lowerValues = new double[capacity];
+        upperPointers = new int[size + 1];
+        upperRows = new int[capacity];
+        upperValues = new double[capacity];
+
+        double[] work = new double[size];
+        int[] pattern = new int[size];
+        int[] stack = new int[size];
+        int[] positions = new int[size];
+        int[] marks = new int[size];
+        int lowerCount = 0;
+        int upperCount = 0;
+
+        Arrays.fill(rowPivots, -1);
+
+        for (int column = 0; column < size; column++) {
+            lowerPointers[column] = lowerCount;
+            upperPointers[column] = upperCount;
+
+            // Make sure the column fits into both factors
+            if (lowerCount + size > lowerRows.length) {
+                lowerRows = Arrays.copyOf(lowerRows, 2 * lowerRows.length + size);
+                lowerValues = Arrays.copyOf(lowerValues, lowerRows.length);
+            }
+            if (upperCount + size > upperRows.length) {
+                upperRows = Arrays.copyOf(upperRows, 2 * upperRows.length + size);
+                upperValues = Arrays.copyOf(upperValues, upperRows.length);
+            }
+
+            int top = solveLower(column, columnPointers, rows, values, work, pattern, stack, positions, marks);
+
+            // Find the pivot, values in pivotal rows belong to U
+            int pivotRow = -1;
+            double pivotMagnitude = -1;
+
+            for (int index = top; index < size; index++) {
+                int row = pattern[index];
+
+                if (rowPivots[row] < 0) {
+                    double magnitude = Math.abs(work[row]);
+
+                    if (magnitude > pivotMagnitude) {
+                        pivotRow = row;
+                        pivotMagnitude = magnitude;
+                    }
+                }
+                else {
+                    upperRows[upperCount] = rowPivots[row];
+                    upperValues[upperCount] = work[row];
+                    upperCount++;
+                }
+            }
+
+            if (pivotRow < 0 || pivotMagnitude <= tolerance) {
+                return false;
+            }
+
+            // Prefer the diagonal to keep the ordering
+            if (rowPivots[column] < 0 && Math.abs(work[column]) >= pivotThreshold * pivotMagnitude) {
+                pivotRow = column;
+            }
+
+            double pivot = work[pivotRow];
+
+            upperRows[upperCount] = column;
+            upperValues[upperCount] = pivot;
+            upperCount++;
+
+            rowPivots[pivotRow] = column;
+            lowerRows[lowerCount] = pivotRow;
+            lowerValues[lowerCount] = 1;
+            lowerCount++;
+
+            for (int index = top; index < size; index++) {
+                int row = pattern[index];
+
+                if (rowPivots[row] < 0) {
+                    lowerRows[lowerCount] = row;
+                    lowerValues[lowerCount] = work[row] / pivot;
+                    lowerCount++;
+                }
+
+                work[row] = 0;
+            }
+        }
+
+        lowerPointers[size] = lowerCount;
+        upperPointers[size] = upperCount;
+
+        // Number the rows of L by pivot step
+        for (int index = 0; index < lowerCount; index++) {
+            lowerRows[index] = rowPivots[lowerRows[index]];
+        }
+
+        lowerRows = Arrays.copyOf(lowerRows, lowerCount);
+        lowerValues = Arrays.copyOf(lowerValues, lowerCount);
+        upperRows = Arrays.copyOf(upperRows, upperCount);
+        upperValues = Arrays.copyOf(upperValues, upperCount);
+
+        return true;
+    }
+
+    /**
+     * Counts the values in the leading square coefficient columns of a given matrix.
+     *
+     * @param matrix The matrix to count the values of.
+     *
+     * @return The number of coefficients.
+     */
+    private int countCoefficients(SparseMatrix matrix) {
+        int count = 0;
+
+        for (int column : matrix.getColumnIndices()) {
+            if (column < size) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Applies the ordering to the coefficients of a given matrix and stores them column by column.
+     *
+     * @param matrix The matrix to order.
+     * @param columnPointers The array receiving the index of the first value of each column.
+     * @param rows The array receiving the row of each value.
+     * @param values The array receiving the values.
+     *
+     * @return The magnitude up to which pivots are considered zero.
+     */
+    private double orderColumns(SparseMatrix matrix, int[] columnPointers, int[] rows, double[] values) {
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] matrixValues = matrix.getValues();
+        int[] inverse = new int[size];
+        double maximum = 0;
+
+        for (int index = 0; index < size; index++) {
+            inverse[ordering[index]] = index;
+        }
+
+        for (int index = 0; index < columnIndices.length; index++) {
+            if (columnIndices[index] < size) {
+                columnPointers[inverse[columnIndices[index]] + 1]++;
+            }
+        }
+
+        for (int column = 0; column < size; column++) {
+            columnPointers[column + 1] += columnPointers[column];
+        }
+
+        int[] next = Arrays.copyOf(columnPointers, size);
+
+        for (int row = 0; row < size; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                if (columnIndices[index] < size) {
+                    int position = next[inverse[columnIndices[index]]]++;
+
+                    rows[position] = inverse[row];
+                    values[position] = matrixValues[index];
+                    maximum = Math.max(maximum, Math.abs(matrixValues[index]));
+                }
+            }
+        }
+
+        return Math.ulp(1.0) * size * maximum;
+    }
+
+    /**
+     * Solves L * x = b for a column b of the ordered coefficients, using only the columns of L found so far.
+     *
+     * The pattern of x is found first by a depth first search through the graph of L starting at the values of b,
+     * yielding the rows in topological order. Only those rows are then updated.
+     *
+     * @param column The column of the ordered coefficients to solve for.
+     * @param columnPointers The index of the first value of each ordered coefficient column.
+     * @param rows The row of each ordered coefficient.
+     * @param values The ordered coefficients.
+     * @param work The dense work vector, all zero, receiving x.
+     * @param pattern The array receiving the rows of x from the returned index on, in topological order.
+     * @param stack The work array for the search stack.
+     * @param positions The work array for the next neighbour of each node on the stack.
+     * @param marks The work array for the visited nodes.
+     *
+     * @return The index of the first row of x in the pattern.
+     */
+    private int solveLower(int column, int[] columnPointers, int[] rows, double[] values, double[] work,
+                           int[] pattern, int[] stack, int[] positions, int[] marks) {
+        int stamp = column + 1;
+        int top = size;
+
+        // Find the pattern of x
+        for (int index = columnPointers[column]; index < columnPointers[column + 1]; index++) {
+            if (marks[rows[index]] != stamp) {
+                top = search(rows[index], stamp, top, pattern, stack, positions, marks);
+            }
+        }
+
+        // Scatter b into the work vector
+        for (int index = columnPointers[column]; index < columnPointers[column + 1]; index++) {
+            work[rows[index]] += values[index];
+        }
+
+        // Eliminate with the columns of L in topological order
+        for (int index = top; index < size; index++) {
+            int row = pattern[index];
+            int step = rowPivots[row];
+
+            if (step < 0) {
+                continue;
+            }
+
+            double value = work[row];
+            if (value != 0) {
+                for (int position = lowerPointers[step] + 1; position < lowerPointers[step + 1]; position++) {
+                    work[lowerRows[position]] -= lowerValues[position] * value;
+                }
+            }
+        }
+
+        return top;
+    }
+
+    /**
+     * Performs an iterative depth first search through the graph of L from a given row.
+     *
+     * Rows are pushed to the pattern when all rows reachable from them are finished, so the pattern from the
+     * returned index on is in topological order.
+     *
+     * @param start The row to start at.
+     * @param stamp The value marking rows visited during this column.
+     * @param top The index of the first row in the pattern.
+     * @param pattern The array receiving the finished rows.
+     * @param stack The work array for the search stack.
+     * @param positions The work array for the next neighbour of each node on the stack.
+     * @param marks The work array for the visited nodes.
+     *
+     * @return The index of the first row in the pattern afterwards.
+     */
+    private int search(int start, int stamp, int top, int[] pattern, int[] stack, int[] positions, int[] marks) {
+        int head = 0;
+        stack[0] = start;
+
+        while (head >= 0) {
+            int row = stack[head];
+            int step = rowPivots[row];
+
+            if (marks[row] != stamp) {
+                marks[row] = stamp;
+                positions[head] = step < 0 ? 0 : lowerPointers[step] + 1;
+            }
+
+            boolean done = true;
+            int end = step < 0 ? 0 : lowerPointers[step + 1];
+
+            for (int position = positions[head]; position < end; position++) {
+                int next = lowerRows[position];
+
+                if (marks[next] != stamp) {
+                    positions[head] = position + 1;
+                    stack[++head] = next;
+                    done = false;
+                    break;
+                }
+            }
+
+            if (done) {
+                head--;
+                pattern[--top] = row;
+            }
+        }
+
+        return top;
+    }
+}
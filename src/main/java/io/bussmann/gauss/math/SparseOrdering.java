@@ -0,0 +1,48 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Sparse ordering.
+ *
+ * Determines the symmetric permutation applied to the rows and columns of a sparse matrix before it is factored. A
+ * good ordering keeps the factors sparse by reducing the number of values that become non-zero during elimination.
+ *
+ * @author Frederik Bußmann
+ */
+public enum SparseOrdering {
+    /**
+     * Keeps the rows and columns in their given order.
+     */
+    NATURAL,
+
+    /**
+     * Orders the rows and columns by the reverse Cuthill-McKee algorithm on the pattern of A + A^T, which reduces
+     * the bandwidth and with it the fill of the factors. Works best for matrices from grids and meshes.
+     */
+    REVERSE_CUTHILL_MCKEE,
+
+    /**
+     * Orders the rows and columns by an approximate minimum degree algorithm on the pattern of A + A^T, eliminating
+     * the variable causing the least fill first. Usually yields far less fill than reducing the bandwidth.
+     */
+    APPROXIMATE_MINIMUM_DEGREE;
+
+    /**
+     * Computes the permutation for the coefficient columns of a given matrix.
+     *
+     * @param matrix The matrix to order, only the leading square coefficient columns are used.
+     *
+     * @return The original index of each row and column in the new order.
+     */
+    public int[] order(SparseMatrix matrix) {
+        switch (this) {
+            case REVERSE_CUTHILL_MCKEE:
+                return ReverseCuthillMcKee.order(matrix);
+            case APPROXIMATE_MINIMUM_DEGREE:
+                return MinimumDegree.order(matrix);
+            default:
+                return GaussianElimination.createIdentityPermutation(matrix.getRowCount());
+        }
+    }
+}
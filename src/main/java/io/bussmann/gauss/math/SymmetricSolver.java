@@ -0,0 +1,75 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.SymmetricMatrix;
+
+/**
+ * Symmetric solver.
+ *
+ * Solves matrices with symmetric coefficients using only their lower triangle. A {@link CholeskyDecomposition} is
+ * tried first, if the matrix turns out not to be positive definite it is factored by an {@link LDLTDecomposition}
+ * instead. Matrices failing the symmetry check are solved by a {@link BlockedLUDecomposition}.
+ *
+ * @author Frederik Bußmann
+ */
+public final class SymmetricSolver {
+    /**
+     * Class constructor.
+     */
+    private SymmetricSolver() {
+    }
+
+    /**
+     * Factors the coefficients of a given matrix with the cheapest applicable decomposition.
+     *
+     * @param matrix The matrix to factor, only the leading square coefficient columns are used.
+     *
+     * @return The factorization.
+     */
+    public static Factorization factorize(DenseMatrix matrix) {
+        if (!SymmetricMatrix.isSymmetric(matrix)) {
+            return new BlockedLUDecomposition(matrix);
+        }
+
+        SymmetricMatrix symmetric = SymmetricMatrix.fromDenseMatrix(matrix);
+        CholeskyDecomposition cholesky = new CholeskyDecomposition(symmetric);
+
+        if (cholesky.isPositiveDefinite()) {
+            return cholesky;
+        }
+
+        return new LDLTDecomposition(symmetric);
+    }
+
+    /**
+     * Solves a given matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(GaussMatrix matrix) {
+        return solve(DenseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Solves a given matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve, left unchanged.
+     *
+     * @return The solution vectors and status.
+     */
+    public static GaussMatrixSolution solve(DenseMatrix matrix) {
+        Factorization factorization = factorize(matrix);
+
+        if (factorization.isSingular()) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        DenseMatrix rhs = GaussianElimination.extractAugmentedColumns(matrix);
+
+        return new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED, factorization.solve(rhs));
+    }
+}
@@ -0,0 +1,172 @@
+package io.bussmann.gauss.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector row operations.
+ *
+ * The range kernels of {@link RowOperations} written with the incubating vector API, processing as many values per
+ * instruction as the preferred species of the platform holds. The remaining values are processed one by one.
+ *
+ * Every lane performs the same operations in the same order as the scalar loops, in particular the subtraction
+ * multiplies and subtracts separately instead of using a fused multiply-add, so the results are bitwise identical.
+ *
+ * This class must only be loaded if the module jdk.incubator.vector is present, see {@link RowOperations}.
+ *
+ * @author Frederik Bußmann
+ */
+final class VectorRowOperations {
+    /**
+     * The preferred vector shape of the platform.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * The preferred vector shape of the platform for single precision values.
+     */
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    /**
+     * Class constructor.
+     */
+    private VectorRowOperations() {
+    }
+
+    /**
+     * Multiplies a range of values by a given scalar.
+     *
+     * @param data The values to act on.
+     * @param offset The index of the first value.
+     * @param length The number of values.
+     * @param scalar The scalar to multiply the values by.
+     */
+    static void multiply(double[] data, int offset, int length, double scalar) {
+        int end = offset + length;
+        int vectorEnd = offset + SPECIES.loopBound(length);
+        int index = offset;
+
+        for (; index < vectorEnd; index += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, data, index).mul(scalar).intoArray(data, index);
+        }
+
+        for (; index < end; index++) {
+            data[index] *= scalar;
+        }
+    }
+
+    /**
+     * Divides a range of values by a given, non-zero scalar.
+     *
+     * @param data The values to act on.
+     * @param offset The index of the first value.
+     * @param length The number of values.
+     * @param scalar The scalar to divide the values by.
+     */
+    static void divide(double[] data, int offset, int length, double scalar) {
+        int end = offset + length;
+        int vectorEnd = offset + SPECIES.loopBound(length);
+        int index = offset;
+
+        for (; index < vectorEnd; index += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, data, index).div(scalar).add(0.0).intoArray(data, index);
+        }
+
+        for (; index < end; index++) {
+            data[index] = data[index] / scalar + (double) 0;
+        }
+    }
+
+    /**
+     * Subtracts a multiple of a range of values from another, non-overlapping range of values.
+     *
+     * @param target The values to subtract from.
+     * @param targetOffset The index of the first value to subtract from.
+     * @param source The values to multiply and subtract, may be the same array as the target.
+     * @param sourceOffset The index of the first value to multiply and subtract.
+     * @param length The number of values.
+     * @param scalar The scalar to multiply the source values by.
+     */
+    static void subtract(double[] target, int targetOffset, double[] source, int sourceOffset, int length,
+                         double scalar) {
+        int vectorLength = SPECIES.loopBound(length);
+        int index = 0;
+
+        for (; index < vectorLength; index += SPECIES.length()) {
+            DoubleVector values = DoubleVector.fromArray(SPECIES, target, targetOffset + index);
+            DoubleVector products = DoubleVector.fromArray(SPECIES, source, sourceOffset + index).mul(scalar);
+
+            values.sub(products).intoArray(target, targetOffset + index);
+        }
+
+        for (; index < length; index++) {
+            target[targetOffset + index] -= source[sourceOffset + index] * scalar;
+        }
+    }
+
+    /**
+     * Subtracts the element-wise products of two ranges of values from another, non-overlapping range of values.
+     *
+     * Values whose factor is positive zero, the only value with all bits cleared, are left unchanged.
+     *
+     * @param target The values to subtract from.
+     * @param targetOffset The index of the first value to subtract from.
+     * @param factors The values to multiply the source values by, may be the same array as the target.
+     * @param factorOffset The index of the first factor.
+     * @param source The values to multiply and subtract, may be the same array as the target.
+     * @param sourceOffset The index of the first value to multiply and subtract.
+     * @param length The number of values.
+     */
+    static void subtractProducts(double[] target, int targetOffset, double[] factors, int factorOffset,
+                                 double[] source, int sourceOffset, int length) {
+        int vectorLength = SPECIES.loopBound(length);
+        int index = 0;
+
+        for (; index < vectorLength; index += SPECIES.length()) {
+            DoubleVector values = DoubleVector.fromArray(SPECIES, target, targetOffset + index);
+            DoubleVector factorValues = DoubleVector.fromArray(SPECIES, factors, factorOffset + index);
+            VectorMask<Double> mask = factorValues.reinterpretAsLongs().compare(VectorOperators.NE, 0).cast(SPECIES);
+            DoubleVector products = DoubleVector.fromArray(SPECIES, source, sourceOffset + index).mul(factorValues);
+
+            values.sub(products, mask).intoArray(target, targetOffset + index);
+        }
+
+        for (; index < length; index++) {
+            double factor = factors[factorOffset + index];
+
+            if (Double.doubleToRawLongBits(factor) != 0) {
+                target[targetOffset + index] -= source[sourceOffset + index] * factor;
+            }
+        }
+    }
+
+    /**
+     * Subtracts a multiple of a range of single precision values from another, non-overlapping range of values.
+     *
+     * @param target The values to subtract from.
+     * @param targetOffset The index of the first value to subtract from.
+     * @param source The values to multiply and subtract, may be the same array as the target.
+     * @param sourceOffset The index of the first value to multiply and subtract.
+     * @param length The number of values.
+     * @param scalar The scalar to multiply the source values by.
+     */
+    static void subtract(float[] target, int targetOffset, float[] source, int sourceOffset, int length,
+                         float scalar) {
+        int vectorLength = FLOAT_SPECIES.loopBound(length);
+        int index = 0;
+
+        for (; index < vectorLength; index += FLOAT_SPECIES.length()) {
+            FloatVector values = FloatVector.fromArray(FLOAT_SPECIES, target, targetOffset + index);
+            FloatVector products = FloatVector.fromArray(FLOAT_SPECIES, source, sourceOffset + index).mul(scalar);
+
+            values.sub(products).intoArray(target, targetOffset + index);
+        }
+
+        for (; index < length; index++) {
+            target[targetOffset + index] -= source[sourceOffset + index] * scalar;
+        }
+    }
+}
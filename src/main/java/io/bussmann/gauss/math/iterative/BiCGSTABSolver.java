@@ -0,0 +1,134 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+
+/**
+ * BiCGSTAB solver.
+ *
+ * Solves systems with general, non-symmetric matrices by the stabilized bi-conjugate gradient method of van der
+ * Vorst. Each iteration needs two products with the matrix and a constant number of vectors, the residual is smoothed
+ * by a minimizing step after each bi-conjugate gradient step.
+ *
+ * The iteration stops early without converging if the method breaks down, which happens when the shadow residual
+ * becomes orthogonal to the residual or the stabilizing step vanishes. A preconditioner is applied from the right,
+ * so the residuals are those of the original system.
+ *
+ * @author Frederik Bußmann
+ */
+public class BiCGSTABSolver extends KrylovSolver {
+    /**
+     * Class constructor.
+     *
+     * Uses the default tolerance and maximal number of iterations.
+     */
+    public BiCGSTABSolver() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations.
+     */
+    public BiCGSTABSolver(double tolerance, int maxIterations) throws IllegalArgumentException {
+        super(tolerance, maxIterations);
+    }
+
+    /**
+     * Iterates from a given initial approximation.
+     *
+     * @param operator The operator.
+     * @param rhs The right-hand side, left unchanged.
+     * @param solution The initial approximation, updated in place.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    @Override
+    protected GaussMatrixIterativeSolution iterate(LinearOperator operator, double[] rhs, double[] solution) {
+        int size = rhs.length;
+        double scale = scale(rhs);
+        double[] residual = new double[size];
+        double[] shadow = new double[size];
+        double[] direction = new double[size];
+        double[] preconditioned = new double[size];
+        double[] product = new double[size];
+        double[] intermediate = new double[size];
+        double[] preconditionedIntermediate = new double[size];
+        double[] stabilizer = new double[size];
+
+        calculateResidual(operator, rhs, solution, residual);
+        System.arraycopy(residual, 0, shadow, 0, size);
+
+        double relativeResidual = norm(residual) / scale;
+        double rho = 1;
+        double alpha = 1;
+        double omega = 1;
+
+        if (report(0, relativeResidual)) {
+            return createSolution(solution, 0, relativeResidual);
+        }
+
+        for (int iteration = 1; iteration <= getMaxIterations(); iteration++) {
+            double previousRho = rho;
+            rho = dot(shadow, residual);
+
+            if (rho == 0 || omega == 0) {
+                return createSolution(solution, iteration - 1, relativeResidual);
+            }
+
+            double beta = rho / previousRho * (alpha / omega);
+
+            for (int index = 0; index < size; index++) {
+                direction[index] = residual[index] + beta * (direction[index] - omega * product[index]);
+            }
+
+            precondition(direction, preconditioned);
+            operator.apply(preconditioned, product);
+
+            double denominator = dot(shadow, product);
+
+            if (denominator == 0) {
+                return createSolution(solution, iteration - 1, relativeResidual);
+            }
+
+            alpha = rho / denominator;
+
+            for (int index = 0; index < size; index++) {
+                intermediate[index] = residual[index] - alpha * product[index];
+            }
+
+            // Skip the stabilizing step if the intermediate residual is small enough already
+            double intermediateResidual = norm(intermediate) / scale;
+
+            if (intermediateResidual <= getTolerance()) {
+                for (int index = 0; index < size; index++) {
+                    solution[index] += alpha * preconditioned[index];
+                }
+
+                report(iteration, intermediateResidual);
+
+                return createSolution(solution, iteration, intermediateResidual);
+            }
+
+            precondition(intermediate, preconditionedIntermediate);
+            operator.apply(preconditionedIntermediate, stabilizer);
+
+            double stabilizerSquare = dot(stabilizer, stabilizer);
+            omega = stabilizerSquare == 0 ? 0 : dot(stabilizer, intermediate) / stabilizerSquare;
+
+            for (int index = 0; index < size; index++) {
+                solution[index] += alpha * preconditioned[index] + omega * preconditionedIntermediate[index];
+                residual[index] = intermediate[index] - omega * stabilizer[index];
+            }
+
+            relativeResidual = norm(residual) / scale;
+
+            if (report(iteration, relativeResidual)) {
+                return createSolution(solution, iteration, relativeResidual);
+            }
+        }
+
+        return createSolution(solution, getMaxIterations(), relativeResidual);
+    }
+}
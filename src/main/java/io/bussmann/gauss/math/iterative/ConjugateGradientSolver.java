@@ -0,0 +1,102 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+
+/**
+ * Conjugate gradient solver.
+ *
+ * Solves systems with symmetric positive definite matrices by minimizing the energy norm of the error over the
+ * growing Krylov space. Each iteration needs one product with the matrix and four vectors of memory, and the number
+ * of iterations grows with the square root of the condition number.
+ *
+ * The iteration stops early without converging if a search direction of non-positive curvature shows that the
+ * matrix is not positive definite. A preconditioner must be symmetric positive definite as well.
+ *
+ * @author Frederik Bußmann
+ */
+public class ConjugateGradientSolver extends KrylovSolver {
+    /**
+     * Class constructor.
+     *
+     * Uses the default tolerance and maximal number of iterations.
+     */
+    public ConjugateGradientSolver() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations.
+     */
+    public ConjugateGradientSolver(double tolerance, int maxIterations) throws IllegalArgumentException {
+        super(tolerance, maxIterations);
+    }
+
+    /**
+     * Iterates from a given initial approximation.
+     *
+     * @param operator The operator.
+     * @param rhs The right-hand side, left unchanged.
+     * @param solution The initial approximation, updated in place.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    @Override
+    protected GaussMatrixIterativeSolution iterate(LinearOperator operator, double[] rhs, double[] solution) {
+        int size = rhs.length;
+        double scale = scale(rhs);
+        double[] residual = new double[size];
+        double[] preconditioned = new double[size];
+        double[] direction = new double[size];
+        double[] product = new double[size];
+
+        calculateResidual(operator, rhs, solution, residual);
+        precondition(residual, preconditioned);
+        System.arraycopy(preconditioned, 0, direction, 0, size);
+
+        double residualProduct = dot(residual, preconditioned);
+        double relativeResidual = norm(residual) / scale;
+
+        if (report(0, relativeResidual)) {
+            return createSolution(solution, 0, relativeResidual);
+        }
+
+        for (int iteration = 1; iteration <= getMaxIterations(); iteration++) {
+            operator.apply(direction, product);
+
+            double curvature = dot(direction, product);
+
+            if (!(curvature > 0)) {
+                return createSolution(solution, iteration - 1, relativeResidual);
+            }
+
+            double alpha = residualProduct / curvature;
+
+            for (int index = 0; index < size; index++) {
+                solution[index] += alpha * direction[index];
+                residual[index] -= alpha * product[index];
+            }
+
+            relativeResidual = norm(residual) / scale;
+
+            if (report(iteration, relativeResidual)) {
+                return createSolution(solution, iteration, relativeResidual);
+            }
+
+            precondition(residual, preconditioned);
+
+            double previousProduct = residualProduct;
+            residualProduct = dot(residual, preconditioned);
+
+            double beta = residualProduct / previousProduct;
+
+            for (int index = 0; index < size; index++) {
+                direction[index] = preconditioned[index] + beta * direction[index];
+            }
+        }
+
+        return createSolution(solution, getMaxIterations(), relativeResidual);
+    }
+}
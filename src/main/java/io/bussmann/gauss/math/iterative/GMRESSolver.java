@@ -0,0 +1,208 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+
+import java.util.Arrays;
+
+/**
+ * GMRES solver.
+ *
+ * Solves systems with general matrices by the generalized minimal residual method, which minimizes the norm of the
+ * residual over the growing Krylov space. An orthonormal basis of the space is built by the Arnoldi process with
+ * modified Gram-Schmidt, the small least squares problem is kept triangular by Givens rotations, which also give the
+ * residual norm of every step for free.
+ *
+ * The basis grows by one vector per iteration, so the method is restarted from the current approximation after a
+ * fixed number of iterations, bounding the memory to that number of vectors. A preconditioner is applied from the
+ * right, so the residuals are those of the original system.
+ *
+ * @author Frederik Bußmann
+ */
+public class GMRESSolver extends KrylovSolver {
+    /**
+     * The default number of iterations between restarts.
+     */
+    public static final int DEFAULT_RESTART = 30;
+
+    /**
+     * The number of iterations between restarts.
+     */
+    private final int restart;
+
+    /**
+     * Class constructor.
+     *
+     * Uses the default tolerance, maximal number of iterations and restart.
+     */
+    public GMRESSolver() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, DEFAULT_RESTART);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations, summed over all restarts.
+     * @param restart The number of iterations between restarts.
+     */
+    public GMRESSolver(double tolerance, int maxIterations, int restart) throws IllegalArgumentException {
+        super(tolerance, maxIterations);
+
+        if (restart < 1) {
+            String message = "The restart must be positive, " + restart + " given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.restart = restart;
+    }
+
+    /**
+     * Iterates from a given initial approximation.
+     *
+     * @param operator The operator.
+     * @param rhs The right-hand side, left unchanged.
+     * @param solution The initial approximation, updated in place.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    @Override
+    protected GaussMatrixIterativeSolution iterate(LinearOperator operator, double[] rhs, double[] solution) {
+        int size = rhs.length;
+        int dimension = Math.min(restart, Math.max(size, 1));
+        double scale = scale(rhs);
+        double[][] basis = new double[dimension + 1][size];
+        double[][] hessenberg = new double[dimension + 1][dimension];
+        double[] cosines = new double[dimension];
+        double[] sines = new double[dimension];
+        double[] projection = new double[dimension + 1];
+        double[] work = new double[size];
+        double[] preconditioned = new double[size];
+        double[] combination = new double[size];
+
+        calculateResidual(operator, rhs, solution, work);
+
+        double relativeResidual = norm(work) / scale;
+        int iteration = 0;
+
+        if (report(0, relativeResidual)) {
+            return createSolution(solution, 0, relativeResidual);
+        }
+
+        while (iteration < getMaxIterations()) {
+            double residualNorm = norm(work);
+
+            for (int index = 0; index < size; index++) {
+                basis[0][index] = work[index] / residualNorm;
+            }
+
+            Arrays.fill(projection, 0);
+            projection[0] = residualNorm;
+
+            int steps = 0;
+
+            while (steps < dimension && iteration < getMaxIterations()) {
+                int step = steps;
+                double[] next = basis[step + 1];
+
+                // Arnoldi step with modified Gram-Schmidt
+                precondition(basis[step], preconditioned);
+                operator.apply(preconditioned, next);
+
+                for (int previous = 0; previous <= step; previous++) {
+                    double value = dot(next, basis[previous]);
+
+                    hessenberg[previous][step] = value;
+
+                    for (int index = 0; index < size; index++) {
+                        next[index] -= value * basis[previous][index];
+                    }
+                }
+
+                double length = norm(next);
+                hessenberg[step + 1][step] = length;
+
+                // Apply the previous rotations to the new column, then rotate away its subdiagonal value
+                for (int previous = 0; previous < step; previous++) {
+                    double upper = hessenberg[previous][step];
+                    double lower = hessenberg[previous + 1][step];
+
+                    hessenberg[previous][step] = cosines[previous] * upper + sines[previous] * lower;
+                    hessenberg[previous + 1][step] = -sines[previous] * upper + cosines[previous] * lower;
+                }
+
+                double diagonal = hessenberg[step][step];
+                double radius = Math.hypot(diagonal, length);
+
+                cosines[step] = radius == 0 ? 1 : diagonal / radius;
+                sines[step] = radius == 0 ? 0 : length / radius;
+                hessenberg[step][step] = radius;
+                hessenberg[step + 1][step] = 0;
+                projection[step + 1] = -sines[step] * projection[step];
+                projection[step] = cosines[step] * projection[step];
+
+                steps++;
+                iteration++;
+                relativeResidual = Math.abs(projection[step + 1]) / scale;
+
+                boolean converged = report(iteration, relativeResidual);
+
+                // A vanishing new basis vector means the solution lies in the current space
+                if (converged || length == 0) {
+                    break;
+                }
+
+                for (int index = 0; index < size; index++) {
+                    next[index] /= length;
+                }
+            }
+
+            combine(combination, basis, hessenberg, projection, steps);
+            precondition(combination, preconditioned);
+
+            for (int index = 0; index < size; index++) {
+                solution[index] += preconditioned[index];
+            }
+
+            calculateResidual(operator, rhs, solution, work);
+            relativeResidual = norm(work) / scale;
+
+            if (relativeResidual <= getTolerance()) {
+                break;
+            }
+        }
+
+        return createSolution(solution, iteration, relativeResidual);
+    }
+
+    /**
+     * Calculates the combination of the basis vectors minimizing the residual.
+     *
+     * @param result The vector to write the combination to.
+     * @param basis The orthonormal basis vectors.
+     * @param hessenberg The rotated, upper triangular Hessenberg matrix.
+     * @param projection The rotated projection of the initial residual.
+     * @param steps The number of basis vectors to combine.
+     */
+    private static void combine(double[] result, double[][] basis, double[][] hessenberg, double[] projection,
+                                int steps) {
+        double[] coefficients = new double[steps];
+
+        for (int row = steps - 1; row >= 0; row--) {
+            double sum = projection[row];
+
+            for (int column = row + 1; column < steps; column++) {
+                sum -= hessenberg[row][column] * coefficients[column];
+            }
+
+            coefficients[row] = hessenberg[row][row] == 0 ? 0 : sum / hessenberg[row][row];
+        }
+
+        Arrays.fill(result, 0);
+
+        for (int step = 0; step < steps; step++) {
+            for (int index = 0; index < result.length; index++) {
+                result[index] += coefficients[step] * basis[step][index];
+            }
+        }
+    }
+}
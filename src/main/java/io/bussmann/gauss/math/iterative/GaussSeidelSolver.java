@@ -0,0 +1,48 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Gauss-Seidel solver.
+ *
+ * Solves each equation for its diagonal variable using the values already updated in the current sweep, which
+ * usually converges about twice as fast as the Jacobi method and needs no second vector.
+ *
+ * @author Frederik Bußmann
+ */
+public class GaussSeidelSolver extends StationarySolver {
+    /**
+     * Class constructor.
+     *
+     * Uses the default tolerance and maximal number of iterations.
+     */
+    public GaussSeidelSolver() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations.
+     */
+    public GaussSeidelSolver(double tolerance, int maxIterations) throws IllegalArgumentException {
+        super(tolerance, maxIterations);
+    }
+
+    /**
+     * Improves the approximation by one forward sweep over all rows, updating it in place.
+     *
+     * @param matrix The matrix.
+     * @param diagonal The diagonal values of the matrix.
+     * @param rhs The right-hand side.
+     * @param solution The approximation, updated in place.
+     * @param work A vector of the size of the system to use freely.
+     */
+    @Override
+    protected void sweep(SparseMatrix matrix, double[] diagonal, double[] rhs, double[] solution, double[] work) {
+        for (int row = 0; row < solution.length; row++) {
+            solution[row] = eliminateOffDiagonal(matrix, row, rhs, solution) / diagonal[row];
+        }
+    }
+}
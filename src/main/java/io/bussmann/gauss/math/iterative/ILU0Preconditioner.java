@@ -0,0 +1,238 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.util.Arrays;
+
+/**
+ * ILU(0) preconditioner.
+ *
+ * Approximates the matrix by an incomplete LU factorization keeping exactly the non-zero pattern of the matrix. All
+ * fill-in outside the pattern is dropped, so the factors need no more memory than the matrix itself. The diagonal
+ * must be present in the pattern.
+ *
+ * @author Frederik Bußmann
+ */
+public class ILU0Preconditioner implements Preconditioner {
+    /**
+     * The number of rows and columns.
+     */
+    private final int size;
+
+    /**
+     * The row pointers of the factors.
+     */
+    private final int[] rowPointers;
+
+    /**
+     * The column indices of the factors.
+     */
+    private final int[] columnIndices;
+
+    /**
+     * The index of the diagonal value of each row.
+     */
+    private final int[] diagonalPointers;
+
+    /**
+     * The factors, L left of the diagonal with implicit unit diagonal and U on and right of it.
+     */
+    private final double[] values;
+
+    /**
+     * The time taken to build the preconditioner in nanoseconds.
+     */
+    private final long setupTime;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to factor, augmented columns are ignored.
+     */
+    public ILU0Preconditioner(SparseMatrix matrix) throws ArithmeticException {
+        long start = System.nanoTime();
+        SparseMatrix square = extractSquarePart(matrix);
+
+        size = square.getRowCount();
+        rowPointers = square.getRowPointers();
+        columnIndices = square.getColumnIndices();
+        values = square.getValues();
+        diagonalPointers = findDiagonalPointers(square);
+
+        factor();
+
+        setupTime = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the number of rows and columns of the preconditioner.
+     *
+     * @return The size of the preconditioner.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Solves with the incomplete factors by forward and back substitution.
+     *
+     * @param vector The vector to precondition, left unchanged.
+     * @param result The vector to write the result to.
+     */
+    @Override
+    public void apply(double[] vector, double[] result) {
+        for (int row = 0; row < size; row++) {
+            double sum = vector[row];
+
+            for (int index = rowPointers[row]; index < diagonalPointers[row]; index++) {
+                sum -= values[index] * result[columnIndices[index]];
+            }
+
+            result[row] = sum;
+        }
+
+        for (int row = size - 1; row >= 0; row--) {
+            double sum = result[row];
+
+            for (int index = diagonalPointers[row] + 1; index < rowPointers[row + 1]; index++) {
+                sum -= values[index] * result[columnIndices[index]];
+            }
+
+            result[row] = sum / values[diagonalPointers[row]];
+        }
+    }
+
+    /**
+     * Gets the time taken to build the preconditioner.
+     *
+     * @return The setup time in nanoseconds.
+     */
+    @Override
+    public long getSetupTime() {
+        return setupTime;
+    }
+
+    /**
+     * Gets the memory held by the preconditioner.
+     *
+     * @return The size of the stored values and indices in bytes.
+     */
+    @Override
+    public long getMemorySize() {
+        return (long) values.length * (Double.BYTES + Integer.BYTES) + (long) (size * 2 + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Factors the values in place, row by row, updating only values in the pattern.
+     */
+    private void factor() throws ArithmeticException {
+        // The position of each column in the current row, -1 if not in the pattern
+        int[] positions = new int[size];
+        Arrays.fill(positions, -1);
+
+        for (int row = 0; row < size; row++) {
+            int rowEnd = rowPointers[row + 1];
+
+            for (int index = rowPointers[row]; index < rowEnd; index++) {
+                positions[columnIndices[index]] = index;
+            }
+
+            for (int index = rowPointers[row]; index < diagonalPointers[row]; index++) {
+                int pivot = columnIndices[index];
+                double factor = values[index] / values[diagonalPointers[pivot]];
+
+                values[index] = factor;
+
+                for (int pivotIndex = diagonalPointers[pivot] + 1; pivotIndex < rowPointers[pivot + 1]; pivotIndex++) {
+                    int position = positions[columnIndices[pivotIndex]];
+
+                    if (position >= 0) {
+                        values[position] -= factor * values[pivotIndex];
+                    }
+                }
+            }
+
+            if (values[diagonalPointers[row]] == 0) {
+                String message = "The incomplete factorization has a zero pivot in row " + (row + 1) + ".";
+                throw new ArithmeticException(message);
+            }
+
+            for (int index = rowPointers[row]; index < rowEnd; index++) {
+                positions[columnIndices[index]] = -1;
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of the leading square part of a matrix, without the augmented columns.
+     *
+     * @param matrix The matrix.
+     *
+     * @return The square part.
+     */
+    static SparseMatrix extractSquarePart(SparseMatrix matrix) {
+        int size = matrix.getRowCount();
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] values = matrix.getValues();
+        int[] resultPointers = new int[size + 1];
+        int count = 0;
+
+        for (int row = 0; row < size; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                if (columnIndices[index] < size) {
+                    count++;
+                }
+            }
+
+            resultPointers[row + 1] = count;
+        }
+
+        int[] resultColumns = new int[count];
+        double[] resultValues = new double[count];
+        count = 0;
+
+        for (int row = 0; row < size; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                if (columnIndices[index] < size) {
+                    resultColumns[count] = columnIndices[index];
+                    resultValues[count++] = values[index];
+                }
+            }
+        }
+
+        return new SparseMatrix(size, size, resultPointers, resultColumns, resultValues);
+    }
+
+    /**
+     * Finds the index of the diagonal value of each row.
+     *
+     * @param matrix The square matrix.
+     *
+     * @return The indices of the diagonal values.
+     */
+    static int[] findDiagonalPointers(SparseMatrix matrix) throws ArithmeticException {
+        int size = matrix.getRowCount();
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        int[] result = new int[size];
+
+        for (int row = 0; row < size; row++) {
+            int index = rowPointers[row];
+
+            while (index < rowPointers[row + 1] && columnIndices[index] < row) {
+                index++;
+            }
+
+            if (index == rowPointers[row + 1] || columnIndices[index] != row) {
+                String message = "Cannot precondition with the zero diagonal value in row " + (row + 1) + ".";
+                throw new ArithmeticException(message);
+            }
+
+            result[row] = index;
+        }
+
+        return result;
+    }
+}
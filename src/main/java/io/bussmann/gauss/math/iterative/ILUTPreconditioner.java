@@ -0,0 +1,430 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+import java.util.Arrays;
+
+/**
+ * ILUT preconditioner.
+ *
+ * Approximates the matrix by an incomplete LU factorization with threshold dropping, ILUT(tau, p) by Saad. Each row
+ * is eliminated in full, then values smaller than tau times the norm of the original row are dropped, and of the
+ * remaining values only the p largest of L and of U are kept. Unlike ILU(0) the fill-in is chosen by magnitude, so
+ * the approximation adapts to the matrix and can be made as accurate as needed at the cost of memory and setup time.
+ *
+ * A diagonal value vanishing in the factorization is replaced by the drop tolerance of its row.
+ *
+ * @author Frederik Bußmann
+ */
+public class ILUTPreconditioner implements Preconditioner {
+    /**
+     * The default relative drop tolerance.
+     */
+    public static final double DEFAULT_DROP_TOLERANCE = 1e-3;
+
+    /**
+     * The default maximal number of values kept per row in each factor.
+     */
+    public static final int DEFAULT_FILL_LIMIT = 10;
+
+    /**
+     * The number of rows and columns.
+     */
+    private final int size;
+
+    /**
+     * The row pointers of L.
+     */
+    private final int[] lowerPointers;
+
+    /**
+     * The column indices of L.
+     */
+    private int[] lowerColumns;
+
+    /**
+     * The values of L below the implicit unit diagonal.
+     */
+    private double[] lowerValues;
+
+    /**
+     * The row pointers of U, without the diagonal.
+     */
+    private final int[] upperPointers;
+
+    /**
+     * The column indices of U, without the diagonal.
+     */
+    private int[] upperColumns;
+
+    /**
+     * The values of U right of the diagonal.
+     */
+    private double[] upperValues;
+
+    /**
+     * The diagonal values of U.
+     */
+    private final double[] diagonal;
+
+    /**
+     * The time taken to build the preconditioner in nanoseconds.
+     */
+    private final long setupTime;
+
+    /**
+     * Class constructor.
+     *
+     * Uses the default drop tolerance and fill limit.
+     *
+     * @param matrix The matrix to factor, augmented columns are ignored.
+     */
+    public ILUTPreconditioner(SparseMatrix matrix) throws ArithmeticException {
+        this(matrix, DEFAULT_DROP_TOLERANCE, DEFAULT_FILL_LIMIT);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to factor, augmented columns are ignored.
+     * @param dropTolerance The relative magnitude below which values are dropped, zero to drop none.
+     * @param fillLimit The maximal number of values kept per row in each factor.
+     */
+    public ILUTPreconditioner(SparseMatrix matrix, double dropTolerance, int fillLimit)
+            throws IllegalArgumentException, ArithmeticException {
+        if (!(dropTolerance >= 0) || fillLimit < 0) {
+            String message = "Cannot factor with drop tolerance " + dropTolerance + " and fill limit " + fillLimit
+                    + ".";
+            throw new IllegalArgumentException(message);
+        }
+
+        long start = System.nanoTime();
+
+        size = matrix.getRowCount();
+        lowerPointers = new int[size + 1];
+        upperPointers = new int[size + 1];
+        diagonal = new double[size];
+
+        int capacity = Math.max(matrix.getNonZeroCount(), 1);
+        lowerColumns = new int[capacity];
+        lowerValues = new double[capacity];
+        upperColumns = new int[capacity];
+        upperValues = new double[capacity];
+
+        factor(matrix, dropTolerance, fillLimit);
+
+        setupTime = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the number of rows and columns of the preconditioner.
+     *
+     * @return The size of the preconditioner.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Solves with the incomplete factors by forward and back substitution.
+     *
+     * @param vector The vector to precondition, left unchanged.
+     * @param result The vector to write the result to.
+     */
+    @Override
+    public void apply(double[] vector, double[] result) {
+        for (int row = 0; row < size; row++) {
+            double sum = vector[row];
+
+            for (int index = lowerPointers[row]; index < lowerPointers[row + 1]; index++) {
+                sum -= lowerValues[index] * result[lowerColumns[index]];
+            }
+
+            result[row] = sum;
+        }
+
+        for (int row = size - 1; row >= 0; row--) {
+            double sum = result[row];
+
+            for (int index = upperPointers[row]; index < upperPointers[row + 1]; index++) {
+                sum -= upperValues[index] * result[upperColumns[index]];
+            }
+
+            result[row] = sum / diagonal[row];
+        }
+    }
+
+    /**
+     * Gets the time taken to build the preconditioner.
+     *
+     * @return The setup time in nanoseconds.
+     */
+    @Override
+    public long getSetupTime() {
+        return setupTime;
+    }
+
+    /**
+     * Gets the memory held by the preconditioner.
+     *
+     * @return The size of the stored values and indices in bytes.
+     */
+    @Override
+    public long getMemorySize() {
+        long count = lowerPointers[size] + upperPointers[size];
+
+        return count * (Double.BYTES + Integer.BYTES) + (long) size * Double.BYTES
+                + (long) (size + 1) * 2 * Integer.BYTES;
+    }
+
+    /**
+     * Gets the number of values stored in both factors, including the diagonal.
+     *
+     * @return The number of stored values.
+     */
+    public int getNonZeroCount() {
+        return lowerPointers[size] + upperPointers[size] + size;
+    }
+
+    /**
+     * Factors the matrix row by row.
+     *
+     * @param matrix The matrix to factor.
+     * @param dropTolerance The relative magnitude below which values are dropped.
+     * @param fillLimit The maximal number of values kept per row in each factor.
+     */
+    private void factor(SparseMatrix matrix, double dropTolerance, int fillLimit) throws ArithmeticException {
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] values = matrix.getValues();
+
+        // The dense work row and the list of its non-zero columns, split into left and right of the diagonal
+        double[] work = new double[size];
+        boolean[] occupied = new boolean[size];
+        int[] lower = new int[size];
+        int[] upper = new int[size];
+        int[] keptColumns = new int[size];
+        double[] kept = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            int lowerCount = 0;
+            int upperCount = 0;
+            double norm = 0;
+
+            occupied[row] = true;
+
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                int column = columnIndices[index];
+
+                if (column >= size) {
+                    continue;
+                }
+
+                work[column] = values[index];
+                norm += values[index] * values[index];
+
+                if (column < row) {
+                    lower[lowerCount++] = column;
+                }
+                else if (column > row) {
+                    upper[upperCount++] = column;
+                }
+
+                occupied[column] = true;
+            }
+
+            double tolerance = dropTolerance * Math.sqrt(norm);
+            int keptCount = 0;
+
+            // Eliminate the values left of the diagonal in increasing column order
+            for (int processed = 0; processed < lowerCount; processed++) {
+                int minimum = processed;
+
+                for (int index = processed + 1; index < lowerCount; index++) {
+                    if (lower[index] < lower[minimum]) {
+                        minimum = index;
+                    }
+                }
+
+                int pivot = lower[minimum];
+                lower[minimum] = lower[processed];
+                lower[processed] = pivot;
+
+                double factor = work[pivot] / diagonal[pivot];
+                work[pivot] = factor;
+
+                if (Math.abs(factor) < tolerance || factor == 0) {
+                    continue;
+                }
+
+                keptColumns[keptCount] = pivot;
+                kept[keptCount++] = factor;
+
+                for (int index = upperPointers[pivot]; index < upperPointers[pivot + 1]; index++) {
+                    int column = upperColumns[index];
+
+                    if (!occupied[column]) {
+                        occupied[column] = true;
+                        work[column] = 0;
+
+                        if (column < row) {
+                            lower[lowerCount++] = column;
+                        }
+                        else {
+                            upper[upperCount++] = column;
+                        }
+                    }
+
+                    work[column] -= factor * upperValues[index];
+                }
+            }
+
+            // Store the largest values of L
+            int lowerKept = selectLargest(keptColumns, kept, keptCount, fillLimit);
+            ensureLowerCapacity(lowerPointers[row] + lowerKept);
+            System.arraycopy(keptColumns, 0, lowerColumns, lowerPointers[row], lowerKept);
+            System.arraycopy(kept, 0, lowerValues, lowerPointers[row], lowerKept);
+            lowerPointers[row + 1] = lowerPointers[row] + lowerKept;
+
+            // Store the diagonal and the largest values of U
+            double pivot = work[row];
+
+            if (pivot == 0) {
+                if (tolerance == 0) {
+                    String message = "The incomplete factorization has a zero pivot in row " + (row + 1) + ".";
+                    throw new ArithmeticException(message);
+                }
+
+                pivot = tolerance;
+            }
+
+            diagonal[row] = pivot;
+            keptCount = 0;
+
+            for (int index = 0; index < upperCount; index++) {
+                double value = work[upper[index]];
+
+                if (value != 0 && Math.abs(value) >= tolerance) {
+                    keptColumns[keptCount] = upper[index];
+                    kept[keptCount++] = value;
+                }
+            }
+
+            int upperKept = selectLargest(keptColumns, kept, keptCount, fillLimit);
+            ensureUpperCapacity(upperPointers[row] + upperKept);
+            System.arraycopy(keptColumns, 0, upperColumns, upperPointers[row], upperKept);
+            System.arraycopy(kept, 0, upperValues, upperPointers[row], upperKept);
+            upperPointers[row + 1] = upperPointers[row] + upperKept;
+
+            // Reset the work row
+            for (int index = 0; index < lowerCount; index++) {
+                occupied[lower[index]] = false;
+                work[lower[index]] = 0;
+            }
+            for (int index = 0; index < upperCount; index++) {
+                occupied[upper[index]] = false;
+                work[upper[index]] = 0;
+            }
+
+            occupied[row] = false;
+            work[row] = 0;
+        }
+    }
+
+    /**
+     * Moves the values with the largest magnitudes to the front, by quickselect.
+     *
+     * @param columns The columns of the values.
+     * @param values The values.
+     * @param count The number of values.
+     * @param limit The maximal number of values to keep.
+     *
+     * @return The number of values kept at the front.
+     */
+    private static int selectLargest(int[] columns, double[] values, int count, int limit) {
+        if (count <= limit) {
+            return count;
+        }
+
+        int from = 0;
+        int to = count - 1;
+
+        while (from < to) {
+            double pivot = Math.abs(values[(from + to) >>> 1]);
+            int left = from;
+            int right = to;
+
+            while (left <= right) {
+                while (Math.abs(values[left]) > pivot) {
+                    left++;
+                }
+                while (Math.abs(values[right]) < pivot) {
+                    right--;
+                }
+
+                if (left <= right) {
+                    swap(columns, values, left++, right--);
+                }
+            }
+
+            if (limit - 1 <= right) {
+                to = right;
+            }
+            else if (limit - 1 >= left) {
+                from = left;
+            }
+            else {
+                break;
+            }
+        }
+
+        return limit;
+    }
+
+    /**
+     * Swaps two values and their columns.
+     *
+     * @param columns The columns of the values.
+     * @param values The values.
+     * @param one The index to swap.
+     * @param two The index to swap with.
+     */
+    private static void swap(int[] columns, double[] values, int one, int two) {
+        int column = columns[one];
+        columns[one] = columns[two];
+        columns[two] = column;
+
+        double value = values[one];
+        values[one] = values[two];
+        values[two] = value;
+    }
+
+    /**
+     * Grows the storage of L to hold at least a given number of values.
+     *
+     * @param capacity The number of values to hold.
+     */
+    private void ensureLowerCapacity(int capacity) {
+        if (capacity > lowerColumns.length) {
+            int length = Math.max(capacity, lowerColumns.length * 2);
+
+            lowerColumns = Arrays.copyOf(lowerColumns, length);
+            lowerValues = Arrays.copyOf(lowerValues, length);
+        }
+    }
+
+    /**
+     * Grows the storage of U to hold at least a given number of values.
+     *
+     * @param capacity The number of values to hold.
+     */
+    private void ensureUpperCapacity(int capacity) {
+        if (capacity > upperColumns.length) {
+            int length = Math.max(capacity, upperColumns.length * 2);
+
+            upperColumns = Arrays.copyOf(upperColumns, length);
+            upperValues = Arrays.copyOf(upperValues, length);
+        }
+    }
+}
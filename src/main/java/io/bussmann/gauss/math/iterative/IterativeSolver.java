@@ -0,0 +1,231 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Iterative solver.
+ *
+ * Base class of the solvers approximating the solution step by step instead of eliminating. They only need the
+ * products of the matrix with vectors, or its rows, and a few vectors of memory, so they solve large sparse systems
+ * no direct method can fit. The iteration stops once the norm of the residual b - A * x relative to the norm of the
+ * right-hand side b drops to the tolerance, or after the maximal number of iterations.
+ *
+ * @author Frederik Bußmann
+ */
+public abstract class IterativeSolver {
+    /**
+     * The default relative residual to stop at.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+
+    /**
+     * The default maximal number of iterations.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 10000;
+
+    /**
+     * The relative residual to stop at.
+     */
+    private final double tolerance;
+
+    /**
+     * The maximal number of iterations.
+     */
+    private final int maxIterations;
+
+    /**
+     * The listener to report the residuals to, or null.
+     */
+    private ResidualListener listener;
+
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations.
+     */
+    protected IterativeSolver(double tolerance, int maxIterations) throws IllegalArgumentException {
+        if (!(tolerance > 0) || maxIterations < 0) {
+            String message = "Cannot iterate with tolerance " + tolerance + " and at most " + maxIterations
+                    + " iterations.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Solves a given matrix, using its augmented columns as right-hand sides.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution vectors, status and convergence.
+     */
+    public GaussMatrixIterativeSolution solve(GaussMatrix matrix) {
+        SparseMatrix sparse = SparseMatrix.fromGaussMatrix(matrix);
+        int size = sparse.getRowCount();
+        int solutionCount = sparse.getColumnCount() - size;
+        DenseMatrix values = new DenseMatrix(size, solutionCount);
+        boolean converged = true;
+        int iterationCount = 0;
+        double relativeResidual = 0;
+
+        for (int column = 0; column < solutionCount; column++) {
+            double[] rhs = new double[size];
+
+            for (int row = 0; row < size; row++) {
+                rhs[row] = sparse.getValue(row, size + column);
+            }
+
+            GaussMatrixIterativeSolution solution = solve(sparse, rhs);
+
+            for (int row = 0; row < size; row++) {
+                values.setValue(row, column, solution.getValue(row));
+            }
+
+            converged &= solution.isConverged();
+            iterationCount += solution.getIterationCount();
+            relativeResidual = Math.max(relativeResidual, solution.getRelativeResidual());
+        }
+
+        GaussMatrixSolution.Status status = converged ? GaussMatrixSolution.Status.SOLVED
+                : GaussMatrixSolution.Status.INVALID;
+
+        return new GaussMatrixIterativeSolution(status, values, iterationCount, relativeResidual);
+    }
+
+    /**
+     * Solves the system of a given sparse matrix for a given right-hand side, starting at zero.
+     *
+     * @param matrix The matrix, augmented columns are ignored.
+     * @param rhs The right-hand side, left unchanged.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    public abstract GaussMatrixIterativeSolution solve(SparseMatrix matrix, double[] rhs);
+
+    /**
+     * Sets the listener to report the residual to after each iteration.
+     *
+     * @param listener The listener, or null to report to none.
+     */
+    public void setListener(ResidualListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Gets the relative residual to stop at.
+     *
+     * @return The tolerance.
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Gets the maximal number of iterations.
+     *
+     * @return The maximal number of iterations.
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Reports the residual of an iteration to the listener and checks for convergence.
+     *
+     * @param iteration The number of iterations performed so far.
+     * @param relativeResidual The norm of the residual relative to the norm of the right-hand side.
+     *
+     * @return True if the tolerance is reached, false if not.
+     */
+    protected boolean report(int iteration, double relativeResidual) {
+        if (listener != null) {
+            listener.onIteration(iteration, relativeResidual);
+        }
+
+        return relativeResidual <= tolerance;
+    }
+
+    /**
+     * Creates the solution for a single right-hand side.
+     *
+     * @param values The solution vector.
+     * @param iterationCount The number of iterations performed.
+     * @param relativeResidual The norm of the residual relative to the norm of the right-hand side.
+     *
+     * @return The solution, solved if the tolerance is reached.
+     */
+    protected GaussMatrixIterativeSolution createSolution(double[] values, int iterationCount,
+                                                          double relativeResidual) {
+        GaussMatrixSolution.Status status = relativeResidual <= tolerance ? GaussMatrixSolution.Status.SOLVED
+                : GaussMatrixSolution.Status.INVALID;
+
+        return new GaussMatrixIterativeSolution(status, new DenseMatrix(values.length, 1, values), iterationCount,
+                relativeResidual);
+    }
+
+    /**
+     * Calculates the residual b - A * x.
+     *
+     * @param operator The operator A.
+     * @param rhs The right-hand side b.
+     * @param solution The approximation x.
+     * @param result The vector to write the residual to.
+     */
+    protected static void calculateResidual(LinearOperator operator, double[] rhs, double[] solution,
+                                            double[] result) {
+        operator.apply(solution, result);
+
+        for (int index = 0; index < rhs.length; index++) {
+            result[index] = rhs[index] - result[index];
+        }
+    }
+
+    /**
+     * Calculates the dot product of two vectors.
+     *
+     * @param vector1 The first vector.
+     * @param vector2 The second vector.
+     *
+     * @return The dot product.
+     */
+    protected static double dot(double[] vector1, double[] vector2) {
+        double result = 0;
+
+        for (int index = 0; index < vector1.length; index++) {
+            result += vector1[index] * vector2[index];
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates the euclidean norm of a vector.
+     *
+     * @param vector The vector.
+     *
+     * @return The norm.
+     */
+    protected static double norm(double[] vector) {
+        return Math.sqrt(dot(vector, vector));
+    }
+
+    /**
+     * Calculates the norm of the right-hand side to divide residuals by, one for a zero right-hand side.
+     *
+     * @param rhs The right-hand side.
+     *
+     * @return The norm to divide by.
+     */
+    protected static double scale(double[] rhs) {
+        double result = norm(rhs);
+
+        return result == 0 ? 1 : result;
+    }
+}
@@ -0,0 +1,91 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Jacobi preconditioner.
+ *
+ * Approximates the matrix by its diagonal. It is as cheap as a preconditioner can be and removes the effect of badly
+ * scaled rows, but does nothing about the coupling between the variables.
+ *
+ * @author Frederik Bußmann
+ */
+public class JacobiPreconditioner implements Preconditioner {
+    /**
+     * The inverses of the diagonal values.
+     */
+    private final double[] inverseDiagonal;
+
+    /**
+     * The time taken to build the preconditioner in nanoseconds.
+     */
+    private final long setupTime;
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to approximate, augmented columns are ignored.
+     */
+    public JacobiPreconditioner(SparseMatrix matrix) throws ArithmeticException {
+        long start = System.nanoTime();
+        int size = matrix.getRowCount();
+
+        inverseDiagonal = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            double value = matrix.getValue(row, row);
+
+            if (value == 0) {
+                String message = "Cannot precondition with the zero diagonal value in row " + (row + 1) + ".";
+                throw new ArithmeticException(message);
+            }
+
+            inverseDiagonal[row] = 1 / value;
+        }
+
+        setupTime = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the number of rows and columns of the preconditioner.
+     *
+     * @return The size of the preconditioner.
+     */
+    @Override
+    public int getSize() {
+        return inverseDiagonal.length;
+    }
+
+    /**
+     * Divides a vector by the diagonal values.
+     *
+     * @param vector The vector to precondition, left unchanged.
+     * @param result The vector to write the result to.
+     */
+    @Override
+    public void apply(double[] vector, double[] result) {
+        for (int index = 0; index < inverseDiagonal.length; index++) {
+            result[index] = vector[index] * inverseDiagonal[index];
+        }
+    }
+
+    /**
+     * Gets the time taken to build the preconditioner.
+     *
+     * @return The setup time in nanoseconds.
+     */
+    @Override
+    public long getSetupTime() {
+        return setupTime;
+    }
+
+    /**
+     * Gets the memory held by the preconditioner.
+     *
+     * @return The size of the stored values in bytes.
+     */
+    @Override
+    public long getMemorySize() {
+        return (long) inverseDiagonal.length * Double.BYTES;
+    }
+}
@@ -0,0 +1,50 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Jacobi solver.
+ *
+ * Solves each equation for its diagonal variable using only the values of the previous approximation, so all rows
+ * of a sweep are independent of each other.
+ *
+ * @author Frederik Bußmann
+ */
+public class JacobiSolver extends StationarySolver {
+    /**
+     * Class constructor.
+     *
+     * Uses the default tolerance and maximal number of iterations.
+     */
+    public JacobiSolver() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations.
+     */
+    public JacobiSolver(double tolerance, int maxIterations) throws IllegalArgumentException {
+        super(tolerance, maxIterations);
+    }
+
+    /**
+     * Improves the approximation by one sweep over all rows, reading only the previous approximation.
+     *
+     * @param matrix The matrix.
+     * @param diagonal The diagonal values of the matrix.
+     * @param rhs The right-hand side.
+     * @param solution The approximation, updated in place.
+     * @param work A vector of the size of the system to use freely.
+     */
+    @Override
+    protected void sweep(SparseMatrix matrix, double[] diagonal, double[] rhs, double[] solution, double[] work) {
+        for (int row = 0; row < solution.length; row++) {
+            work[row] = eliminateOffDiagonal(matrix, row, rhs, solution) / diagonal[row];
+        }
+
+        System.arraycopy(work, 0, solution, 0, solution.length);
+    }
+}
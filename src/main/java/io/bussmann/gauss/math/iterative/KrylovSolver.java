@@ -0,0 +1,112 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Krylov solver.
+ *
+ * Base class of the iterative solvers building their approximations from the Krylov space spanned by the repeated
+ * products of the matrix with the initial residual. They need nothing but these products, so they also accept any
+ * {@link LinearOperator}.
+ *
+ * A {@link Preconditioner} can be set to iterate on the preconditioned system instead, the reported residuals are
+ * always those of the original system.
+ *
+ * @author Frederik Bußmann
+ */
+public abstract class KrylovSolver extends IterativeSolver {
+    /**
+     * The preconditioner, or null to iterate on the original system.
+     */
+    private Preconditioner preconditioner;
+
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations.
+     */
+    protected KrylovSolver(double tolerance, int maxIterations) throws IllegalArgumentException {
+        super(tolerance, maxIterations);
+    }
+
+    /**
+     * Solves the system of a given sparse matrix for a given right-hand side, starting at zero.
+     *
+     * @param matrix The matrix, augmented columns are ignored.
+     * @param rhs The right-hand side, left unchanged.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    @Override
+    public GaussMatrixIterativeSolution solve(SparseMatrix matrix, double[] rhs) {
+        return solve(LinearOperator.of(matrix), rhs);
+    }
+
+    /**
+     * Solves the system of a given operator for a given right-hand side, starting at zero.
+     *
+     * @param operator The operator.
+     * @param rhs The right-hand side, left unchanged.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    public GaussMatrixIterativeSolution solve(LinearOperator operator, double[] rhs) throws IllegalArgumentException {
+        if (rhs.length != operator.getSize()) {
+            String message = "The right-hand side has " + rhs.length + " rows, " + operator.getSize() + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+        if (preconditioner != null && preconditioner.getSize() != operator.getSize()) {
+            String message = "The preconditioner has size " + preconditioner.getSize() + ", " + operator.getSize()
+                    + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return iterate(operator, rhs, new double[rhs.length]);
+    }
+
+    /**
+     * Sets the preconditioner to iterate with.
+     *
+     * @param preconditioner The preconditioner, or null to iterate on the original system.
+     */
+    public void setPreconditioner(Preconditioner preconditioner) {
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * Gets the preconditioner to iterate with.
+     *
+     * @return The preconditioner, or null if none is set.
+     */
+    public Preconditioner getPreconditioner() {
+        return preconditioner;
+    }
+
+    /**
+     * Applies the preconditioner to a vector, or copies it if none is set.
+     *
+     * @param vector The vector to precondition, left unchanged.
+     * @param result The vector to write the result to.
+     */
+    protected void precondition(double[] vector, double[] result) {
+        if (preconditioner == null) {
+            System.arraycopy(vector, 0, result, 0, vector.length);
+        }
+        else {
+            preconditioner.apply(vector, result);
+        }
+    }
+
+    /**
+     * Iterates from a given initial approximation.
+     *
+     * @param operator The operator.
+     * @param rhs The right-hand side, left unchanged.
+     * @param solution The initial approximation, updated in place.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    protected abstract GaussMatrixIterativeSolution iterate(LinearOperator operator, double[] rhs, double[] solution);
+}
@@ -0,0 +1,83 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Linear operator.
+ *
+ * A square matrix known only by its product with vectors. The Krylov solvers need nothing else, so systems can be
+ * solved whose matrix is never stored, or is stored in any format.
+ *
+ * @author Frederik Bußmann
+ */
+public interface LinearOperator {
+    /**
+     * Gets the number of rows and columns of the operator.
+     *
+     * @return The size of the operator.
+     */
+    int getSize();
+
+    /**
+     * Multiplies the operator with a given vector.
+     *
+     * @param vector The vector to multiply, left unchanged.
+     * @param result The vector to write the product to, not the same array as the vector.
+     */
+    void apply(double[] vector, double[] result);
+
+    /**
+     * Creates an operator multiplying with the leading square part of a given sparse matrix.
+     *
+     * @param matrix The matrix, augmented columns are ignored.
+     *
+     * @return The operator.
+     */
+    static LinearOperator of(SparseMatrix matrix) {
+        return new LinearOperator() {
+            @Override
+            public int getSize() {
+                return matrix.getRowCount();
+            }
+
+            @Override
+            public void apply(double[] vector, double[] result) {
+                matrix.multiply(vector, result);
+            }
+        };
+    }
+
+    /**
+     * Creates an operator multiplying with the leading square part of a given dense matrix.
+     *
+     * @param matrix The matrix, augmented columns are ignored.
+     *
+     * @return The operator.
+     */
+    static LinearOperator of(DenseMatrix matrix) {
+        return new LinearOperator() {
+            @Override
+            public int getSize() {
+                return matrix.getRowCount();
+            }
+
+            @Override
+            public void apply(double[] vector, double[] result) {
+                double[] data = matrix.getData();
+                int size = matrix.getRowCount();
+
+                for (int row = 0; row < size; row++) {
+                    int offset = row * matrix.getStride();
+                    double sum = 0;
+
+                    for (int column = 0; column < size; column++) {
+                        sum += data[offset + column] * vector[column];
+                    }
+
+                    result[row] = sum;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package io.bussmann.gauss.math.iterative;
+
+/**
+ * Preconditioner.
+ *
+ * An approximation M of a matrix A whose systems are cheap to solve. A Krylov solver iterating on the preconditioned
+ * system converges in far fewer iterations the closer M^-1 * A is to the identity, but every iteration also pays for
+ * applying M^-1. The setup time and memory are reported, so the cost of building a preconditioner can be weighed
+ * against the iterations it saves.
+ *
+ * The preconditioners are built from a {@link io.bussmann.gauss.types.SparseMatrix}, dense and gauss matrices can be
+ * converted with its factory methods.
+ *
+ * @author Frederik Bußmann
+ */
+public interface Preconditioner {
+    /**
+     * Gets the number of rows and columns of the preconditioner.
+     *
+     * @return The size of the preconditioner.
+     */
+    int getSize();
+
+    /**
+     * Solves the system of the preconditioner, calculating M^-1 * vector.
+     *
+     * @param vector The vector to precondition, left unchanged.
+     * @param result The vector to write the result to, not the same array as the vector.
+     */
+    void apply(double[] vector, double[] result);
+
+    /**
+     * Gets the time taken to build the preconditioner.
+     *
+     * @return The setup time in nanoseconds.
+     */
+    long getSetupTime();
+
+    /**
+     * Gets the memory held by the preconditioner.
+     *
+     * @return The approximate size of the stored values and indices in bytes.
+     */
+    long getMemorySize();
+}
@@ -0,0 +1,19 @@
+package io.bussmann.gauss.math.iterative;
+
+/**
+ * Residual listener.
+ *
+ * Receives the residual of an iterative solver after each iteration, for example to log or plot the convergence.
+ *
+ * @author Frederik Bußmann
+ */
+@FunctionalInterface
+public interface ResidualListener {
+    /**
+     * Called after each iteration, and once with iteration 0 for the initial residual.
+     *
+     * @param iteration The number of iterations performed so far.
+     * @param relativeResidual The norm of the residual relative to the norm of the right-hand side.
+     */
+    void onIteration(int iteration, double relativeResidual);
+}
@@ -0,0 +1,154 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * SSOR preconditioner.
+ *
+ * Approximates the matrix by one symmetric successive over-relaxation sweep, a forward followed by a backward
+ * Gauss-Seidel sweep with relaxation factor omega: M = (D + omega * L) * D^-1 * (D + omega * U) / (omega * (2 -
+ * omega)). It needs no setup besides the diagonal and keeps symmetric matrices symmetric, so it also suits the
+ * conjugate gradient solver.
+ *
+ * @author Frederik Bußmann
+ */
+public class SSORPreconditioner implements Preconditioner {
+    /**
+     * The default relaxation factor, giving a symmetric Gauss-Seidel sweep.
+     */
+    public static final double DEFAULT_OMEGA = 1.0;
+
+    /**
+     * The leading square part of the matrix.
+     */
+    private final SparseMatrix matrix;
+
+    /**
+     * The index of the diagonal value of each row.
+     */
+    private final int[] diagonalPointers;
+
+    /**
+     * The relaxation factor.
+     */
+    private final double omega;
+
+    /**
+     * The time taken to build the preconditioner in nanoseconds.
+     */
+    private final long setupTime;
+
+    /**
+     * Class constructor.
+     *
+     * Uses the default relaxation factor.
+     *
+     * @param matrix The matrix to approximate, augmented columns are ignored.
+     */
+    public SSORPreconditioner(SparseMatrix matrix) throws ArithmeticException {
+        this(matrix, DEFAULT_OMEGA);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to approximate, augmented columns are ignored.
+     * @param omega The relaxation factor, between 0 and 2.
+     */
+    public SSORPreconditioner(SparseMatrix matrix, double omega) throws IllegalArgumentException, ArithmeticException {
+        if (!(omega > 0 && omega < 2)) {
+            String message = "The relaxation factor must be between 0 and 2, " + omega + " given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        long start = System.nanoTime();
+
+        this.matrix = ILU0Preconditioner.extractSquarePart(matrix);
+        this.omega = omega;
+
+        diagonalPointers = ILU0Preconditioner.findDiagonalPointers(this.matrix);
+
+        for (int row = 0; row < diagonalPointers.length; row++) {
+            if (this.matrix.getValues()[diagonalPointers[row]] == 0) {
+                String message = "Cannot precondition with the zero diagonal value in row " + (row + 1) + ".";
+                throw new ArithmeticException(message);
+            }
+        }
+
+        setupTime = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the number of rows and columns of the preconditioner.
+     *
+     * @return The size of the preconditioner.
+     */
+    @Override
+    public int getSize() {
+        return diagonalPointers.length;
+    }
+
+    /**
+     * Performs a forward and a backward relaxed sweep.
+     *
+     * @param vector The vector to precondition, left unchanged.
+     * @param result The vector to write the result to.
+     */
+    @Override
+    public void apply(double[] vector, double[] result) {
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] values = matrix.getValues();
+        int size = diagonalPointers.length;
+
+        // Solve (D + omega * L) * y = vector
+        for (int row = 0; row < size; row++) {
+            double sum = vector[row];
+
+            for (int index = rowPointers[row]; index < diagonalPointers[row]; index++) {
+                sum -= omega * values[index] * result[columnIndices[index]];
+            }
+
+            result[row] = sum / values[diagonalPointers[row]];
+        }
+
+        // Solve (D + omega * U) * z = D * y, then scale
+        for (int row = size - 1; row >= 0; row--) {
+            double diagonal = values[diagonalPointers[row]];
+            double sum = diagonal * result[row];
+
+            for (int index = diagonalPointers[row] + 1; index < rowPointers[row + 1]; index++) {
+                sum -= omega * values[index] * result[columnIndices[index]];
+            }
+
+            result[row] = sum / diagonal;
+        }
+
+        double factor = omega * (2 - omega);
+
+        for (int row = 0; row < size; row++) {
+            result[row] *= factor;
+        }
+    }
+
+    /**
+     * Gets the time taken to build the preconditioner.
+     *
+     * @return The setup time in nanoseconds.
+     */
+    @Override
+    public long getSetupTime() {
+        return setupTime;
+    }
+
+    /**
+     * Gets the memory held by the preconditioner.
+     *
+     * @return The size of the stored values and indices in bytes.
+     */
+    @Override
+    public long getMemorySize() {
+        return (long) matrix.getNonZeroCount() * (Double.BYTES + Integer.BYTES)
+                + (long) (getSize() * 2 + 1) * Integer.BYTES;
+    }
+}
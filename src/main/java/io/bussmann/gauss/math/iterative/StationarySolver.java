@@ -0,0 +1,119 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+
+/**
+ * Stationary solver.
+ *
+ * Base class of the classical iterative solvers, which improve the approximation by sweeping over the rows of the
+ * matrix and solving each equation for its diagonal variable. They converge for strictly diagonally dominant
+ * matrices, and the Gauss-Seidel method also for symmetric positive definite ones, but usually much slower than the
+ * Krylov solvers.
+ *
+ * @author Frederik Bußmann
+ */
+public abstract class StationarySolver extends IterativeSolver {
+    /**
+     * Class constructor.
+     *
+     * @param tolerance The relative residual to stop at.
+     * @param maxIterations The maximal number of iterations.
+     */
+    protected StationarySolver(double tolerance, int maxIterations) throws IllegalArgumentException {
+        super(tolerance, maxIterations);
+    }
+
+    /**
+     * Solves the system of a given sparse matrix for a given right-hand side, starting at zero.
+     *
+     * @param matrix The matrix, augmented columns are ignored.
+     * @param rhs The right-hand side, left unchanged.
+     *
+     * @return The solution vector, status and convergence.
+     */
+    @Override
+    public GaussMatrixIterativeSolution solve(SparseMatrix matrix, double[] rhs)
+            throws IllegalArgumentException, ArithmeticException {
+        int size = matrix.getRowCount();
+
+        if (rhs.length != size) {
+            String message = "The right-hand side has " + rhs.length + " rows, " + size + " expected.";
+            throw new IllegalArgumentException(message);
+        }
+
+        double[] diagonal = new double[size];
+
+        for (int row = 0; row < size; row++) {
+            diagonal[row] = matrix.getValue(row, row);
+
+            if (diagonal[row] == 0) {
+                String message = "Cannot iterate with the zero diagonal value in row " + (row + 1) + ".";
+                throw new ArithmeticException(message);
+            }
+        }
+
+        LinearOperator operator = LinearOperator.of(matrix);
+        double[] solution = new double[size];
+        double[] work = new double[size];
+        double scale = scale(rhs);
+        double relativeResidual = norm(rhs) / scale;
+
+        if (report(0, relativeResidual)) {
+            return createSolution(solution, 0, relativeResidual);
+        }
+
+        for (int iteration = 1; iteration <= getMaxIterations(); iteration++) {
+            sweep(matrix, diagonal, rhs, solution, work);
+
+            calculateResidual(operator, rhs, solution, work);
+            relativeResidual = norm(work) / scale;
+
+            if (report(iteration, relativeResidual)) {
+                return createSolution(solution, iteration, relativeResidual);
+            }
+        }
+
+        return createSolution(solution, getMaxIterations(), relativeResidual);
+    }
+
+    /**
+     * Improves the approximation by one sweep over all rows.
+     *
+     * @param matrix The matrix.
+     * @param diagonal The diagonal values of the matrix.
+     * @param rhs The right-hand side.
+     * @param solution The approximation, updated in place.
+     * @param work A vector of the size of the system to use freely.
+     */
+    protected abstract void sweep(SparseMatrix matrix, double[] diagonal, double[] rhs, double[] solution,
+                                  double[] work);
+
+    /**
+     * Calculates the right-hand side of a row minus the products of its off-diagonal values and the approximation.
+     *
+     * @param matrix The matrix.
+     * @param row The row.
+     * @param rhs The right-hand side.
+     * @param solution The approximation.
+     *
+     * @return The remaining right-hand side of the row.
+     */
+    static double eliminateOffDiagonal(SparseMatrix matrix, int row, double[] rhs, double[] solution) {
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] values = matrix.getValues();
+        int size = matrix.getRowCount();
+        double sum = rhs[row];
+
+        for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+            int column = columnIndices[index];
+
+            if (column != row && column < size) {
+                sum -= values[index] * solution[column];
+            }
+        }
+
+        return sum;
+    }
+}
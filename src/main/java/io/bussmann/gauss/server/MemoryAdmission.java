@@ -0,0 +1,80 @@
+package io.bussmann.gauss.server;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory admission.
+ *
+ * Admits requests only while the estimated memory of all requests in flight fits into a budget, so a burst of large
+ * matrices is rejected instead of exhausting the heap.
+ *
+ * @author Frederik Bußmann
+ */
+final class MemoryAdmission {
+    /**
+     * The number of bytes the requests in flight may occupy.
+     */
+    private final long budget;
+
+    /**
+     * The number of bytes reserved by the requests in flight.
+     */
+    private final AtomicLong reserved = new AtomicLong();
+
+    /**
+     * Class constructor.
+     *
+     * @param budget The number of bytes the requests in flight may occupy.
+     */
+    MemoryAdmission(long budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * Reserves memory for a request if it fits into the remaining budget.
+     *
+     * @param bytes The estimated number of bytes of the request.
+     *
+     * @return True if reserved, false if the budget is exhausted.
+     */
+    boolean tryAcquire(long bytes) {
+        long current = reserved.get();
+
+        while (current + bytes <= budget) {
+            if (reserved.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+
+            current = reserved.get();
+        }
+
+        return false;
+    }
+
+    /**
+     * Releases the memory reserved for a finished request.
+     *
+     * @param bytes The number of bytes reserved for the request.
+     */
+    void release(long bytes) {
+        reserved.addAndGet(-bytes);
+    }
+
+    /**
+     * Gets the number of bytes the requests in flight may occupy.
+     *
+     * @return The budget in bytes.
+     */
+    long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Gets the number of bytes reserved by the requests in flight.
+     *
+     * @return The reserved bytes.
+     */
+    long getReserved() {
+        return reserved.get();
+    }
+}
@@ -0,0 +1,260 @@
+package io.bussmann.gauss.server;
+
+import io.bussmann.gauss.math.BatchedGaussianElimination;
+import io.bussmann.gauss.math.GaussianElimination;
+import io.bussmann.gauss.math.PivotingStrategy;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro batcher.
+ *
+ * Collects small matrices submitted concurrently and solves those of equal dimensions together with the
+ * {@link BatchedGaussianElimination}. A batch is closed when its window has passed since its first matrix arrived or
+ * when it is full, and is then solved on the given executor while the next batch is collected.
+ *
+ * Single matrices are solved by the {@link GaussianElimination} with partial pivoting, which the batched elimination
+ * uses as well.
+ *
+ * Every submitted matrix gets its solution completed: batches the executor rejects, matrices submitted after closing
+ * and matrices still collected when closing fail with an exception instead.
+ *
+ * @author Frederik Bußmann
+ */
+final class MicroBatcher implements Closeable {
+    /**
+     * Job.
+     *
+     * A submitted matrix waiting for its solution.
+     */
+    private static final class Job {
+        /**
+         * The matrix to solve.
+         */
+        private final DenseMatrix matrix;
+
+        /**
+         * The solution, completed once solved.
+         */
+        private final CompletableFuture<GaussMatrixSolution> solution = new CompletableFuture<>();
+
+        /**
+         * Class constructor.
+         *
+         * @param matrix The matrix to solve.
+         */
+        private Job(DenseMatrix matrix) {
+            this.matrix = matrix;
+        }
+    }
+
+    /**
+     * The submitted matrices not yet batched.
+     */
+    private final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * The executor solving the batches.
+     */
+    private final Executor executor;
+
+    /**
+     * The time to collect a batch in nanoseconds.
+     */
+    private final long windowNanos;
+
+    /**
+     * The maximal number of matrices per batch.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * The metrics to count the batches in.
+     */
+    private final ServerMetrics metrics;
+
+    /**
+     * The thread collecting the batches.
+     */
+    private final Thread thread;
+
+    /**
+     * Whether the batcher is closed and rejects new matrices.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Class constructor.
+     *
+     * @param executor The executor solving the batches.
+     * @param windowMicros The time to collect a batch in microseconds.
+     * @param maxBatchSize The maximal number of matrices per batch.
+     * @param metrics The metrics to count the batches in.
+     */
+    MicroBatcher(Executor executor, long windowMicros, int maxBatchSize, ServerMetrics metrics) {
+        this.executor = executor;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+        this.metrics = metrics;
+
+        thread = new Thread(this::collect, "gauss-micro-batcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Submits a matrix to be solved in the next batch.
+     *
+     * @param matrix The matrix to solve, it may be changed.
+     *
+     * @return The solution, completed once the batch is solved, or failed if the batcher is closed.
+     */
+    CompletableFuture<GaussMatrixSolution> submit(DenseMatrix matrix) {
+        if (closed) {
+            return CompletableFuture.failedFuture(createClosedException());
+        }
+
+        Job job = new Job(matrix);
+        queue.add(job);
+
+        // The batcher may have been closed while adding, after its queue was drained
+        if (closed) {
+            failQueued();
+        }
+
+        return job.solution;
+    }
+
+    /**
+     * Stops collecting batches, failing the matrices not yet batched.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        failQueued();
+    }
+
+    /**
+     * Collects batches until interrupted and hands them to the executor.
+     *
+     * The matrices of a batch the executor rejects and of the batch being collected when interrupted are failed.
+     */
+    private void collect() {
+        List<Job> jobs = new ArrayList<>();
+
+        try {
+            while (true) {
+                jobs.add(queue.take());
+
+                long deadline = System.nanoTime() + windowNanos;
+
+                while (jobs.size() < maxBatchSize) {
+                    Job job = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                    if (job == null) {
+                        break;
+                    }
+
+                    jobs.add(job);
+                }
+
+                // Only matrices of equal dimensions can be interleaved
+                Map<Long, List<Job>> groups = new LinkedHashMap<>();
+
+                for (Job job : jobs) {
+                    long key = (long) job.matrix.getRowCount() << 32 | job.matrix.getColumnCount();
+                    groups.computeIfAbsent(key, ignored -> new ArrayList<>()).add(job);
+                }
+
+                for (List<Job> group : groups.values()) {
+                    try {
+                        executor.execute(() -> solve(group));
+                    } catch (RuntimeException exception) {
+                        fail(group, exception);
+                    }
+                }
+
+                jobs.clear();
+            }
+        } catch (InterruptedException exception) {
+            fail(jobs, createClosedException());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Solves a batch of matrices of equal dimensions and completes their solutions.
+     *
+     * @param jobs The jobs of the batch.
+     */
+    private void solve(List<Job> jobs) {
+        try {
+            if (jobs.size() == 1) {
+                Job job = jobs.get(0);
+
+                // The matrix was parsed for this request only, so it is reduced in place
+                job.solution.complete(GaussianElimination.solveInPlace(job.matrix, PivotingStrategy.PARTIAL));
+                return;
+            }
+
+            List<DenseMatrix> matrices = new ArrayList<>(jobs.size());
+
+            for (Job job : jobs) {
+                matrices.add(job.matrix);
+            }
+
+            GaussMatrixSolution[] solutions = BatchedGaussianElimination.solve(matrices);
+
+            for (int index = 0; index < jobs.size(); index++) {
+                jobs.get(index).solution.complete(solutions[index]);
+            }
+        } catch (RuntimeException exception) {
+            fail(jobs, exception);
+        } finally {
+            metrics.recordBatch(jobs.size());
+        }
+    }
+
+    /**
+     * Fails the solutions of the matrices not yet batched.
+     */
+    private void failQueued() {
+        for (Job job = queue.poll(); job != null; job = queue.poll()) {
+            job.solution.completeExceptionally(createClosedException());
+        }
+    }
+
+    /**
+     * Fails the solutions of given jobs.
+     *
+     * @param jobs The jobs to fail.
+     * @param exception The cause of the failure.
+     */
+    private static void fail(List<Job> jobs, Throwable exception) {
+        for (Job job : jobs) {
+            job.solution.completeExceptionally(exception);
+        }
+    }
+
+    /**
+     * Creates the exception failing matrices that cannot be solved as the batcher is closed.
+     *
+     * @return The exception.
+     */
+    private static IllegalStateException createClosedException() {
+        String message = "The server is stopped.";
+        return new IllegalStateException(message);
+    }
+}
@@ -0,0 +1,124 @@
+package io.bussmann.gauss.server;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server metrics.
+ *
+ * Counts the requests and batches of the solve server. The counters are updated concurrently without locking.
+ *
+ * @author Frederik Bußmann
+ */
+final class ServerMetrics {
+    /**
+     * The number of received solve requests.
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * The number of matrices solved with a unique solution.
+     */
+    private final LongAdder solved = new LongAdder();
+
+    /**
+     * The number of matrices without unique solution.
+     */
+    private final LongAdder invalid = new LongAdder();
+
+    /**
+     * The number of malformed requests.
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * The number of requests rejected by the admission control.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * The number of solved batches of more than one matrix.
+     */
+    private final LongAdder batches = new LongAdder();
+
+    /**
+     * The number of matrices solved in batches of more than one matrix.
+     */
+    private final LongAdder batchedMatrices = new LongAdder();
+
+    /**
+     * The total time of the answered solve requests in nanoseconds.
+     */
+    private final LongAdder latencyNanos = new LongAdder();
+
+    /**
+     * Counts a received solve request.
+     */
+    void recordRequest() {
+        requests.increment();
+    }
+
+    /**
+     * Counts an answered solve request.
+     *
+     * @param solvedUniquely Whether the matrix has a unique solution.
+     * @param nanos The time taken to answer the request in nanoseconds.
+     */
+    void recordSolution(boolean solvedUniquely, long nanos) {
+        (solvedUniquely ? solved : invalid).increment();
+        latencyNanos.add(nanos);
+    }
+
+    /**
+     * Counts a malformed request.
+     */
+    void recordFailure() {
+        failed.increment();
+    }
+
+    /**
+     * Counts a request rejected by the admission control.
+     */
+    void recordRejection() {
+        rejected.increment();
+    }
+
+    /**
+     * Counts a solved batch.
+     *
+     * @param size The number of matrices in the batch.
+     */
+    void recordBatch(int size) {
+        if (size > 1) {
+            batches.increment();
+            batchedMatrices.add(size);
+        }
+    }
+
+    /**
+     * Writes the metrics as a JSON object.
+     *
+     * @param generator The generator to write with.
+     * @param admission The admission control, for its reserved memory.
+     * @param virtualThreads Whether requests are handled on virtual threads.
+     */
+    void write(JsonGenerator generator, MemoryAdmission admission, boolean virtualThreads) throws IOException {
+        long answered = solved.sum() + invalid.sum();
+
+        generator.writeStartObject();
+        generator.writeNumberField("requests", requests.sum());
+        generator.writeNumberField("solved", solved.sum());
+        generator.writeNumberField("invalid", invalid.sum());
+        generator.writeNumberField("failed", failed.sum());
+        generator.writeNumberField("rejected", rejected.sum());
+        generator.writeNumberField("batches", batches.sum());
+        generator.writeNumberField("batchedMatrices", batchedMatrices.sum());
+        generator.writeNumberField("averageMillis", answered == 0 ? 0 : latencyNanos.sum() / 1e6 / answered);
+        generator.writeNumberField("reservedBytes", admission.getReserved());
+        generator.writeNumberField("memoryBudget", admission.getBudget());
+        generator.writeBooleanField("virtualThreads", virtualThreads);
+        generator.writeEndObject();
+    }
+}
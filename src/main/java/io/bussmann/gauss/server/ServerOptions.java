@@ -0,0 +1,175 @@
+package io.bussmann.gauss.server;
+
+/**
+ * Server options.
+ *
+ * The command line options of the solve server, parsed from the program arguments following --server.
+ *
+ * @author Frederik Bußmann
+ */
+public final class ServerOptions {
+    /**
+     * The usage description of the options.
+     */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: gauss --server [options]",
+            "",
+            "Serves POST /solve, GET /health and GET /metrics on the loopback interface.",
+            "",
+            "Options:",
+            "  --port <port>           port to listen on, 0 for any free port, defaults to 8080",
+            "  --memory <MiB>          memory budget of the requests in flight, defaults to half the heap",
+            "  --batch-window <us>     time to collect small requests into one batch, 0 disables batching,",
+            "                          defaults to 200",
+            "  --batch-size <count>    maximal number of requests per batch, defaults to 64",
+            "  --help                  print this help");
+
+    /**
+     * The port to listen on.
+     */
+    private int port = 8080;
+
+    /**
+     * The number of bytes the requests in flight may occupy.
+     */
+    private long memoryBudget = Runtime.getRuntime().maxMemory() / 2;
+
+    /**
+     * The time to collect small requests into one batch in microseconds.
+     */
+    private long batchWindowMicros = 200;
+
+    /**
+     * The maximal number of requests per batch.
+     */
+    private int maxBatchSize = 64;
+
+    /**
+     * Whether to print the usage only.
+     */
+    private boolean help;
+
+    /**
+     * Class constructor.
+     */
+    private ServerOptions() {
+    }
+
+    /**
+     * Parses given program arguments.
+     *
+     * @param args The program arguments following --server.
+     *
+     * @return The parsed options.
+     */
+    public static ServerOptions parse(String[] args) throws IllegalArgumentException {
+        ServerOptions options = new ServerOptions();
+
+        for (int index = 0; index < args.length; index++) {
+            String argument = args[index];
+
+            switch (argument) {
+                case "--port":
+                    options.port = (int) parseNumber(args, ++index, argument, 0, 65535);
+                    break;
+                case "--memory":
+                    options.memoryBudget = parseNumber(args, ++index, argument, 1, Long.MAX_VALUE >> 20) << 20;
+                    break;
+                case "--batch-window":
+                    options.batchWindowMicros = parseNumber(args, ++index, argument, 0, 1000000);
+                    break;
+                case "--batch-size":
+                    options.maxBatchSize = (int) parseNumber(args, ++index, argument, 1, 4096);
+                    break;
+                case "--help":
+                    options.help = true;
+                    break;
+                default:
+                    String message = "Unknown option '" + argument + "'.";
+                    throw new IllegalArgumentException(message);
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * Gets the port to listen on.
+     *
+     * @return The port, 0 for any free port.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Gets the number of bytes the requests in flight may occupy.
+     *
+     * @return The memory budget in bytes.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Gets the time to collect small requests into one batch.
+     *
+     * @return The batch window in microseconds, 0 if batching is disabled.
+     */
+    public long getBatchWindowMicros() {
+        return batchWindowMicros;
+    }
+
+    /**
+     * Gets the maximal number of requests per batch.
+     *
+     * @return The maximal batch size.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Checks if only the usage is requested.
+     *
+     * @return True if the usage is requested, false if not.
+     */
+    public boolean isHelp() {
+        return help;
+    }
+
+    /**
+     * Parses the number following an option.
+     *
+     * @param args The program arguments.
+     * @param index The index of the number.
+     * @param option The option the number belongs to.
+     * @param minimum The smallest allowed number.
+     * @param maximum The largest allowed number.
+     *
+     * @return The parsed number.
+     */
+    private static long parseNumber(String[] args, int index, String option, long minimum, long maximum)
+            throws IllegalArgumentException {
+        if (index >= args.length) {
+            String message = "The option '" + option + "' requires a value.";
+            throw new IllegalArgumentException(message);
+        }
+
+        long value;
+
+        try {
+            value = Long.parseLong(args[index]);
+        } catch (NumberFormatException exception) {
+            value = minimum - 1;
+        }
+
+        if (value < minimum || value > maximum) {
+            String message = "The option '" + option + "' requires an integer from " + minimum + " to " + maximum
+                    + ", '" + args[index] + "' given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,763 @@
+package io.bussmann.gauss.server;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.bussmann.gauss.io.BinaryMatrixFormat;
+import io.bussmann.gauss.math.GaussianElimination;
+import io.bussmann.gauss.math.PivotingStrategy;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Solve server.
+ *
+ * Serves the solvers over HTTP on the loopback interface, so many clients share one warm JVM. It is built on the
+ * HTTP server of the JDK and offers three endpoints:
+ *
+ * POST /solve solves an augmented matrix, sent either as JSON object {"matrix": [[...], ...]} with content type
+ * application/json or in the binary matrix format with content type application/octet-stream. The query parameters
+ * pivoting (none, partial, scaled_partial or full, defaults to partial) and trace (true or false) select the
+ * pivoting strategy and whether the elimination steps are returned. The response is a JSON object with the status,
+ * the solution vectors and the steps if traced.
+ *
+ * GET /health answers {"status": "UP"} and GET /metrics the counters of the requests and batches.
+ *
+ * Requests are handled on virtual threads if the runtime offers them, otherwise on a cached thread pool. Small
+ * matrices solved with partial pivoting and without trace are collected by a {@link MicroBatcher}. Before the values
+ * of a request are read, its memory is estimated from its length and reserved in a {@link MemoryAdmission}, requests
+ * that do not fit are rejected with status 503, or 413 if they exceed the whole budget. Binary bodies are estimated
+ * from the dimensions in their header, as a sparse body describes a dense matrix far larger than itself.
+ *
+ * @author Frederik Bußmann
+ */
+public final class SolveServer {
+    /**
+     * The largest number of rows of matrices solved in batches.
+     */
+    public static final int MAX_BATCHED_SIZE = 32;
+
+    /**
+     * The number of copies of its values a request occupies while solved: the read values with spare capacity, the
+     * working matrix and the batch or solution.
+     */
+    private static final int WORK_COPIES = 4;
+
+    /**
+     * The number of copies of its values a traced request occupies, its boxed gauss matrix being about three times
+     * as large as the primitive values.
+     */
+    private static final int TRACE_COPIES = 8;
+
+    /**
+     * The time to wait for the solution of a batched matrix in seconds.
+     */
+    private static final long BATCH_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Body writer.
+     *
+     * Writes a JSON response body.
+     */
+    private interface BodyWriter {
+        /**
+         * Writes the body.
+         *
+         * @param generator The generator to write with.
+         */
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * The options of the server.
+     */
+    private final ServerOptions options;
+
+    /**
+     * The counters of the requests and batches.
+     */
+    private final ServerMetrics metrics = new ServerMetrics();
+
+    /**
+     * The admission control of the requests.
+     */
+    private final MemoryAdmission admission;
+
+    /**
+     * The factory of the JSON readers and writers, leaving the request body open to discard its rest.
+     */
+    private final JsonFactory jsonFactory = new JsonFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    /**
+     * The executor handling the requests and solving the batches.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Whether the executor uses virtual threads.
+     */
+    private boolean virtualThreads;
+
+    /**
+     * The batcher of small matrices, null if batching is disabled.
+     */
+    private MicroBatcher batcher;
+
+    /**
+     * The HTTP server, null if not started.
+     */
+    private HttpServer server;
+
+    /**
+     * Class constructor.
+     *
+     * @param options The options of the server.
+     */
+    public SolveServer(ServerOptions options) {
+        this.options = options;
+        this.admission = new MemoryAdmission(options.getMemoryBudget());
+    }
+
+    /**
+     * Runs the server with given program arguments until the JVM exits.
+     *
+     * @param args The program arguments following --server.
+     * @param out The stream to write the address and the usage to.
+     * @param err The stream to write errors to.
+     *
+     * @return 0 if the server was started or the usage printed, 1 if it could not be started and 2 on invalid
+     *         arguments.
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        ServerOptions options;
+
+        try {
+            options = ServerOptions.parse(args);
+        } catch (IllegalArgumentException exception) {
+            err.println(exception.getMessage());
+            err.println(ServerOptions.USAGE);
+            return 2;
+        }
+
+        if (options.isHelp()) {
+            out.println(ServerOptions.USAGE);
+            return 0;
+        }
+
+        SolveServer solveServer = new SolveServer(options);
+
+        try {
+            solveServer.start();
+        } catch (IOException exception) {
+            err.println("Cannot start the server: " + exception.getMessage());
+            return 1;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(solveServer::stop));
+        out.println("Listening on http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + solveServer.getPort() + (solveServer.isVirtualThreads() ? " with virtual threads" : ""));
+
+        return 0;
+    }
+
+    /**
+     * Starts the server on the loopback interface.
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), options.getPort()), 0);
+        executor = createExecutor();
+
+        if (options.getBatchWindowMicros() > 0) {
+            batcher = new MicroBatcher(executor, options.getBatchWindowMicros(), options.getMaxBatchSize(), metrics);
+        }
+
+        server.createContext("/solve", this::handleSolve);
+        server.createContext("/health", this::handleHealth);
+        server.createContext("/metrics", this::handleMetrics);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Stops the server, failing requests waiting for a batch.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+
+        server.stop(0);
+
+        if (batcher != null) {
+            batcher.close();
+        }
+
+        executor.shutdownNow();
+        server = null;
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return The port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Checks if requests are handled on virtual threads.
+     *
+     * @return True if on virtual threads, false if on a thread pool.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per task if the runtime offers them, a cached thread pool
+     * otherwise.
+     *
+     * The virtual thread executor is looked up reflectively, as it does not exist in the Java version compiled
+     * against.
+     *
+     * @return The created executor.
+     */
+    private ExecutorService createExecutor() {
+        try {
+            ExecutorService result = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            virtualThreads = true;
+
+            return result;
+        } catch (ReflectiveOperationException exception) {
+            virtualThreads = false;
+
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Handles a solve request.
+     *
+     * @param exchange The request and response.
+     */
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Only POST is supported.");
+                return;
+            }
+
+            metrics.recordRequest();
+
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            boolean binary = contentType != null && contentType.startsWith("application/octet-stream");
+
+            if (!binary && (contentType == null || !contentType.startsWith("application/json"))) {
+                metrics.recordFailure();
+                sendError(exchange, 415, "Expected application/json or application/octet-stream.");
+                return;
+            }
+
+            String lengthHeader = exchange.getRequestHeaders().getFirst("Content-Length");
+            long length = lengthHeader == null ? -1 : parseLength(lengthHeader);
+
+            if (length < 0) {
+                metrics.recordFailure();
+                sendError(exchange, 411, "A valid Content-Length is required.");
+                return;
+            }
+
+            Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+            boolean trace = Boolean.parseBoolean(parameters.get("trace"));
+            long estimate = estimateMemory(length, binary, trace);
+
+            if (rejectOversized(exchange, estimate)) {
+                return;
+            }
+
+            BinaryMatrixFormat.Header header = null;
+
+            if (binary) {
+                try {
+                    header = BinaryMatrixFormat.readHeader(exchange.getRequestBody(), length);
+                } catch (IOException exception) {
+                    metrics.recordFailure();
+                    sendError(exchange, 400, exception.getMessage());
+                    return;
+                }
+
+                estimate = estimateMemory(header, length, trace);
+
+                if (rejectOversized(exchange, estimate)) {
+                    return;
+                }
+            }
+            if (!admission.tryAcquire(estimate)) {
+                metrics.recordRejection();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 503, "The server is busy, retry later.");
+                return;
+            }
+
+            try {
+                solve(exchange, parameters, header, trace, start);
+            } finally {
+                admission.release(estimate);
+            }
+        }
+    }
+
+    /**
+     * Reads, solves and answers an admitted solve request.
+     *
+     * @param exchange The request and response.
+     * @param parameters The query parameters.
+     * @param header The already read header of a body in the binary matrix format, or null if the body is JSON.
+     * @param trace Whether to return the elimination steps.
+     * @param start The time the request arrived at in nanoseconds.
+     */
+    private void solve(HttpExchange exchange, Map<String, String> parameters, BinaryMatrixFormat.Header header,
+                       boolean trace, long start) throws IOException {
+        DenseMatrix matrix;
+        PivotingStrategy strategy;
+
+        try {
+            strategy = parseStrategy(parameters.get("pivoting"));
+            matrix = header != null ? BinaryMatrixFormat.readDense(exchange.getRequestBody(), header)
+                    : readJson(exchange.getRequestBody());
+
+            if (matrix.getColumnCount() <= matrix.getRowCount()) {
+                String message = "A " + matrix.getRowCount() + " x " + matrix.getColumnCount()
+                        + " matrix has no augmented column.";
+                throw new IOException(message);
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            metrics.recordFailure();
+            sendError(exchange, 400, exception.getMessage());
+            return;
+        }
+
+        GaussMatrixSolution solution;
+        String[] steps = null;
+
+        if (trace) {
+            GaussMatrix values = matrix.toGaussMatrix();
+            GaussMatrixSolutionTrace solutionTrace = GaussianElimination.solveMatrix(values, strategy);
+            steps = new String[solutionTrace.getStepCount()];
+
+            for (int step = 0; step < steps.length; step++) {
+                steps[step] = solutionTrace.getStepLabel(step);
+            }
+
+            solution = solutionTrace.invalid ? GaussMatrixSolution.invalid()
+                    : new GaussMatrixSolution(GaussMatrixSolution.Status.SOLVED,
+                    GaussianElimination.extractAugmentedColumns(DenseMatrix.fromGaussMatrix(values)));
+        }
+        else if (batcher != null && strategy == PivotingStrategy.PARTIAL
+                && matrix.getRowCount() <= MAX_BATCHED_SIZE) {
+            try {
+                solution = awaitBatch(matrix);
+            } catch (IOException exception) {
+                metrics.recordFailure();
+                sendError(exchange, 500, exception.getMessage());
+                return;
+            }
+        }
+        else {
+            // The matrix was parsed for this request only, so it is reduced in place
+            solution = GaussianElimination.solveInPlace(matrix, strategy);
+        }
+
+        String[] labels = steps;
+
+        metrics.recordSolution(!solution.isInvalid(), System.nanoTime() - start);
+        sendJson(exchange, 200, generator -> writeSolution(generator, solution, labels));
+    }
+
+    /**
+     * Handles a health request.
+     *
+     * @param exchange The request and response.
+     */
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sendJson(exchange, 200, generator -> {
+                generator.writeStartObject();
+                generator.writeStringField("status", "UP");
+                generator.writeEndObject();
+            });
+        }
+    }
+
+    /**
+     * Handles a metrics request.
+     *
+     * @param exchange The request and response.
+     */
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sendJson(exchange, 200, generator -> metrics.write(generator, admission, virtualThreads));
+        }
+    }
+
+    /**
+     * Submits a matrix to the batcher and waits for its solution.
+     *
+     * The wait is bounded, so a batch that is never solved fails its requests instead of holding their threads and
+     * reserved memory.
+     *
+     * @param matrix The matrix to solve.
+     *
+     * @return The solution.
+     */
+    private GaussMatrixSolution awaitBatch(DenseMatrix matrix) throws IOException {
+        CompletableFuture<GaussMatrixSolution> solution = batcher.submit(matrix);
+
+        try {
+            return solution.get(BATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException exception) {
+            solution.cancel(false);
+            String message = "Solving timed out after " + BATCH_TIMEOUT_SECONDS + " seconds.";
+            throw new IOException(message, exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            String message = "Interrupted while solving.";
+            throw new IOException(message, exception);
+        } catch (ExecutionException exception) {
+            String message = "Solving failed: " + exception.getCause();
+            throw new IOException(message, exception.getCause());
+        }
+    }
+
+    /**
+     * Estimates the memory a request occupies while it is read and solved.
+     *
+     * JSON needs at least two bytes per value, a digit and a separator, binary matrices eight.
+     *
+     * @param length The number of bytes of the body.
+     * @param binary Whether the body is in the binary matrix format.
+     * @param trace Whether the elimination steps are recorded.
+     *
+     * @return The estimated number of bytes.
+     */
+    private static long estimateMemory(long length, boolean binary, boolean trace) {
+        long values = binary ? Math.max(length - BinaryMatrixFormat.HEADER_SIZE, 0) / Double.BYTES : length / 2;
+
+        return estimateValueMemory(values, trace);
+    }
+
+    /**
+     * Estimates the memory a request in the binary matrix format occupies while it is read and solved.
+     *
+     * A sparse body is converted to a dense matrix, its stored arrays are held alongside while converting.
+     *
+     * @param header The header of the body.
+     * @param length The number of bytes of the body.
+     * @param trace Whether the elimination steps are recorded.
+     *
+     * @return The estimated number of bytes.
+     */
+    private static long estimateMemory(BinaryMatrixFormat.Header header, long length, boolean trace) {
+        long values = (long) header.getRowCount() * header.getColumnCount();
+
+        if (header.isSparse()) {
+            values += length / Double.BYTES;
+        }
+
+        return estimateValueMemory(values, trace);
+    }
+
+    /**
+     * Estimates the memory of the copies of a given number of values a request occupies.
+     *
+     * @param values The number of values of the matrix.
+     * @param trace Whether the elimination steps are recorded.
+     *
+     * @return The estimated number of bytes.
+     */
+    private static long estimateValueMemory(long values, boolean trace) {
+        if (values > Long.MAX_VALUE / Double.BYTES / TRACE_COPIES) {
+            return Long.MAX_VALUE;
+        }
+
+        return values * Double.BYTES * (trace ? TRACE_COPIES : WORK_COPIES);
+    }
+
+    /**
+     * Rejects a request with status 413 if its estimated memory exceeds the whole budget.
+     *
+     * @param exchange The request and response.
+     * @param estimate The estimated number of bytes of the request.
+     *
+     * @return True if the request was rejected, false if it may fit.
+     */
+    private boolean rejectOversized(HttpExchange exchange, long estimate) throws IOException {
+        if (estimate <= admission.getBudget()) {
+            return false;
+        }
+
+        metrics.recordRejection();
+        sendError(exchange, 413, "The matrix exceeds the memory budget of the server.");
+        return true;
+    }
+
+    /**
+     * Reads a matrix from a JSON object of the form {"matrix": [[...], ...]}, ignoring other fields.
+     *
+     * @param input The stream to read.
+     *
+     * @return The read matrix.
+     */
+    private DenseMatrix readJson(InputStream input) throws IOException {
+        DenseMatrix result = null;
+
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+
+                if (field.equals("matrix")) {
+                    result = readJsonMatrix(parser);
+                }
+                else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (result == null) {
+            throw new IOException("Expected the field 'matrix'.");
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads a matrix from a JSON array of rows.
+     *
+     * @param parser The parser positioned at the start of the array.
+     *
+     * @return The read matrix.
+     */
+    private static DenseMatrix readJsonMatrix(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected 'matrix' to be an array of rows.");
+        }
+
+        double[] data = new double[256];
+        int count = 0;
+        int rowCount = 0;
+        int columnCount = -1;
+
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            int rowStart = count;
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (!parser.currentToken().isNumeric()) {
+                    String message = "Row " + (rowCount + 1) + " contains '" + parser.getText()
+                            + "', expected a number.";
+                    throw new IOException(message);
+                }
+                if (count == data.length) {
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+
+                data[count++] = parser.getDoubleValue();
+            }
+
+            int length = count - rowStart;
+
+            if (columnCount < 0) {
+                columnCount = length;
+            }
+            else if (length != columnCount) {
+                String message = "Row " + (rowCount + 1) + " has " + length + " values, " + columnCount
+                        + " expected.";
+                throw new IOException(message);
+            }
+
+            rowCount++;
+        }
+
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            throw new IOException("Expected 'matrix' to be an array of rows.");
+        }
+
+        return new DenseMatrix(rowCount, Math.max(columnCount, 0), Arrays.copyOf(data, count));
+    }
+
+    /**
+     * Writes a solution as JSON object.
+     *
+     * @param generator The generator to write with.
+     * @param solution The solution to write.
+     * @param steps The labels of the elimination steps, null if not traced.
+     */
+    private static void writeSolution(JsonGenerator generator, GaussMatrixSolution solution, String[] steps)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("status", solution.getStatus().name());
+
+        if (!solution.isInvalid()) {
+            generator.writeArrayFieldStart("solutions");
+
+            for (int column = 0; column < solution.getSolutionCount(); column++) {
+                generator.writeStartArray();
+
+                for (int index = 0; index < solution.getValueCount(); index++) {
+                    generator.writeNumber(solution.getValue(index, column));
+                }
+
+                generator.writeEndArray();
+            }
+
+            generator.writeEndArray();
+        }
+
+        if (steps != null) {
+            generator.writeArrayFieldStart("steps");
+
+            for (String step : steps) {
+                generator.writeString(step);
+            }
+
+            generator.writeEndArray();
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Sends an error as JSON object {"error": message}.
+     *
+     * @param exchange The request and response.
+     * @param status The HTTP status code.
+     * @param message The error message.
+     */
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * Sends a JSON response, the body being buffered to send its length.
+     *
+     * @param exchange The request and response.
+     * @param status The HTTP status code.
+     * @param writer The writer of the body.
+     */
+    private void sendJson(HttpExchange exchange, int status, BodyWriter writer) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(body)) {
+            writer.write(generator);
+        }
+
+        // Discard unread request bodies, so the connection can be reused
+        exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.size());
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            body.writeTo(output);
+        }
+    }
+
+    /**
+     * Parses the pivoting strategy of a request.
+     *
+     * @param value The name of the strategy, null for partial pivoting.
+     *
+     * @return The strategy.
+     */
+    private static PivotingStrategy parseStrategy(String value) throws IllegalArgumentException {
+        if (value == null) {
+            return PivotingStrategy.PARTIAL;
+        }
+
+        try {
+            return PivotingStrategy.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            String message = "Unknown pivoting strategy '" + value + "'.";
+            throw new IllegalArgumentException(message, exception);
+        }
+    }
+
+    /**
+     * Parses a content length header.
+     *
+     * @param value The header value.
+     *
+     * @return The length, or -1 if invalid.
+     */
+    private static long parseLength(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses a query string into its parameters.
+     *
+     * @param query The raw query string, may be null.
+     *
+     * @return The decoded parameters by name.
+     */
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> result = new HashMap<>();
+
+        if (query == null || query.isEmpty()) {
+            return result;
+        }
+
+        for (String pair : query.split("&")) {
+            int index = pair.indexOf('=');
+            String name = index < 0 ? pair : pair.substring(0, index);
+            String value = index < 0 ? "true" : pair.substring(index + 1);
+
+            result.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,284 @@
+package io.bussmann.gauss.types;
+
+/**
+ * Band matrix.
+ *
+ * Represents a square matrix whose non-zero values all lie within a band around the diagonal, reaching a given
+ * number of columns below and above it. Only the band is stored, row by row: each row holds the values from the
+ * lower bandwidth left of the diagonal to the upper bandwidth right of it, so the value at a given row and column is
+ * located at the index row * (lower + upper) + column + lower.
+ *
+ * @author Frederik Bußmann
+ */
+public class BandMatrix {
+    /**
+     * The number of rows and columns of the matrix.
+     */
+    private final int size;
+
+    /**
+     * The number of diagonals below the main diagonal.
+     */
+    private final int lowerBandwidth;
+
+    /**
+     * The number of diagonals above the main diagonal.
+     */
+    private final int upperBandwidth;
+
+    /**
+     * The row-major band values, positions outside of the matrix are zero.
+     */
+    private final double[] data;
+
+    /**
+     * Class constructor.
+     *
+     * @param size The number of rows and columns.
+     * @param lowerBandwidth The number of diagonals below the main diagonal.
+     * @param upperBandwidth The number of diagonals above the main diagonal.
+     */
+    public BandMatrix(int size, int lowerBandwidth, int upperBandwidth) throws IllegalArgumentException {
+        if (size < 0 || lowerBandwidth < 0 || upperBandwidth < 0) {
+            String message = "Cannot create a band matrix of size " + size + " with bandwidths " + lowerBandwidth
+                    + " and " + upperBandwidth + ".";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.size = size;
+        this.lowerBandwidth = lowerBandwidth;
+        this.upperBandwidth = upperBandwidth;
+        this.data = new double[size * (lowerBandwidth + upperBandwidth + 1)];
+    }
+
+    /**
+     * Creates a band matrix from the coefficients of a given dense matrix, using the smallest band holding all
+     * non-zero values.
+     *
+     * @param matrix The matrix to convert, only the leading square coefficient columns are used.
+     *
+     * @return The created band matrix.
+     */
+    public static BandMatrix fromDenseMatrix(DenseMatrix matrix) {
+        return fromDenseMatrix(matrix, measureLowerBandwidth(matrix), measureUpperBandwidth(matrix));
+    }
+
+    /**
+     * Creates a band matrix from the coefficients of a given dense matrix.
+     *
+     * @param matrix The matrix to convert, only the leading square coefficient columns are used.
+     * @param lowerBandwidth The number of diagonals below the main diagonal.
+     * @param upperBandwidth The number of diagonals above the main diagonal.
+     *
+     * @return The created band matrix.
+     */
+    public static BandMatrix fromDenseMatrix(DenseMatrix matrix, int lowerBandwidth, int upperBandwidth)
+            throws IllegalArgumentException {
+        int size = matrix.getRowCount();
+        BandMatrix result = new BandMatrix(size, lowerBandwidth, upperBandwidth);
+        double[] values = matrix.getData();
+
+        for (int row = 0; row < size; row++) {
+            int offset = row * matrix.getStride();
+
+            for (int column = 0; column < size; column++) {
+                if (values[offset + column] != 0) {
+                    result.setValue(row, column, values[offset + column]);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Measures the number of diagonals below the main diagonal holding non-zero coefficients.
+     *
+     * @param matrix The matrix to measure, only the leading square coefficient columns are used.
+     *
+     * @return The lower bandwidth.
+     */
+    public static int measureLowerBandwidth(DenseMatrix matrix) {
+        double[] values = matrix.getData();
+        int bandwidth = 0;
+
+        for (int row = 1; row < matrix.getRowCount(); row++) {
+            int offset = row * matrix.getStride();
+
+            // Only the columns left of the band found so far need to be checked
+            for (int column = 0; column < row - bandwidth; column++) {
+                if (values[offset + column] != 0) {
+                    bandwidth = row - column;
+                    break;
+                }
+            }
+        }
+
+        return bandwidth;
+    }
+
+    /**
+     * Measures the number of diagonals above the main diagonal holding non-zero coefficients.
+     *
+     * @param matrix The matrix to measure, only the leading square coefficient columns are used.
+     *
+     * @return The upper bandwidth.
+     */
+    public static int measureUpperBandwidth(DenseMatrix matrix) {
+        double[] values = matrix.getData();
+        int size = matrix.getRowCount();
+        int bandwidth = 0;
+
+        for (int row = 0; row < size - 1; row++) {
+            int offset = row * matrix.getStride();
+
+            // Only the columns right of the band found so far need to be checked
+            for (int column = size - 1; column > row + bandwidth; column--) {
+                if (values[offset + column] != 0) {
+                    bandwidth = column - row;
+                    break;
+                }
+            }
+        }
+
+        return bandwidth;
+    }
+
+    /**
+     * Creates a dense matrix holding the values of this matrix.
+     *
+     * @return The created dense matrix.
+     */
+    public DenseMatrix toDenseMatrix() {
+        DenseMatrix result = new DenseMatrix(size, size);
+
+        for (int row = 0; row < size; row++) {
+            int from = Math.max(0, row - lowerBandwidth);
+            int to = Math.min(size - 1, row + upperBandwidth);
+
+            for (int column = from; column <= to; column++) {
+                result.setValue(row, column, data[matrixPositionToIndex(row, column)]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a value in the matrix at a given row and column, zero outside of the band.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The value at the given position.
+     */
+    public double getValue(int row, int column) throws IndexOutOfBoundsException {
+        checkMatrixPosition(row, column);
+
+        if (!isInBand(row, column)) {
+            return 0;
+        }
+
+        return data[matrixPositionToIndex(row, column)];
+    }
+
+    /**
+     * Sets a value in the matrix at a given row and column.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     * @param value The value to set, only zero is allowed outside of the band.
+     */
+    public void setValue(int row, int column, double value) throws IndexOutOfBoundsException,
+            IllegalArgumentException {
+        checkMatrixPosition(row, column);
+
+        if (!isInBand(row, column)) {
+            if (value != 0) {
+                String message = "Cannot set a non-zero value at " + row + ", " + column + " outside of the band.";
+                throw new IllegalArgumentException(message);
+            }
+
+            return;
+        }
+
+        data[matrixPositionToIndex(row, column)] = value;
+    }
+
+    /**
+     * Checks if a row and column position lies within the band.
+     *
+     * @param row The row to check.
+     * @param column The column to check.
+     *
+     * @return True if the position lies within the band, false if not.
+     */
+    public boolean isInBand(int row, int column) {
+        return column >= row - lowerBandwidth && column <= row + upperBandwidth;
+    }
+
+    /**
+     * Gets the index of a value within the band at a given row and column position.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The calculated index.
+     */
+    public int matrixPositionToIndex(int row, int column) {
+        return row * (lowerBandwidth + upperBandwidth) + column + lowerBandwidth;
+    }
+
+    /**
+     * Gets the number of rows and columns of the matrix.
+     *
+     * @return The size of the matrix.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of diagonals below the main diagonal.
+     *
+     * @return The lower bandwidth.
+     */
+    public int getLowerBandwidth() {
+        return lowerBandwidth;
+    }
+
+    /**
+     * Gets the number of diagonals above the main diagonal.
+     *
+     * @return The upper bandwidth.
+     */
+    public int getUpperBandwidth() {
+        return upperBandwidth;
+    }
+
+    /**
+     * Gets the backing row-major band values.
+     *
+     * @return The backing array.
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    /**
+     * Checks if a row and column position exists in the matrix.
+     *
+     * @param row The row to check.
+     * @param column The column to check.
+     */
+    private void checkMatrixPosition(int row, int column) throws IndexOutOfBoundsException {
+        if (row < 0 || row > size - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access row " + row + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+        if (column < 0 || column > size - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access column " + column + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package io.bussmann.gauss.types;
+
+import java.util.Arrays;
+import java.util.Vector;
+
+/**
+ * Dense matrix.
+ *
+ * Represents a matrix stored in a single flat row-major array of primitive doubles. The value at a given row and
+ * column is located at the index row * stride + column, where the stride equals the column count.
+ *
+ * @author Frederik Bußmann
+ */
+public class DenseMatrix {
+    /**
+     * The largest number of values an array can hold.
+     */
+    private static final int MAX_VALUE_COUNT = Integer.MAX_VALUE - 8;
+
+    /**
+     * The row count of the matrix.
+     */
+    private final int rowCount;
+
+    /**
+     * The column count of the matrix.
+     */
+    private final int columnCount;
+
+    /**
+     * The row-major matrix values.
+     */
+    private final double[] data;
+
+    /**
+     * Class constructor.
+     *
+     * @param size The gauss matrix size, creates a matrix with one additional augmented column.
+     */
+    public DenseMatrix(int size) {
+        this(size, size + 1);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     */
+    public DenseMatrix(int rowCount, int columnCount) throws IllegalArgumentException {
+        this(rowCount, columnCount, new double[getValueCount(rowCount, columnCount)]);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param data The row-major values to wrap, the array is used directly and not copied.
+     */
+    public DenseMatrix(int rowCount, int columnCount, double[] data) throws IllegalArgumentException {
+        if (data.length != getValueCount(rowCount, columnCount)) {
+            String message = "Cannot create a " + rowCount + " x " + columnCount + " matrix from " + data.length
+                    + " values.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.data = data;
+    }
+
+    /**
+     * Gets the number of values of a matrix with given dimensions.
+     *
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     *
+     * @return The number of values.
+     */
+    private static int getValueCount(int rowCount, int columnCount) throws IllegalArgumentException {
+        if (rowCount < 0 || columnCount < 0) {
+            String message = "Cannot create a matrix with " + rowCount + " rows and " + columnCount + " columns.";
+            throw new IllegalArgumentException(message);
+        }
+
+        long count = (long) rowCount * columnCount;
+
+        if (count > MAX_VALUE_COUNT) {
+            String message = "Cannot create a " + rowCount + " x " + columnCount + " matrix, it has more than "
+                    + MAX_VALUE_COUNT + " values.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return (int) count;
+    }
+
+    /**
+     * Creates a dense matrix from the values of a given gauss matrix.
+     *
+     * @param matrix The gauss matrix to convert.
+     *
+     * @return The created dense matrix.
+     */
+    public static DenseMatrix fromGaussMatrix(GaussMatrix matrix) {
+        DenseMatrix result = new DenseMatrix(matrix.getRowCount(), matrix.getColumnCount());
+
+        for (int row = 0; row < result.rowCount; row++) {
+            Vector<Double> values = matrix.get(row);
+            int offset = row * result.columnCount;
+
+            for (int column = 0; column < result.columnCount; column++) {
+                result.data[offset + column] = values.get(column);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a gauss matrix holding the values of this matrix.
+     *
+     * The columns after the first row count columns become the augmented columns of the gauss matrix.
+     *
+     * @return The created gauss matrix.
+     */
+    public GaussMatrix toGaussMatrix() {
+        GaussMatrix result = new GaussMatrix(rowCount, columnCount - rowCount);
+        copyTo(result);
+
+        return result;
+    }
+
+    /**
+     * Copies the values of this matrix into a given gauss matrix of the same dimensions.
+     *
+     * @param matrix The gauss matrix to write to.
+     */
+    public void copyTo(GaussMatrix matrix) throws IllegalArgumentException {
+        if (matrix.getRowCount() != rowCount || matrix.getColumnCount() != columnCount) {
+            String message = "Cannot copy a " + rowCount + " x " + columnCount + " matrix into a "
+                    + matrix.getRowCount() + " x " + matrix.getColumnCount() + " matrix.";
+            throw new IllegalArgumentException(message);
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            Vector<Double> values = matrix.get(row);
+            int offset = row * columnCount;
+
+            for (int column = 0; column < columnCount; column++) {
+                values.set(column, data[offset + column]);
+            }
+        }
+    }
+
+    /**
+     * Gets a value in the matrix at a given row and column.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The value at the given position.
+     */
+    public double getValue(int row, int column) throws IndexOutOfBoundsException {
+        checkMatrixPosition(row, column);
+
+        return data[row * columnCount + column];
+    }
+
+    /**
+     * Sets a value in the matrix at a given row and column.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     * @param value The value to set.
+     */
+    public void setValue(int row, int column, double value) throws IndexOutOfBoundsException {
+        checkMatrixPosition(row, column);
+
+        data[row * columnCount + column] = value;
+    }
+
+    /**
+     * Gets a value from the matrix at a given index.
+     *
+     * @param index The index of the value.
+     *
+     * @return The value at the given index.
+     */
+    public double getValueAtIndex(int index) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        return data[index];
+    }
+
+    /**
+     * Sets a value in the matrix at a given index.
+     *
+     * @param index The index of the value.
+     * @param value The value to set.
+     */
+    public void setValueAtIndex(int index, double value) throws IndexOutOfBoundsException {
+        checkIndex(index);
+
+        data[index] = value;
+    }
+
+    /**
+     * Gets the number of rows in the matrix.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of columns in the matrix.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * Gets the distance between the first values of two consecutive rows in the backing array.
+     *
+     * @return The row stride.
+     */
+    public int getStride() {
+        return columnCount;
+    }
+
+    /**
+     * Gets the backing row-major array of the matrix.
+     *
+     * Changes to the returned array are reflected in the matrix. This is intended for algorithms operating directly
+     * on the primitive storage.
+     *
+     * @return The backing array.
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the index of a value in the matrix at a given row and column position.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The calculated index.
+     */
+    public int matrixPositionToIndex(int row, int column) throws IndexOutOfBoundsException {
+        int index = row * columnCount + column;
+
+        checkIndex(index);
+
+        return index;
+    }
+
+    /**
+     * Creates a copy of the matrix with its own backing array.
+     *
+     * @return The copied matrix.
+     */
+    public DenseMatrix copy() {
+        return new DenseMatrix(rowCount, columnCount, Arrays.copyOf(data, data.length));
+    }
+
+    /**
+     * Gets a string representing the matrix.
+     *
+     * @return The matrix values as string.
+     */
+    public String toString() {
+        StringBuilder value = new StringBuilder();
+
+        for (int row = 0; row < rowCount; row++) {
+            value.append("[");
+
+            for (int column = 0; column < columnCount; column++) {
+                value.append(data[row * columnCount + column]);
+
+                if (column != columnCount - 1) {
+                    value.append(", ");
+                }
+            }
+
+            value.append("]");
+
+            if (row != rowCount - 1) {
+                value.append("\n");
+            }
+        }
+
+        return value.toString();
+    }
+
+    /**
+     * Checks if an index exists in the matrix.
+     *
+     * @param index The index to check.
+     */
+    private void checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > data.length - 1) {
+            String message = "The index " + index + " is bigger than the number of values in the matrix";
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    /**
+     * Checks if a row and column position exists in the matrix.
+     *
+     * @param row The row to check.
+     * @param column The column to check.
+     */
+    private void checkMatrixPosition(int row, int column) throws IndexOutOfBoundsException {
+        if (row < 0 || row > rowCount - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access row " + row + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+        if (column < 0 || column > columnCount - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access column " + column + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+}
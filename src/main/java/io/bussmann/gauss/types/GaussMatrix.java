@@ -5,7 +5,8 @@ import java.util.Vector;
 /**
  * Gauss matrix.
  *
- * Represents a matrix for use with the gaussian elimination algorithm.
+ * Represents a matrix for use with the gaussian elimination algorithm. The matrix has one column per variable,
+ * followed by one or more augmented columns holding the right-hand sides of the system.
  *
  * @author Frederik Bußmann
  */
@@ -20,6 +21,11 @@ public class GaussMatrix extends Vector<Vector<Double>> {
      */
     private int columnCount;
 
+    /**
+     * The number of augmented right-hand side columns of the matrix.
+     */
+    private final int augmentedColumnCount;
+
     /**
      * Class constructor.
      */
@@ -33,8 +39,26 @@ public class GaussMatrix extends Vector<Vector<Double>> {
      * @param size The gauss matrix size.
      */
     public GaussMatrix(int size) {
+        this(size, 1);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param size The gauss matrix size.
+     * @param augmentedColumnCount The number of augmented right-hand side columns.
+     */
+    public GaussMatrix(int size, int augmentedColumnCount) throws IllegalArgumentException {
+        if (size < 0 || augmentedColumnCount < 0) {
+            String message = "Cannot create a matrix of size " + size + " with " + augmentedColumnCount
+                    + " augmented columns.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.augmentedColumnCount = augmentedColumnCount;
+
         rowCount = size;
-        columnCount = size + 1;
+        columnCount = size + augmentedColumnCount;
 
         initialize();
     }
@@ -107,6 +131,15 @@ public class GaussMatrix extends Vector<Vector<Double>> {
         return columnCount;
     }
 
+    /**
+     * Gets the number of augmented right-hand side columns in the matrix.
+     *
+     * @return The number of augmented columns.
+     */
+    public int getAugmentedColumnCount() {
+        return augmentedColumnCount;
+    }
+
     /**
      * Gets the row and column position in the matrix at a given index.
      *
@@ -177,6 +210,8 @@ public class GaussMatrix extends Vector<Vector<Double>> {
 
     /**
      * Increases the size of the matrix.
+     *
+     * A new row and a new variable column are added, the augmented columns are kept at the end of each row.
      */
     public void increaseSize() {
         int size = rowCount + 1;
@@ -190,15 +225,17 @@ public class GaussMatrix extends Vector<Vector<Double>> {
         add(newRow);
 
         for (int row = 0; row < size; row++) {
-            get(row).add((double) 0);
+            get(row).add(rowCount, (double) 0);
         }
 
         rowCount = size;
-        columnCount = size + 1;
+        columnCount = size + augmentedColumnCount;
     }
 
     /**
      * Decreases the size of the matrix.
+     *
+     * The last row and the last variable column are removed, the augmented columns are kept.
      */
     public void decreaseSize() {
         if (rowCount < 3) {
@@ -209,12 +246,12 @@ public class GaussMatrix extends Vector<Vector<Double>> {
 
         remove(size);
 
-        for (int row = 0; row < rowCount - 1; row++) {
-            get(row).remove(columnCount - 1);
+        for (int row = 0; row < size; row++) {
+            get(row).remove(size);
         }
 
         rowCount = size;
-        columnCount = size + 1;
+        columnCount = size + augmentedColumnCount;
     }
 
     /**
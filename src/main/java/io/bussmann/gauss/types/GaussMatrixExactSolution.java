@@ -0,0 +1,139 @@
+package io.bussmann.gauss.types;
+
+import org.apache.commons.math3.fraction.BigFraction;
+
+/**
+ * Gauss matrix exact solution.
+ *
+ * Holds the exact rational solution of a matrix, with one solution vector per augmented column of the solved matrix.
+ * Every value is a fully reduced fraction.
+ *
+ * @author Frederik Bußmann
+ */
+public class GaussMatrixExactSolution {
+    /**
+     * The status of the solution.
+     */
+    private final GaussMatrixSolution.Status status;
+
+    /**
+     * The row-major solution vectors, one per column.
+     */
+    private final BigFraction[] values;
+
+    /**
+     * The number of solution vectors.
+     */
+    private final int solutionCount;
+
+    /**
+     * Class constructor.
+     *
+     * @param status The status of the solution.
+     * @param values The row-major solution vectors, one per column, empty if the matrix has no unique solution.
+     * @param solutionCount The number of solution vectors.
+     */
+    public GaussMatrixExactSolution(GaussMatrixSolution.Status status, BigFraction[] values, int solutionCount)
+            throws IllegalArgumentException {
+        if (solutionCount < 0 || (solutionCount == 0 ? values.length != 0 : values.length % solutionCount != 0)) {
+            String message = "Cannot split " + values.length + " values into " + solutionCount + " solutions.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.status = status;
+        this.values = values;
+        this.solutionCount = solutionCount;
+    }
+
+    /**
+     * Creates a solution for a matrix without a unique solution.
+     *
+     * @return The invalid solution.
+     */
+    public static GaussMatrixExactSolution invalid() {
+        return new GaussMatrixExactSolution(GaussMatrixSolution.Status.INVALID, new BigFraction[0], 0);
+    }
+
+    /**
+     * Gets the status of the solution.
+     *
+     * @return The solution status.
+     */
+    public GaussMatrixSolution.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks if the matrix has no unique solution.
+     *
+     * @return True if the matrix has no unique solution, false if not.
+     */
+    public boolean isInvalid() {
+        return status == GaussMatrixSolution.Status.INVALID;
+    }
+
+    /**
+     * Gets a value of the first solution vector.
+     *
+     * @param index The index of the variable.
+     *
+     * @return The value of the variable.
+     */
+    public BigFraction getValue(int index) throws IndexOutOfBoundsException {
+        return getValue(index, 0);
+    }
+
+    /**
+     * Gets a value of a given solution vector.
+     *
+     * @param index The index of the variable.
+     * @param column The index of the solution vector.
+     *
+     * @return The value of the variable.
+     */
+    public BigFraction getValue(int index, int column) throws IndexOutOfBoundsException {
+        if (index < 0 || index > getValueCount() - 1 || column < 0 || column > solutionCount - 1) {
+            String message = "The solution has no value " + index + " in solution vector " + column + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+
+        return values[index * solutionCount + column];
+    }
+
+    /**
+     * Gets the number of values in each solution vector.
+     *
+     * @return The number of values.
+     */
+    public int getValueCount() {
+        return solutionCount == 0 ? 0 : values.length / solutionCount;
+    }
+
+    /**
+     * Gets the number of solution vectors.
+     *
+     * @return The number of solution vectors.
+     */
+    public int getSolutionCount() {
+        return solutionCount;
+    }
+
+    /**
+     * Converts the solution to the nearest double values.
+     *
+     * @return The floating point solution.
+     */
+    public GaussMatrixSolution toGaussMatrixSolution() {
+        if (isInvalid()) {
+            return GaussMatrixSolution.invalid();
+        }
+
+        double[] result = new double[values.length];
+
+        for (int index = 0; index < values.length; index++) {
+            result[index] = values[index].doubleValue();
+        }
+
+        return new GaussMatrixSolution(status, new DenseMatrix(getValueCount(), solutionCount, result));
+    }
+}
@@ -0,0 +1,65 @@
+package io.bussmann.gauss.types;
+
+/**
+ * Gauss matrix iterative solution.
+ *
+ * Holds the solution of a matrix solved by an iterative method, together with the number of iterations and the
+ * relative residual reached. If the method did not converge the status is invalid, but the last approximations are
+ * kept as values.
+ *
+ * @author Frederik Bußmann
+ */
+public class GaussMatrixIterativeSolution extends GaussMatrixSolution {
+    /**
+     * The number of iterations performed.
+     */
+    private final int iterationCount;
+
+    /**
+     * The norm of the residual relative to the norm of the right-hand side.
+     */
+    private final double relativeResidual;
+
+    /**
+     * Class constructor.
+     *
+     * @param status The status of the solution, solved if the method converged.
+     * @param values The solution vectors, one per column.
+     * @param iterationCount The number of iterations performed.
+     * @param relativeResidual The norm of the residual relative to the norm of the right-hand side.
+     */
+    public GaussMatrixIterativeSolution(Status status, DenseMatrix values, int iterationCount,
+                                        double relativeResidual) {
+        super(status, values);
+
+        this.iterationCount = iterationCount;
+        this.relativeResidual = relativeResidual;
+    }
+
+    /**
+     * Gets the number of iterations performed.
+     *
+     * @return The number of iterations, summed over all solution vectors.
+     */
+    public int getIterationCount() {
+        return iterationCount;
+    }
+
+    /**
+     * Gets the norm of the residual relative to the norm of the right-hand side.
+     *
+     * @return The relative residual, the largest of all solution vectors.
+     */
+    public double getRelativeResidual() {
+        return relativeResidual;
+    }
+
+    /**
+     * Checks if the method converged.
+     *
+     * @return True if the relative residual of every solution vector reached the tolerance, false if not.
+     */
+    public boolean isConverged() {
+        return getStatus() == Status.SOLVED;
+    }
+}
@@ -0,0 +1,339 @@
+package io.bussmann.gauss.types;
+
+/**
+ * Gauss matrix operation.
+ *
+ * Describes a single step performed while solving a matrix with the gaussian elimination algorithm. Operations are
+ * recorded instead of full matrix copies and can be applied to a matrix again to rebuild the state after the step.
+ *
+ * Row and column numbers are one-based, as they are shown to the user. Row operations act on the values starting at
+ * the pivot column of the pivot row, the values in front of it are zero at that point of the algorithm. During back
+ * substitution the pivot row is zero apart from its pivot and augmented columns, so only those are updated.
+ *
+ * Operations are replayed by plain scalar loops, which yield the same values as the row kernels of the elimination
+ * without making the types depend on the math package.
+ *
+ * @author Frederik Bußmann
+ */
+public class GaussMatrixOperation {
+    /**
+     * Operation type.
+     */
+    public enum Type {
+        /**
+         * Swaps row one with row two.
+         */
+        SWAP,
+
+        /**
+         * Swaps column one with column two.
+         */
+        COLUMN_SWAP,
+
+        /**
+         * Divides row one by the scalar.
+         */
+        DIVISION,
+
+        /**
+         * Subtracts row one from row two.
+         */
+        SUBTRACT,
+
+        /**
+         * Multiplies row one by the scalar and subtracts it from row two.
+         */
+        MULTIPLY_AND_SUBTRACT,
+
+        /**
+         * Marks the matrix as not uniquely solvable, does not change any values.
+         */
+        INVALID,
+
+        /**
+         * Replaces all values by a recorded matrix.
+         */
+        SNAPSHOT
+    }
+
+    /**
+     * The type of the operation.
+     */
+    private final Type type;
+
+    /**
+     * The first row or column of the operation.
+     */
+    private final int index1;
+
+    /**
+     * The second row or column of the operation.
+     */
+    private final int index2;
+
+    /**
+     * The scalar of the operation.
+     */
+    private final double scalar;
+
+    /**
+     * Whether the operation is a part of back substitution.
+     */
+    private final boolean backSubstitution;
+
+    /**
+     * The recorded matrix of a snapshot operation.
+     */
+    private final DenseMatrix snapshot;
+
+    /**
+     * The label of a snapshot operation.
+     */
+    private final String snapshotLabel;
+
+    /**
+     * Class constructor.
+     *
+     * @param type The type of the operation.
+     * @param index1 The first row or column of the operation.
+     * @param index2 The second row or column of the operation.
+     * @param scalar The scalar of the operation.
+     * @param backSubstitution Whether the operation is a part of back substitution.
+     */
+    public GaussMatrixOperation(Type type, int index1, int index2, double scalar, boolean backSubstitution) {
+        this(type, index1, index2, scalar, backSubstitution, null, null);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param type The type of the operation.
+     * @param index1 The first row or column of the operation.
+     * @param index2 The second row or column of the operation.
+     * @param scalar The scalar of the operation.
+     * @param backSubstitution Whether the operation is a part of back substitution.
+     * @param snapshot The recorded matrix of a snapshot operation.
+     * @param snapshotLabel The label of a snapshot operation.
+     */
+    private GaussMatrixOperation(Type type, int index1, int index2, double scalar, boolean backSubstitution,
+                                 DenseMatrix snapshot, String snapshotLabel) {
+        this.type = type;
+        this.index1 = index1;
+        this.index2 = index2;
+        this.scalar = scalar;
+        this.backSubstitution = backSubstitution;
+        this.snapshot = snapshot;
+        this.snapshotLabel = snapshotLabel;
+    }
+
+    /**
+     * Creates a snapshot operation replacing all values by a given matrix.
+     *
+     * @param matrix The matrix to record, it is copied.
+     * @param label The label of the step.
+     *
+     * @return The created operation.
+     */
+    public static GaussMatrixOperation snapshot(DenseMatrix matrix, String label) {
+        return new GaussMatrixOperation(Type.SNAPSHOT, 0, 0, 0, false, matrix.copy(), label);
+    }
+
+    /**
+     * Applies the operation to a given matrix.
+     *
+     * @param matrix The matrix to act on.
+     */
+    public void apply(DenseMatrix matrix) {
+        switch (type) {
+            case SWAP:
+                swapRows(matrix, index1 - 1, index2 - 1);
+                break;
+            case COLUMN_SWAP:
+                swapColumns(matrix, index1 - 1, index2 - 1);
+                break;
+            case DIVISION:
+                divideRow(matrix, index1 - 1, index1 - 1);
+                break;
+            case SUBTRACT:
+            case MULTIPLY_AND_SUBTRACT:
+                applySubtract(matrix);
+                break;
+            case SNAPSHOT:
+                System.arraycopy(snapshot.getData(), 0, matrix.getData(), 0, matrix.getData().length);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Subtracts a multiple of the pivot row from the target row of a given matrix.
+     *
+     * @param matrix The matrix to act on.
+     */
+    private void applySubtract(DenseMatrix matrix) {
+        if (backSubstitution) {
+            matrix.setValue(index2 - 1, index1 - 1, 0);
+            subtractRow(matrix, index2 - 1, index1 - 1, matrix.getRowCount());
+        }
+        else {
+            subtractRow(matrix, index2 - 1, index1 - 1, index1 - 1);
+        }
+    }
+
+    /**
+     * Swaps two rows of a given matrix.
+     *
+     * @param matrix The matrix to act on.
+     * @param row1 The zero-based row to swap.
+     * @param row2 The zero-based row to swap with.
+     */
+    private static void swapRows(DenseMatrix matrix, int row1, int row2) {
+        double[] data = matrix.getData();
+        int offset1 = row1 * matrix.getStride();
+        int offset2 = row2 * matrix.getStride();
+
+        for (int column = 0; column < matrix.getColumnCount(); column++) {
+            double temp = data[offset1 + column];
+            data[offset1 + column] = data[offset2 + column];
+            data[offset2 + column] = temp;
+        }
+    }
+
+    /**
+     * Swaps two columns of a given matrix.
+     *
+     * @param matrix The matrix to act on.
+     * @param column1 The zero-based column to swap.
+     * @param column2 The zero-based column to swap with.
+     */
+    private static void swapColumns(DenseMatrix matrix, int column1, int column2) {
+        double[] data = matrix.getData();
+
+        for (int offset = 0; offset < data.length; offset += matrix.getStride()) {
+            double temp = data[offset + column1];
+            data[offset + column1] = data[offset + column2];
+            data[offset + column2] = temp;
+        }
+    }
+
+    /**
+     * Divides a row of a given matrix by the scalar, starting at a given column.
+     *
+     * Adding zero after the division normalizes negative zero results to zero, like the elimination does.
+     *
+     * @param matrix The matrix to act on.
+     * @param row The zero-based row to divide.
+     * @param fromColumn The first column to update.
+     */
+    private void divideRow(DenseMatrix matrix, int row, int fromColumn) {
+        double[] data = matrix.getData();
+        int offset = row * matrix.getStride();
+
+        for (int column = fromColumn; column < matrix.getColumnCount(); column++) {
+            data[offset + column] = data[offset + column] / scalar + (double) 0;
+        }
+    }
+
+    /**
+     * Subtracts the scalar multiple of a row from another row of a given matrix, starting at a given column.
+     *
+     * @param matrix The matrix to act on.
+     * @param target The zero-based row to subtract from.
+     * @param source The zero-based row to multiply and subtract.
+     * @param fromColumn The first column to update.
+     */
+    private void subtractRow(DenseMatrix matrix, int target, int source, int fromColumn) {
+        double[] data = matrix.getData();
+        int targetOffset = target * matrix.getStride();
+        int sourceOffset = source * matrix.getStride();
+
+        for (int column = fromColumn; column < matrix.getColumnCount(); column++) {
+            data[targetOffset + column] -= data[sourceOffset + column] * scalar;
+        }
+    }
+
+    /**
+     * Gets a label describing the operation.
+     *
+     * @return The label of the operation.
+     */
+    public String getLabel() {
+        String label = "";
+
+        if (backSubstitution) {
+            label += "Back substitution: ";
+        }
+
+        switch (type) {
+            case SWAP:
+                return label + "Swap row " + index1 + " with row " + index2 + ".";
+            case COLUMN_SWAP:
+                return label + "Swap column " + index1 + " with column " + index2 + ".";
+            case DIVISION:
+                return label + "Divide row " + index1 + " by " + scalar + ".";
+            case SUBTRACT:
+                return label + "Subtract row " + index1 + " from row " + index2 + ".";
+            case MULTIPLY_AND_SUBTRACT:
+                return label + "Multiply row " + index1 + " by " + scalar + " and subtract from row " + index2 + ".";
+            case INVALID:
+                return "Invalid input given: Matrix has no unique solution.";
+            default:
+                return snapshotLabel;
+        }
+    }
+
+    /**
+     * Gets the type of the operation.
+     *
+     * @return The operation type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the first row or column of the operation.
+     *
+     * @return The one-based row or column number.
+     */
+    public int getIndex1() {
+        return index1;
+    }
+
+    /**
+     * Gets the second row or column of the operation.
+     *
+     * @return The one-based row or column number.
+     */
+    public int getIndex2() {
+        return index2;
+    }
+
+    /**
+     * Gets the scalar of the operation.
+     *
+     * @return The scalar.
+     */
+    public double getScalar() {
+        return scalar;
+    }
+
+    /**
+     * Gets the recorded matrix of a snapshot operation.
+     *
+     * @return A copy of the recorded matrix, or null if the operation is no snapshot.
+     */
+    public DenseMatrix getSnapshot() {
+        return snapshot == null ? null : snapshot.copy();
+    }
+
+    /**
+     * Checks if the operation is a part of back substitution.
+     *
+     * @return True if part of back substitution, false if not.
+     */
+    public boolean isBackSubstitution() {
+        return backSubstitution;
+    }
+}
@@ -1,9 +1,11 @@
 package io.bussmann.gauss.types;
 
 import io.bussmann.gauss.helpers.Subscript;
-import io.bussmann.gauss.helpers.Superscript;
+import io.bussmann.gauss.helpers.VulgarFraction;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.fraction.BigFraction;
 
 import java.text.DecimalFormat;
 
@@ -15,14 +17,64 @@ import java.text.DecimalFormat;
  * @author Frederik Bußmann
  */
 public class GaussMatrixOutput extends GridPane {
+    /**
+     * The largest denominator used when showing values as fractions.
+     */
+    private static final int MAX_FRACTION_DENOMINATOR = 100000;
+
+    /**
+     * Whether values are shown as fractions.
+     */
+    private final boolean fractions;
+
+    /**
+     * The exact row-major values to show as fractions, or null to show the matrix values.
+     */
+    private final BigFraction[] exactValues;
+
     /**
      * Class constructor.
      *
      * @param matrix The matrix to show.
      */
     public GaussMatrixOutput(GaussMatrix matrix) {
+        this(matrix, false);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to show.
+     * @param fractions Whether to show the values as fractions where a fraction with a small denominator matches,
+     *                  marked as approximation unless it equals the value.
+     */
+    public GaussMatrixOutput(GaussMatrix matrix, boolean fractions) {
+        this(matrix, fractions, null);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to show.
+     * @param exactValues The exact row-major values of the matrix to show as fractions.
+     */
+    public GaussMatrixOutput(GaussMatrix matrix, BigFraction[] exactValues) {
+        this(matrix, true, exactValues);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param matrix The matrix to show.
+     * @param fractions Whether to show the values as fractions.
+     * @param exactValues The exact row-major values of the matrix, or null to show the matrix values.
+     */
+    private GaussMatrixOutput(GaussMatrix matrix, boolean fractions, BigFraction[] exactValues) {
         super();
 
+        this.fractions = fractions;
+        this.exactValues = exactValues;
+
         initialize(matrix);
     }
 
@@ -43,14 +95,22 @@ public class GaussMatrixOutput extends GridPane {
 
                 Label valueLabel = new Label();
                 valueLabel.getStyleClass().add("outputValueLabel");
-                setValue(valueLabel, value);
+
+                if (exactValues != null) {
+                    valueLabel.setText(new VulgarFraction(exactValues[row * matrix.getColumnCount() + column])
+                            .toString());
+                }
+                else {
+                    setValue(valueLabel, value);
+                }
+
                 valueWrapper.getChildren().add(valueLabel);
 
                 Label variableLabel = new Label();
                 variableLabel.getStyleClass().add("outputVariableLabel");
 
                 int variableRow = row + 1;
-                int variableColumn = column == matrix.getColumnCount() - 1 ? 0 : column + 1;
+                int variableColumn = column >= matrix.getRowCount() ? 0 : column + 1;
                 setVariable(variableLabel, variableRow, variableColumn);
 
                 wrapper.getChildren().add(valueWrapper);
@@ -68,10 +128,28 @@ public class GaussMatrixOutput extends GridPane {
     /**
      * Sets the number value of a field in the matrix.
      *
+     * Fractions found for a value are approximations of the value rounded during the elimination, so they are
+     * prefixed by an approximation sign unless they equal the value exactly.
+     *
      * @param label The label to write the value to.
      * @param value The value to set.
      */
     private void setValue(Label label, double value) {
+        if (fractions && Double.isFinite(value)) {
+            try {
+                BigFraction fraction = new BigFraction(value, MAX_FRACTION_DENOMINATOR);
+
+                // Only use the fraction if it matches the value up to rounding errors
+                if (Math.abs(fraction.doubleValue() - value) <= 1e-9 * Math.max(1, Math.abs(value))) {
+                    String prefix = fraction.equals(new BigFraction(value)) ? "" : "≈ ";
+                    label.setText(prefix + new VulgarFraction(fraction));
+                    return;
+                }
+            } catch (MathIllegalStateException exception) {
+                // No matching fraction, the value is shown as decimal
+            }
+        }
+
         DecimalFormat decimalFormat = new DecimalFormat("#.#####");
 
         label.setText(decimalFormat.format(value));
@@ -92,29 +170,4 @@ public class GaussMatrixOutput extends GridPane {
             label.setText("b" + new Subscript(row));
         }
     }
-
-    /**
-     * Generates a vulgar fraction from a numerator and a denominator.
-     *
-     * @param numerator The numerator of the value.
-     * @param denominator The denominator of the value.
-     *
-     * @return The vulgar fraction as a string.
-     */
-    private String generateVulgarFraction(int numerator, int denominator) {
-        StringBuilder numeratorOutput = new StringBuilder();
-        StringBuilder denominatorOutput = new StringBuilder();
-
-        while (numerator > 0) {
-            numeratorOutput.append(new Superscript(numerator % 10));
-            numerator = numerator / 10;
-        }
-
-        while (denominator > 0) {
-            denominatorOutput.append(new Subscript(denominator % 10));
-            denominator = denominator / 10;
-        }
-
-        return numeratorOutput.toString() + '\u2044' + denominatorOutput.toString();
-    }
 }
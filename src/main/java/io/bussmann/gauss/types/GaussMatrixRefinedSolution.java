@@ -0,0 +1,54 @@
+package io.bussmann.gauss.types;
+
+/**
+ * Gauss matrix refined solution.
+ *
+ * Holds the solution of a matrix solved by a low precision factorization and iterative refinement, together with the
+ * number of refinement steps and whether the solver had to fall back to a full precision factorization.
+ *
+ * @author Frederik Bußmann
+ */
+public class GaussMatrixRefinedSolution extends GaussMatrixSolution {
+    /**
+     * The number of refinement steps performed.
+     */
+    private final int iterationCount;
+
+    /**
+     * Whether the solution was computed by the full precision fallback.
+     */
+    private final boolean fallback;
+
+    /**
+     * Class constructor.
+     *
+     * @param status The status of the solution.
+     * @param values The solution vectors, one per column, empty if the matrix has no unique solution.
+     * @param iterationCount The number of refinement steps performed.
+     * @param fallback Whether the solution was computed by the full precision fallback.
+     */
+    public GaussMatrixRefinedSolution(Status status, DenseMatrix values, int iterationCount, boolean fallback) {
+        super(status, values);
+
+        this.iterationCount = iterationCount;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Gets the number of refinement steps performed.
+     *
+     * @return The number of refinement steps, before the fallback if there was one.
+     */
+    public int getIterationCount() {
+        return iterationCount;
+    }
+
+    /**
+     * Checks if the solution was computed by the full precision fallback.
+     *
+     * @return True if the refinement did not converge and the fallback was used, false if not.
+     */
+    public boolean isFallback() {
+        return fallback;
+    }
+}
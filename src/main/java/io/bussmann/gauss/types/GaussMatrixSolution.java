@@ -0,0 +1,149 @@
+package io.bussmann.gauss.types;
+
+/**
+ * Gauss matrix solution.
+ *
+ * Holds the solution of a matrix solved without recording a solution trace. There is one solution vector per
+ * augmented column of the solved matrix.
+ *
+ * @author Frederik Bußmann
+ */
+public class GaussMatrixSolution {
+    /**
+     * Solution status.
+     */
+    public enum Status {
+        /**
+         * The matrix has a unique solution.
+         */
+        SOLVED,
+
+        /**
+         * The matrix has no unique solution.
+         */
+        INVALID
+    }
+
+    /**
+     * The status of the solution.
+     */
+    private final Status status;
+
+    /**
+     * The solution vectors, one per column.
+     */
+    private final DenseMatrix values;
+
+    /**
+     * Class constructor.
+     *
+     * @param status The status of the solution.
+     * @param values The values of the solution vector, empty if the matrix has no unique solution.
+     */
+    public GaussMatrixSolution(Status status, double[] values) {
+        this(status, new DenseMatrix(values.length, 1, values));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param status The status of the solution.
+     * @param values The solution vectors, one per column, empty if the matrix has no unique solution.
+     */
+    public GaussMatrixSolution(Status status, DenseMatrix values) {
+        this.status = status;
+        this.values = values;
+    }
+
+    /**
+     * Creates a solution for a matrix without a unique solution.
+     *
+     * @return The invalid solution.
+     */
+    public static GaussMatrixSolution invalid() {
+        return new GaussMatrixSolution(Status.INVALID, new double[0]);
+    }
+
+    /**
+     * Gets the status of the solution.
+     *
+     * @return The solution status.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks if the matrix has no unique solution.
+     *
+     * @return True if the matrix has no unique solution, false if not.
+     */
+    public boolean isInvalid() {
+        return status == Status.INVALID;
+    }
+
+    /**
+     * Gets a value of the first solution vector.
+     *
+     * @param index The index of the variable.
+     *
+     * @return The value of the variable.
+     */
+    public double getValue(int index) throws IndexOutOfBoundsException {
+        return values.getValue(index, 0);
+    }
+
+    /**
+     * Gets a value of a given solution vector.
+     *
+     * @param index The index of the variable.
+     * @param column The index of the solution vector.
+     *
+     * @return The value of the variable.
+     */
+    public double getValue(int index, int column) throws IndexOutOfBoundsException {
+        return values.getValue(index, column);
+    }
+
+    /**
+     * Gets a copy of the first solution vector.
+     *
+     * @return The values of the solution vector.
+     */
+    public double[] getValues() {
+        double[] result = new double[values.getRowCount()];
+
+        for (int index = 0; index < result.length; index++) {
+            result[index] = values.getValue(index, 0);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a copy of all solution vectors.
+     *
+     * @return The solution vectors, one per column.
+     */
+    public DenseMatrix getSolutionMatrix() {
+        return values.copy();
+    }
+
+    /**
+     * Gets the number of values in each solution vector.
+     *
+     * @return The number of values.
+     */
+    public int getValueCount() {
+        return values.getRowCount();
+    }
+
+    /**
+     * Gets the number of solution vectors.
+     *
+     * @return The number of solution vectors.
+     */
+    public int getSolutionCount() {
+        return values.getColumnCount();
+    }
+}
@@ -7,128 +7,295 @@ import java.util.Vector;
  *
  * Keeps track of each step performed in solving a matrix with the gaussian elimination algorithm.
  *
+ * Only the initial matrix and a compact record of each operation are stored. The matrix at a given step is rebuilt
+ * on demand by replaying the operations from the nearest checkpoint, a full copy of the matrix taken every
+ * checkpoint interval steps.
+ *
+ * Recording steps is not thread-safe, a trace must be filled by a single thread. Once filled, its steps may be read
+ * by several threads, as rebuilding a step is synchronized.
+ *
  * @author Frederik Bußmann
  */
 public class GaussMatrixSolutionTrace {
+    /**
+     * The minimal number of steps between two checkpoints.
+     */
+    public static final int MIN_CHECKPOINT_INTERVAL = 16;
+
     /**
      * Stores the matrices' validity state for the calculation.
      */
     public boolean invalid = false;
 
     /**
-     * Stores the matrix values for each step performed.
+     * Stores the operation of each step performed.
+     */
+    private final Vector<GaussMatrixOperation> steps;
+
+    /**
+     * Stores a copy of the matrix values before every checkpoint interval steps, starting with the initial matrix.
+     */
+    private final Vector<double[]> checkpoints;
+
+    /**
+     * The number of steps between two checkpoints.
      */
-    private final Vector<GaussMatrix> steps;
+    private final int checkpointInterval;
 
     /**
-     * Stores the labels for each step performed.
+     * The row count of the recorded matrix.
      */
-    private final Vector<String> stepLabels;
+    private int rowCount;
 
     /**
-     * Keeps count of all steps in the solution.
+     * The column count of the recorded matrix.
      */
-    private int stepCount = 0;
+    private int columnCount;
+
+    /**
+     * The most recently rebuilt matrix, used to continue replaying when steps are read in order.
+     */
+    private DenseMatrix cachedStep;
+
+    /**
+     * The index of the most recently rebuilt matrix.
+     */
+    private int cachedStepIndex = -1;
+
+    /**
+     * Stores the original row index for each row of the solved matrix.
+     */
+    private int[] rowPermutation;
 
     /**
      * Class constructor.
+     *
+     * Without an initial matrix, the first step is recorded as a whole matrix, see {@link #addStep}.
+     *
+     * @deprecated Pass the initial matrix, see {@link #GaussMatrixSolutionTrace(DenseMatrix)}.
      */
+    @Deprecated
     public GaussMatrixSolutionTrace() {
+        checkpointInterval = MIN_CHECKPOINT_INTERVAL;
+
+        steps = new Vector<>();
+        checkpoints = new Vector<>();
+    }
+
+    /**
+     * Class constructor.
+     *
+     * The checkpoint interval is chosen relative to the matrix size, keeping the memory for checkpoints small.
+     *
+     * @param initialMatrix The matrix before the first step.
+     */
+    public GaussMatrixSolutionTrace(DenseMatrix initialMatrix) {
+        this(initialMatrix, getDefaultCheckpointInterval(initialMatrix));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param initialMatrix The matrix before the first step.
+     * @param checkpointInterval The number of steps between two full copies of the matrix.
+     */
+    public GaussMatrixSolutionTrace(DenseMatrix initialMatrix, int checkpointInterval)
+            throws IllegalArgumentException {
+        if (checkpointInterval < 1) {
+            String message = "The checkpoint interval must be positive, " + checkpointInterval + " given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.checkpointInterval = checkpointInterval;
+
+        rowCount = initialMatrix.getRowCount();
+        columnCount = initialMatrix.getColumnCount();
+
         steps = new Vector<>();
-        stepLabels = new Vector<>();
+        checkpoints = new Vector<>();
+        checkpoints.add(initialMatrix.getData().clone());
     }
 
     /**
-     * Adds a step to the solution trace.
+     * Gets the default checkpoint interval for a given matrix.
+     *
+     * @param matrix The matrix to record.
+     *
+     * @return The number of steps between two checkpoints.
+     */
+    public static int getDefaultCheckpointInterval(DenseMatrix matrix) {
+        return Math.max(MIN_CHECKPOINT_INTERVAL, matrix.getRowCount() * matrix.getColumnCount() / 16);
+    }
+
+    /**
+     * Adds a step with a given matrix to the solution trace.
+     *
+     * The whole matrix is recorded, prefer the operation specific methods.
      *
      * @param matrix The matrix to record.
      * @param stepLabel The label of the step.
      */
     public void addStep(GaussMatrix matrix, String stepLabel) {
-        steps.add((GaussMatrix) matrix.clone());
-        stepLabels.add(stepLabel);
+        DenseMatrix values = DenseMatrix.fromGaussMatrix(matrix);
 
-        stepCount++;
+        addOperation(GaussMatrixOperation.snapshot(values, stepLabel), values);
     }
 
     /**
      * Adds a row subtraction step to the solution trace.
      *
-     * @param matrix The matrix to record.
+     * @param matrix The matrix after the step, only read if a checkpoint is due.
      * @param row1 The row to subtract from.
      * @param row2 The row to substract.
      * @param backSubstitution Records this step as a part of back substitution.
      */
+    public void addSubtract(DenseMatrix matrix, int row1, int row2, boolean backSubstitution) {
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.SUBTRACT;
+
+        addOperation(new GaussMatrixOperation(type, row1, row2, 1, backSubstitution), matrix);
+    }
+
+    /**
+     * Adds a row subtraction step to the solution trace.
+     *
+     * @param matrix The matrix after the step, it is recorded as a whole.
+     * @param row1 The row to subtract from.
+     * @param row2 The row to substract.
+     * @param backSubstitution Records this step as a part of back substitution.
+     *
+     * @deprecated Records a full copy of the matrix, use {@link #addSubtract(DenseMatrix, int, int, boolean)}.
+     */
+    @Deprecated
     public void addSubtract(GaussMatrix matrix, int row1, int row2, boolean backSubstitution) {
-        String label = "";
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.SUBTRACT;
 
-        if (backSubstitution) {
-            label += "Back substitution: ";
-        }
+        addStep(matrix, new GaussMatrixOperation(type, row1, row2, 1, backSubstitution).getLabel());
+    }
 
-         label += "Subtract row " + row1 + " from row " + row2 + ".";
+    /**
+     * Adds a row division step to the solution trace.
+     *
+     * @param matrix The matrix after the step, only read if a checkpoint is due.
+     * @param row The row to divide.
+     * @param scalar The number to divide the row by.
+     * @param backSubstitution Records this step as a part of back substitution.
+     */
+    public void addDivision(DenseMatrix matrix, int row, double scalar, boolean backSubstitution) {
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.DIVISION;
 
-        addStep(matrix, label);
+        addOperation(new GaussMatrixOperation(type, row, row, scalar, backSubstitution), matrix);
     }
 
     /**
      * Adds a row division step to the solution trace.
      *
-     * @param matrix The matrix to record.
+     * @param matrix The matrix after the step, it is recorded as a whole.
      * @param row The row to divide.
      * @param scalar The number to divide the row by.
      * @param backSubstitution Records this step as a part of back substitution.
+     *
+     * @deprecated Records a full copy of the matrix, use {@link #addDivision(DenseMatrix, int, double, boolean)}.
      */
+    @Deprecated
     public void addDivision(GaussMatrix matrix, int row, double scalar, boolean backSubstitution) {
-        String label = "";
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.DIVISION;
 
-        if (backSubstitution) {
-            label += "Back substitution: ";
-        }
+        addStep(matrix, new GaussMatrixOperation(type, row, row, scalar, backSubstitution).getLabel());
+    }
 
-        label += "Divide row " + row + " by " + scalar + ".";
+    /**
+     * Adds a row swap step to the solution trace.
+     *
+     * @param matrix The matrix after the step, only read if a checkpoint is due.
+     * @param row1 The row to swap.
+     * @param row2 The row to swap with.
+     * @param backSubstitution Records this step as a part of back substitution.
+     */
+    public void addSwap(DenseMatrix matrix, int row1, int row2, boolean backSubstitution) {
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.SWAP;
 
-        addStep(matrix, label);
+        addOperation(new GaussMatrixOperation(type, row1, row2, 1, backSubstitution), matrix);
     }
 
     /**
      * Adds a row swap step to the solution trace.
      *
-     * @param matrix The matrix to record.
+     * @param matrix The matrix after the step, it is recorded as a whole.
      * @param row1 The row to swap.
      * @param row2 The row to swap with.
      * @param backSubstitution Records this step as a part of back substitution.
+     *
+     * @deprecated Records a full copy of the matrix, use {@link #addSwap(DenseMatrix, int, int, boolean)}.
      */
+    @Deprecated
     public void addSwap(GaussMatrix matrix, int row1, int row2, boolean backSubstitution) {
-        String label = "";
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.SWAP;
 
-        if (backSubstitution) {
-            label += "Back substitution: ";
-        }
+        addStep(matrix, new GaussMatrixOperation(type, row1, row2, 1, backSubstitution).getLabel());
+    }
 
-        label += "Swap row " + row1 + " with row " + row2 + ".";
+    /**
+     * Adds a column swap step to the solution trace.
+     *
+     * @param matrix The matrix after the step, only read if a checkpoint is due.
+     * @param column1 The column to swap.
+     * @param column2 The column to swap with.
+     */
+    public void addColumnSwap(DenseMatrix matrix, int column1, int column2) {
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.COLUMN_SWAP;
 
-        addStep(matrix, label);
+        addOperation(new GaussMatrixOperation(type, column1, column2, 1, false), matrix);
+    }
+
+    /**
+     * Adds a column swap step to the solution trace.
+     *
+     * @param matrix The matrix after the step, it is recorded as a whole.
+     * @param column1 The column to swap.
+     * @param column2 The column to swap with.
+     *
+     * @deprecated Records a full copy of the matrix, use {@link #addColumnSwap(DenseMatrix, int, int)}.
+     */
+    @Deprecated
+    public void addColumnSwap(GaussMatrix matrix, int column1, int column2) {
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.COLUMN_SWAP;
+
+        addStep(matrix, new GaussMatrixOperation(type, column1, column2, 1, false).getLabel());
     }
 
     /**
      * Adds a row multiplication and subtraction step to the solution trace.
      *
-     * @param matrix The matrix to record.
+     * @param matrix The matrix after the step, only read if a checkpoint is due.
      * @param row1 The row to multiply and subtract.
      * @param row2 The row to subtract multiplied row from.
      * @param backSubstitution Records this step as a part of back substitution.
      */
-    public void addMultiplyAndSubtract(GaussMatrix matrix, int row1, int row2, double scalar, boolean backSubstitution) {
-        String label = "";
+    public void addMultiplyAndSubtract(DenseMatrix matrix, int row1, int row2, double scalar,
+                                       boolean backSubstitution) {
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.MULTIPLY_AND_SUBTRACT;
 
-        if (backSubstitution) {
-            label += "Back substitution: ";
-        }
+        addOperation(new GaussMatrixOperation(type, row1, row2, scalar, backSubstitution), matrix);
+    }
 
-        label += "Multiply row " + row1 + " by " + scalar + " and subtract from row " + row2 + ".";
+    /**
+     * Adds a row multiplication and subtraction step to the solution trace.
+     *
+     * @param matrix The matrix after the step, it is recorded as a whole.
+     * @param row1 The row to multiply and subtract.
+     * @param row2 The row to subtract multiplied row from.
+     * @param scalar The number to multiply the row by.
+     * @param backSubstitution Records this step as a part of back substitution.
+     *
+     * @deprecated Records a full copy of the matrix, use
+     *             {@link #addMultiplyAndSubtract(DenseMatrix, int, int, double, boolean)}.
+     */
+    @Deprecated
+    public void addMultiplyAndSubtract(GaussMatrix matrix, int row1, int row2, double scalar,
+                                       boolean backSubstitution) {
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.MULTIPLY_AND_SUBTRACT;
 
-        addStep(matrix, label);
+        addStep(matrix, new GaussMatrixOperation(type, row1, row2, scalar, backSubstitution).getLabel());
     }
 
     /**
@@ -136,12 +303,24 @@ public class GaussMatrixSolutionTrace {
      *
      * @param matrix The matrix to record.
      */
-    public void addInvalid(GaussMatrix matrix) {
+    public void addInvalid(DenseMatrix matrix) {
         invalid = true;
 
-        String label = "Invalid input given: Matrix has no unique solution.";
+        GaussMatrixOperation.Type type = GaussMatrixOperation.Type.INVALID;
+
+        addOperation(new GaussMatrixOperation(type, 0, 0, 0, false), matrix);
+    }
 
-        addStep(matrix, label);
+    /**
+     * Adds error information about a given unsolvable matrix to the solution trace.
+     *
+     * @param matrix The matrix to record, it is recorded as a whole.
+     *
+     * @deprecated Records a full copy of the matrix, use {@link #addInvalid(DenseMatrix)}.
+     */
+    @Deprecated
+    public void addInvalid(GaussMatrix matrix) {
+        addInvalid(DenseMatrix.fromGaussMatrix(matrix));
     }
 
     /**
@@ -151,7 +330,54 @@ public class GaussMatrixSolutionTrace {
      *
      * @return The matrix at this step in the algorithm.
      */
-    public GaussMatrix getStep(int index) {
+    public synchronized GaussMatrix getStep(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > steps.size() - 1) {
+            String message = "The step " + index + " does not exist in the solution trace.";
+            throw new IndexOutOfBoundsException(message);
+        }
+
+        int checkpoint = Math.min((index + 1) / checkpointInterval, checkpoints.size() - 1);
+        int firstStep = checkpoint * checkpointInterval;
+
+        // Continue from the previously rebuilt step if it is closer than the checkpoint
+        if (cachedStep == null || cachedStepIndex > index || cachedStepIndex < firstStep - 1) {
+            cachedStep = new DenseMatrix(rowCount, columnCount, checkpoints.get(checkpoint).clone());
+            cachedStepIndex = firstStep - 1;
+        }
+
+        for (int step = cachedStepIndex + 1; step <= index; step++) {
+            steps.get(step).apply(cachedStep);
+        }
+
+        cachedStepIndex = index;
+
+        return cachedStep.toGaussMatrix();
+    }
+
+    /**
+     * Gets the matrix before the first step of the solution trace.
+     *
+     * For a trace recorded without initial matrix this is the matrix after the first step, which is recorded as a
+     * whole.
+     *
+     * @return A copy of the initial matrix, or null if no step was recorded.
+     */
+    public DenseMatrix getInitialMatrix() {
+        if (checkpoints.isEmpty()) {
+            return null;
+        }
+
+        return new DenseMatrix(rowCount, columnCount, checkpoints.get(0).clone());
+    }
+
+    /**
+     * Gets the operation of a step of the solution trace.
+     *
+     * @param index The index of the step.
+     *
+     * @return The operation performed at this step in the algorithm.
+     */
+    public GaussMatrixOperation getOperation(int index) {
         return steps.get(index);
     }
 
@@ -163,7 +389,7 @@ public class GaussMatrixSolutionTrace {
      * @return The label of the given step.
      */
     public String getStepLabel(int index) {
-        return stepLabels.get(index);
+        return steps.get(index).getLabel();
     }
 
     /**
@@ -172,6 +398,58 @@ public class GaussMatrixSolutionTrace {
      * @return The number of steps for this solution.
      */
     public int getStepCount() {
-        return stepCount;
+        return steps.size();
+    }
+
+    /**
+     * Gets the number of steps between two checkpoints.
+     *
+     * @return The checkpoint interval.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Sets the row permutation of the solution.
+     *
+     * @param rowPermutation The original row index for each row of the solved matrix.
+     */
+    public void setRowPermutation(int[] rowPermutation) {
+        this.rowPermutation = rowPermutation;
+    }
+
+    /**
+     * Gets the row permutation of the solution.
+     *
+     * @return The original row index for each row of the solved matrix, or null if not recorded.
+     */
+    public int[] getRowPermutation() {
+        return rowPermutation;
+    }
+
+    /**
+     * Adds an operation to the solution trace and takes a checkpoint if one is due.
+     *
+     * @param operation The operation to record.
+     * @param matrix The matrix after the operation.
+     */
+    private void addOperation(GaussMatrixOperation operation, DenseMatrix matrix) {
+        // Without an initial matrix, the first step is replayed from a copy of the matrix after it
+        if (checkpoints.isEmpty()) {
+            rowCount = matrix.getRowCount();
+            columnCount = matrix.getColumnCount();
+            checkpoints.add(matrix.getData().clone());
+
+            if (operation.getType() != GaussMatrixOperation.Type.INVALID) {
+                operation = GaussMatrixOperation.snapshot(matrix, operation.getLabel());
+            }
+        }
+
+        steps.add(operation);
+
+        if (steps.size() % checkpointInterval == 0) {
+            checkpoints.add(matrix.getData().clone());
+        }
     }
 }
@@ -0,0 +1,464 @@
+package io.bussmann.gauss.types;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Mapped matrix.
+ *
+ * Represents a dense matrix stored in a file instead of on the heap. The values are stored row by row as raw doubles
+ * in little-endian byte order and mapped into memory, so the operating system pages them in and out as they are
+ * accessed and the matrix may be larger than the heap or even the physical memory. The values may start at an offset
+ * into the file, following a header.
+ *
+ * A single mapping is limited to two gigabytes, so the file is mapped in chunks of whole rows. Values are best read
+ * and written by row segments with {@link #readRow} and {@link #writeRow}, which copy them in bulk.
+ *
+ * A matrix opened by {@link #openReadOnly} maps the file read-only, so it can load files without write permission and
+ * never changes them. Writing its values fails.
+ *
+ * @author Frederik Bußmann
+ */
+public class MappedMatrix implements Closeable {
+    /**
+     * The maximal number of bytes mapped per chunk.
+     */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    /**
+     * The file storing the values.
+     */
+    private final Path path;
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The row count of the matrix.
+     */
+    private final int rowCount;
+
+    /**
+     * The column count of the matrix.
+     */
+    private final int columnCount;
+
+    /**
+     * Whether the file is mapped read-only.
+     */
+    private final boolean readOnly;
+
+    /**
+     * The number of rows per chunk.
+     */
+    private final int chunkRowCount;
+
+    /**
+     * The mapped chunks.
+     */
+    private final MappedByteBuffer[] chunks;
+
+    /**
+     * The values of the mapped chunks.
+     */
+    private final DoubleBuffer[] values;
+
+    /**
+     * Class constructor.
+     *
+     * @param path The file storing the values.
+     * @param channel The channel of the file, opened for reading and, unless read-only, writing.
+     * @param offset The position of the first value in the file.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param readOnly Whether to map the file read-only.
+     */
+    private MappedMatrix(Path path, FileChannel channel, long offset, int rowCount, int columnCount,
+                         boolean readOnly) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.readOnly = readOnly;
+
+        FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+
+        long rowSize = (long) columnCount * Double.BYTES;
+        chunkRowCount = (int) Math.max(1, Math.min(rowCount, MAX_CHUNK_SIZE / Math.max(rowSize, 1)));
+
+        int chunkCount = rowCount == 0 ? 0 : (rowCount - 1) / chunkRowCount + 1;
+        chunks = new MappedByteBuffer[chunkCount];
+        values = new DoubleBuffer[chunkCount];
+
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int rows = Math.min(chunkRowCount, rowCount - chunk * chunkRowCount);
+
+            chunks[chunk] = channel.map(mode, offset + chunk * chunkRowCount * rowSize, rows * rowSize);
+            values[chunk] = chunks[chunk].order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+    }
+
+    /**
+     * Creates a matrix of zeros in a given file, replacing its contents.
+     *
+     * @param path The file to store the values in.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     *
+     * @return The created matrix.
+     */
+    public static MappedMatrix create(Path path, int rowCount, int columnCount)
+            throws IllegalArgumentException, IOException {
+        checkDimensions(rowCount, columnCount);
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        return map(path, channel, 0, rowCount, columnCount, false);
+    }
+
+    /**
+     * Opens a matrix stored in a given file.
+     *
+     * @param path The file storing the values.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     *
+     * @return The opened matrix.
+     */
+    public static MappedMatrix open(Path path, int rowCount, int columnCount)
+            throws IllegalArgumentException, IOException {
+        return open(path, 0, rowCount, columnCount);
+    }
+
+    /**
+     * Opens a matrix stored in a given file after a header.
+     *
+     * Changes of the values are written to the file.
+     *
+     * @param path The file storing the values.
+     * @param offset The position of the first value in the file.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     *
+     * @return The opened matrix.
+     */
+    public static MappedMatrix open(Path path, long offset, int rowCount, int columnCount)
+            throws IllegalArgumentException, IOException {
+        return open(path, offset, rowCount, columnCount, false);
+    }
+
+    /**
+     * Opens a matrix stored in a given file after a header for reading only.
+     *
+     * The file is neither opened nor mapped for writing, so it may be read-only.
+     *
+     * @param path The file storing the values.
+     * @param offset The position of the first value in the file.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     *
+     * @return The opened matrix.
+     */
+    public static MappedMatrix openReadOnly(Path path, long offset, int rowCount, int columnCount)
+            throws IllegalArgumentException, IOException {
+        return open(path, offset, rowCount, columnCount, true);
+    }
+
+    /**
+     * Opens a matrix stored in a given file after a header.
+     *
+     * @param path The file storing the values.
+     * @param offset The position of the first value in the file.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param readOnly Whether to open and map the file read-only.
+     *
+     * @return The opened matrix.
+     */
+    private static MappedMatrix open(Path path, long offset, int rowCount, int columnCount, boolean readOnly)
+            throws IllegalArgumentException, IOException {
+        checkDimensions(rowCount, columnCount);
+
+        if (offset < 0) {
+            String message = "The offset must not be negative, " + offset + " given.";
+            throw new IllegalArgumentException(message);
+        }
+
+        FileChannel channel = readOnly ? FileChannel.open(path, StandardOpenOption.READ)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        long expectedSize = offset + (long) rowCount * columnCount * Double.BYTES;
+
+        if (size != expectedSize) {
+            channel.close();
+
+            String message = "The file " + path + " has " + size + " bytes, a " + rowCount + " x " + columnCount
+                    + " matrix needs " + expectedSize + ".";
+            throw new IllegalArgumentException(message);
+        }
+
+        return map(path, channel, offset, rowCount, columnCount, readOnly);
+    }
+
+    /**
+     * Creates a matrix in a given file from the values of a given dense matrix.
+     *
+     * @param matrix The matrix to copy.
+     * @param path The file to store the values in, its contents are replaced.
+     *
+     * @return The created matrix.
+     */
+    public static MappedMatrix fromDenseMatrix(DenseMatrix matrix, Path path) throws IOException {
+        MappedMatrix result = create(path, matrix.getRowCount(), matrix.getColumnCount());
+
+        for (int row = 0; row < matrix.getRowCount(); row++) {
+            result.writeRow(row, 0, matrix.getData(), row * matrix.getStride(), matrix.getColumnCount());
+        }
+
+        return result;
+    }
+
+    /**
+     * Copies the values into a new file, for example to change them without changing this file.
+     *
+     * @param target The file to store the copied values in, its contents are replaced.
+     *
+     * @return The writable copy.
+     */
+    public MappedMatrix copy(Path target) throws IOException {
+        MappedMatrix result = create(target, rowCount, columnCount);
+        double[] row = new double[columnCount];
+
+        for (int index = 0; index < rowCount; index++) {
+            readRow(index, 0, row, 0, columnCount);
+            result.writeRow(index, 0, row, 0, columnCount);
+        }
+
+        return result;
+    }
+
+    /**
+     * Copies the values into a dense matrix on the heap.
+     *
+     * @return The created dense matrix.
+     */
+    public DenseMatrix toDenseMatrix() {
+        DenseMatrix result = new DenseMatrix(rowCount, columnCount);
+
+        for (int row = 0; row < rowCount; row++) {
+            readRow(row, 0, result.getData(), row * result.getStride(), columnCount);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a value in the matrix at a given row and column.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The value at the given position.
+     */
+    public double getValue(int row, int column) throws IndexOutOfBoundsException {
+        checkMatrixPosition(row, column);
+
+        return values[row / chunkRowCount].get((row % chunkRowCount) * columnCount + column);
+    }
+
+    /**
+     * Sets a value in the matrix at a given row and column.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     * @param value The value to set.
+     */
+    public void setValue(int row, int column, double value)
+            throws IndexOutOfBoundsException, UnsupportedOperationException {
+        checkWritable();
+        checkMatrixPosition(row, column);
+
+        values[row / chunkRowCount].put((row % chunkRowCount) * columnCount + column, value);
+    }
+
+    /**
+     * Copies consecutive values of a row into an array.
+     *
+     * @param row The row to read.
+     * @param fromColumn The first column to read.
+     * @param target The array to copy the values to.
+     * @param offset The index of the first value in the array.
+     * @param length The number of values to read.
+     */
+    public void readRow(int row, int fromColumn, double[] target, int offset, int length)
+            throws IndexOutOfBoundsException {
+        checkRowSegment(row, fromColumn, length);
+
+        values[row / chunkRowCount].get((row % chunkRowCount) * columnCount + fromColumn, target, offset, length);
+    }
+
+    /**
+     * Copies values from an array into consecutive values of a row.
+     *
+     * @param row The row to write.
+     * @param fromColumn The first column to write.
+     * @param source The array to copy the values from.
+     * @param offset The index of the first value in the array.
+     * @param length The number of values to write.
+     */
+    public void writeRow(int row, int fromColumn, double[] source, int offset, int length)
+            throws IndexOutOfBoundsException, UnsupportedOperationException {
+        checkWritable();
+        checkRowSegment(row, fromColumn, length);
+
+        values[row / chunkRowCount].put((row % chunkRowCount) * columnCount + fromColumn, source, offset, length);
+    }
+
+    /**
+     * Gets the number of rows in the matrix.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of columns in the matrix.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * Gets the file storing the values.
+     *
+     * @return The path of the file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Checks if the file is mapped read-only.
+     *
+     * @return True if read-only, false if the values can be changed.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Writes all changed values to the file.
+     */
+    public void flush() {
+        if (readOnly) {
+            return;
+        }
+
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    /**
+     * Writes all changed values to the file and closes it. The matrix must not be used afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    /**
+     * Maps an opened file, closing it if the mapping fails.
+     *
+     * @param path The file storing the values.
+     * @param channel The channel of the file.
+     * @param offset The position of the first value in the file.
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param readOnly Whether to map the file read-only.
+     *
+     * @return The mapped matrix.
+     */
+    private static MappedMatrix map(Path path, FileChannel channel, long offset, int rowCount, int columnCount,
+                                    boolean readOnly) throws IOException {
+        try {
+            return new MappedMatrix(path, channel, offset, rowCount, columnCount, readOnly);
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Checks if the values can be changed.
+     */
+    private void checkWritable() throws UnsupportedOperationException {
+        if (readOnly) {
+            String message = "The matrix in " + path + " is mapped read-only.";
+            throw new UnsupportedOperationException(message);
+        }
+    }
+
+    /**
+     * Checks if a matrix with given dimensions can be mapped.
+     *
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     */
+    private static void checkDimensions(int rowCount, int columnCount) throws IllegalArgumentException {
+        if (rowCount < 0 || columnCount < 0 || (long) columnCount * Double.BYTES > MAX_CHUNK_SIZE) {
+            String message = "Cannot map a " + rowCount + " x " + columnCount + " matrix.";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Checks if a segment of consecutive values exists in a row of the matrix.
+     *
+     * @param row The row to check.
+     * @param fromColumn The first column of the segment.
+     * @param length The number of values of the segment.
+     */
+    private void checkRowSegment(int row, int fromColumn, int length) throws IndexOutOfBoundsException {
+        if (row < 0 || row > rowCount - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access row " + row + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+        if (fromColumn < 0 || length < 0 || fromColumn > columnCount - length) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access " + length
+                    + " values from column " + fromColumn + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    /**
+     * Checks if a row and column position exists in the matrix.
+     *
+     * @param row The row to check.
+     * @param column The column to check.
+     */
+    private void checkMatrixPosition(int row, int column) throws IndexOutOfBoundsException {
+        if (row < 0 || row > rowCount - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access row " + row + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+        if (column < 0 || column > columnCount - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access column " + column + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+}
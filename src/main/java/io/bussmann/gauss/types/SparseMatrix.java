@@ -0,0 +1,332 @@
+package io.bussmann.gauss.types;
+
+import java.util.Arrays;
+
+/**
+ * Sparse matrix.
+ *
+ * Represents a matrix in compressed sparse row (CSR) form. Only the non-zero values are stored, row by row, together
+ * with their column indices. The values of a row are located between the row pointer of the row and the row pointer
+ * of the next row, sorted by column.
+ *
+ * @author Frederik Bußmann
+ */
+public class SparseMatrix {
+    /**
+     * The row count of the matrix.
+     */
+    private final int rowCount;
+
+    /**
+     * The column count of the matrix.
+     */
+    private final int columnCount;
+
+    /**
+     * The index of the first value of each row, followed by the number of values.
+     */
+    private final int[] rowPointers;
+
+    /**
+     * The column index of each value.
+     */
+    private final int[] columnIndices;
+
+    /**
+     * The non-zero values.
+     */
+    private final double[] values;
+
+    /**
+     * Class constructor.
+     *
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param rowPointers The index of the first value of each row, followed by the number of values.
+     * @param columnIndices The column index of each value, sorted within each row.
+     * @param values The non-zero values.
+     */
+    public SparseMatrix(int rowCount, int columnCount, int[] rowPointers, int[] columnIndices, double[] values)
+            throws IllegalArgumentException {
+        if (rowCount < 0 || columnCount < 0 || rowPointers.length != rowCount + 1
+                || columnIndices.length != values.length || rowPointers[rowCount] != values.length) {
+            String message = "Invalid compressed sparse row data for a " + rowCount + " x " + columnCount
+                    + " matrix.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /**
+     * Creates a sparse matrix from values given by their coordinates.
+     *
+     * The coordinates do not need to be sorted, values at the same position are summed up.
+     *
+     * @param rowCount The number of rows.
+     * @param columnCount The number of columns.
+     * @param rows The row of each value.
+     * @param columns The column of each value.
+     * @param values The values.
+     * @param count The number of given values.
+     *
+     * @return The created sparse matrix.
+     */
+    public static SparseMatrix fromCoordinates(int rowCount, int columnCount, int[] rows, int[] columns,
+                                               double[] values, int count) throws IndexOutOfBoundsException {
+        int[] rowPointers = new int[rowCount + 1];
+
+        for (int index = 0; index < count; index++) {
+            if (rows[index] < 0 || rows[index] >= rowCount || columns[index] < 0 || columns[index] >= columnCount) {
+                String message = "The position " + rows[index] + ", " + columns[index] + " is outside of the matrix.";
+                throw new IndexOutOfBoundsException(message);
+            }
+
+            rowPointers[rows[index] + 1]++;
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            rowPointers[row + 1] += rowPointers[row];
+        }
+
+        // Sort the values by column with a counting sort
+        int[] columnPointers = new int[columnCount + 1];
+
+        for (int index = 0; index < count; index++) {
+            columnPointers[columns[index] + 1]++;
+        }
+
+        for (int column = 0; column < columnCount; column++) {
+            columnPointers[column + 1] += columnPointers[column];
+        }
+
+        int[] byColumn = new int[count];
+
+        for (int index = 0; index < count; index++) {
+            byColumn[columnPointers[columns[index]]++] = index;
+        }
+
+        // Scatter the values into their rows in column order, which keeps each row sorted by column
+        int[] next = Arrays.copyOf(rowPointers, rowCount);
+        int[] sortedColumns = new int[count];
+        double[] sortedValues = new double[count];
+
+        for (int index : byColumn) {
+            int position = next[rows[index]]++;
+
+            sortedColumns[position] = columns[index];
+            sortedValues[position] = values[index];
+        }
+
+        // Sum up duplicates
+        int[] resultPointers = new int[rowCount + 1];
+        int[] resultColumns = new int[count];
+        double[] resultValues = new double[count];
+        int size = 0;
+
+        for (int row = 0; row < rowCount; row++) {
+            for (int position = rowPointers[row]; position < rowPointers[row + 1]; position++) {
+                if (size > resultPointers[row] && resultColumns[size - 1] == sortedColumns[position]) {
+                    resultValues[size - 1] += sortedValues[position];
+                }
+                else {
+                    resultColumns[size] = sortedColumns[position];
+                    resultValues[size] = sortedValues[position];
+                    size++;
+                }
+            }
+
+            resultPointers[row + 1] = size;
+        }
+
+        return new SparseMatrix(rowCount, columnCount, resultPointers, Arrays.copyOf(resultColumns, size),
+                Arrays.copyOf(resultValues, size));
+    }
+
+    /**
+     * Creates a sparse matrix from the non-zero values of a given dense matrix.
+     *
+     * @param matrix The dense matrix to convert.
+     *
+     * @return The created sparse matrix.
+     */
+    public static SparseMatrix fromDenseMatrix(DenseMatrix matrix) {
+        double[] data = matrix.getData();
+        int rowCount = matrix.getRowCount();
+        int columnCount = matrix.getColumnCount();
+
+        int count = 0;
+
+        for (double value : data) {
+            if (value != 0) {
+                count++;
+            }
+        }
+
+        int[] rowPointers = new int[rowCount + 1];
+        int[] columnIndices = new int[count];
+        double[] values = new double[count];
+        int size = 0;
+
+        for (int row = 0; row < rowCount; row++) {
+            int offset = row * matrix.getStride();
+
+            for (int column = 0; column < columnCount; column++) {
+                if (data[offset + column] != 0) {
+                    columnIndices[size] = column;
+                    values[size] = data[offset + column];
+                    size++;
+                }
+            }
+
+            rowPointers[row + 1] = size;
+        }
+
+        return new SparseMatrix(rowCount, columnCount, rowPointers, columnIndices, values);
+    }
+
+    /**
+     * Creates a sparse matrix from the non-zero values of a given gauss matrix.
+     *
+     * @param matrix The gauss matrix to convert.
+     *
+     * @return The created sparse matrix.
+     */
+    public static SparseMatrix fromGaussMatrix(GaussMatrix matrix) {
+        return fromDenseMatrix(DenseMatrix.fromGaussMatrix(matrix));
+    }
+
+    /**
+     * Creates a dense matrix holding the values of this matrix.
+     *
+     * @return The created dense matrix.
+     */
+    public DenseMatrix toDenseMatrix() {
+        DenseMatrix result = new DenseMatrix(rowCount, columnCount);
+        double[] data = result.getData();
+
+        for (int row = 0; row < rowCount; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                data[row * columnCount + columnIndices[index]] = values[index];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a gauss matrix holding the values of this matrix.
+     *
+     * The columns after the first row count columns become the augmented columns of the gauss matrix.
+     *
+     * @return The created gauss matrix.
+     */
+    public GaussMatrix toGaussMatrix() {
+        return toDenseMatrix().toGaussMatrix();
+    }
+
+    /**
+     * Gets a value in the matrix at a given row and column.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The value at the given position.
+     */
+    public double getValue(int row, int column) throws IndexOutOfBoundsException {
+        if (row < 0 || row > rowCount - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access row " + row + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+        if (column < 0 || column > columnCount - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access column " + column + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+
+        int index = Arrays.binarySearch(columnIndices, rowPointers[row], rowPointers[row + 1], column);
+
+        return index < 0 ? 0 : values[index];
+    }
+
+    /**
+     * Multiplies the leading square part of the matrix with a given vector.
+     *
+     * Values in columns after the row count, the augmented columns, are ignored.
+     *
+     * @param vector The vector to multiply, with one value per row.
+     * @param result The vector to write the product to, with one value per row.
+     */
+    public void multiply(double[] vector, double[] result) {
+        for (int row = 0; row < rowCount; row++) {
+            double sum = 0;
+
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                int column = columnIndices[index];
+
+                if (column < rowCount) {
+                    sum += values[index] * vector[column];
+                }
+            }
+
+            result[row] = sum;
+        }
+    }
+
+    /**
+     * Gets the number of rows in the matrix.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of columns in the matrix.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * Gets the number of stored non-zero values.
+     *
+     * @return The number of non-zero values.
+     */
+    public int getNonZeroCount() {
+        return values.length;
+    }
+
+    /**
+     * Gets the backing row pointers, the index of the first value of each row followed by the number of values.
+     *
+     * @return The backing row pointers.
+     */
+    public int[] getRowPointers() {
+        return rowPointers;
+    }
+
+    /**
+     * Gets the backing column indices of the values.
+     *
+     * @return The backing column indices.
+     */
+    public int[] getColumnIndices() {
+        return columnIndices;
+    }
+
+    /**
+     * Gets the backing non-zero values.
+     *
+     * @return The backing values.
+     */
+    public double[] getValues() {
+        return values;
+    }
+}
@@ -0,0 +1,184 @@
+package io.bussmann.gauss.types;
+
+/**
+ * Symmetric matrix.
+ *
+ * Represents a square matrix equal to its transpose by storing only its lower triangle, packed row by row into a
+ * single array. The value at a given row and column on or below the diagonal is located at the index
+ * row * (row + 1) / 2 + column, values above the diagonal are read from the mirrored position.
+ *
+ * @author Frederik Bußmann
+ */
+public class SymmetricMatrix {
+    /**
+     * The number of rows and columns of the matrix.
+     */
+    private final int size;
+
+    /**
+     * The packed row-major lower triangle.
+     */
+    private final double[] data;
+
+    /**
+     * Class constructor.
+     *
+     * @param size The number of rows and columns.
+     */
+    public SymmetricMatrix(int size) throws IllegalArgumentException {
+        if (size < 0) {
+            String message = "Cannot create a symmetric matrix of size " + size + ".";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.size = size;
+        this.data = new double[size * (size + 1) / 2];
+    }
+
+    /**
+     * Creates a symmetric matrix from the lower triangle of the coefficients of a given dense matrix.
+     *
+     * The values above the diagonal are not read, see {@link #isSymmetric(DenseMatrix)}.
+     *
+     * @param matrix The matrix to convert, only the leading square coefficient columns are used.
+     *
+     * @return The created symmetric matrix.
+     */
+    public static SymmetricMatrix fromDenseMatrix(DenseMatrix matrix) {
+        int size = matrix.getRowCount();
+        SymmetricMatrix result = new SymmetricMatrix(size);
+
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(matrix.getData(), row * matrix.getStride(), result.data, rowOffset(row), row + 1);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks if the coefficients of a given dense matrix are exactly symmetric.
+     *
+     * The check stops at the first mismatch, so non-symmetric matrices are usually rejected after a few values.
+     *
+     * @param matrix The matrix to check, only the leading square coefficient columns are used.
+     *
+     * @return True if symmetric, false if not.
+     */
+    public static boolean isSymmetric(DenseMatrix matrix) {
+        double[] values = matrix.getData();
+        int stride = matrix.getStride();
+
+        for (int row = 1; row < matrix.getRowCount(); row++) {
+            for (int column = 0; column < row; column++) {
+                if (values[row * stride + column] != values[column * stride + row]) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a dense matrix holding the values of this matrix.
+     *
+     * @return The created dense matrix.
+     */
+    public DenseMatrix toDenseMatrix() {
+        DenseMatrix result = new DenseMatrix(size, size);
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column <= row; column++) {
+                double value = data[rowOffset(row) + column];
+
+                result.setValue(row, column, value);
+                result.setValue(column, row, value);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets a value in the matrix at a given row and column.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The value at the given position.
+     */
+    public double getValue(int row, int column) throws IndexOutOfBoundsException {
+        return data[matrixPositionToIndex(row, column)];
+    }
+
+    /**
+     * Sets a value in the matrix at a given row and column, and at the mirrored position.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     * @param value The value to set.
+     */
+    public void setValue(int row, int column, double value) throws IndexOutOfBoundsException {
+        data[matrixPositionToIndex(row, column)] = value;
+    }
+
+    /**
+     * Gets the index of a value in the packed lower triangle at a given row and column position.
+     *
+     * @param row The row of the value.
+     * @param column The column of the value.
+     *
+     * @return The calculated index.
+     */
+    public int matrixPositionToIndex(int row, int column) throws IndexOutOfBoundsException {
+        checkMatrixPosition(row, column);
+
+        return row >= column ? rowOffset(row) + column : rowOffset(column) + row;
+    }
+
+    /**
+     * Gets the index of the first value of a given row in the packed lower triangle.
+     *
+     * @param row The row.
+     *
+     * @return The index of the value in the first column.
+     */
+    public static int rowOffset(int row) {
+        return row * (row + 1) / 2;
+    }
+
+    /**
+     * Gets the number of rows and columns of the matrix.
+     *
+     * @return The size of the matrix.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the backing packed row-major lower triangle.
+     *
+     * @return The backing array.
+     */
+    public double[] getData() {
+        return data;
+    }
+
+    /**
+     * Checks if a row and column position exists in the matrix.
+     *
+     * @param row The row to check.
+     * @param column The column to check.
+     */
+    private void checkMatrixPosition(int row, int column) throws IndexOutOfBoundsException {
+        if (row < 0 || row > size - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access row " + row + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+        if (column < 0 || column > size - 1) {
+            String message = "Illegal matrix access: Index out of bounds when trying to access column " + column + ".";
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+}
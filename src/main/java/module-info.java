@@ -7,6 +7,8 @@ module io.bussmann.gauss {
     requires com.fasterxml.jackson.dataformat.yaml;
     requires org.controlsfx.controls;
     requires commons.math3;
+    requires jdk.httpserver;
+    requires static jdk.incubator.vector;
 
     opens io.bussmann.gauss.configuration to com.fasterxml.jackson.databind;
     opens io.bussmann.gauss.gui.controllers to javafx.fxml;
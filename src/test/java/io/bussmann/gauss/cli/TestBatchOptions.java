@@ -0,0 +1,66 @@
+package io.bussmann.gauss.cli;
+
+import io.bussmann.gauss.math.PivotingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test batch options.
+ *
+ * Tests parsing the command line options of the batch mode.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBatchOptions {
+    /**
+     * Tests the defaults and parsing all options.
+     */
+    @Test
+    public void testParse() {
+        BatchOptions defaults = BatchOptions.parse(new String[] {"a.csv"});
+
+        assertEquals(Engine.GAUSS, defaults.getEngine());
+        assertEquals(PivotingStrategy.NONE, defaults.getStrategy());
+        assertEquals(OutputFormat.CSV, defaults.getFormat());
+        assertEquals(Runtime.getRuntime().availableProcessors(), defaults.getThreadCount());
+        assertFalse(defaults.isTrace());
+        assertNull(defaults.getOutputDirectory());
+
+        BatchOptions options = BatchOptions.parse(new String[] {
+            "--engine", "Blocked", "--pivoting", "scaled_partial", "--threads", "3", "--format", "json", "a.csv",
+            "--output", "out", "matrices"
+        });
+
+        assertEquals(Engine.BLOCKED, options.getEngine());
+        assertEquals(PivotingStrategy.SCALED_PARTIAL, options.getStrategy());
+        assertEquals(3, options.getThreadCount());
+        assertEquals(OutputFormat.JSON, options.getFormat());
+        assertEquals(Path.of("out"), options.getOutputDirectory());
+        assertEquals(List.of(Path.of("a.csv"), Path.of("matrices")), options.getInputs());
+        assertTrue(BatchOptions.parse(new String[] {"--trace", "a.csv"}).isTrace());
+        assertTrue(BatchOptions.parse(new String[] {"--help"}).isHelp());
+    }
+
+    /**
+     * Tests that invalid options are rejected.
+     */
+    @Test
+    public void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"--threads", "a.csv"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"--threads", "0", "a"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"--engine", "x", "a"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"a.csv", "--format"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"--verbose", "a"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"--trace"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[] {"--trace", "--engine", "sparse", "a.csv"}));
+    }
+}
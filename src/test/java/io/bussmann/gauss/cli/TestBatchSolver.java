@@ -0,0 +1,139 @@
+package io.bussmann.gauss.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bussmann.gauss.io.BinaryMatrixFormat;
+import io.bussmann.gauss.types.DenseMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test batch solver.
+ *
+ * Tests solving directories of matrix files in batch mode with the different engines and formats.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBatchSolver {
+    /**
+     * Tests that every engine solves all files of a directory and writes one line per solution vector.
+     */
+    @Test
+    public void testCsv(@TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve("a.csv"), "2,0,2,4\n1,4,6,4\n");
+        Files.writeString(directory.resolve("b.mtx"),
+                "%%MatrixMarket matrix coordinate real general\n2 3 4\n1 1 4\n2 2 2\n1 3 8\n2 3 -2\n");
+        Files.writeString(directory.resolve("c.csv"), "1,2,3\n2,4,6\n");
+        Files.writeString(directory.resolve("ignored.txt"), "1,2,3\n");
+        BinaryMatrixFormat.write(new DenseMatrix(1, 2, new double[] {4, 2}), directory.resolve("d.gmat"));
+
+        for (Engine engine : Engine.values()) {
+            String[] args = {"--engine", engine.name(), "--threads", "2", directory.toString()};
+            List<String> lines = run(args, 0);
+
+            assertEquals(List.of(
+                    directory.resolve("a.csv") + ",SOLVED,1.0,1.25",
+                    directory.resolve("a.csv") + ",SOLVED,2.0,0.5",
+                    directory.resolve("b.mtx") + ",SOLVED,2.0,-1.0",
+                    directory.resolve("c.csv") + ",INVALID",
+                    directory.resolve("d.gmat") + ",SOLVED,0.5"), sorted(lines), engine.name());
+        }
+    }
+
+    /**
+     * Tests writing traced results as JSON into an output directory and reporting unreadable files.
+     */
+    @Test
+    public void testJson(@TempDir Path directory) throws IOException {
+        Path input = directory.resolve("system.csv");
+        Path broken = directory.resolve("broken.csv");
+        Path output = directory.resolve("out");
+        Files.writeString(input, "0,1,2\n1,0,3\n");
+        Files.writeString(broken, "1,2\n3\n");
+
+        String[] args = {"--trace", "--format", "json", "--output", output.toString(), input.toString(),
+            broken.toString()};
+        assertEquals(List.of(), run(args, BatchSolver.EXIT_FAILURE));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode solved = mapper.readTree(output.resolve("system.csv.solution.json").toFile());
+        JsonNode failed = mapper.readTree(output.resolve("broken.csv.solution.json").toFile());
+
+        assertEquals("SOLVED", solved.get("status").asText());
+        assertEquals("[[3.0,2.0]]", solved.get("solutions").toString());
+        assertEquals("[\"Swap row 1 with row 2.\"]", solved.get("steps").toString());
+        assertEquals("ERROR", failed.get("status").asText());
+        assertTrue(failed.get("error").asText().contains("Row 2"), failed.toString());
+    }
+
+    /**
+     * Tests that inputs with the same file name are rejected instead of overwriting each other's output.
+     */
+    @Test
+    public void testOutputCollision(@TempDir Path directory) throws IOException {
+        Path output = directory.resolve("out");
+        Files.createDirectories(directory.resolve("a"));
+        Files.createDirectories(directory.resolve("b"));
+        Files.writeString(directory.resolve("a").resolve("system.csv"), "1,1\n");
+        Files.writeString(directory.resolve("b").resolve("system.csv"), "2,1\n");
+
+        String[] args = {"--output", output.toString(), directory.resolve("a").toString(),
+            directory.resolve("b").toString()};
+        assertEquals(List.of(), run(args, BatchSolver.EXIT_FAILURE));
+        assertFalse(Files.exists(output));
+    }
+
+    /**
+     * Tests the exit codes of the help and invalid arguments.
+     */
+    @Test
+    public void testUsage() throws IOException {
+        assertTrue(run(new String[] {"--help"}, BatchSolver.EXIT_SUCCESS).get(0).startsWith("Usage"));
+        assertEquals(List.of(), run(new String[] {"--threads"}, BatchSolver.EXIT_USAGE));
+    }
+
+    /**
+     * Runs the batch mode, asserting its exit code.
+     *
+     * @param args The program arguments.
+     * @param exitCode The expected exit code.
+     *
+     * @return The lines written to the output.
+     */
+    private static List<String> run(String[] args, int exitCode) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        assertEquals(exitCode, BatchSolver.run(args, out, new PrintStream(err, true, StandardCharsets.UTF_8)),
+                err.toString(StandardCharsets.UTF_8));
+
+        String text = out.toString(StandardCharsets.UTF_8);
+
+        return text.isEmpty() ? List.of() : Arrays.asList(text.split("\\R"));
+    }
+
+    /**
+     * Sorts lines, as results are written in the order of completion.
+     *
+     * @param lines The lines to sort.
+     *
+     * @return The sorted lines.
+     */
+    private static List<String> sorted(List<String> lines) {
+        return lines.stream().sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,28 @@
+package io.bussmann.gauss.helpers;
+
+import org.apache.commons.math3.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test vulgar fraction.
+ *
+ * Tests the generation of fraction, superscript and subscript strings.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestVulgarFraction {
+    /**
+     * Tests the generated strings for positive, negative and whole values.
+     */
+    @Test
+    public void testGenerateVulgarFraction() {
+        assertEquals("¹²³⁴⁰", new Superscript(12340).toString());
+        assertEquals("₋₄₂", new Subscript(-42).toString());
+
+        assertEquals("¹⁰⁄₃", new VulgarFraction(new BigFraction(10, 3)).toString());
+        assertEquals("-¹⁄₂₁", new VulgarFraction(new BigFraction(-1, 21)).toString());
+        assertEquals("-4", new VulgarFraction(new BigFraction(-8, 2)).toString());
+    }
+}
@@ -0,0 +1,90 @@
+package io.bussmann.gauss.io;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.MappedMatrix;
+import io.bussmann.gauss.types.SparseMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test binary matrix format.
+ *
+ * Tests writing, reading and mapping binary matrix files.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBinaryMatrixFormat {
+    /**
+     * Tests that dense matrices are written and read back and can be mapped.
+     */
+    @Test
+    public void testDense(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("dense.gmat");
+        DenseMatrix matrix = new DenseMatrix(3, 4);
+
+        for (int index = 0; index < matrix.getData().length; index++) {
+            matrix.getData()[index] = index % 3 == 0 ? 0 : index * 1.5;
+        }
+
+        BinaryMatrixFormat.write(matrix, path);
+
+        assertEquals(BinaryMatrixFormat.HEADER_SIZE + 12 * Double.BYTES, Files.size(path));
+        assertArrayEquals(matrix.getData(), BinaryMatrixFormat.readDense(path).getData());
+        assertEquals(matrix.toString(), BinaryMatrixFormat.readSparse(path).toDenseMatrix().toString());
+
+        try (MappedMatrix mapped = BinaryMatrixFormat.map(path)) {
+            assertEquals(matrix.toString(), mapped.toDenseMatrix().toString());
+            assertThrows(UnsupportedOperationException.class, () -> mapped.setValue(2, 3, -1));
+        }
+
+        try (MappedMatrix mapped = BinaryMatrixFormat.map(path, true)) {
+            mapped.setValue(2, 3, -1);
+        }
+
+        assertEquals(-1, BinaryMatrixFormat.readDense(path).getValue(2, 3));
+    }
+
+    /**
+     * Tests that sparse matrices are written and read back.
+     */
+    @Test
+    public void testSparse(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("sparse.gmat");
+        SparseMatrix matrix = SparseMatrix.fromCoordinates(3, 3, new int[] {2, 0, 1, 2}, new int[] {0, 2, 1, 2},
+                new double[] {1, 2, 3, 4}, 4);
+
+        BinaryMatrixFormat.write(matrix, path);
+        SparseMatrix read = BinaryMatrixFormat.readSparse(path);
+
+        assertArrayEquals(matrix.getRowPointers(), read.getRowPointers());
+        assertArrayEquals(matrix.getColumnIndices(), read.getColumnIndices());
+        assertArrayEquals(matrix.getValues(), read.getValues());
+        assertEquals(matrix.toDenseMatrix().toString(), BinaryMatrixFormat.readDense(path).toString());
+        assertThrows(IOException.class, () -> BinaryMatrixFormat.map(path));
+    }
+
+    /**
+     * Tests that other and truncated files are rejected.
+     */
+    @Test
+    public void testInvalidFile(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("invalid.gmat");
+
+        Files.write(path, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> BinaryMatrixFormat.readDense(path));
+
+        BinaryMatrixFormat.write(new DenseMatrix(2, 2), path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> BinaryMatrixFormat.readDense(path));
+    }
+}
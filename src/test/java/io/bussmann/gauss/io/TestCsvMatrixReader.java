@@ -0,0 +1,87 @@
+package io.bussmann.gauss.io;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test CSV matrix reader.
+ *
+ * Tests reading matrices from comma separated values.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestCsvMatrixReader {
+    /**
+     * Tests reading rows with spaces, empty lines and different line breaks.
+     */
+    @Test
+    public void testRead() throws IOException {
+        String text = "1, -2.5,3e2\r\n\n  0.125 ,4,-0\n7,8,+9.75";
+        DenseMatrix matrix = CsvMatrixReader.read(stream(text), CsvMatrixReader.DEFAULT_DELIMITER);
+
+        assertEquals("[1.0, -2.5, 300.0]\n[0.125, 4.0, -0.0]\n[7.0, 8.0, 9.75]", matrix.toString());
+    }
+
+    /**
+     * Tests that the values are rounded exactly like the library conversion.
+     */
+    @Test
+    public void testConversion() throws IOException {
+        Random random = new Random(2);
+        StringBuilder text = new StringBuilder();
+        String[] values = new String[2000];
+
+        for (int index = 0; index < values.length; index++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+
+            if (index % 4 == 0) {
+                value = random.nextDouble() * 1000 - 500;
+            }
+            else if (index % 4 == 1) {
+                value = Math.round(random.nextDouble() * 1e6) / 1e3;
+            }
+            else if (index % 4 == 2) {
+                value = random.nextInt(1000) * Math.pow(10, random.nextInt(60) - 30);
+            }
+
+            values[index] = index == 7 ? "0.000000000000000000001234567890123456789" : Double.toString(value);
+            text.append(values[index]).append(index % 10 == 9 ? "\n" : ";");
+        }
+
+        DenseMatrix matrix = CsvMatrixReader.read(stream(text.toString()), ';');
+
+        for (int index = 0; index < values.length; index++) {
+            assertEquals(Double.parseDouble(values[index]), matrix.getValueAtIndex(index), values[index]);
+        }
+    }
+
+    /**
+     * Tests that rows of different lengths and invalid values are rejected.
+     */
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IOException.class, () -> CsvMatrixReader.read(stream("1,2\n3"), ','));
+        assertThrows(IOException.class, () -> CsvMatrixReader.read(stream("1,x"), ','));
+        assertThrows(IOException.class, () -> CsvMatrixReader.read(stream("1,2e"), ','));
+    }
+
+    /**
+     * Creates a stream of the bytes of a text.
+     *
+     * @param text The text.
+     *
+     * @return The created stream.
+     */
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
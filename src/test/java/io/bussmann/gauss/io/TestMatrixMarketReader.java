@@ -0,0 +1,84 @@
+package io.bussmann.gauss.io;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.SparseMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test Matrix Market reader.
+ *
+ * Tests reading matrices in the coordinate and array forms of the Matrix Market format.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestMatrixMarketReader {
+    /**
+     * Tests reading the coordinate form, mirroring a symmetric matrix.
+     */
+    @Test
+    public void testCoordinate() throws IOException {
+        String text = "%%MatrixMarket matrix coordinate real symmetric\n"
+                + "% A comment\n"
+                + "%\n"
+                + "3 3 4\n"
+                + "1 1 4.0\n"
+                + "2 1 -1\n"
+                + "3 2 -1.5e0\n"
+                + "3 3 2\n";
+
+        SparseMatrix sparse = MatrixMarketReader.readSparse(stream(text));
+        DenseMatrix dense = MatrixMarketReader.readDense(stream(text));
+
+        String expected = "[4.0, -1.0, 0.0]\n[-1.0, 0.0, -1.5]\n[0.0, -1.5, 2.0]";
+        assertEquals(6, sparse.getNonZeroCount());
+        assertEquals(expected, sparse.toDenseMatrix().toString());
+        assertEquals(expected, dense.toString());
+    }
+
+    /**
+     * Tests reading the array form, listing the values column by column.
+     */
+    @Test
+    public void testArray() throws IOException {
+        String text = "%%MatrixMarket matrix array real general\n"
+                + "2 3\n"
+                + "1\n4\n2\n5\n3\n6\n";
+
+        DenseMatrix dense = MatrixMarketReader.readDense(stream(text));
+        SparseMatrix sparse = MatrixMarketReader.readSparse(stream(text.replace("5\n", "0\n")));
+
+        assertEquals("[1.0, 2.0, 3.0]\n[4.0, 5.0, 6.0]", dense.toString());
+        assertEquals(5, sparse.getNonZeroCount());
+    }
+
+    /**
+     * Tests that unsupported headers and positions outside of the matrix are rejected.
+     */
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IOException.class, () -> MatrixMarketReader.readDense(
+                stream("%%MatrixMarket matrix coordinate complex general\n1 1 1\n1 1 1 0\n")));
+        assertThrows(IOException.class, () -> MatrixMarketReader.readDense(
+                stream("%%MatrixMarket matrix coordinate real general\n2 2 1\n3 1 1\n")));
+        assertThrows(IOException.class, () -> MatrixMarketReader.readDense(stream("1 2 3\n")));
+    }
+
+    /**
+     * Creates a stream of the bytes of a text.
+     *
+     * @param text The text.
+     *
+     * @return The created stream.
+     */
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,140 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test banded solver.
+ *
+ * Tests the Thomas algorithm, the band LU decomposition and the routing of banded systems.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBandedSolver {
+    /**
+     * Tests that diagonally dominant tridiagonal and general banded systems match the gaussian elimination.
+     */
+    @Test
+    public void testMatchesGaussianElimination() {
+        Random random = new Random(7);
+
+        for (int[] bandwidths : new int[][]{{1, 1}, {2, 3}, {4, 1}}) {
+            for (boolean dominant : new boolean[]{true, false}) {
+                DenseMatrix matrix = createBandMatrix(60, bandwidths[0], bandwidths[1], dominant, random);
+                GaussMatrixSolution expected = GaussianElimination.solveInPlace(matrix.copy(),
+                        PivotingStrategy.PARTIAL);
+                GaussMatrixSolution actual = BandedSolver.solve(matrix);
+
+                assertFalse(actual.isInvalid());
+
+                for (int row = 0; row < 60; row++) {
+                    assertEquals(expected.getValue(row, 0), actual.getValue(row, 0), 1e-9);
+                    assertEquals(expected.getValue(row, 1), actual.getValue(row, 1), 1e-9);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that a tridiagonal system with zero diagonal values is solved by pivoting.
+     */
+    @Test
+    public void testZeroDiagonal() {
+        // Set up an anti-dominant tridiagonal matrix of size 12 with solution (1, 2, ..., 12)
+        GaussMatrix matrix = new GaussMatrix(12);
+
+        for (int row = 0; row < 12; row++) {
+            double sum = 0;
+
+            for (int column = Math.max(0, row - 1); column <= Math.min(11, row + 1); column++) {
+                double value = column == row ? 0 : 1 + row;
+                matrix.setValue(row, column, value);
+                sum += value * (column + 1);
+            }
+
+            matrix.setValue(row, 12, sum);
+        }
+
+        assertTrue(BandedSolver.isNarrowBanded(DenseMatrix.fromGaussMatrix(matrix)));
+
+        GaussMatrixSolution solution = GaussianElimination.solve(matrix);
+
+        for (int row = 0; row < 12; row++) {
+            assertEquals(row + 1, solution.getValue(row), 1e-12);
+        }
+    }
+
+    /**
+     * Tests that a singular banded system is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        DenseMatrix matrix = createBandMatrix(20, 1, 1, true, new Random(1));
+
+        // Clear a row
+        for (int column = 0; column < 20; column++) {
+            matrix.setValue(10, column, 0);
+        }
+
+        assertTrue(BandedSolver.solve(matrix).isInvalid());
+    }
+
+    /**
+     * Tests that an explicit pivoting strategy is used for banded systems instead of the banded solver.
+     */
+    @Test
+    public void testExplicitStrategy() {
+        DenseMatrix matrix = createBandMatrix(24, 1, 2, false, new Random(11));
+
+        for (PivotingStrategy strategy : PivotingStrategy.values()) {
+            double[] expected = GaussianElimination.solveInPlace(matrix.copy(), strategy).getValues();
+            double[] actual = GaussianElimination.solve(matrix.toGaussMatrix(), strategy).getValues();
+
+            assertArrayEquals(expected, actual);
+        }
+
+        // The overloads without strategy route the same way
+        assertArrayEquals(BandedSolver.solve(matrix).getValues(), GaussianElimination.solve(matrix).getValues());
+        assertArrayEquals(BandedSolver.solve(matrix).getValues(),
+                GaussianElimination.solve(matrix.toGaussMatrix()).getValues());
+    }
+
+    /**
+     * Creates a random band matrix with two augmented columns.
+     *
+     * @param size The number of rows.
+     * @param lower The number of diagonals below the main diagonal.
+     * @param upper The number of diagonals above the main diagonal.
+     * @param dominant Whether to make the matrix diagonally dominant.
+     * @param random The random number generator.
+     *
+     * @return The created matrix.
+     */
+    private DenseMatrix createBandMatrix(int size, int lower, int upper, boolean dominant, Random random) {
+        DenseMatrix matrix = new DenseMatrix(size, size + 2);
+
+        for (int row = 0; row < size; row++) {
+            for (int column = Math.max(0, row - lower); column <= Math.min(size - 1, row + upper); column++) {
+                matrix.setValue(row, column, random.nextDouble() * 2 - 1);
+            }
+
+            if (dominant) {
+                matrix.setValue(row, row, lower + upper + 1);
+            }
+
+            matrix.setValue(row, size, random.nextDouble());
+            matrix.setValue(row, size + 1, random.nextDouble());
+        }
+
+        return matrix;
+    }
+}
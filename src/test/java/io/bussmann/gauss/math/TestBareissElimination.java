@@ -0,0 +1,93 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixExactSolution;
+import org.apache.commons.math3.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test Bareiss elimination.
+ *
+ * Tests the exact fraction-free elimination.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBareissElimination {
+    /**
+     * Tests solving a small matrix with a zero pivot and decimal values to reduced fractions.
+     */
+    @Test
+    public void testSolveMatrix() {
+        // Set up the input matrix:
+        // [ 0,   1   | 0.5 ]
+        // [ 3,   1.5 | 1   ]
+        GaussMatrix matrix = new GaussMatrix(2);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(0, 2, 0.5);
+        matrix.setValue(1, 0, 3);
+        matrix.setValue(1, 1, 1.5);
+        matrix.setValue(1, 2, 1);
+
+        GaussMatrixExactSolution solution = BareissElimination.solve(matrix);
+
+        // Assert expected solution vector (1/12, 1/2)
+        assertEquals(new BigFraction(1, 12), solution.getValue(0));
+        assertEquals(new BigFraction(1, 2), solution.getValue(1));
+        assertEquals(BigInteger.valueOf(12), solution.getValue(0).getDenominator());
+    }
+
+    /**
+     * Tests the exact solution of the badly conditioned Hilbert matrix scaled to integers.
+     */
+    @Test
+    public void testHilbertMatrix() {
+        int size = 12;
+        BigInteger[] values = new BigInteger[size * (size + 1)];
+
+        // Scale row i of the Hilbert matrix by the least common multiple of its denominators
+        for (int row = 0; row < size; row++) {
+            BigInteger multiple = BigInteger.ONE;
+
+            for (int column = 0; column < size; column++) {
+                BigInteger denominator = BigInteger.valueOf(row + column + 1);
+                multiple = multiple.multiply(denominator).divide(multiple.gcd(denominator));
+            }
+
+            // The right-hand side is the row sum, so the solution is one for every variable
+            BigInteger sum = BigInteger.ZERO;
+
+            for (int column = 0; column < size; column++) {
+                values[row * (size + 1) + column] = multiple.divide(BigInteger.valueOf(row + column + 1));
+                sum = sum.add(values[row * (size + 1) + column]);
+            }
+
+            values[row * (size + 1) + size] = sum;
+        }
+
+        GaussMatrixExactSolution solution = BareissElimination.solve(values, size, size + 1);
+
+        for (int row = 0; row < size; row++) {
+            assertEquals(BigFraction.ONE, solution.getValue(row));
+        }
+    }
+
+    /**
+     * Tests that a singular matrix is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        // Second row is a multiple of the first row
+        GaussMatrix matrix = new GaussMatrix(2);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(0, 1, 2);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(1, 1, 4);
+
+        assertTrue(BareissElimination.solve(matrix).isInvalid());
+    }
+}
@@ -0,0 +1,76 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test batched gaussian elimination.
+ *
+ * Tests solving batches of small matrices in lockstep.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBatchedGaussianElimination {
+    /**
+     * Tests that every matrix of a batch gets exactly the solution of the gaussian elimination, singular ones included.
+     */
+    @Test
+    public void testSolve() {
+        Random random = new Random(5);
+
+        for (int count : new int[] {1, 3, 37}) {
+            List<DenseMatrix> matrices = new ArrayList<>();
+
+            for (int index = 0; index < count; index++) {
+                DenseMatrix matrix = new DenseMatrix(6, 8);
+
+                // Include zeros of both signs, which are skipped or not skipped as factors
+                for (int value = 0; value < matrix.getData().length; value++) {
+                    int integer = random.nextInt(21) - 10;
+                    matrix.getData()[value] = integer == 0 && random.nextBoolean() ? -0.0 : integer;
+                }
+
+                // Make every fifth matrix singular by repeating a row
+                if (index % 5 == 4) {
+                    System.arraycopy(matrix.getData(), 0, matrix.getData(), 3 * matrix.getStride(), 6);
+                }
+
+                matrices.add(matrix);
+            }
+
+            GaussMatrixSolution[] solutions = BatchedGaussianElimination.solve(matrices);
+
+            for (int index = 0; index < count; index++) {
+                GaussMatrixSolution expected = GaussianElimination.solveInPlace(matrices.get(index).copy(),
+                        PivotingStrategy.PARTIAL);
+
+                assertEquals(expected.getStatus(), solutions[index].getStatus());
+
+                if (!expected.isInvalid()) {
+                    assertArrayEquals(expected.getSolutionMatrix().getData(),
+                            solutions[index].getSolutionMatrix().getData());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that matrices of different dimensions cannot be batched.
+     */
+    @Test
+    public void testDifferentDimensions() {
+        assertTrue(BatchedGaussianElimination.solve(List.of()).length == 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchedGaussianElimination.solve(List.of(new DenseMatrix(2, 3), new DenseMatrix(3, 4))));
+    }
+}
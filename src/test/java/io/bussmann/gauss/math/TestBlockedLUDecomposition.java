@@ -0,0 +1,148 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test blocked LU decomposition.
+ *
+ * Tests the blocked LU decomposition implementation.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBlockedLUDecomposition {
+    /**
+     * Tests solving a small matrix.
+     */
+    @Test
+    public void testSolveMatrix() {
+        // Set up the input matrix:
+        // [  0,  1,  3  |  3 ]
+        // [  1,  1, -1  |  9 ]
+        // [ -1,  0, -2  |  6 ]
+        GaussMatrix matrix = new GaussMatrix(3);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(0, 2, 3);
+        matrix.setValue(1, 0, 1);
+        matrix.setValue(1, 1, 1);
+        matrix.setValue(1, 2, -1);
+        matrix.setValue(2, 0, -1);
+        matrix.setValue(2, 2, -2);
+        matrix.setValue(0, 3, 3);
+        matrix.setValue(1, 3, 9);
+        matrix.setValue(2, 3, 6);
+
+        GaussMatrixSolution solution = BlockedLUDecomposition.solve(matrix);
+
+        // Assert expected solution vector (-2, 9, -2)
+        assertEquals(-2, solution.getValue(0), 1e-12);
+        assertEquals(9, solution.getValue(1), 1e-12);
+        assertEquals(-2, solution.getValue(2), 1e-12);
+    }
+
+    /**
+     * Tests that the blocked factorization matches the gaussian elimination for several block sizes.
+     */
+    @Test
+    public void testBlockSizes() {
+        DenseMatrix matrix = createRandomMatrix(97, new Random(42));
+        double[] expected = GaussianElimination.solveInPlace(matrix.copy(), PivotingStrategy.PARTIAL).getValues();
+
+        double[] rhs = new double[97];
+
+        for (int row = 0; row < rhs.length; row++) {
+            rhs[row] = matrix.getValue(row, 97);
+        }
+
+        int[][] blockSizes = {{1, 1}, {8, 16}, {16, 5}, {48, 192}, {200, 200}};
+
+        for (int[] blockSize : blockSizes) {
+            double[] values = new BlockedLUDecomposition(matrix, blockSize[0], blockSize[1]).solve(rhs);
+
+            for (int row = 0; row < values.length; row++) {
+                assertEquals(expected[row], values[row], 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Tests reusing a factorization for a batch of right-hand sides.
+     */
+    @Test
+    public void testBatchSolve() {
+        Random random = new Random(7);
+        DenseMatrix matrix = createRandomMatrix(40, random);
+        Factorization factorization = GaussianElimination.factorize(matrix.toGaussMatrix());
+
+        // Create 5 right-hand sides
+        DenseMatrix rhs = new DenseMatrix(40, 5);
+
+        for (int index = 0; index < rhs.getData().length; index++) {
+            rhs.getData()[index] = random.nextDouble();
+        }
+
+        DenseMatrix solutions = factorization.solve(rhs);
+
+        // Assert each column matches the solution for the single right-hand side
+        for (int column = 0; column < 5; column++) {
+            double[] values = new double[40];
+
+            for (int row = 0; row < 40; row++) {
+                values[row] = rhs.getValue(row, column);
+            }
+
+            double[] expected = factorization.solve(values);
+
+            for (int row = 0; row < 40; row++) {
+                assertEquals(expected[row], solutions.getValue(row, column), 1e-12);
+            }
+        }
+    }
+
+    /**
+     * Tests that a singular matrix is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        // Set up the input matrix:
+        // [  1,  2  |  3 ]
+        // [  2,  4  |  6 ]
+        GaussMatrix matrix = new GaussMatrix(2);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(0, 1, 2);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(1, 1, 4);
+
+        assertTrue(BlockedLUDecomposition.factorize(matrix).isSingular());
+        assertTrue(BlockedLUDecomposition.solve(matrix).isInvalid());
+    }
+
+    /**
+     * Creates a random augmented matrix with a unique solution.
+     *
+     * @param size The size of the matrix.
+     * @param random The random number generator.
+     *
+     * @return The created matrix.
+     */
+    private DenseMatrix createRandomMatrix(int size, Random random) {
+        DenseMatrix matrix = new DenseMatrix(size);
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column <= size; column++) {
+                matrix.setValue(row, column, random.nextDouble() * 2 - 1);
+            }
+
+            matrix.setValue(row, row, matrix.getValue(row, row) + 4);
+        }
+
+        return matrix;
+    }
+}
@@ -0,0 +1,87 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixExactSolution;
+import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
+import org.apache.commons.math3.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test exact solution trace.
+ *
+ * Tests replaying recorded elimination steps in exact rational arithmetic.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestExactSolutionTrace {
+    /**
+     * Tests that every replayed step matches the recorded step and the last step holds the exact solution.
+     */
+    @Test
+    public void testReplay() {
+        // Set up an integer matrix whose intermediate values have large denominators
+        int[][] values = {{1009, 2003, -17, 5}, {3001, 7, 4001, -2}, {13, 5003, 6007, 11}};
+
+        for (PivotingStrategy strategy : PivotingStrategy.values()) {
+            GaussMatrix matrix = new GaussMatrix(3);
+
+            for (int row = 0; row < 3; row++) {
+                for (int column = 0; column < 4; column++) {
+                    matrix.setValue(row, column, values[row][column]);
+                }
+            }
+
+            GaussMatrixExactSolution expected = BareissElimination.solve(matrix);
+            GaussMatrixSolutionTrace trace = GaussianElimination.solveMatrix(matrix, strategy);
+            ExactSolutionTrace exactTrace = new ExactSolutionTrace(trace);
+            BigInteger largestDenominator = BigInteger.ONE;
+
+            for (int step = 0; step < trace.getStepCount(); step++) {
+                GaussMatrix approximation = trace.getStep(step);
+                BigFraction[] exact = exactTrace.getStep(step);
+
+                assertNotNull(exact, strategy.name());
+
+                for (int row = 0; row < 3; row++) {
+                    for (int column = 0; column < 4; column++) {
+                        double value = approximation.getValue(row, column);
+                        BigFraction fraction = exact[row * 4 + column];
+
+                        assertEquals(value, fraction.doubleValue(), 1e-9 * Math.max(1, Math.abs(value)));
+                        largestDenominator = largestDenominator.max(fraction.getDenominator());
+                    }
+                }
+            }
+
+            // Assert the last step is the identity with the exact solution, reading it again after replaying
+            BigFraction[] last = exactTrace.getStep(trace.getStepCount() - 1);
+
+            for (int row = 0; row < 3; row++) {
+                for (int column = 0; column < 3; column++) {
+                    assertEquals(row == column ? BigFraction.ONE : BigFraction.ZERO, last[row * 4 + column]);
+                }
+
+                assertEquals(expected.getValue(row), last[row * 4 + 3], strategy.name());
+            }
+
+            assertTrue(largestDenominator.compareTo(BigInteger.valueOf(100000)) > 0, strategy.name());
+        }
+    }
+
+    /**
+     * Tests that input values are taken as the decimals they are written as.
+     */
+    @Test
+    public void testToFraction() {
+        assertEquals(new BigFraction(1, 10), ExactSolutionTrace.toFraction(0.1));
+        assertEquals(new BigFraction(-25, 4), ExactSolutionTrace.toFraction(-6.25));
+        assertEquals(new BigFraction(BigInteger.TEN.pow(20)), ExactSolutionTrace.toFraction(1e20));
+        assertEquals(null, ExactSolutionTrace.toFraction(Double.NaN));
+    }
+}
@@ -1,11 +1,18 @@
 package io.bussmann.gauss.math;
 
+import io.bussmann.gauss.types.DenseMatrix;
 import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.GaussMatrixSolutionTrace;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
 import java.util.Vector;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test gaussian elimination.
@@ -161,4 +168,331 @@ public class TestGaussianElimination {
         assertEquals(6, matrix.getValue(1, 1));
         assertEquals(8, matrix.getValue(1, 2));
     }
+
+    /**
+     * Tests the in-place row operations on primitive storage.
+     */
+    @Test
+    public void testInPlaceRowOperations() {
+        // Create matrix to test:
+        // [ 2, 4, 6 ]
+        // [ 1, 5, 9 ]
+        DenseMatrix dense = new DenseMatrix(2);
+        dense.setValue(0, 0, 2);
+        dense.setValue(0, 1, 4);
+        dense.setValue(0, 2, 6);
+        dense.setValue(1, 0, 1);
+        dense.setValue(1, 1, 5);
+        dense.setValue(1, 2, 9);
+
+        // Divide row 1 by 2 and subtract it from row 2, starting at column 1
+        RowOperations.divideRow(dense, 0, 2, 0);
+        RowOperations.subtractRow(dense, 1, 0, 1, 1);
+
+        // Check results, column 1 of row 2 is left untouched
+        assertEquals("[1.0, 2.0, 3.0]\n[1.0, 3.0, 6.0]", dense.toString());
+
+        // Swap rows in place
+        RowOperations.swapRow(dense, 0, 1);
+        assertEquals("[1.0, 3.0, 6.0]\n[1.0, 2.0, 3.0]", dense.toString());
+    }
+
+    /**
+     * Tests that a zero pivot is swapped with any row below, not only the next one.
+     */
+    @Test
+    public void testSwapWithDistantRow() {
+        // Set up the input matrix:
+        // [  0,  0,  1  |  3 ]
+        // [  0,  1,  0  |  2 ]
+        // [  1,  0,  0  |  1 ]
+        matrix = new GaussMatrix(3);
+        matrix.setValue(0, 2, 1);
+        matrix.setValue(1, 1, 1);
+        matrix.setValue(2, 0, 1);
+        matrix.setValue(0, 3, 3);
+        matrix.setValue(1, 3, 2);
+        matrix.setValue(2, 3, 1);
+
+        GaussMatrixSolutionTrace trace = GaussianElimination.solveMatrix(matrix);
+
+        // Assert solution and recorded permutation
+        assertFalse(trace.invalid);
+        assertEquals("[1.0, 0.0, 0.0, 1.0]\n[0.0, 1.0, 0.0, 2.0]\n[0.0, 0.0, 1.0, 3.0]", matrix.toString());
+        assertArrayEquals(new int[] {2, 1, 0}, trace.getRowPermutation());
+    }
+
+    /**
+     * Tests the pivoting strategies on a matrix with a small leading pivot.
+     */
+    @Test
+    public void testPivotingStrategies() {
+        for (PivotingStrategy strategy : PivotingStrategy.values()) {
+            // Set up the input matrix:
+            // [  1e-10,  1  |  1 ]
+            // [  1,      1  |  2 ]
+            matrix = new GaussMatrix(2);
+            matrix.setValue(0, 0, 1e-10);
+            matrix.setValue(0, 1, 1);
+            matrix.setValue(1, 0, 1);
+            matrix.setValue(1, 1, 1);
+            matrix.setValue(0, 2, 1);
+            matrix.setValue(1, 2, 2);
+
+            GaussMatrixSolutionTrace trace = GaussianElimination.solveMatrix(matrix, strategy);
+            assertFalse(trace.invalid);
+
+            // Only the pivoting strategies move a larger value to the pivot position
+            if (strategy == PivotingStrategy.NONE) {
+                assertEquals("Divide row 1 by 1.0E-10.", trace.getStepLabel(0));
+            }
+            else if (strategy == PivotingStrategy.FULL) {
+                assertEquals("Swap column 1 with column 2.", trace.getStepLabel(0));
+            }
+            else {
+                assertEquals("Swap row 1 with row 2.", trace.getStepLabel(0));
+            }
+
+            assertEquals(1, matrix.getValue(0, 2), 1e-9);
+            assertEquals(1, matrix.getValue(1, 2), 1e-9);
+        }
+    }
+
+    /**
+     * Tests that full pivoting restores the original variable order.
+     */
+    @Test
+    public void testFullPivoting() {
+        // Set up the input matrix:
+        // [  1,  4  |  9 ]
+        // [  2,  1  |  4 ]
+        matrix = new GaussMatrix(2);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(0, 1, 4);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(1, 1, 1);
+        matrix.setValue(0, 2, 9);
+        matrix.setValue(1, 2, 4);
+
+        GaussMatrixSolutionTrace trace = GaussianElimination.solveMatrix(matrix, PivotingStrategy.FULL);
+
+        // Assert the largest value was moved into the pivot position first
+        assertEquals("Swap column 1 with column 2.", trace.getStepLabel(0));
+        assertEquals("[1.0, 0.0, 1.0]\n[0.0, 1.0, 2.0]", matrix.toString());
+    }
+
+    /**
+     * Tests that a singular matrix is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        // Set up the input matrix:
+        // [  1,  2  |  3 ]
+        // [  2,  4  |  6 ]
+        matrix = new GaussMatrix(2);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(0, 1, 2);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(1, 1, 4);
+        matrix.setValue(0, 2, 3);
+        matrix.setValue(1, 2, 6);
+
+        for (PivotingStrategy strategy : PivotingStrategy.values()) {
+            GaussMatrix input = (GaussMatrix) matrix.clone();
+            assertTrue(GaussianElimination.solveMatrix(input, strategy).invalid);
+        }
+    }
+
+    /**
+     * Tests the trace-free solving capability.
+     */
+    @Test
+    public void testSolve() {
+        // Set up the input matrix:
+        // [  0,  1,  3  |  3 ]
+        // [  1,  1, -1  |  9 ]
+        // [ -1,  0, -2  |  6 ]
+        matrix = new GaussMatrix(3);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(0, 2, 3);
+        matrix.setValue(1, 0, 1);
+        matrix.setValue(1, 1, 1);
+        matrix.setValue(1, 2, -1);
+        matrix.setValue(2, 0, -1);
+        matrix.setValue(2, 2, -2);
+        matrix.setValue(0, 3, 3);
+        matrix.setValue(1, 3, 9);
+        matrix.setValue(2, 3, 6);
+
+        String input = matrix.toString();
+
+        for (PivotingStrategy strategy : PivotingStrategy.values()) {
+            GaussMatrixSolution solution = GaussianElimination.solve(matrix, strategy);
+
+            // Assert expected solution vector (-2, 9, -2)
+            assertEquals(GaussMatrixSolution.Status.SOLVED, solution.getStatus());
+            assertEquals(-2, solution.getValue(0), 1e-9);
+            assertEquals(9, solution.getValue(1), 1e-9);
+            assertEquals(-2, solution.getValue(2), 1e-9);
+        }
+
+        // Assert the input matrix is left unchanged
+        assertEquals(input, matrix.toString());
+    }
+
+    /**
+     * Tests that the recorded steps are rebuilt correctly from the checkpoints in any order.
+     */
+    @Test
+    public void testTraceReplay() {
+        // Create a 6 x 7 matrix with mixed values
+        matrix = new GaussMatrix(6);
+
+        for (int row = 0; row < matrix.getRowCount(); row++) {
+            for (int column = 0; column < matrix.getColumnCount(); column++) {
+                matrix.setValue(row, column, ((row + 2) * (column + 3)) % 7 - 3 + (row == column ? 5 : 0));
+            }
+        }
+
+        GaussMatrixSolutionTrace trace = GaussianElimination.solveMatrix(matrix, PivotingStrategy.PARTIAL);
+        int stepCount = trace.getStepCount();
+
+        // Read all steps in order
+        String[] steps = new String[stepCount];
+
+        for (int step = 0; step < stepCount; step++) {
+            steps[step] = trace.getStep(step).toString();
+        }
+
+        // Assert the last step is the solved matrix and more steps than the checkpoint interval were recorded
+        assertFalse(trace.invalid);
+        assertTrue(stepCount > trace.getCheckpointInterval());
+        assertEquals(matrix.toString(), steps[stepCount - 1]);
+
+        // Assert random access rebuilds the same matrices
+        for (int step = stepCount - 1; step >= 0; step -= 3) {
+            assertEquals(steps[step], trace.getStep(step).toString());
+        }
+    }
+
+    /**
+     * Tests that the deprecated recording methods keep the given matrices.
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLegacyTraceRecording() {
+        GaussMatrixSolutionTrace trace = new GaussMatrixSolutionTrace();
+        matrix = new GaussMatrix(2);
+        matrix.setValue(0, 1, 2);
+        matrix.setValue(1, 0, 4);
+        matrix.setValue(1, 2, 8);
+
+        trace.addSwap(matrix, 1, 2, false);
+        String swapped = matrix.toString();
+
+        matrix.setValue(0, 0, 1);
+        trace.addDivision(matrix, 1, 4, false);
+
+        // Assert the recorded matrices and labels
+        assertEquals(2, trace.getStepCount());
+        assertEquals(swapped, trace.getStep(0).toString());
+        assertEquals(matrix.toString(), trace.getStep(1).toString());
+        assertEquals("Swap row 1 with row 2.", trace.getStepLabel(0));
+        assertEquals("Divide row 1 by 4.0.", trace.getStepLabel(1));
+    }
+
+    /**
+     * Tests that back substitution leaves the exact identity and is recorded in the trace.
+     */
+    @Test
+    public void testBackSubstitution() {
+        int size = 40;
+        Random random = new Random(7);
+        DenseMatrix dense = new DenseMatrix(size, size + 3);
+
+        for (int index = 0; index < dense.getData().length; index++) {
+            dense.getData()[index] = random.nextDouble() * 2 - 1;
+        }
+
+        matrix = new GaussMatrix(size, 3);
+        dense.copyTo(matrix);
+
+        DenseMatrix reduced = dense.copy();
+        GaussianElimination.solveInPlace(reduced, PivotingStrategy.PARTIAL);
+        GaussMatrixSolutionTrace trace = GaussianElimination.solveMatrix(matrix, PivotingStrategy.PARTIAL);
+
+        // Assert the traced and untraced reductions agree and the trace rebuilds the result
+        assertEquals(reduced.toString(), matrix.toString());
+        assertEquals(matrix.toString(), trace.getStep(trace.getStepCount() - 1).toString());
+
+        // Assert the coefficients are exactly the identity and the solutions satisfy the original system
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                assertEquals(row == column ? 1 : 0, reduced.getValue(row, column));
+            }
+
+            for (int solution = 0; solution < 3; solution++) {
+                double sum = 0;
+
+                for (int column = 0; column < size; column++) {
+                    sum += dense.getValue(row, column) * reduced.getValue(column, size + solution);
+                }
+
+                assertEquals(dense.getValue(row, size + solution), sum, 1e-10);
+            }
+        }
+    }
+
+    /**
+     * Tests reducing multiple augmented columns in the same sweep.
+     */
+    @Test
+    public void testMultipleAugmentedColumns() {
+        // Set up the input matrix:
+        // [  2,  1  |  3,  1 ]
+        // [  1,  3  |  4, -2 ]
+        matrix = new GaussMatrix(2, 2);
+        matrix.setValue(0, 0, 2);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(1, 0, 1);
+        matrix.setValue(1, 1, 3);
+        matrix.setValue(0, 2, 3);
+        matrix.setValue(1, 2, 4);
+        matrix.setValue(0, 3, 1);
+        matrix.setValue(1, 3, -2);
+
+        GaussMatrixSolution solution = GaussianElimination.solve(matrix);
+
+        // Assert one solution vector per augmented column: (1, 1) and (1, -1)
+        assertEquals(2, solution.getSolutionCount());
+        assertEquals(1, solution.getValue(0, 0), 1e-12);
+        assertEquals(1, solution.getValue(1, 0), 1e-12);
+        assertEquals(1, solution.getValue(0, 1), 1e-12);
+        assertEquals(-1, solution.getValue(1, 1), 1e-12);
+    }
+
+    /**
+     * Tests the matrix inversion.
+     */
+    @Test
+    public void testInvert() {
+        // Set up the input matrix:
+        // [  4,  7 ]
+        // [  2,  6 ]
+        DenseMatrix dense = new DenseMatrix(2, 2);
+        dense.setValue(0, 0, 4);
+        dense.setValue(0, 1, 7);
+        dense.setValue(1, 0, 2);
+        dense.setValue(1, 1, 6);
+
+        DenseMatrix inverse = GaussianElimination.invert(dense);
+
+        // Assert expected inverse:
+        // [  0.6, -0.7 ]
+        // [ -0.2,  0.4 ]
+        assertEquals(0.6, inverse.getValue(0, 0), 1e-12);
+        assertEquals(-0.7, inverse.getValue(0, 1), 1e-12);
+        assertEquals(-0.2, inverse.getValue(1, 0), 1e-12);
+        assertEquals(0.4, inverse.getValue(1, 1), 1e-12);
+    }
 }
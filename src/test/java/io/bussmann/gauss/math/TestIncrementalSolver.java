@@ -0,0 +1,163 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test incremental solver.
+ *
+ * Tests the solver updating its factorization after edits of the matrix.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestIncrementalSolver {
+    /**
+     * Tests that value, row and column edits are solved without factoring again.
+     */
+    @Test
+    public void testUpdates() {
+        Random random = new Random(5);
+        DenseMatrix matrix = createMatrix(random, 60);
+        IncrementalSolver solver = new IncrementalSolver(matrix, IncrementalSolver.DEFAULT_MAX_UPDATES);
+
+        assertSolution(matrix, solver.solve());
+
+        for (int edit = 0; edit < 12; edit++) {
+            int index = random.nextInt(60);
+            double[] values = new double[60];
+
+            for (int value = 0; value < values.length; value++) {
+                values[value] = random.nextDouble() * 2 - 1;
+            }
+
+            values[index] += 60;
+
+            if (edit % 3 == 0) {
+                double value = random.nextDouble() * 2 - 1;
+                int column = random.nextInt(60);
+
+                solver.setValue(index, column, value);
+                matrix.setValue(index, column, value);
+            }
+            else if (edit % 3 == 1) {
+                solver.setRow(index, values);
+
+                for (int column = 0; column < values.length; column++) {
+                    matrix.setValue(index, column, values[column]);
+                }
+            }
+            else {
+                solver.setColumn(index, values);
+
+                for (int row = 0; row < values.length; row++) {
+                    matrix.setValue(row, index, values[row]);
+                }
+            }
+
+            assertSolution(matrix, solver.solve());
+        }
+
+        // Assert all edits were applied as updates of the first factorization
+        assertEquals(1, solver.getFactorizationCount());
+        assertEquals(12, solver.getUpdateCount());
+    }
+
+    /**
+     * Tests that the coefficients are factored again once too many updates are pending.
+     */
+    @Test
+    public void testUpdateLimit() {
+        Random random = new Random(9);
+        DenseMatrix matrix = createMatrix(random, 20);
+        IncrementalSolver solver = new IncrementalSolver(matrix, 2);
+
+        solver.solve();
+
+        for (int edit = 0; edit < 3; edit++) {
+            solver.setValue(edit, edit, 25 + edit);
+            matrix.setValue(edit, edit, 25 + edit);
+        }
+
+        assertSolution(matrix, solver.solve());
+        assertEquals(2, solver.getFactorizationCount());
+        assertEquals(0, solver.getUpdateCount());
+    }
+
+    /**
+     * Tests that edits making the matrix singular and regular again are detected.
+     */
+    @Test
+    public void testSingularUpdate() {
+        // Set up the input matrix:
+        // [  2,  1  |  3 ]
+        // [  1,  3  |  4 ]
+        DenseMatrix matrix = new DenseMatrix(2, 3);
+        matrix.setValue(0, 0, 2);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(0, 2, 3);
+        matrix.setValue(1, 0, 1);
+        matrix.setValue(1, 1, 3);
+        matrix.setValue(1, 2, 4);
+
+        IncrementalSolver solver = new IncrementalSolver(matrix, IncrementalSolver.DEFAULT_MAX_UPDATES);
+        assertFalse(solver.solve().isInvalid());
+
+        // Assert the update vanishing the determinant is rejected
+        solver.setValue(1, 1, 0.5);
+        assertTrue(solver.solve().isInvalid());
+
+        // Assert the matrix is solved again once it is regular: (1, 1)
+        solver.setValue(1, 1, 3);
+        GaussMatrixSolution solution = solver.solve();
+
+        assertFalse(solution.isInvalid());
+        assertEquals(1, solution.getValue(0, 0), 1e-12);
+        assertEquals(1, solution.getValue(1, 0), 1e-12);
+    }
+
+    /**
+     * Creates a diagonally dominant matrix with random values and one augmented column.
+     *
+     * @param random The random number generator.
+     * @param size The number of rows.
+     *
+     * @return The created matrix.
+     */
+    private static DenseMatrix createMatrix(Random random, int size) {
+        DenseMatrix result = new DenseMatrix(size, size + 1);
+
+        for (int index = 0; index < result.getData().length; index++) {
+            result.getData()[index] = random.nextDouble() * 2 - 1;
+        }
+
+        for (int row = 0; row < size; row++) {
+            result.setValue(row, row, size);
+        }
+
+        return result;
+    }
+
+    /**
+     * Asserts that a solution matches the solution of a fresh factorization.
+     *
+     * @param matrix The matrix solved.
+     * @param solution The solution to check.
+     */
+    private static void assertSolution(DenseMatrix matrix, GaussMatrixSolution solution) {
+        DenseMatrix expected = new BlockedLUDecomposition(matrix)
+                .solve(GaussianElimination.extractAugmentedColumns(matrix));
+
+        assertFalse(solution.isInvalid());
+
+        for (int row = 0; row < matrix.getRowCount(); row++) {
+            assertEquals(expected.getValue(row, 0), solution.getValue(row, 0), 1e-12);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixRefinedSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test mixed precision solver.
+ *
+ * Tests the single precision factorization with iterative refinement in double precision.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestMixedPrecisionSolver {
+    /**
+     * Tests that refinement reaches double precision accuracy on a well conditioned matrix.
+     */
+    @Test
+    public void testRefinement() {
+        Random random = new Random(11);
+        int size = 150;
+        DenseMatrix matrix = new DenseMatrix(size, size + 2);
+        DenseMatrix expected = new DenseMatrix(size, 2);
+
+        for (int index = 0; index < size * 2; index++) {
+            expected.getData()[index] = random.nextDouble() * 2 - 1;
+        }
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                matrix.setValue(row, column, random.nextDouble() * 2 - 1);
+            }
+        }
+
+        // Right-hand sides for the expected solutions
+        for (int row = 0; row < size; row++) {
+            for (int solution = 0; solution < 2; solution++) {
+                double sum = 0;
+
+                for (int column = 0; column < size; column++) {
+                    sum += matrix.getValue(row, column) * expected.getValue(column, solution);
+                }
+
+                matrix.setValue(row, size + solution, sum);
+            }
+        }
+
+        GaussMatrixRefinedSolution solution = MixedPrecisionSolver.solve(matrix, 30);
+
+        assertFalse(solution.isInvalid());
+        assertFalse(solution.isFallback());
+        assertTrue(solution.getIterationCount() > 0);
+
+        for (int row = 0; row < size; row++) {
+            assertEquals(expected.getValue(row, 0), solution.getValue(row, 0), 1e-11);
+            assertEquals(expected.getValue(row, 1), solution.getValue(row, 1), 1e-11);
+        }
+    }
+
+    /**
+     * Tests the fallback to double precision for a matrix too badly conditioned for single precision.
+     */
+    @Test
+    public void testFallback() {
+        // The Hilbert matrix of size 10 has a condition number around 1e13
+        int size = 10;
+        DenseMatrix matrix = new DenseMatrix(size, size + 1);
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                matrix.setValue(row, column, 1.0 / (row + column + 1));
+            }
+
+            matrix.setValue(row, size, row == 0 ? 1 : 0);
+        }
+
+        GaussMatrixRefinedSolution solution = MixedPrecisionSolver.solve(matrix, 30);
+        GaussMatrixRefinedSolution limited = MixedPrecisionSolver.solve(matrix, 0);
+
+        assertFalse(solution.isInvalid());
+        assertTrue(solution.isFallback());
+        assertTrue(limited.isFallback());
+        assertEquals(0, limited.getIterationCount());
+
+        // The first value of the first column of the inverse is the size squared
+        assertEquals(size * size, solution.getValue(0), 1e-2);
+    }
+
+    /**
+     * Tests that a singular matrix is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        DenseMatrix matrix = new DenseMatrix(2, 3, new double[]{
+                1, 2, 3,
+                2, 4, 6,
+        });
+
+        GaussMatrixRefinedSolution solution = MixedPrecisionSolver.solve(matrix, 30);
+
+        assertTrue(solution.isInvalid());
+        assertTrue(solution.isFallback());
+    }
+}
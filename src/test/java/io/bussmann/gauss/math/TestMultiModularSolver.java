@@ -0,0 +1,92 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixExactSolution;
+import org.apache.commons.math3.fraction.BigFraction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test multi-modular solver.
+ *
+ * Tests the exact solution by elimination modulo primes and rational reconstruction.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestMultiModularSolver {
+    /**
+     * Tests that the solution of a random integer matrix equals the Bareiss solution.
+     */
+    @Test
+    public void testMatchesBareiss() {
+        Random random = new Random(5);
+        int size = 40;
+        BigInteger[] values = new BigInteger[size * (size + 2)];
+
+        for (int index = 0; index < values.length; index++) {
+            values[index] = BigInteger.valueOf(random.nextInt(2001) - 1000);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            GaussMatrixExactSolution solution = new MultiModularSolver(pool).solve(values, size, size + 2);
+            GaussMatrixExactSolution expected = BareissElimination.solve(values.clone(), size, size + 2);
+
+            assertFalse(solution.isInvalid());
+            assertEquals(2, solution.getSolutionCount());
+
+            for (int row = 0; row < size; row++) {
+                assertEquals(expected.getValue(row, 0), solution.getValue(row, 0));
+                assertEquals(expected.getValue(row, 1), solution.getValue(row, 1));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests solving a small matrix with a zero pivot and decimal values, and a negative solution value.
+     */
+    @Test
+    public void testSolveMatrix() {
+        // Set up the input matrix:
+        // [ 0,   1   | -0.5 ]
+        // [ 3,   1.5 | 1    ]
+        GaussMatrix matrix = new GaussMatrix(2);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(0, 2, -0.5);
+        matrix.setValue(1, 0, 3);
+        matrix.setValue(1, 1, 1.5);
+        matrix.setValue(1, 2, 1);
+
+        GaussMatrixExactSolution solution = new MultiModularSolver().solve(matrix);
+
+        // Assert expected solution vector (7/12, -1/2)
+        assertEquals(new BigFraction(7, 12), solution.getValue(0));
+        assertEquals(new BigFraction(-1, 2), solution.getValue(1));
+    }
+
+    /**
+     * Tests that a singular matrix is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        // Third row is the sum of the first two rows
+        DenseMatrix matrix = new DenseMatrix(3, 4, new double[]{
+                1, 2, 3, 1,
+                4, 5, 6, 1,
+                5, 7, 9, 2,
+        });
+
+        assertTrue(new MultiModularSolver().solve(matrix).isInvalid());
+    }
+}
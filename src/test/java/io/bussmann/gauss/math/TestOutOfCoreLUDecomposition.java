@@ -0,0 +1,92 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.MappedMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test out-of-core LU decomposition.
+ *
+ * Tests the panel by panel factorization of file backed matrices.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestOutOfCoreLUDecomposition {
+    /**
+     * Tests that factoring in many small panels yields the in-memory solutions.
+     */
+    @Test
+    public void testMatchesBlocked(@TempDir Path directory) throws IOException {
+        Random random = new Random(4);
+        DenseMatrix dense = new DenseMatrix(150, 152);
+
+        for (int index = 0; index < dense.getData().length; index++) {
+            dense.getData()[index] = random.nextDouble() * 2 - 1;
+        }
+
+        DenseMatrix expected = new BlockedLUDecomposition(dense)
+                .solve(GaussianElimination.extractAugmentedColumns(dense));
+
+        try (MappedMatrix matrix = MappedMatrix.fromDenseMatrix(dense, directory.resolve("matrix.bin"))) {
+            // Fit seven columns per panel, so the last panel is narrower than the others
+            OutOfCoreLUDecomposition decomposition = new OutOfCoreLUDecomposition(matrix, 150 * 16 * 7);
+
+            assertEquals(7, decomposition.getPanelSize());
+            assertFalse(decomposition.isSingular());
+
+            DenseMatrix rhs = GaussianElimination.extractAugmentedColumns(dense);
+            DenseMatrix solution = decomposition.solve(rhs);
+
+            for (int row = 0; row < 150; row++) {
+                assertEquals(expected.getValue(row, 0), solution.getValue(row, 0), 1e-9);
+                assertEquals(expected.getValue(row, 1), solution.getValue(row, 1), 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Tests solving the augmented columns of a mapped matrix and detecting singular matrices.
+     */
+    @Test
+    public void testSolve(@TempDir Path directory) throws IOException {
+        // Set up the input matrix:
+        // [  0,  1,  3  |  3 ]
+        // [  1,  1, -1  |  9 ]
+        // [ -1,  0, -2  |  6 ]
+        DenseMatrix dense = new DenseMatrix(3, 4, new double[] {0, 1, 3, 3, 1, 1, -1, 9, -1, 0, -2, 6});
+
+        MappedMatrix.fromDenseMatrix(dense, directory.resolve("input.bin")).close();
+
+        try (MappedMatrix input = MappedMatrix.openReadOnly(directory.resolve("input.bin"), 0, 3, 4);
+             MappedMatrix matrix = input.copy(directory.resolve("regular.bin"))) {
+            assertThrows(IllegalArgumentException.class, () -> OutOfCoreLUDecomposition.solve(input));
+
+            GaussMatrixSolution solution = OutOfCoreLUDecomposition.solve(matrix);
+
+            // Assert expected solution: (-2, 9, -2)
+            assertFalse(solution.isInvalid());
+            assertEquals(-2, solution.getValue(0), 1e-12);
+            assertEquals(9, solution.getValue(1), 1e-12);
+            assertEquals(-2, solution.getValue(2), 1e-12);
+            assertEquals(dense.toString(), input.toDenseMatrix().toString());
+        }
+
+        // Make the third row the sum of the first two
+        dense = new DenseMatrix(3, 4, new double[] {0, 1, 3, 3, 1, 1, -1, 9, 1, 2, 2, 6});
+
+        try (MappedMatrix matrix = MappedMatrix.fromDenseMatrix(dense, directory.resolve("singular.bin"))) {
+            assertTrue(OutOfCoreLUDecomposition.solve(matrix).isInvalid());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Test parallel gaussian elimination.
+ *
+ * Tests the fork/join parallel gaussian elimination implementation.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestParallelGaussianElimination {
+    /**
+     * Tests that the parallel elimination yields exactly the sequential results.
+     */
+    @Test
+    public void testMatchesSequential() {
+        Random random = new Random(3);
+        DenseMatrix matrix = new DenseMatrix(120, 122);
+
+        for (int index = 0; index < matrix.getData().length; index++) {
+            matrix.getData()[index] = random.nextDouble() * 2 - 1;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (PivotingStrategy strategy : PivotingStrategy.values()) {
+                DenseMatrix sequential = matrix.copy();
+                DenseMatrix parallel = matrix.copy();
+
+                GaussianElimination.solveInPlace(sequential, strategy);
+                GaussMatrixSolution solution = new ParallelGaussianElimination(pool, 64).solveInPlace(parallel,
+                        strategy);
+
+                assertFalse(solution.isInvalid());
+                assertArrayEquals(sequential.getData(), parallel.getData());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.bussmann.gauss.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test row operations.
+ *
+ * Tests that the vector kernels yield exactly the results of the scalar loops.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestRowOperations {
+    /**
+     * Tests the vector kernels against the scalar loops, including the values left over after the last vector.
+     */
+    @Test
+    public void testVectorMatchesScalar() {
+        // The vector kernels need the module added, see the surefire configuration
+        assumeTrue(RowOperations.isVectorized(), "The vector module jdk.incubator.vector is not present.");
+
+        Random random = new Random(7);
+
+        for (int length = 0; length < 70; length++) {
+            double[] source = new double[length + 3];
+            double[] values = new double[length + 3];
+
+            for (int index = 0; index < values.length; index++) {
+                source[index] = random.nextDouble() * 2 - 1;
+                values[index] = random.nextDouble() * 2 - 1;
+            }
+
+            double scalar = random.nextDouble() * 10 - 5;
+            double[] expected = values.clone();
+            double[] actual = values.clone();
+
+            for (int index = 0; index < length; index++) {
+                expected[index + 1] -= source[index + 2] * scalar;
+            }
+
+            VectorRowOperations.subtract(actual, 1, source, 2, length, scalar);
+            assertArrayEquals(expected, actual);
+
+            for (int index = 0; index < length; index++) {
+                expected[index + 2] *= scalar;
+            }
+
+            VectorRowOperations.multiply(actual, 2, length, scalar);
+            assertArrayEquals(expected, actual);
+
+            for (int index = 0; index < length; index++) {
+                expected[index] = expected[index] / scalar + (double) 0;
+            }
+
+            VectorRowOperations.divide(actual, 0, length, scalar);
+            assertArrayEquals(expected, actual);
+
+            // Add zero factors, which skip their values, and negative zero targets, which would change if not
+            double[] factors = values.clone();
+
+            for (int index = 0; index < length; index += 3) {
+                factors[index + 2] = index % 2 == 0 ? 0.0 : -0.0;
+                expected[index + 1] = -0.0;
+                actual[index + 1] = -0.0;
+            }
+
+            for (int index = 0; index < length; index++) {
+                if (Double.doubleToRawLongBits(factors[index + 2]) != 0) {
+                    expected[index + 1] -= source[index] * factors[index + 2];
+                }
+            }
+
+            VectorRowOperations.subtractProducts(actual, 1, factors, 2, source, 0, length);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Tests that dividing by the vector kernels normalizes negative zero results.
+     */
+    @Test
+    public void testDivideNormalizesNegativeZero() {
+        double[] values = new double[32];
+
+        RowOperations.divide(values, 0, values.length, -3);
+
+        for (double value : values) {
+            assertEquals(0, Double.compare(0.0, value));
+        }
+    }
+}
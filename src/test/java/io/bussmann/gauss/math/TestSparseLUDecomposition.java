@@ -0,0 +1,150 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test sparse LU decomposition.
+ *
+ * Tests the sparse LU decomposition and the fill-reducing orderings.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestSparseLUDecomposition {
+    /**
+     * Tests solving a small matrix that needs row pivoting.
+     */
+    @Test
+    public void testSolveMatrix() {
+        // Set up the input matrix:
+        // [  0,  1,  3  |  3 ]
+        // [  1,  1, -1  |  9 ]
+        // [ -1,  0, -2  |  6 ]
+        GaussMatrix matrix = new GaussMatrix(3);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(0, 2, 3);
+        matrix.setValue(1, 0, 1);
+        matrix.setValue(1, 1, 1);
+        matrix.setValue(1, 2, -1);
+        matrix.setValue(2, 0, -1);
+        matrix.setValue(2, 2, -2);
+        matrix.setValue(0, 3, 3);
+        matrix.setValue(1, 3, 9);
+        matrix.setValue(2, 3, 6);
+
+        for (SparseOrdering ordering : SparseOrdering.values()) {
+            SparseLUDecomposition decomposition = new SparseLUDecomposition(SparseMatrix.fromGaussMatrix(matrix),
+                    ordering, SparseLUDecomposition.DEFAULT_PIVOT_THRESHOLD);
+            double[] solution = decomposition.solve(new double[]{3, 9, 6});
+
+            // Assert expected solution vector (-2, 9, -2)
+            assertEquals(-2, solution[0], 1e-12);
+            assertEquals(9, solution[1], 1e-12);
+            assertEquals(-2, solution[2], 1e-12);
+        }
+    }
+
+    /**
+     * Tests solving the finite difference system of a grid with every ordering.
+     */
+    @Test
+    public void testGridSystem() {
+        SparseMatrix matrix = createGridMatrix(30);
+        int size = matrix.getRowCount();
+        int naturalFill = 0;
+
+        for (SparseOrdering ordering : SparseOrdering.values()) {
+            SparseLUDecomposition decomposition = new SparseLUDecomposition(matrix, ordering,
+                    SparseLUDecomposition.DEFAULT_PIVOT_THRESHOLD);
+
+            // Assert the residual of the solution for a right-hand side of ones is small
+            double[] rhs = new double[size];
+            Arrays.fill(rhs, 1);
+
+            double[] product = new double[size];
+            matrix.multiply(decomposition.solve(rhs), product);
+
+            for (int row = 0; row < size; row++) {
+                assertEquals(1, product[row], 1e-10);
+            }
+
+            // Assert the orderings reduce the fill
+            if (ordering == SparseOrdering.NATURAL) {
+                naturalFill = decomposition.getFactorNonZeroCount();
+            }
+            else {
+                assertTrue(decomposition.getFactorNonZeroCount() < naturalFill);
+            }
+        }
+    }
+
+    /**
+     * Tests that a singular matrix is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        // Second row is a multiple of the first row
+        GaussMatrix matrix = new GaussMatrix(2);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(0, 1, 2);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(1, 1, 4);
+
+        assertTrue(SparseLUDecomposition.solve(matrix).isInvalid());
+
+        // A regular matrix with its augmented column
+        matrix.setValue(1, 1, 3);
+        matrix.setValue(0, 2, 5);
+        matrix.setValue(1, 2, 8);
+
+        GaussMatrixSolution solution = SparseLUDecomposition.solve(matrix);
+        assertFalse(solution.isInvalid());
+        assertEquals(1, solution.getValue(0), 1e-12);
+        assertEquals(2, solution.getValue(1), 1e-12);
+    }
+
+    /**
+     * Creates the five point finite difference matrix of a square grid.
+     *
+     * @param width The number of grid points per side.
+     *
+     * @return The created matrix.
+     */
+    private SparseMatrix createGridMatrix(int width) {
+        int size = width * width;
+        int[] rows = new int[5 * size];
+        int[] columns = new int[5 * size];
+        double[] values = new double[5 * size];
+        int count = 0;
+
+        for (int y = 0; y < width; y++) {
+            for (int x = 0; x < width; x++) {
+                int node = y * width + x;
+                int[] neighbours = {x > 0 ? node - 1 : -1, x < width - 1 ? node + 1 : -1,
+                        y > 0 ? node - width : -1, y < width - 1 ? node + width : -1};
+
+                rows[count] = node;
+                columns[count] = node;
+                values[count++] = 4;
+
+                for (int neighbour : neighbours) {
+                    if (neighbour >= 0) {
+                        rows[count] = node;
+                        columns[count] = neighbour;
+                        values[count++] = -1;
+                    }
+                }
+            }
+        }
+
+        return SparseMatrix.fromCoordinates(size, size, rows, columns, values, count);
+    }
+}
@@ -0,0 +1,141 @@
+package io.bussmann.gauss.math;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test symmetric solver.
+ *
+ * Tests the Cholesky and LDL^T decompositions and the choice between them.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestSymmetricSolver {
+    /**
+     * Tests that positive definite, indefinite and non-symmetric matrices match the gaussian elimination.
+     */
+    @Test
+    public void testMatchesGaussianElimination() {
+        Random random = new Random(11);
+
+        DenseMatrix definite = createSymmetricMatrix(50, 50, random);
+        DenseMatrix indefinite = createSymmetricMatrix(50, 0, random);
+        DenseMatrix general = createSymmetricMatrix(50, 0, random);
+        general.setValue(3, 7, 2);
+
+        assertInstanceOf(CholeskyDecomposition.class, SymmetricSolver.factorize(definite));
+        assertInstanceOf(LDLTDecomposition.class, SymmetricSolver.factorize(indefinite));
+        assertInstanceOf(BlockedLUDecomposition.class, SymmetricSolver.factorize(general));
+
+        for (DenseMatrix matrix : new DenseMatrix[]{definite, indefinite, general}) {
+            GaussMatrixSolution expected = GaussianElimination.solveInPlace(matrix.copy(), PivotingStrategy.PARTIAL);
+            GaussMatrixSolution actual = SymmetricSolver.solve(matrix);
+
+            assertFalse(actual.isInvalid());
+
+            for (int row = 0; row < 50; row++) {
+                assertEquals(expected.getValue(row), actual.getValue(row), 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Tests a matrix with a zero diagonal, which needs two by two pivot blocks.
+     */
+    @Test
+    public void testZeroDiagonal() {
+        // Set up the input matrix:
+        // [ 0, 1, 2 |  7 ]
+        // [ 1, 0, 3 |  7 ]
+        // [ 2, 3, 0 | 11 ]
+        GaussMatrix matrix = new GaussMatrix(3);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(0, 2, 2);
+        matrix.setValue(1, 0, 1);
+        matrix.setValue(1, 2, 3);
+        matrix.setValue(2, 0, 2);
+        matrix.setValue(2, 1, 3);
+        matrix.setValue(0, 3, 7);
+        matrix.setValue(1, 3, 7);
+        matrix.setValue(2, 3, 11);
+
+        GaussMatrixSolution solution = GaussianElimination.solve(matrix);
+
+        // Assert expected solution vector (1, 3, 2)
+        assertEquals(1, solution.getValue(0), 1e-12);
+        assertEquals(3, solution.getValue(1), 1e-12);
+        assertEquals(2, solution.getValue(2), 1e-12);
+    }
+
+    /**
+     * Tests that a singular symmetric matrix is detected.
+     */
+    @Test
+    public void testSingularMatrix() {
+        // Second row is a multiple of the first row
+        GaussMatrix matrix = new GaussMatrix(2);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(0, 1, 2);
+        matrix.setValue(1, 0, 2);
+        matrix.setValue(1, 1, 4);
+
+        assertTrue(SymmetricSolver.solve(matrix).isInvalid());
+    }
+
+    /**
+     * Tests that an explicit pivoting strategy is used for symmetric systems instead of the symmetric solver.
+     */
+    @Test
+    public void testExplicitStrategy() {
+        DenseMatrix matrix = createSymmetricMatrix(20, 20, new Random(13));
+
+        for (PivotingStrategy strategy : PivotingStrategy.values()) {
+            double[] expected = GaussianElimination.solveInPlace(matrix.copy(), strategy).getValues();
+            double[] actual = GaussianElimination.solve(matrix.toGaussMatrix(), strategy).getValues();
+
+            assertArrayEquals(expected, actual);
+        }
+
+        // The overloads without strategy route the same way
+        assertArrayEquals(SymmetricSolver.solve(matrix).getValues(), GaussianElimination.solve(matrix).getValues());
+        assertArrayEquals(SymmetricSolver.solve(matrix).getValues(),
+                GaussianElimination.solve(matrix.toGaussMatrix()).getValues());
+    }
+
+    /**
+     * Creates a random symmetric matrix with one augmented column.
+     *
+     * @param size The number of rows.
+     * @param shift The value added to the diagonal, a large shift makes the matrix positive definite.
+     * @param random The random number generator.
+     *
+     * @return The created matrix.
+     */
+    private DenseMatrix createSymmetricMatrix(int size, double shift, Random random) {
+        DenseMatrix matrix = new DenseMatrix(size, size + 1);
+
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < row; column++) {
+                double value = random.nextDouble() * 2 - 1;
+
+                matrix.setValue(row, column, value);
+                matrix.setValue(column, row, value);
+            }
+
+            matrix.setValue(row, row, shift + random.nextDouble() * 2 - 1);
+            matrix.setValue(row, size, random.nextDouble());
+        }
+
+        return matrix;
+    }
+}
@@ -0,0 +1,144 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test Krylov solver.
+ *
+ * Tests the conjugate gradient, BiCGSTAB and GMRES solvers on grid matrices.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestKrylovSolver {
+    /**
+     * Tests that all Krylov solvers find the solution of a symmetric positive definite system.
+     */
+    @Test
+    public void testSymmetricSystem() {
+        SparseMatrix matrix = createGridMatrix(30, 0);
+        double[] expected = createSolution(matrix.getRowCount());
+        double[] rhs = new double[expected.length];
+        matrix.multiply(expected, rhs);
+
+        KrylovSolver[] solvers = {
+                new ConjugateGradientSolver(), new BiCGSTABSolver(), new GMRESSolver(1e-10, 10000, 50),
+        };
+
+        for (KrylovSolver solver : solvers) {
+            GaussMatrixIterativeSolution solution = solver.solve(matrix, rhs);
+
+            assertTrue(solution.isConverged(), solver.getClass().getSimpleName());
+            assertTrue(solution.getRelativeResidual() <= 1e-10);
+
+            for (int index = 0; index < expected.length; index++) {
+                assertEquals(expected[index], solution.getValue(index), 1e-6);
+            }
+        }
+    }
+
+    /**
+     * Tests the solvers for general matrices on a non-symmetric system, and that the residuals are reported.
+     */
+    @Test
+    public void testNonSymmetricSystem() {
+        SparseMatrix matrix = createGridMatrix(20, 0.4);
+        double[] expected = createSolution(matrix.getRowCount());
+        double[] rhs = new double[expected.length];
+        matrix.multiply(expected, rhs);
+
+        for (KrylovSolver solver : new KrylovSolver[]{new BiCGSTABSolver(), new GMRESSolver()}) {
+            List<Double> residuals = new ArrayList<>();
+            solver.setListener((iteration, residual) -> residuals.add(residual));
+
+            GaussMatrixIterativeSolution solution = solver.solve(matrix, rhs);
+
+            assertTrue(solution.isConverged(), solver.getClass().getSimpleName());
+            assertEquals(1.0, residuals.get(0));
+            assertTrue(residuals.size() > 1);
+
+            for (int index = 0; index < expected.length; index++) {
+                assertEquals(expected[index], solution.getValue(index), 1e-6);
+            }
+        }
+    }
+
+    /**
+     * Tests that the maximal number of iterations is respected.
+     */
+    @Test
+    public void testMaxIterations() {
+        SparseMatrix matrix = createGridMatrix(30, 0);
+        double[] rhs = new double[matrix.getRowCount()];
+        rhs[0] = 1;
+
+        GaussMatrixIterativeSolution solution = new ConjugateGradientSolver(1e-12, 5).solve(matrix, rhs);
+
+        assertFalse(solution.isConverged());
+        assertEquals(5, solution.getIterationCount());
+        assertEquals(rhs.length, solution.getValueCount());
+    }
+
+    /**
+     * Creates the five point matrix of a square grid, with an optional convection term making it non-symmetric.
+     *
+     * @param width The number of grid points per side.
+     * @param convection The difference between the couplings to the left and right neighbour.
+     *
+     * @return The matrix.
+     */
+    static SparseMatrix createGridMatrix(int width, double convection) {
+        int size = width * width;
+        int[] rows = new int[size * 5];
+        int[] columns = new int[size * 5];
+        double[] values = new double[size * 5];
+        int count = 0;
+
+        for (int row = 0; row < size; row++) {
+            int x = row % width;
+            int y = row / width;
+            int[] neighbours = {x > 0 ? row - 1 : -1, x < width - 1 ? row + 1 : -1,
+                    y > 0 ? row - width : -1, y < width - 1 ? row + width : -1};
+            double[] couplings = {-1 - convection, -1 + convection, -1, -1};
+
+            rows[count] = row;
+            columns[count] = row;
+            values[count++] = 4;
+
+            for (int index = 0; index < neighbours.length; index++) {
+                if (neighbours[index] >= 0) {
+                    rows[count] = row;
+                    columns[count] = neighbours[index];
+                    values[count++] = couplings[index];
+                }
+            }
+        }
+
+        return SparseMatrix.fromCoordinates(size, size, rows, columns, values, count);
+    }
+
+    /**
+     * Creates a smooth solution vector.
+     *
+     * @param size The number of values.
+     *
+     * @return The solution vector.
+     */
+    static double[] createSolution(int size) {
+        double[] result = new double[size];
+
+        for (int index = 0; index < size; index++) {
+            result[index] = Math.sin(index * 0.1) + 1;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+import io.bussmann.gauss.types.SparseMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test preconditioner.
+ *
+ * Tests the Jacobi, SSOR, ILU(0) and ILUT preconditioners with the Krylov solvers.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestPreconditioner {
+    /**
+     * Tests that the preconditioners reduce the iterations of GMRES on a badly scaled, non-symmetric system.
+     */
+    @Test
+    public void testGeneralSystem() {
+        SparseMatrix matrix = scale(TestKrylovSolver.createGridMatrix(30, 0.3), false);
+        double[] expected = TestKrylovSolver.createSolution(matrix.getRowCount());
+        double[] rhs = new double[expected.length];
+        matrix.multiply(expected, rhs);
+
+        // Without a preconditioner GMRES stagnates on the badly scaled system
+        GaussMatrixIterativeSolution plain = new GMRESSolver(1e-10, 2000, 50).solve(matrix, rhs);
+        assertFalse(plain.isConverged());
+
+        Preconditioner[] preconditioners = {
+                new JacobiPreconditioner(matrix), new ILU0Preconditioner(matrix),
+                new ILUTPreconditioner(matrix, 1e-4, 20),
+        };
+        int previousIterations = plain.getIterationCount();
+
+        for (Preconditioner preconditioner : preconditioners) {
+            GMRESSolver solver = new GMRESSolver(1e-10, 2000, 50);
+            solver.setPreconditioner(preconditioner);
+
+            GaussMatrixIterativeSolution solution = solver.solve(matrix, rhs);
+
+            assertTrue(solution.isConverged());
+            assertTrue(solution.getIterationCount() < previousIterations);
+            assertTrue(preconditioner.getMemorySize() > 0);
+            assertTrue(preconditioner.getSetupTime() >= 0);
+
+            for (int index = 0; index < expected.length; index++) {
+                assertEquals(expected[index], solution.getValue(index), 1e-5);
+            }
+
+            previousIterations = solution.getIterationCount();
+        }
+    }
+
+    /**
+     * Tests that the symmetric preconditioners reduce the iterations of the conjugate gradient solver.
+     */
+    @Test
+    public void testSymmetricSystem() {
+        SparseMatrix matrix = scale(TestKrylovSolver.createGridMatrix(30, 0), true);
+        double[] rhs = TestKrylovSolver.createSolution(matrix.getRowCount());
+
+        ConjugateGradientSolver solver = new ConjugateGradientSolver();
+        int plainIterations = solver.solve(matrix, rhs).getIterationCount();
+
+        for (Preconditioner preconditioner : new Preconditioner[]{
+                new JacobiPreconditioner(matrix), new SSORPreconditioner(matrix, 1.2)}) {
+            solver.setPreconditioner(preconditioner);
+
+            GaussMatrixIterativeSolution solution = solver.solve(matrix, rhs);
+
+            assertTrue(solution.isConverged());
+            assertTrue(solution.getIterationCount() < plainIterations);
+        }
+    }
+
+    /**
+     * Tests that ILUT without dropping is the exact factorization, so GMRES converges in a single iteration.
+     */
+    @Test
+    public void testCompleteFactorization() {
+        SparseMatrix matrix = TestKrylovSolver.createGridMatrix(8, 0.5);
+        double[] rhs = TestKrylovSolver.createSolution(matrix.getRowCount());
+        ILUTPreconditioner preconditioner = new ILUTPreconditioner(matrix, 0, matrix.getRowCount());
+
+        GMRESSolver solver = new GMRESSolver();
+        solver.setPreconditioner(preconditioner);
+
+        GaussMatrixIterativeSolution solution = solver.solve(matrix, rhs);
+
+        assertTrue(solution.isConverged());
+        assertEquals(1, solution.getIterationCount());
+        assertTrue(preconditioner.getNonZeroCount() > matrix.getNonZeroCount());
+    }
+
+    /**
+     * Scales the rows of a matrix by random powers of ten, and the columns too to keep it symmetric.
+     *
+     * @param matrix The matrix to scale.
+     * @param symmetric Whether to also scale the columns.
+     *
+     * @return The scaled matrix.
+     */
+    private static SparseMatrix scale(SparseMatrix matrix, boolean symmetric) {
+        Random random = new Random(13);
+        double[] factors = new double[matrix.getRowCount()];
+
+        for (int row = 0; row < factors.length; row++) {
+            factors[row] = Math.pow(10, random.nextInt(7) - 3);
+        }
+
+        int[] rowPointers = matrix.getRowPointers();
+        int[] columnIndices = matrix.getColumnIndices();
+        double[] values = matrix.getValues().clone();
+
+        for (int row = 0; row < factors.length; row++) {
+            for (int index = rowPointers[row]; index < rowPointers[row + 1]; index++) {
+                values[index] *= factors[row] * (symmetric ? factors[columnIndices[index]] : 1);
+            }
+        }
+
+        return new SparseMatrix(matrix.getRowCount(), matrix.getColumnCount(), rowPointers.clone(),
+                columnIndices.clone(), values);
+    }
+}
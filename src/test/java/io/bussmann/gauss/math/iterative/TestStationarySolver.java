@@ -0,0 +1,71 @@
+package io.bussmann.gauss.math.iterative;
+
+import io.bussmann.gauss.types.GaussMatrix;
+import io.bussmann.gauss.types.GaussMatrixIterativeSolution;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test stationary solver.
+ *
+ * Tests the Jacobi and Gauss-Seidel solvers.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestStationarySolver {
+    /**
+     * Tests solving a diagonally dominant gauss matrix with two right-hand sides.
+     */
+    @Test
+    public void testSolveMatrix() {
+        // Set up the input matrix:
+        // [ 4, -1,  0 | 2 | 3 ]
+        // [-1,  4, -1 | 4 | 2 ]
+        // [ 0, -1,  4 | 10 | 3 ]
+        GaussMatrix matrix = new GaussMatrix(3, 2);
+        double[][] values = {{4, -1, 0, 2, 3}, {-1, 4, -1, 4, 2}, {0, -1, 4, 10, 3}};
+
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 5; column++) {
+                matrix.setValue(row, column, values[row][column]);
+            }
+        }
+
+        int jacobiIterations = 0;
+
+        for (StationarySolver solver : new StationarySolver[]{new JacobiSolver(), new GaussSeidelSolver()}) {
+            GaussMatrixIterativeSolution solution = solver.solve(matrix);
+
+            // Assert expected solution vectors (1, 2, 3) and (1, 1, 1)
+            assertTrue(solution.isConverged());
+            assertEquals(2, solution.getSolutionCount());
+
+            for (int row = 0; row < 3; row++) {
+                assertEquals(row + 1, solution.getValue(row, 0), 1e-9);
+                assertEquals(1, solution.getValue(row, 1), 1e-9);
+            }
+
+            if (solver instanceof JacobiSolver) {
+                jacobiIterations = solution.getIterationCount();
+            }
+            else {
+                assertTrue(solution.getIterationCount() < jacobiIterations);
+            }
+        }
+    }
+
+    /**
+     * Tests that a zero diagonal value is rejected.
+     */
+    @Test
+    public void testZeroDiagonal() {
+        GaussMatrix matrix = new GaussMatrix(2);
+        matrix.setValue(0, 1, 1);
+        matrix.setValue(1, 0, 1);
+
+        assertThrows(ArithmeticException.class, () -> new GaussSeidelSolver().solve(matrix));
+    }
+}
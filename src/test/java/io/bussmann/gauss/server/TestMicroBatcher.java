@@ -0,0 +1,78 @@
+package io.bussmann.gauss.server;
+
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.GaussMatrixSolution;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test micro batcher.
+ *
+ * Tests that every submitted matrix gets its solution completed, also if it cannot be solved.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestMicroBatcher {
+    /**
+     * Tests that a batch rejected by the executor fails and later batches are still collected.
+     */
+    @Test
+    public void testRejectedBatch() throws Exception {
+        AtomicBoolean rejected = new AtomicBoolean();
+        Executor executor = task -> {
+            if (rejected.compareAndSet(false, true)) {
+                throw new RejectedExecutionException("The executor is full.");
+            }
+
+            task.run();
+        };
+
+        MicroBatcher batcher = new MicroBatcher(executor, 1, 8, new ServerMetrics());
+
+        try {
+            CompletableFuture<GaussMatrixSolution> failed = batcher.submit(createMatrix());
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> failed.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+
+            // Assert expected solution: (1, 3)
+            GaussMatrixSolution solution = batcher.submit(createMatrix()).get(5, TimeUnit.SECONDS);
+            assertEquals(1, solution.getValue(0), 1e-12);
+            assertEquals(3, solution.getValue(1), 1e-12);
+        } finally {
+            batcher.close();
+        }
+    }
+
+    /**
+     * Tests that matrices submitted after closing fail at once.
+     */
+    @Test
+    public void testSubmitAfterClose() {
+        MicroBatcher batcher = new MicroBatcher(Runnable::run, 1, 8, new ServerMetrics());
+        batcher.close();
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> batcher.submit(createMatrix()).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    /**
+     * Creates a small augmented matrix.
+     *
+     * @return The matrix [[2, 1 | 5], [1, 3 | 10]].
+     */
+    private static DenseMatrix createMatrix() {
+        return new DenseMatrix(2, 3, new double[] {2, 1, 5, 1, 3, 10});
+    }
+}
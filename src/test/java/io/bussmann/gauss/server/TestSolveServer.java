@@ -0,0 +1,216 @@
+package io.bussmann.gauss.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bussmann.gauss.io.BinaryMatrixFormat;
+import io.bussmann.gauss.types.DenseMatrix;
+import io.bussmann.gauss.types.SparseMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test solve server.
+ *
+ * Tests the endpoints of the solve server on the loopback interface.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestSolveServer {
+    /**
+     * The mapper to read the responses with.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Tests solving JSON and binary matrices, with and without trace, and the health endpoint.
+     */
+    @Test
+    public void testSolve(@TempDir Path directory) throws IOException {
+        SolveServer server = start("--batch-window", "0");
+
+        try {
+            assertEquals("{\"status\":\"UP\"}", request(server, "GET", "/health", null, null).body.toString());
+
+            byte[] json = "{\"id\": 7, \"matrix\": [[2, 1, 5], [1, 3, 10.0e0]]}".getBytes(StandardCharsets.UTF_8);
+            Response solved = request(server, "POST", "/solve", "application/json", json);
+            assertEquals(200, solved.status);
+            assertEquals("{\"status\":\"SOLVED\",\"solutions\":[[1.0,3.0]]}", solved.body.toString());
+
+            Response traced = request(server, "POST", "/solve?trace=true&pivoting=none", "application/json", json);
+            assertEquals("[[1.0,3.0]]", traced.body.get("solutions").toString());
+            assertTrue(traced.body.get("steps").size() > 0);
+
+            Path file = directory.resolve("matrix.gmat");
+            BinaryMatrixFormat.write(new DenseMatrix(2, 3, new double[] {0, 2, 4, 1, 0, 3}), file);
+            Response binary = request(server, "POST", "/solve", "application/octet-stream", Files.readAllBytes(file));
+            assertEquals("[[3.0,2.0]]", binary.body.get("solutions").toString());
+
+            byte[] singular = "{\"matrix\": [[1, 2, 3], [2, 4, 6]]}".getBytes(StandardCharsets.UTF_8);
+            assertEquals("INVALID", request(server, "POST", "/solve", "application/json", singular).body
+                    .get("status").asText());
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Tests that malformed and oversized requests are rejected.
+     */
+    @Test
+    public void testRejections(@TempDir Path directory) throws IOException {
+        SolveServer server = start("--memory", "1");
+
+        try {
+            byte[] ragged = "{\"matrix\": [[1, 2, 3], [4, 5]]}".getBytes(StandardCharsets.UTF_8);
+            byte[] large = new byte[1 << 20];
+
+            // A small sparse body describing a dense matrix of 32 MB
+            Path file = directory.resolve("sparse.gmat");
+            BinaryMatrixFormat.write(SparseMatrix.fromCoordinates(2000, 2001, new int[] {0}, new int[] {0},
+                    new double[] {1}, 1), file);
+            byte[] sparse = Files.readAllBytes(file);
+
+            assertEquals(405, request(server, "GET", "/solve", null, null).status);
+            assertEquals(415, request(server, "POST", "/solve", "text/plain", ragged).status);
+            assertEquals(400, request(server, "POST", "/solve", "application/json", ragged).status);
+            assertEquals(400, request(server, "POST", "/solve?pivoting=best", "application/json", ragged).status);
+            assertEquals(413, request(server, "POST", "/solve", "application/octet-stream", large).status);
+            assertEquals(413, request(server, "POST", "/solve", "application/octet-stream", sparse).status);
+            assertEquals(400, request(server, "POST", "/solve", "application/octet-stream", new byte[40]).status);
+
+            JsonNode metrics = request(server, "GET", "/metrics", null, null).body;
+            assertEquals(6, metrics.get("requests").asInt());
+            assertEquals(4, metrics.get("failed").asInt());
+            assertEquals(2, metrics.get("rejected").asInt());
+            assertEquals(0, metrics.get("reservedBytes").asInt());
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Tests that concurrent small requests are solved in batches.
+     */
+    @Test
+    public void testBatching() throws Exception {
+        SolveServer server = start("--batch-window", "500000", "--batch-size", "8");
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Response>> responses = new ArrayList<>();
+
+            for (int index = 0; index < 8; index++) {
+                byte[] json = ("{\"matrix\": [[2, 0, " + 2 * index + "], [0, 4, 4]]}").getBytes(StandardCharsets.UTF_8);
+                responses.add(clients.submit(() -> request(server, "POST", "/solve", "application/json", json)));
+            }
+
+            for (int index = 0; index < 8; index++) {
+                assertEquals("[[" + (double) index + ",1.0]]", responses.get(index).get().body.get("solutions")
+                        .toString());
+            }
+
+            JsonNode metrics = request(server, "GET", "/metrics", null, null).body;
+            assertEquals(8, metrics.get("solved").asInt());
+            assertTrue(metrics.get("batchedMatrices").asInt() > 1, metrics.toString());
+        } finally {
+            clients.shutdownNow();
+            server.stop();
+        }
+    }
+
+    /**
+     * Response.
+     *
+     * The status and JSON body of a response.
+     */
+    private static final class Response {
+        /**
+         * The HTTP status code.
+         */
+        private final int status;
+
+        /**
+         * The parsed body.
+         */
+        private final JsonNode body;
+
+        /**
+         * Class constructor.
+         *
+         * @param status The HTTP status code.
+         * @param body The parsed body.
+         */
+        private Response(int status, JsonNode body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Starts a server on any free port.
+     *
+     * @param args The server options besides the port.
+     *
+     * @return The started server.
+     */
+    private static SolveServer start(String... args) throws IOException {
+        List<String> options = new ArrayList<>(List.of("--port", "0"));
+        options.addAll(List.of(args));
+
+        SolveServer server = new SolveServer(ServerOptions.parse(options.toArray(new String[0])));
+        server.start();
+
+        return server;
+    }
+
+    /**
+     * Sends a request to a server.
+     *
+     * @param server The server to send to.
+     * @param method The request method.
+     * @param path The path and query.
+     * @param contentType The content type of the body, null if there is none.
+     * @param body The body, null if there is none.
+     *
+     * @return The response.
+     */
+    private static Response request(SolveServer server, String method, String path, String contentType,
+                                    byte[] body) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + server.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", contentType);
+            connection.setFixedLengthStreamingMode(body.length);
+
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(body);
+            }
+        }
+
+        int status = connection.getResponseCode();
+
+        try (InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new Response(status, MAPPER.readTree(input));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.bussmann.gauss.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test band matrix.
+ *
+ * Tests the band matrix implementation and the bandwidth detection.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestBandMatrix {
+    /**
+     * Tests measuring the bandwidths of a dense matrix and converting it.
+     */
+    @Test
+    public void testDenseMatrixConversion() {
+        // Set up the input matrix with one diagonal below and two above the main diagonal:
+        // [ 1, 2, 3, 0 | 9 ]
+        // [ 4, 5, 0, 6 | 9 ]
+        // [ 0, 7, 8, 0 | 9 ]
+        // [ 0, 0, 1, 2 | 9 ]
+        DenseMatrix dense = new DenseMatrix(4, 5, new double[]{
+                1, 2, 3, 0, 9,
+                4, 5, 0, 6, 9,
+                0, 7, 8, 0, 9,
+                0, 0, 1, 2, 9});
+
+        assertEquals(1, BandMatrix.measureLowerBandwidth(dense));
+        assertEquals(2, BandMatrix.measureUpperBandwidth(dense));
+
+        // Convert and assert only the coefficients are kept
+        BandMatrix matrix = BandMatrix.fromDenseMatrix(dense);
+        assertEquals(16, matrix.getData().length);
+        assertEquals(6, matrix.getValue(1, 3));
+        assertEquals(0, matrix.getValue(3, 0));
+        assertEquals("[1.0, 2.0, 3.0, 0.0]\n[4.0, 5.0, 0.0, 6.0]\n[0.0, 7.0, 8.0, 0.0]\n[0.0, 0.0, 1.0, 2.0]",
+                matrix.toDenseMatrix().toString());
+    }
+
+    /**
+     * Tests exception when setting a non-zero value outside of the band.
+     */
+    @Test
+    public void testOutOfBandAccess() {
+        BandMatrix matrix = new BandMatrix(3, 1, 0);
+
+        matrix.setValue(2, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.setValue(2, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> matrix.setValue(0, 1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getValue(3, 0));
+    }
+}
@@ -0,0 +1,96 @@
+package io.bussmann.gauss.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test dense matrix.
+ *
+ * Tests the primitive dense matrix implementation.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestDenseMatrix {
+    /**
+     * Dummy dense matrix instance.
+     */
+    private DenseMatrix matrix;
+
+    /**
+     * Tests the matrix initialization.
+     */
+    @Test
+    public void testInitialize() {
+        // Create matrix of size 2
+        matrix = new DenseMatrix(2);
+
+        // Assert default matrix values
+        assertEquals("[0.0, 0.0, 0.0]\n[0.0, 0.0, 0.0]", matrix.toString());
+        assertEquals(2, matrix.getRowCount());
+        assertEquals(3, matrix.getColumnCount());
+    }
+
+    /**
+     * Tests the setValue and getValue functions and the row-major layout.
+     */
+    @Test
+    public void testSetAndGetValue() {
+        // Create matrix to test
+        matrix = new DenseMatrix(2);
+
+        // Set value
+        matrix.setValue(1, 1, 10);
+
+        // Assert get value and backing array position
+        assertEquals(10, matrix.getValue(1, 1));
+        assertEquals(10, matrix.getData()[matrix.matrixPositionToIndex(1, 1)]);
+        assertEquals(4, matrix.matrixPositionToIndex(1, 1));
+    }
+
+    /**
+     * Tests the conversion from and to the gauss matrix representation.
+     */
+    @Test
+    public void testGaussMatrixConversion() {
+        // Create gauss matrix to convert
+        GaussMatrix gaussMatrix = new GaussMatrix(2);
+        gaussMatrix.setValue(0, 0, 1);
+        gaussMatrix.setValue(0, 2, 3);
+        gaussMatrix.setValue(1, 1, -2);
+
+        // Convert and compare
+        matrix = DenseMatrix.fromGaussMatrix(gaussMatrix);
+        assertEquals(gaussMatrix.toString(), matrix.toString());
+
+        // Change a value and convert back
+        matrix.setValue(1, 2, 5);
+        assertEquals("[1.0, 0.0, 3.0]\n[0.0, -2.0, 5.0]", matrix.toGaussMatrix().toString());
+    }
+
+    /**
+     * Tests exception when accessing a value out of the bounds of the matrix.
+     */
+    @Test
+    public void testOutOfBoundsAccess() {
+        // Create matrix of size 2 (has 3 columns)
+        matrix = new DenseMatrix(2);
+
+        // Assert out of bounds exceptions
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getValue(1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.getValue(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.matrixPositionToIndex(2, 1));
+    }
+
+    /**
+     * Tests exception when the dimensions are negative or have too many values for an array.
+     */
+    @Test
+    public void testInvalidDimensions() {
+        // 65536 * 65537 overflows to 65536 in int arithmetic
+        assertThrows(IllegalArgumentException.class, () -> new DenseMatrix(65536, 65537));
+        assertThrows(IllegalArgumentException.class, () -> new DenseMatrix(65536, 65537, new double[65536]));
+        assertThrows(IllegalArgumentException.class, () -> new DenseMatrix(-1, 2));
+    }
+}
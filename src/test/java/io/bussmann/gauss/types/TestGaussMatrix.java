@@ -134,6 +134,30 @@ public class TestGaussMatrix {
         assertEquals("[0.0, 0.0, 0.0]\n[0.0, 0.0, 0.0]", matrix.toString());
     }
 
+    /**
+     * Tests resizing a matrix with multiple augmented columns.
+     */
+    @Test
+    public void testResizeAugmentedColumns() {
+        // Create matrix of size 2 with 2 augmented columns
+        matrix = new GaussMatrix(2, 2);
+        matrix.setValue(0, 2, 5);
+        matrix.setValue(1, 3, 6);
+
+        // Assert matrix of size 2 with 2 augmented columns
+        assertEquals(2, matrix.getAugmentedColumnCount());
+        assertEquals("[0.0, 0.0, 5.0, 0.0]\n[0.0, 0.0, 0.0, 6.0]", matrix.toString());
+
+        // Increase matrix size by 1, the augmented columns stay at the end
+        matrix.increaseSize();
+        assertEquals("[0.0, 0.0, 0.0, 5.0, 0.0]\n[0.0, 0.0, 0.0, 0.0, 6.0]\n[0.0, 0.0, 0.0, 0.0, 0.0]",
+                matrix.toString());
+
+        // Decrease matrix size by 1 again
+        matrix.decreaseSize();
+        assertEquals("[0.0, 0.0, 5.0, 0.0]\n[0.0, 0.0, 0.0, 6.0]", matrix.toString());
+    }
+
     /**
      * Tests exception when accessing a value out of the bounds of the matrix.
      */
@@ -0,0 +1,96 @@
+package io.bussmann.gauss.types;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test mapped matrix.
+ *
+ * Tests the file backed matrix implementation.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestMappedMatrix {
+    /**
+     * Tests that values written to the file are read back after opening it again.
+     */
+    @Test
+    public void testReopen(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("matrix.bin");
+        DenseMatrix dense = new DenseMatrix(3, 4);
+
+        for (int index = 0; index < dense.getData().length; index++) {
+            dense.getData()[index] = index * 0.5 - 2;
+        }
+
+        try (MappedMatrix matrix = MappedMatrix.fromDenseMatrix(dense, path)) {
+            matrix.setValue(2, 3, 42);
+
+            double[] row = new double[2];
+            matrix.readRow(1, 1, row, 0, 2);
+            assertArrayEquals(new double[] {0.5, 1}, row);
+
+            matrix.writeRow(0, 2, new double[] {7, 8, 9}, 1, 2);
+        }
+
+        dense.setValue(2, 3, 42);
+        dense.setValue(0, 2, 8);
+        dense.setValue(0, 3, 9);
+
+        try (MappedMatrix matrix = MappedMatrix.open(path, 3, 4)) {
+            assertEquals(dense.toString(), matrix.toDenseMatrix().toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> matrix.readRow(0, 3, new double[2], 0, 2));
+        }
+    }
+
+    /**
+     * Tests that a read-only matrix rejects writes and that its copy can be changed without changing the file.
+     */
+    @Test
+    public void testReadOnly(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("matrix.bin");
+        DenseMatrix dense = new DenseMatrix(2, 3);
+
+        for (int index = 0; index < dense.getData().length; index++) {
+            dense.getData()[index] = index + 1;
+        }
+
+        MappedMatrix.fromDenseMatrix(dense, path).close();
+
+        try (MappedMatrix matrix = MappedMatrix.openReadOnly(path, 0, 2, 3);
+             MappedMatrix copy = matrix.copy(directory.resolve("copy.bin"))) {
+            assertTrue(matrix.isReadOnly());
+            assertFalse(copy.isReadOnly());
+            assertEquals(dense.toString(), matrix.toDenseMatrix().toString());
+            assertThrows(UnsupportedOperationException.class, () -> matrix.setValue(0, 0, 7));
+            assertThrows(UnsupportedOperationException.class, () -> matrix.writeRow(1, 0, new double[3], 0, 3));
+
+            copy.setValue(0, 0, 7);
+            matrix.flush();
+
+            assertEquals(7, copy.getValue(0, 0));
+            assertEquals(1, matrix.getValue(0, 0));
+        }
+    }
+
+    /**
+     * Tests that a file of the wrong size is rejected.
+     */
+    @Test
+    public void testOpenWrongSize(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("matrix.bin");
+
+        MappedMatrix.create(path, 2, 3).close();
+
+        assertThrows(IllegalArgumentException.class, () -> MappedMatrix.open(path, 3, 3));
+    }
+}
@@ -0,0 +1,64 @@
+package io.bussmann.gauss.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test sparse matrix.
+ *
+ * Tests the compressed sparse row matrix implementation.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestSparseMatrix {
+    /**
+     * Tests the conversion from and to the gauss matrix representation.
+     */
+    @Test
+    public void testGaussMatrixConversion() {
+        // Create gauss matrix to convert
+        GaussMatrix gaussMatrix = new GaussMatrix(2);
+        gaussMatrix.setValue(0, 0, 1);
+        gaussMatrix.setValue(0, 2, 3);
+        gaussMatrix.setValue(1, 1, -2);
+
+        // Convert and assert only the non-zero values are stored
+        SparseMatrix matrix = SparseMatrix.fromGaussMatrix(gaussMatrix);
+        assertEquals(3, matrix.getNonZeroCount());
+        assertArrayEquals(new int[]{0, 2, 3}, matrix.getRowPointers());
+        assertArrayEquals(new int[]{0, 2, 1}, matrix.getColumnIndices());
+        assertEquals(3, matrix.getValue(0, 2));
+        assertEquals(0, matrix.getValue(1, 0));
+
+        // Convert back
+        assertEquals(gaussMatrix.toString(), matrix.toGaussMatrix().toString());
+    }
+
+    /**
+     * Tests creating a matrix from unsorted coordinates with duplicates.
+     */
+    @Test
+    public void testFromCoordinates() {
+        int[] rows = {1, 0, 1, 0};
+        int[] columns = {2, 1, 0, 1};
+        double[] values = {5, 1, 2, 3};
+
+        SparseMatrix matrix = SparseMatrix.fromCoordinates(2, 3, rows, columns, values, 4);
+
+        // Assert sorted rows with the duplicate summed up
+        assertEquals("[0.0, 4.0, 0.0]\n[2.0, 0.0, 5.0]", matrix.toDenseMatrix().toString());
+        assertArrayEquals(new int[]{1, 0, 2}, matrix.getColumnIndices());
+
+        // Assert the product ignores the augmented column
+        double[] result = new double[2];
+        matrix.multiply(new double[]{1, 2}, result);
+        assertArrayEquals(new double[]{8, 2}, result);
+
+        // Assert exception for a position outside of the matrix
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> SparseMatrix.fromCoordinates(2, 3, new int[]{2}, new int[]{0}, new double[]{1}, 1));
+    }
+}
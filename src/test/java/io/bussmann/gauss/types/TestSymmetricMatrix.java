@@ -0,0 +1,48 @@
+package io.bussmann.gauss.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test symmetric matrix.
+ *
+ * Tests the packed symmetric matrix implementation and the symmetry check.
+ *
+ * @author Frederik Bußmann
+ */
+public class TestSymmetricMatrix {
+    /**
+     * Tests the symmetry check and the conversion from and to a dense matrix.
+     */
+    @Test
+    public void testDenseMatrixConversion() {
+        // Set up a symmetric matrix with an augmented column:
+        // [ 4, 1, 2 | 7 ]
+        // [ 1, 5, 3 | 8 ]
+        // [ 2, 3, 6 | 9 ]
+        DenseMatrix dense = new DenseMatrix(3, 4, new double[]{
+                4, 1, 2, 7,
+                1, 5, 3, 8,
+                2, 3, 6, 9});
+
+        assertTrue(SymmetricMatrix.isSymmetric(dense));
+
+        // Convert and assert only the lower triangle is stored
+        SymmetricMatrix matrix = SymmetricMatrix.fromDenseMatrix(dense);
+        assertEquals(6, matrix.getData().length);
+        assertEquals(3, matrix.getValue(1, 2));
+        assertEquals(3, matrix.getValue(2, 1));
+        assertEquals("[4.0, 1.0, 2.0]\n[1.0, 5.0, 3.0]\n[2.0, 3.0, 6.0]", matrix.toDenseMatrix().toString());
+
+        // Setting a value changes the mirrored value too
+        matrix.setValue(0, 2, -1);
+        assertEquals(-1, matrix.getValue(2, 0));
+
+        // Break the symmetry
+        dense.setValue(2, 1, 4);
+        assertFalse(SymmetricMatrix.isSymmetric(dense));
+    }
+}